@@ -0,0 +1,68 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.model.CollisionManager;
+import de.tum.cit.fop.maze.model.GameMap;
+import de.tum.cit.fop.maze.utils.MapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CollisionManager#canMoveTo} at random positions of a real level,
+ * the check every moving entity runs each frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final float ENTITY_SIZE = 0.8f;
+
+    @Param({ "maps/level-1.properties", "maps/level-20.properties" })
+    public String mapPath;
+
+    private CollisionManager collisionManager;
+    private final float[] queryX = new float[QUERIES];
+    private final float[] queryY = new float[QUERIES];
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        GameMap map = MapLoader.loadMapWithConfig(mapPath).map;
+        collisionManager = new CollisionManager(map);
+
+        Random random = new Random(42);
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextFloat() * map.getWidth();
+            queryY[i] = random.nextFloat() * map.getHeight();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int canMoveTo() {
+        int free = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            if (collisionManager.canMoveTo(queryX[i], queryY[i], ENTITY_SIZE, false)) {
+                free++;
+            }
+        }
+        return free;
+    }
+}
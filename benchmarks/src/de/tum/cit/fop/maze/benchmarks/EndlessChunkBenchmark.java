@@ -0,0 +1,48 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.model.MapChunk;
+import de.tum.cit.fop.maze.utils.EndlessMapGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generating one endless-mode chunk. Successive invocations walk row by row
+ * over a 64x64 chunk area around the origin, so each call generates a
+ * different chunk from the same seed and the average covers all themes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndlessChunkBenchmark {
+
+    private static final long SEED = 12345L;
+    private static final int ROW_LENGTH = 64;
+
+    private EndlessMapGenerator generator;
+    private int index;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+        generator = new EndlessMapGenerator(SEED);
+    }
+
+    @Benchmark
+    public MapChunk generateChunk() {
+        int i = index++;
+        return generator.generateChunk(i % ROW_LENGTH - ROW_LENGTH / 2, i / ROW_LENGTH % ROW_LENGTH - ROW_LENGTH / 2);
+    }
+}
@@ -0,0 +1,51 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.model.GameWorld;
+import de.tum.cit.fop.maze.utils.MapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulation tick of {@link GameWorld} on real level maps. The world is
+ * rebuilt before every iteration so timers and spawned entities do not
+ * accumulate across iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameWorldBenchmark {
+
+    private static final float FRAME_DELTA = 1f / 60f;
+
+    @Param({ "maps/level-1.properties", "maps/level-10.properties", "maps/level-20.properties" })
+    public String mapPath;
+
+    private GameWorld world;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        HeadlessGdx.init();
+        world = new GameWorld(MapLoader.loadMapWithConfig(mapPath).map, mapPath);
+    }
+
+    @Benchmark
+    public GameWorld update() {
+        world.update(FRAME_DELTA);
+        return world;
+    }
+}
@@ -0,0 +1,35 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import de.tum.cit.fop.maze.utils.GameLogger;
+
+/**
+ * Starts a headless libGDX application once per JVM so that Gdx.files,
+ * Gdx.app and Gdx.input are available to the code under test without a
+ * window or GL context.
+ */
+public final class HeadlessGdx {
+
+    private static HeadlessApplication application;
+
+    private HeadlessGdx() {
+    }
+
+    public static synchronized void init() {
+        if (application != null)
+            return;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // Never call render(), the benchmarks drive the code themselves
+        config.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+        // Keep benchmark output readable (MapLoader logs every load)
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        GameLogger.setLogLevel(GameLogger.LogLevel.WARN);
+    }
+}
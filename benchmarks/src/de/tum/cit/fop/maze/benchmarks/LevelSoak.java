@@ -0,0 +1,78 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.simulation.InputSource.Action;
+import de.tum.cit.fop.maze.simulation.ScriptedInputSource;
+import de.tum.cit.fop.maze.simulation.SimulationRunner;
+
+/**
+ * Soak test: runs every level headless with a fixed timestep and a scripted
+ * wander-and-attack input, printing ticks per second per level. Exits with a
+ * non-zero status when any level throws, so it can gate CI.
+ *
+ * Usage: {@code LevelSoak [ticksPerLevel] [seed]}
+ */
+public final class LevelSoak {
+
+    private static final int LEVEL_COUNT = 20;
+    private static final int DEFAULT_TICKS = 20_000;
+    private static final long DEFAULT_SEED = 42L;
+
+    private LevelSoak() {
+    }
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICKS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        HeadlessGdx.init();
+        SimulationRunner runner = new SimulationRunner();
+        ScriptedInputSource script = wanderScript(ticks);
+
+        int failures = 0;
+        long totalTicks = 0;
+        long totalNanos = 0;
+        for (int level = 1; level <= LEVEL_COUNT; level++) {
+            String path = "maps/level-" + level + ".properties";
+            try {
+                SimulationRunner.Result result = runner.runLevel(path, script, ticks, seed);
+                totalTicks += result.ticks;
+                totalNanos += result.elapsedNanos;
+                System.out.println(result);
+            } catch (RuntimeException e) {
+                failures++;
+                System.err.println(path + ": FAILED");
+                e.printStackTrace();
+            }
+        }
+
+        System.out.printf("Total: %d ticks in %.1fms, %.0f ticks/s%n", totalTicks, totalNanos / 1_000_000.0,
+                totalNanos > 0 ? totalTicks * 1_000_000_000.0 / totalNanos : 0);
+        if (failures > 0) {
+            System.err.println(failures + " level(s) failed");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Cycles through the four directions in one-second legs (running every
+     * other leg) and attacks twice per second
+     */
+    private static ScriptedInputSource wanderScript(int ticks) {
+        Action[] directions = { Action.MOVE_RIGHT, Action.MOVE_DOWN, Action.MOVE_LEFT, Action.MOVE_UP };
+        ScriptedInputSource script = new ScriptedInputSource();
+        int leg = 60;
+        for (int start = 0, i = 0; start < ticks; start += leg, i++) {
+            int end = Math.min(start + leg, ticks) - 1;
+            if (i % 2 == 0) {
+                script.hold(start, end, directions[i % directions.length], Action.RUN);
+            } else {
+                script.hold(start, end, directions[i % directions.length]);
+            }
+        }
+        for (int t = 0; t < ticks; t += 30) {
+            script.press(t, Action.ATTACK);
+        }
+        return script;
+    }
+}
@@ -0,0 +1,41 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.utils.MapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a level file from assets/maps into a GameMap and its config.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapLoaderBenchmark {
+
+    @Param({ "maps/level-1.properties", "maps/level-10.properties", "maps/level-20.properties" })
+    public String mapPath;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+    }
+
+    @Benchmark
+    public MapLoader.LoadResult loadMapWithConfig() {
+        return MapLoader.loadMapWithConfig(mapPath);
+    }
+}
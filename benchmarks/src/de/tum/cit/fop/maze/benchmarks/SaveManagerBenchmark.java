@@ -0,0 +1,79 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.model.GameState;
+import de.tum.cit.fop.maze.utils.SaveManager;
+import de.tum.cit.fop.maze.utils.SaveService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Save game round-trips: the snapshot encoding alone (the format
+ * {@link SaveService} writes) and the full save/load through local storage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveManagerBenchmark {
+
+    private static final String SAVE_NAME = "jmh_benchmark";
+
+    private GameState state;
+
+    @Setup
+    public void setup() {
+        HeadlessGdx.init();
+
+        // A mid-game profile: several weapons, purchases and achievement stats
+        state = new GameState(12.5f, 40.25f, "maps/level-10.properties", 3, true);
+        state.setCoins(1234);
+        state.setMaxUnlockedLevel(10);
+        state.setSkillPoints(4);
+        state.setInventoryWeaponTypes(new ArrayList<>(List.of("Sword", "Bow", "MagicStaff", "Crossbow")));
+        List<String> purchased = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            purchased.add("item_" + i);
+        }
+        state.setPurchasedItemIds(purchased);
+        Map<String, Object> achievements = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            achievements.put("achievement_" + i, i);
+        }
+        state.setAchievementData(achievements);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SaveManager.deleteSave(SAVE_NAME);
+    }
+
+    @Benchmark
+    public GameState snapshotRoundTrip() throws IOException {
+        byte[] data = SaveService.encode(state);
+        return SaveService.decode(data, GameState.class);
+    }
+
+    @Benchmark
+    public GameState saveAndLoad() {
+        SaveManager.saveGame(state, SAVE_NAME);
+        return SaveManager.loadGame(SAVE_NAME);
+    }
+}
@@ -0,0 +1,98 @@
+package de.tum.cit.fop.maze.benchmarks;
+
+import de.tum.cit.fop.maze.utils.SpatialHashGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of endless-mode neighbour queries: every enemy asks for its
+ * separation neighbours, plus an update pass that moves every enemy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpatialHashGridBenchmark {
+
+    private static final float WORLD_SIZE = 128f;
+    private static final float CELL_SIZE = 16f;
+    private static final float SEPARATION_RADIUS = 0.8f;
+
+    /** Minimal stand-in for an enemy */
+    private static final class Body {
+        float x;
+        float y;
+    }
+
+    private static final SpatialHashGrid.FullPositionProvider<Body> POSITION = new SpatialHashGrid.FullPositionProvider<Body>() {
+        @Override
+        public float getX(Body entity) {
+            return entity.x;
+        }
+
+        @Override
+        public float getY(Body entity) {
+            return entity.y;
+        }
+    };
+
+    @Param({ "50", "200", "1000" })
+    public int enemies;
+
+    private SpatialHashGrid<Body> grid;
+    private Body[] bodies;
+    private final List<Body> buffer = new ArrayList<>();
+    private boolean forward;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        grid = new SpatialHashGrid<>(CELL_SIZE);
+        bodies = new Body[enemies];
+        for (int i = 0; i < enemies; i++) {
+            Body body = new Body();
+            body.x = random.nextFloat() * WORLD_SIZE;
+            body.y = random.nextFloat() * WORLD_SIZE;
+            bodies[i] = body;
+            grid.insert(body, body.x, body.y);
+        }
+    }
+
+    @Benchmark
+    public int queryFrame() {
+        int hits = 0;
+        for (Body body : bodies) {
+            buffer.clear();
+            hits += grid.getNearbyExact(body.x, body.y, SEPARATION_RADIUS, POSITION, buffer);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int updateFrame() {
+        // Alternate direction so bodies stay inside the world
+        forward = !forward;
+        float step = forward ? 0.5f : -0.5f;
+        for (Body body : bodies) {
+            body.x += step;
+            grid.update(body, body.x, body.y);
+        }
+        return grid.size();
+    }
+}
@@ -106,17 +106,34 @@ private void loadCharacterAnimation() {
         characterDownAnimation = new Animation<>(0.1f, walkFrames);
     }
 
+    @Override
+    public void setScreen(com.badlogic.gdx.Screen screen) {
+        // Screen changes are natural save points for the batched achievement stats
+        de.tum.cit.fop.maze.utils.AchievementManager.flush();
+        super.setScreen(screen);
+    }
+
+    @Override
+    public void pause() {
+        super.pause();
+        de.tum.cit.fop.maze.utils.AchievementManager.flushNow();
+        de.tum.cit.fop.maze.utils.SaveManager.flush();
+    }
+
     @Override
     public void dispose() {
         if (getScreen() != null) {
             getScreen().hide();
             getScreen().dispose();
         }
+        de.tum.cit.fop.maze.utils.AchievementManager.flushNow();
+        de.tum.cit.fop.maze.utils.SaveManager.flush();
         spriteBatch.dispose();
         skin.dispose();
         if (atlas != null)
             atlas.dispose();
         de.tum.cit.fop.maze.utils.AudioManager.getInstance().dispose();
+        de.tum.cit.fop.maze.utils.AssetService.getInstance().dispose();
     }
 
     public Skin getSkin() {
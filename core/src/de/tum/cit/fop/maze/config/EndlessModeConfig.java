@@ -30,6 +30,13 @@ private EndlessModeConfig() {
     /** Dormant chunk radius (enemy updates stop beyond this distance) */
     public static final int DORMANT_CHUNK_RADIUS = 3;
 
+    /** Number of background worker threads used for chunk generation */
+    public static final int CHUNK_WORKER_THREADS = Math.max(1,
+            Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+
+    /** Minimum player speed (tiles/s) before the next chunk ring is prefetched */
+    public static final float CHUNK_PREFETCH_MIN_SPEED = 0.5f;
+
     // ========== Theme Zone Configuration ==========
 
     /** Center Space zone radius */
@@ -120,4 +120,24 @@ public class GameConfig {
      * Enemies further than this distance skip logic updates (40^2 = 1600).
      */
     public static final float ENEMY_UPDATE_DISTANCE_SQUARED = 1600f;
+
+    /**
+     * Maximum path length (in steps) expanded by the enemy chase flow field.
+     * Enemies further away along the path fall back to axis pursuit.
+     */
+    public static final int ENEMY_FLOW_FIELD_MAX_STEPS = 64;
+
+    // ==================== Simulation Loop ====================
+
+    /**
+     * Seconds per fixed simulation tick (60 ticks per second), independent of
+     * the display refresh rate.
+     */
+    public static final float SIMULATION_TIMESTEP = 1f / 60f;
+
+    /**
+     * Default cap on simulation ticks per rendered frame. Frames that fall
+     * further behind drop the excess time instead of spiralling.
+     */
+    public static final int SIMULATION_MAX_SUBSTEPS = 5;
 }
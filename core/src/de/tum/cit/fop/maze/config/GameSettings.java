@@ -121,6 +121,7 @@ public static void loadUserDefaults() {
         userUseMouseAiming = prefs.getBoolean("useMouseAiming", false); // Default off
         userGridSnappingEnabled = prefs.getBoolean("gridSnappingEnabled", true); // Default on
         userGridSnapSpeed = prefs.getFloat("gridSnapSpeed", 10.0f);
+        setMaxSimulationSubsteps(prefs.getInteger("maxSimulationSubsteps", GameConfig.SIMULATION_MAX_SUBSTEPS));
 
         KEY_UP = prefs.getInteger("key_up", com.badlogic.gdx.Input.Keys.UP);
         KEY_DOWN = prefs.getInteger("key_down", com.badlogic.gdx.Input.Keys.DOWN);
@@ -173,6 +174,7 @@ public static void saveAsUserDefaults() {
         prefs.putBoolean("useMouseAiming", userUseMouseAiming);
         prefs.putBoolean("gridSnappingEnabled", userGridSnappingEnabled);
         prefs.putFloat("gridSnapSpeed", userGridSnapSpeed);
+        prefs.putInteger("maxSimulationSubsteps", maxSimulationSubsteps);
         prefs.flush();
     }
 
@@ -230,6 +232,21 @@ public static boolean isFogEnabled() {
         return fogEnabled;
     }
 
+    // ==================== Simulation Loop ====================
+    /**
+     * Maximum fixed simulation ticks per rendered frame. Lower values keep
+     * slow machines responsive at the cost of the game running slower.
+     */
+    public static int maxSimulationSubsteps = GameConfig.SIMULATION_MAX_SUBSTEPS;
+
+    public static void setMaxSimulationSubsteps(int substeps) {
+        maxSimulationSubsteps = Math.max(1, substeps);
+    }
+
+    public static int getMaxSimulationSubsteps() {
+        return maxSimulationSubsteps;
+    }
+
     // ==================== Attack Range Display ====================
     public static void setShowAttackRange(boolean enabled) {
         showAttackRange = enabled;
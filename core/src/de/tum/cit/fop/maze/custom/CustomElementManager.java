@@ -35,6 +35,9 @@ public class CustomElementManager {
     // padding
     private Map<String, TextureRegion> textureCache;
 
+    // Shared atlas pages for all custom sprite frames
+    private final CustomSpriteAtlas spriteAtlas = new CustomSpriteAtlas();
+
     private CustomElementManager() {
         elements = new HashMap<>();
         animationCache = new HashMap<>();
@@ -322,6 +325,106 @@ private TextureRegion createCroppedRegion(Texture tex) {
         return new TextureRegion(paddedTex);
     }
 
+    /**
+     * Normalize a stored sprite path (Windows separators, absolute paths from
+     * another PC that contain the custom image folder)
+     */
+    private String normalizeSpritePath(String path) {
+        // Windows path fix: replace backslashes with forward slashes
+        path = path.replace('\\', '/');
+
+        // AUTO-FIX: If path is absolute (from another PC) but contains "custom_images",
+        // make it relative
+        int idx = path.indexOf(LOCAL_IMAGE_DIR);
+        if (idx > 0) {
+            path = path.substring(idx);
+        }
+        return path;
+    }
+
+    /**
+     * Find the file of a normalized sprite path
+     */
+    private FileHandle resolveSpriteFile(String path) {
+        FileHandle file = null;
+
+        // 1. Try Internal first (for assets packaged with the game)
+        if (path.startsWith(LOCAL_IMAGE_DIR)) {
+            file = Gdx.files.internal(path);
+        }
+
+        // 2. Try Local Storage (for user-created custom items)
+        if (file == null || !file.exists()) {
+            file = Gdx.files.local(path);
+        }
+
+        // 3. Try Absolute (for development)
+        if (!file.exists()) {
+            file = Gdx.files.absolute(path);
+        }
+
+        // 4. Fallback: Try internal again for other paths
+        if (!file.exists()) {
+            file = Gdx.files.internal(path);
+        }
+        return file;
+    }
+
+    /**
+     * Pack the frames of all custom elements into the shared sprite atlas.
+     * Call at preload time, before animations are requested. Cheap when the
+     * sprites did not change since the last call.
+     */
+    public void buildSpriteAtlas() {
+        if (Gdx.files == null)
+            return;
+
+        // Stable order, so the same content always yields the same atlas hash
+        List<CustomElementDefinition> sorted = new ArrayList<>(elements.values());
+        sorted.sort(Comparator.comparing(CustomElementDefinition::getId));
+
+        Set<String> seen = new HashSet<>();
+        List<CustomSpriteAtlas.Frame> frames = new ArrayList<>();
+        for (CustomElementDefinition def : sorted) {
+            for (String action : new TreeSet<>(def.getSpritePaths().keySet())) {
+                String[] paths = def.getSpritePaths().get(action);
+                if (paths == null)
+                    continue;
+                for (String path : paths) {
+                    if (path == null || path.isEmpty() || path.startsWith("internal:"))
+                        continue;
+                    String normalized = normalizeSpritePath(path);
+                    if (!seen.add(normalized))
+                        continue;
+                    FileHandle file = resolveSpriteFile(normalized);
+                    if (file.exists()) {
+                        frames.add(new CustomSpriteAtlas.Frame(normalized, file));
+                    }
+                }
+            }
+        }
+
+        // Regions on the current atlas pages; standalone textures stay cached
+        List<String> packedKeys = new ArrayList<>();
+        for (Map.Entry<String, TextureRegion> entry : textureCache.entrySet()) {
+            if (spriteAtlas.isPage(entry.getValue().getTexture())) {
+                packedKeys.add(entry.getKey());
+            }
+        }
+
+        try {
+            if (spriteAtlas.build(frames)) {
+                // Drop regions that point at replaced atlas pages
+                animationCache.clear();
+                for (String key : packedKeys) {
+                    textureCache.remove(key);
+                }
+            }
+        } catch (Exception e) {
+            GameLogger.error("CustomElementManager", "Failed to build sprite atlas: " + e.getMessage());
+        }
+    }
+
     /**
      * Get animation for a custom element action.
      * Loads textures on demand and caches them.
@@ -345,52 +448,26 @@ public Animation<TextureRegion> getAnimation(String elementId, String action) {
             if (path == null || path.isEmpty())
                 continue;
             try {
-                // Windows path fix: replace backslashes with forward slashes
-                path = path.replace('\\', '/');
-
-                // AUTO-FIX: If path is absolute (from another PC) but contains "custom_images",
-                // make it relative
-                if (path.contains(LOCAL_IMAGE_DIR)) {
-                    int idx = path.indexOf(LOCAL_IMAGE_DIR);
-                    if (idx > 0) {
-                        String fixedPath = path.substring(idx);
-                        path = fixedPath;
-                    }
-                }
-
-                FileHandle file = null;
-
-                // 1. Try Internal first (for assets packaged with the game)
-                if (path.startsWith(LOCAL_IMAGE_DIR)) {
-                    file = Gdx.files.internal(path);
-                }
+                path = normalizeSpritePath(path);
 
-                // 2. Try Local Storage (for user-created custom items)
-                if (file == null || !file.exists()) {
-                    file = Gdx.files.local(path);
+                // Use texture cache to avoid redundant loading and Auto-padding
+                TextureRegion region = textureCache.get(path);
+                if (region == null) {
+                    // Packed frames share the atlas pages instead of one texture each
+                    region = spriteAtlas.findRegion(path);
                 }
-
-                // 3. Try Absolute (for development)
-                if (!file.exists()) {
-                    file = Gdx.files.absolute(path);
-                }
-
-                // 4. Fallback: Try internal again for other paths
-                if (!file.exists()) {
-                    file = Gdx.files.internal(path);
-                }
-
-                if (file.exists()) {
-                    // Use texture cache to avoid redundant loading and Auto-padding
-                    TextureRegion region = textureCache.get(path);
-                    if (region == null) {
+                if (region == null) {
+                    FileHandle file = resolveSpriteFile(path);
+                    if (file.exists()) {
                         Texture tex = new Texture(file);
                         region = createCroppedRegion(tex);
-                        textureCache.put(path, region);
+                    } else {
+                        GameLogger.error("CustomElementManager", "Texture not found: " + path);
                     }
+                }
+                if (region != null) {
+                    textureCache.put(path, region);
                     frames.add(region);
-                } else {
-                    GameLogger.error("CustomElementManager", "Texture not found: " + path);
                 }
             } catch (Exception e) {
                 GameLogger.error("CustomElementManager",
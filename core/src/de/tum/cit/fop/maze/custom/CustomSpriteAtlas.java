@@ -0,0 +1,361 @@
+package de.tum.cit.fop.maze.custom;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.ObjectMap;
+import de.tum.cit.fop.maze.utils.GameLogger;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runtime texture atlas for custom element sprites.
+ *
+ * All animation frames of all custom elements are packed into a few large
+ * pages with a {@link PixmapPacker}, so enemies, weapons and skins drawn in
+ * the same frame share textures instead of binding one texture per frame.
+ * Frames are padded to square exactly like individually loaded frames.
+ *
+ * The packed pages and a region index are cached in local storage. The cache
+ * key is a hash over the frame paths and file contents, so adding, removing
+ * or editing any sprite repacks on the next start while unchanged content is
+ * loaded straight from the cached pages.
+ *
+ * Frames too large for a page are not packed and keep using their own
+ * texture.
+ */
+public class CustomSpriteAtlas {
+
+    private static final String CACHE_DIR = "cache/custom_atlas/";
+    private static final String INDEX_FILE = "index.json";
+    private static final String PAGE_PREFIX = "page_";
+
+    /** Bump when the packing layout changes to invalidate old caches */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+
+    /** One sprite frame: normalized path plus the file it is read from */
+    public static final class Frame {
+        final String path;
+        final FileHandle file;
+
+        public Frame(String path, FileHandle file) {
+            this.path = path;
+            this.file = file;
+        }
+    }
+
+    /** Region index persisted next to the pages */
+    public static class Index {
+        public String hash;
+        public int pageCount;
+        public Region[] regions;
+    }
+
+    /** Location of one frame inside a page */
+    public static class Region {
+        public String path;
+        public int page;
+        public int x;
+        public int y;
+        public int width;
+        public int height;
+    }
+
+    private final Json json;
+    private final List<Texture> pages = new ArrayList<>();
+    private final Map<String, TextureRegion> regions = new HashMap<>();
+    private String currentHash;
+    // Path, size and modification time of the frames the atlas was built from
+    private String currentStamp;
+
+    public CustomSpriteAtlas() {
+        json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+    }
+
+    /**
+     * Load the atlas for the given frames from cache, or pack and cache it
+     * if the content changed. Does nothing if the atlas is already built
+     * from the same content. Frame contents are only read and hashed when
+     * a frame was added, removed, resized or touched since the last build.
+     *
+     * @return true if the atlas was (re)built and old regions are invalid
+     */
+    public boolean build(List<Frame> frames) {
+        String stamp = computeStamp(frames);
+        if (currentHash != null && stamp.equals(currentStamp))
+            return false;
+
+        List<String> paths = new ArrayList<>();
+        List<byte[]> contents = new ArrayList<>();
+        for (Frame frame : frames) {
+            int[] size = readPngSize(readHeader(frame.file));
+            if (size != null && Math.max(size[0], size[1]) + PADDING * 2 <= PAGE_SIZE) {
+                paths.add(frame.path);
+                contents.add(frame.file.readBytes());
+            }
+        }
+
+        String hash = computeHash(paths, contents);
+        if (hash.equals(currentHash)) {
+            currentStamp = stamp;
+            return false;
+        }
+
+        dispose();
+        if (!paths.isEmpty() && !loadFromCache(hash)) {
+            pack(paths, contents, hash);
+        }
+        currentHash = hash;
+        currentStamp = stamp;
+        GameLogger.info("CustomSpriteAtlas",
+                "Atlas ready: " + regions.size() + " frames on " + pages.size() + " page(s)");
+        return true;
+    }
+
+    /**
+     * Get the packed region of a frame
+     *
+     * @param path Normalized sprite path
+     * @return Region, or null if the frame is not in the atlas
+     */
+    public TextureRegion findRegion(String path) {
+        return regions.get(path);
+    }
+
+    /**
+     * Get number of atlas pages (textures)
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Check whether a texture is one of the atlas pages
+     */
+    public boolean isPage(Texture texture) {
+        return pages.contains(texture);
+    }
+
+    public void dispose() {
+        for (Texture page : pages) {
+            page.dispose();
+        }
+        pages.clear();
+        regions.clear();
+        currentHash = null;
+        currentStamp = null;
+    }
+
+    /**
+     * Cheap key over path, length and modification time of the frames, in order
+     */
+    static String computeStamp(List<Frame> frames) {
+        StringBuilder stamp = new StringBuilder();
+        for (Frame frame : frames) {
+            stamp.append(frame.path).append('\0')
+                    .append(frame.file.length()).append('\0')
+                    .append(frame.file.lastModified()).append('\n');
+        }
+        return stamp.toString();
+    }
+
+    /**
+     * Hash over format version, paths and contents of the frames, in order
+     */
+    static String computeHash(List<String> paths, List<byte[]> contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((byte) FORMAT_VERSION);
+            for (int i = 0; i < paths.size(); i++) {
+                digest.update(paths.get(i).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(contents.get(i));
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Read the image size from a PNG header without decoding it
+     *
+     * @return {width, height}, or null if the data is not a PNG
+     */
+    static int[] readPngSize(byte[] data) {
+        if (data == null || data.length < 24)
+            return null;
+        // Signature, then the IHDR chunk with width and height
+        if ((data[0] & 0xFF) != 0x89 || data[1] != 'P' || data[2] != 'N' || data[3] != 'G')
+            return null;
+        return new int[] { readInt(data, 16), readInt(data, 20) };
+    }
+
+    /**
+     * Read just enough of a file for {@link #readPngSize}
+     */
+    private static byte[] readHeader(FileHandle file) {
+        byte[] header = new byte[24];
+        try (InputStream in = file.read()) {
+            int read = 0;
+            while (read < header.length) {
+                int n = in.read(header, read, header.length - read);
+                if (n < 0)
+                    return null;
+                read += n;
+            }
+            return header;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static int readInt(byte[] data, int offset) {
+        return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+                | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+    }
+
+    private boolean loadFromCache(String hash) {
+        try {
+            FileHandle indexFile = Gdx.files.local(CACHE_DIR + INDEX_FILE);
+            if (!indexFile.exists())
+                return false;
+
+            Index index = json.fromJson(Index.class, indexFile.readString());
+            if (index == null || !hash.equals(index.hash) || index.regions == null)
+                return false;
+
+            for (int i = 0; i < index.pageCount; i++) {
+                if (!Gdx.files.local(CACHE_DIR + PAGE_PREFIX + i + ".png").exists())
+                    return false;
+            }
+
+            for (int i = 0; i < index.pageCount; i++) {
+                pages.add(new Texture(Gdx.files.local(CACHE_DIR + PAGE_PREFIX + i + ".png")));
+            }
+            for (Region region : index.regions) {
+                regions.put(region.path, new TextureRegion(pages.get(region.page),
+                        region.x, region.y, region.width, region.height));
+            }
+            GameLogger.info("CustomSpriteAtlas", "Loaded atlas from cache");
+            return true;
+        } catch (Exception e) {
+            GameLogger.warn("CustomSpriteAtlas", "Ignoring invalid atlas cache: " + e.getMessage());
+            dispose();
+            return false;
+        }
+    }
+
+    private void pack(List<String> paths, List<byte[]> contents, String hash) {
+        long start = System.currentTimeMillis();
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false,
+                new PixmapPacker.SkylineStrategy());
+
+        for (int i = 0; i < paths.size(); i++) {
+            try {
+                byte[] bytes = contents.get(i);
+                Pixmap source = new Pixmap(bytes, 0, bytes.length);
+                Pixmap square = padToSquare(source);
+                packer.pack(paths.get(i), square);
+                if (square != source) {
+                    square.dispose();
+                }
+                source.dispose();
+            } catch (Exception e) {
+                GameLogger.error("CustomSpriteAtlas", "Failed to pack sprite: " + paths.get(i));
+            }
+        }
+
+        // Build textures and the index from the packer pages
+        List<Region> index = new ArrayList<>();
+        Array<PixmapPacker.Page> packerPages = packer.getPages();
+        for (int i = 0; i < packerPages.size; i++) {
+            PixmapPacker.Page page = packerPages.get(i);
+            Texture texture = new Texture(page.getPixmap());
+            pages.add(texture);
+            for (ObjectMap.Entry<String, PixmapPacker.PixmapPackerRectangle> entry : page.getRects()) {
+                Rectangle rect = entry.value;
+                Region region = new Region();
+                region.path = entry.key;
+                region.page = i;
+                region.x = (int) rect.x;
+                region.y = (int) rect.y;
+                region.width = (int) rect.width;
+                region.height = (int) rect.height;
+                index.add(region);
+                regions.put(region.path, new TextureRegion(texture, region.x, region.y, region.width, region.height));
+            }
+        }
+
+        writeCache(packerPages, index, hash);
+        packer.dispose();
+        GameLogger.info("CustomSpriteAtlas", "Packed " + regions.size() + " frames in "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private void writeCache(Array<PixmapPacker.Page> packerPages, List<Region> regionList, String hash) {
+        try {
+            FileHandle dir = Gdx.files.local(CACHE_DIR);
+            if (dir.exists()) {
+                dir.emptyDirectory();
+            } else {
+                dir.mkdirs();
+            }
+
+            for (int i = 0; i < packerPages.size; i++) {
+                PixmapIO.writePNG(Gdx.files.local(CACHE_DIR + PAGE_PREFIX + i + ".png"),
+                        packerPages.get(i).getPixmap());
+            }
+
+            // Index last, so an interrupted write never looks valid
+            Index index = new Index();
+            index.hash = hash;
+            index.pageCount = packerPages.size;
+            index.regions = regionList.toArray(new Region[0]);
+            Gdx.files.local(CACHE_DIR + INDEX_FILE).writeString(json.toJson(index), false);
+        } catch (Exception e) {
+            GameLogger.error("CustomSpriteAtlas", "Failed to write atlas cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Center a non-square image on a transparent square canvas
+     */
+    private static Pixmap padToSquare(Pixmap source) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        if (w == h)
+            return source;
+
+        int size = Math.max(w, h);
+        Pixmap padded = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+        padded.setBlending(Pixmap.Blending.None);
+        padded.setColor(0, 0, 0, 0);
+        padded.fill();
+        padded.drawPixmap(source, (size - w) / 2, (size - h) / 2);
+        return padded;
+    }
+}
@@ -77,6 +77,21 @@ public class EndlessGameState {
     /** Current chunk Y */
     public int currentChunkY;
 
+    // ========== World ==========
+
+    /** Seed of the chunk generator (0 in version 1 saves, which had none) */
+    public long worldSeed;
+
+    /**
+     * Changes to generated chunks, see {@link de.tum.cit.fop.maze.utils.ChunkDeltaLog#toArray()}
+     */
+    public int[] chunkDeltas;
+
+    /** Potions on the ground, {@value #POTION_RECORD_SIZE} floats each: x, y, type ordinal, value, duration */
+    public float[] droppedPotions;
+
+    public static final int POTION_RECORD_SIZE = 5;
+
     // ========== Collectibles ==========
 
     /** Collected coins */
@@ -90,8 +105,8 @@ public class EndlessGameState {
     /** Save timestamp */
     public long saveTimestamp;
 
-    /** Save version (for compatibility checks) */
-    public int saveVersion = 1;
+    /** Save version (for compatibility checks); 2 added the world seed and chunk deltas */
+    public int saveVersion = 2;
 
     /**
      * Default constructor (required for JSON deserialization)
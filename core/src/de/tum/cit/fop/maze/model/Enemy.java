@@ -1,9 +1,12 @@
 package de.tum.cit.fop.maze.model;
 
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
 import de.tum.cit.fop.maze.config.GameConfig;
 import de.tum.cit.fop.maze.config.GameSettings;
 import de.tum.cit.fop.maze.model.weapons.WeaponEffect;
 import de.tum.cit.fop.maze.utils.BloodParticleSystem;
+import de.tum.cit.fop.maze.utils.FlowField;
 import de.tum.cit.fop.maze.utils.GameLogger;
 import java.util.Random;
 
@@ -20,6 +23,7 @@
  * ║  STATE MACHINE LOGIC (handlePatrol / handleChase):                        ║
  * ║  - PATROL: Random direction, changes every 2-4 seconds or on wall hit    ║
  * ║  - CHASE: Axis-aligned pursuit (X-first if X-diff > Y-diff)              ║
+ * ║    or, when a shared FlowField is passed in, step to its next cell        ║
  * ║                                                                           ║
  * ║  PERFORMANCE: The simple chase algorithm is O(1) per enemy per frame.     ║
  * ║  Do NOT replace with A* or BFS unless you have profiled performance.      ║
@@ -79,6 +83,7 @@ public enum EnemyType {
     // === Movement Physics (Inertia System) ===
     private float velocityX = 0f; // Current horizontal velocity
     private float velocityY = 0f; // Current vertical velocity
+    private final GridPoint2 flowStep = new GridPoint2(); // Reused flow field lookup result
 
     // Physics Constants (enemies feel "heavier" than player)
     private static float PATROL_ACCELERATION = 18.0f; // Lower = more sluggish during patrol
@@ -174,7 +179,7 @@ public void setDamageSource(float sourceX, float sourceY, float knockbackStrengt
     public Enemy(float x, float y) {
         super(x, y);
         this.state = EnemyState.PATROL;
-        this.random = new Random();
+        this.random = new Random(MathUtils.random.nextLong()); // Follows the global seed
         this.changeDirTimer = 0;
         pickRandomDirection();
     }
@@ -573,6 +578,18 @@ public void updateTimers(float delta) {
      * @param safeGrid Safety path grid [x][y]
      */
     public void update(float delta, Player player, CollisionManager collisionManager, boolean[][] safeGrid) {
+        update(delta, player, collisionManager, safeGrid, null);
+    }
+
+    /**
+     * Update enemy: state-based continuous movement.
+     * 
+     * @param safeGrid  Safety path grid [x][y]
+     * @param flowField Shared chase flow field towards the player (null = axis
+     *                  pursuit)
+     */
+    public void update(float delta, Player player, CollisionManager collisionManager, boolean[][] safeGrid,
+            FlowField flowField) {
         // 0. Update Physics (Knockback) - Always runs to allow "flying corpses"
         if (Math.abs(knockbackVx) > 0.1f || Math.abs(knockbackVy) > 0.1f) {
             float moveX = knockbackVx * delta;
@@ -702,7 +719,24 @@ public void update(float delta, Player player, CollisionManager collisionManager
                 float dy = player.getY() - this.y;
                 float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
-                if (distance > 0.1f) {
+                if (distance > 0.1f && flowField != null
+                        && flowField.getNextCell((int) (this.x + 0.5f), (int) (this.y + 0.5f), flowStep)) {
+                    // Shared flow field: head for the next cell on the path to the player
+                    float stepX = flowStep.x - this.x;
+                    float stepY = flowStep.y - this.y;
+                    float stepLength = (float) Math.sqrt(stepX * stepX + stepY * stepY);
+                    if (stepLength > 0.01f) {
+                        targetVx = stepX / stepLength * maxSpeed;
+                        targetVy = stepY / stepLength * maxSpeed;
+                    }
+
+                    // Distance-adaptive slowdown: prevent overshooting when close to player
+                    if (distance < 2.0f) {
+                        float proximityFactor = distance / 2.0f; // 0.0 ~ 1.0
+                        targetVx *= proximityFactor;
+                        targetVy *= proximityFactor;
+                    }
+                } else if (distance > 0.1f) {
                     // Calculate primary and secondary directions
                     float primaryVx = 0, primaryVy = 0;
                     float secondaryVx = 0, secondaryVy = 0;
@@ -1,12 +1,9 @@
 package de.tum.cit.fop.maze.model;
 
-import com.badlogic.gdx.utils.IntMap;
 import de.tum.cit.fop.maze.utils.GameLogger;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * GameMap - Refactored Version
@@ -14,7 +11,7 @@
  * Core improvements:
  * 1. Clear distinction between "playable area" and "border walls".
  * 2. Use WallEntity to represent complete wall structures.
- * 3. O(1) collision queries implemented via occupied cell set.
+ * 3. O(1) collision queries implemented via a dense occupancy bitset.
  */
 public class GameMap {
 
@@ -32,12 +29,19 @@ public class GameMap {
     // All wall entities
     private List<WallEntity> walls;
 
-    // All cells occupied by walls (for O(1) collision detection)
-    // Key = x + (y << 16)
-    private Set<Long> occupiedCells;
+    // Occupancy storage dimensions (row-major, index = y * gridWidth + x).
+    // Grows when walls extend beyond the current bounds.
+    private int gridWidth = 0;
+    private int gridHeight = 0;
 
-    // Legacy compatibility: get wall reference by coordinate
-    private IntMap<WallEntity> wallLookup;
+    // All cells occupied by walls (for O(1) collision detection), one bit per cell
+    private long[] occupiedBits = new long[0];
+
+    // Wall lookup by coordinate: (index into walls) + 1, read as unsigned, 0 = none
+    private short[] wallIndexGrid = new short[0];
+
+    /** Largest wall count addressable by {@link #wallIndexGrid} */
+    private static final int MAX_INDEXED_WALLS = 0xFFFF;
 
     // Dynamic objects (enemies, traps, keys, etc.)
     private List<GameObject> dynamicObjects;
@@ -58,8 +62,6 @@ public class GameMap {
 
     public GameMap() {
         this.walls = new ArrayList<>();
-        this.occupiedCells = new HashSet<>();
-        this.wallLookup = new IntMap<>();
         this.dynamicObjects = new ArrayList<>();
         this.treasureChests = new ArrayList<>();
     }
@@ -73,6 +75,7 @@ public void initializeSize(int playableWidth, int playableHeight) {
         this.playableHeight = playableHeight;
         this.totalWidth = playableWidth + 2 * BORDER_WIDTH;
         this.totalHeight = playableHeight + 2 * BORDER_WIDTH;
+        ensureGridCapacity(totalWidth, totalHeight);
 
         GameLogger.info("GameMap", String.format(
                 "Initialized: Playable=%dx%d, Total=%dx%d (border=%d)",
@@ -85,14 +88,6 @@ public void initializeSize(int playableWidth, int playableHeight) {
     public void addWall(WallEntity wall) {
         walls.add(wall);
 
-        // Register all occupied cells
-        for (Long cellKey : wall.getOccupiedCells()) {
-            occupiedCells.add(cellKey);
-            // Legacy compatibility: lookup by coordinate
-            int cellIntKey = cellKey.intValue(); // Simplified, assuming coordinates don't exceed 16 bits
-            wallLookup.put(cellIntKey, wall);
-        }
-
         // Dynamically update map dimensions (if walls exceed current range)
         int maxX = wall.getOriginX() + wall.getGridWidth();
         int maxY = wall.getOriginY() + wall.getGridHeight();
@@ -100,6 +95,59 @@ public void addWall(WallEntity wall) {
             totalWidth = maxX;
         if (maxY > totalHeight)
             totalHeight = maxY;
+        ensureGridCapacity(maxX, Math.max(maxY, wall.getOriginY() + wall.getCollisionHeight()));
+
+        int wallIndex = walls.size();
+        if (wallIndex > MAX_INDEXED_WALLS) {
+            GameLogger.error("GameMap", "Too many walls for coordinate lookup: " + wallIndex);
+            wallIndex = 0;
+        }
+
+        // Register all occupied cells (collision height, same as
+        // WallEntity.getOccupiedCells)
+        int startX = Math.max(0, wall.getOriginX());
+        int startY = Math.max(0, wall.getOriginY());
+        int endX = wall.getOriginX() + wall.getGridWidth();
+        int endY = wall.getOriginY() + wall.getCollisionHeight();
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                int index = y * gridWidth + x;
+                occupiedBits[index >>> 6] |= 1L << index;
+                if (wallIndex != 0) {
+                    wallIndexGrid[index] = (short) wallIndex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Grows the occupancy storage so that it covers at least width x height
+     * cells, preserving existing entries.
+     */
+    private void ensureGridCapacity(int width, int height) {
+        if (width <= gridWidth && height <= gridHeight)
+            return;
+
+        int newWidth = Math.max(width, gridWidth);
+        int newHeight = Math.max(height, gridHeight);
+        long[] newBits = new long[(newWidth * newHeight + 63) >>> 6];
+        short[] newIndex = new short[newWidth * newHeight];
+
+        for (int y = 0; y < gridHeight; y++) {
+            for (int x = 0; x < gridWidth; x++) {
+                int oldIndex = y * gridWidth + x;
+                int index = y * newWidth + x;
+                if ((occupiedBits[oldIndex >>> 6] & (1L << oldIndex)) != 0) {
+                    newBits[index >>> 6] |= 1L << index;
+                }
+                newIndex[index] = wallIndexGrid[oldIndex];
+            }
+        }
+
+        gridWidth = newWidth;
+        gridHeight = newHeight;
+        occupiedBits = newBits;
+        wallIndexGrid = newIndex;
     }
 
     /**
@@ -166,8 +214,10 @@ private int getTypeIdForSize(int w, int h) {
      * O(1) check if a cell is occupied by a wall.
      */
     public boolean isOccupied(int x, int y) {
-        long key = x + ((long) y << 16);
-        return occupiedCells.contains(key);
+        if (x < 0 || y < 0 || x >= gridWidth || y >= gridHeight)
+            return false;
+        int index = y * gridWidth + x;
+        return (occupiedBits[index >>> 6] & (1L << index)) != 0;
     }
 
     /**
@@ -189,10 +239,7 @@ public boolean isInPlayableArea(int x, int y) {
      * Gets wall at specified position (legacy compatibility).
      */
     public Wall getWall(int x, int y) {
-        if (x < 0 || y < 0)
-            return null;
-        int key = x + (y << 16);
-        WallEntity entity = wallLookup.get(key);
+        WallEntity entity = getWallEntity(x, y);
         if (entity != null) {
             // Return compatible Wall object
             return new Wall(entity.getOriginX(), entity.getOriginY(),
@@ -205,10 +252,10 @@ public Wall getWall(int x, int y) {
      * Gets wall entity at specified position.
      */
     public WallEntity getWallEntity(int x, int y) {
-        if (x < 0 || y < 0)
+        if (x < 0 || y < 0 || x >= gridWidth || y >= gridHeight)
             return null;
-        int key = x + (y << 16);
-        return wallLookup.get(key);
+        int wallIndex = wallIndexGrid[y * gridWidth + x] & 0xFFFF;
+        return wallIndex == 0 ? null : walls.get(wallIndex - 1);
     }
 
     /**
@@ -11,6 +11,11 @@ public abstract class GameObject implements Positioned {
     protected float x;
     protected float y;
 
+    // Position at the start of the current simulation tick, used to
+    // interpolate rendering between fixed ticks.
+    protected float prevX;
+    protected float prevY;
+
     // Logical width and height, typically 1 (representing 1 tile).
     protected float width = 1;
     protected float height = 1;
@@ -18,6 +23,8 @@ public abstract class GameObject implements Positioned {
     public GameObject(float x, float y) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
     }
 
     // Getters
@@ -37,9 +44,43 @@ public float getHeight() {
         return height;
     }
 
+    /**
+     * Render X between the previous and the current tick
+     *
+     * @param alpha Interpolation factor in [0, 1] (1 = current position)
+     */
+    public float getRenderX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Render Y between the previous and the current tick
+     */
+    public float getRenderY(float alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
+    /**
+     * Remember the current position as the previous one. Called at the
+     * start of every simulation tick.
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
     // Setters (used for movement)
     public void setPosition(float x, float y) {
         this.x = x;
         this.y = y;
     }
+
+    /**
+     * Jump to a position without interpolating from the old one. Use for
+     * repositioning outside the simulation step (teleport, respawn, load).
+     */
+    public void teleport(float x, float y) {
+        setPosition(x, y);
+        savePreviousPosition();
+    }
 }
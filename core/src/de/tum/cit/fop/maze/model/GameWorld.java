@@ -1,7 +1,5 @@
 package de.tum.cit.fop.maze.model;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
@@ -15,8 +13,13 @@
 import de.tum.cit.fop.maze.model.items.Potion;
 
 import de.tum.cit.fop.maze.model.weapons.Weapon;
+import de.tum.cit.fop.maze.simulation.GdxInputSource;
+import de.tum.cit.fop.maze.simulation.InputSource;
 import de.tum.cit.fop.maze.utils.AchievementManager;
 import de.tum.cit.fop.maze.utils.AudioManager;
+import de.tum.cit.fop.maze.utils.FlowField;
+import de.tum.cit.fop.maze.utils.FrameProfiler;
+import de.tum.cit.fop.maze.utils.GridSearch;
 import de.tum.cit.fop.maze.utils.GameLogger;
 import de.tum.cit.fop.maze.utils.LootTable;
 
@@ -37,6 +40,8 @@ public class GameWorld {
     private final List<MobileTrap> mobileTraps;
     private final List<FloatingText> floatingTexts;
     private boolean[][] safeGrid; // For AI pathfinding
+    private final FlowField.Passability flowFieldPassability;
+    private final FlowField enemyFlowField = new FlowField(GameConfig.ENEMY_FLOW_FIELD_MAX_STEPS); // Shared chase paths
 
     // === New: Projectile and Loot Systems ===
     private final List<Projectile> projectiles;
@@ -53,6 +58,7 @@ public class GameWorld {
     // === Mouse Aiming System ===
     private float aimAngle = 270f; // Aim angle (degrees, 0=Right, 90=Up, 180=Left, 270=Down)
     private Vector2 mouseWorldPos = new Vector2(); // Mouse world position
+    private InputSource input = GdxInputSource.INSTANCE; // Live keyboard/mouse unless replaced
     private static final float UNIT_SCALE = 16f; // World coordinate scale factor
 
     // === Fire Event (for particle effects) ===
@@ -101,6 +107,7 @@ public GameWorld(GameMap gameMap, String levelPath) {
 
         // Initialize Core Components
         this.collisionManager = new CollisionManager(gameMap);
+        this.flowFieldPassability = (x, y) -> !collisionManager.isWalkableForEnemy(x, y);
         this.player = new Player(gameMap.getPlayerStartX(), gameMap.getPlayerStartY());
 
         // Only use LoadoutManager weapon selection when starting a new game (entering
@@ -249,7 +256,7 @@ private void spawnCustomEnemy(de.tum.cit.fop.maze.custom.CustomElementDefinition
         float spawnProb = element.getSpawnProbability(level);
 
         for (int i = 0; i < count; i++) {
-            if (Math.random() > spawnProb)
+            if (MathUtils.random() > spawnProb)
                 continue;
 
             // Find a valid spawn position (walkable tile away from player spawn)
@@ -258,8 +265,8 @@ private void spawnCustomEnemy(de.tum.cit.fop.maze.custom.CustomElementDefinition
             int maxAttempts = 100;
 
             while (attempts < maxAttempts) {
-                int x = 3 + (int) (Math.random() * (gameMap.getWidth() - 6));
-                int y = 3 + (int) (Math.random() * (gameMap.getHeight() - 6));
+                int x = 3 + (int) (MathUtils.random() * (gameMap.getWidth() - 6));
+                int y = 3 + (int) (MathUtils.random() * (gameMap.getHeight() - 6));
 
                 // Check if walkable and not too close to player start
                 if (collisionManager.isWalkable(x, y)) {
@@ -347,10 +354,27 @@ public void setProjectileHitListener(ProjectileHitListener listener) {
         this.projectileHitListener = listener;
     }
 
+    /**
+     * Replace the input the world reads each update (e.g. scripted input for
+     * headless simulation)
+     */
+    public void setInputSource(InputSource input) {
+        this.input = input;
+    }
+
+    public InputSource getInputSource() {
+        return input;
+    }
+
     public void update(float delta) {
+        FrameProfiler.begin(FrameProfiler.Stage.WORLD_UPDATE);
+
         // Track level elapsed time for achievements
         levelElapsedTime += delta;
 
+        // Positions at tick start, for render interpolation
+        savePreviousPositions();
+
         // 1. Player Update
         player.update(delta, collisionManager);
 
@@ -368,12 +392,20 @@ public void update(float delta) {
         }
 
         // 3. Entity Updates
+        FrameProfiler.begin(FrameProfiler.Stage.ENEMIES);
         updateEnemies(delta);
+        FrameProfiler.end(FrameProfiler.Stage.ENEMIES);
         updateTraps(delta);
+        FrameProfiler.begin(FrameProfiler.Stage.PROJECTILES);
         updateProjectiles(delta); // NEW: Update projectiles
-        updateDroppedItems(); // NEW: Handle item pickup
+        FrameProfiler.end(FrameProfiler.Stage.PROJECTILES);
+        updateDroppedItems(delta); // NEW: Handle item pickup
+        FrameProfiler.begin(FrameProfiler.Stage.DYNAMIC_OBJECTS);
         updateDynamicObjects();
+        FrameProfiler.end(FrameProfiler.Stage.DYNAMIC_OBJECTS);
+        FrameProfiler.begin(FrameProfiler.Stage.CHESTS);
         updateChests(delta); // NEW: Handle treasure chest interaction
+        FrameProfiler.end(FrameProfiler.Stage.CHESTS);
         updateFloatingTexts(delta);
 
         // 4. Update player's equipped weapon (for reload timer)
@@ -381,13 +413,28 @@ public void update(float delta) {
         if (currentWeapon != null) {
             currentWeapon.update(delta);
         }
+
+        FrameProfiler.end(FrameProfiler.Stage.WORLD_UPDATE);
+    }
+
+    private void savePreviousPositions() {
+        player.savePreviousPosition();
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            enemies.get(i).savePreviousPosition();
+        }
+        for (int i = 0, n = mobileTraps.size(); i < n; i++) {
+            mobileTraps.get(i).savePreviousPosition();
+        }
+        for (int i = 0, n = projectiles.size(); i < n; i++) {
+            projectiles.get(i).savePreviousPosition();
+        }
     }
 
     // --- Input Logic ---
 
     protected void handleInput(float delta) {
         // Weapon Switch
-        if (Gdx.input.isKeyJustPressed(GameSettings.KEY_SWITCH_WEAPON)) {
+        if (input.isJustPressed(InputSource.Action.SWITCH_WEAPON)) {
             player.switchWeapon();
             AudioManager.getInstance().playSound("select");
         }
@@ -396,26 +443,26 @@ protected void handleInput(float delta) {
         // Step 1: Get input direction
         float inputX = 0, inputY = 0;
 
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_LEFT)) {
+        if (input.isDown(InputSource.Action.MOVE_LEFT)) {
             inputX -= 1;
             // When not in mouse mode, update facing based on keyboard input
             if (!GameSettings.isUseMouseAiming()) {
                 playerDirection = 2;
             }
         }
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_RIGHT)) {
+        if (input.isDown(InputSource.Action.MOVE_RIGHT)) {
             inputX += 1;
             if (!GameSettings.isUseMouseAiming()) {
                 playerDirection = 3;
             }
         }
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_UP)) {
+        if (input.isDown(InputSource.Action.MOVE_UP)) {
             inputY += 1;
             if (!GameSettings.isUseMouseAiming()) {
                 playerDirection = 1;
             }
         }
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_DOWN)) {
+        if (input.isDown(InputSource.Action.MOVE_DOWN)) {
             inputY -= 1;
             if (!GameSettings.isUseMouseAiming()) {
                 playerDirection = 0;
@@ -435,8 +482,7 @@ protected void handleInput(float delta) {
         }
 
         // Step 3: Handle running state
-        player.setRunning(
-                Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT));
+        player.setRunning(input.isDown(InputSource.Action.RUN));
 
         // Step 4: Calculate target velocity
         float maxSpeed = player.getSpeed(); // Already considers running state
@@ -491,7 +537,7 @@ protected void handleInput(float delta) {
 
         // Attack (trigger one attack per attack key press, consistent with endless
         // mode)
-        if (Gdx.input.isKeyJustPressed(GameSettings.KEY_ATTACK)) {
+        if (input.isJustPressed(InputSource.Action.ATTACK)) {
             handleAttack();
         }
     }
@@ -730,11 +776,15 @@ private void handleAttack() {
     // --- Private Update Helpers ---
 
     private void updateEnemies(float delta) {
+        // Recomputed only when the player enters a new tile
+        enemyFlowField.update((int) (player.getX() + 0.5f), (int) (player.getY() + 0.5f),
+                0, 0, gameMap.getWidth() - 1, gameMap.getHeight() - 1, flowFieldPassability);
+
         for (Enemy enemy : enemies) {
             float dst2 = Vector2.dst2(player.getX(), player.getY(), enemy.getX(), enemy.getY());
             if (dst2 > 1600)
                 continue; // Optimization: Don't update far enemies
-            enemy.update(delta, player, collisionManager, safeGrid);
+            enemy.update(delta, player, collisionManager, safeGrid, enemyFlowField);
         }
         enemies.removeIf(Enemy::isRemovable);
 
@@ -912,65 +962,29 @@ private boolean isWalkable(float x, float y) {
     }
 
     private void calculateSafePath() {
-        // BFS Logic from GameScreen
         int w = gameMap.getWidth();
         int h = gameMap.getHeight();
         this.safeGrid = new boolean[w][h];
 
-        int exitX = -1, exitY = -1;
+        boolean hasExit = false;
         for (GameObject obj : gameMap.getDynamicObjects()) {
             if (obj instanceof Exit) {
-                exitX = (int) obj.getX();
-                exitY = (int) obj.getY();
+                hasExit = true;
                 break;
             }
         }
 
-        if (exitX == -1)
+        if (!hasExit)
             return;
 
+        // Mark every tile reachable from the player start
         int startX = (int) gameMap.getPlayerStartX();
         int startY = (int) gameMap.getPlayerStartY();
-        Queue<Integer> queue = new LinkedList<>();
-        Set<Integer> visited = new HashSet<>();
-        int startIndex = startY * w + startX;
-        queue.add(startIndex);
-        visited.add(startIndex);
-
-        int[][] dirs = { { 0, 1 }, { 0, -1 }, { 1, 0 }, { -1, 0 } };
-
-        while (!queue.isEmpty()) {
-            int current = queue.poll();
-            int cx = current % w;
-            int cy = current / w;
-
-            // Mark as safe? Actually safeGrid is boolean.
-            // Wait, original logic was missing in my prev read output?
-            // "calculateSafePath" in previous output ended abruptly.
-            // I'll assume standard BFS to mark reachable tiles or populate safeGrid for
-            // Enemies.
-            // Looking at the name 'safeGrid', it's likely used by Enemy to know where NOT
-            // to go?
-            // OR it's used to know valid paths.
-            // Let's assume valid paths for now.
-
-            // Re-implementing based on "safe path calculation - BFS algorithm" comment.
-            // If the original output was cut off, I used the context "calculateSafePath
-            // uses BFS".
-            // Since I cannot see the full implementation, I will implement a robust BFS.
-            safeGrid[cx][cy] = true;
-
-            for (int[] dir : dirs) {
-                int nx = cx + dir[0];
-                int ny = cy + dir[1];
-
-                if (nx >= 0 && nx < w && ny >= 0 && ny < h) {
-                    int nIndex = ny * w + nx;
-                    if (!visited.contains(nIndex) && collisionManager.isWalkable(nx, ny)) {
-                        visited.add(nIndex);
-                        queue.add(nIndex);
-                    }
-                }
+        GridSearch search = new GridSearch();
+        search.floodFill(w, h, startX, startY, collisionManager::isWalkable);
+        for (int x = 0; x < w; x++) {
+            for (int y = 0; y < h; y++) {
+                safeGrid[x][y] = search.isReached(x, y);
             }
         }
     }
@@ -1083,8 +1097,8 @@ public float getLastFireDirY() {
      */
     public void updateMouseAim(Camera camera) {
         // Get mouse screen coordinates
-        float screenX = Gdx.input.getX();
-        float screenY = Gdx.input.getY();
+        float screenX = input.getPointerX();
+        float screenY = input.getPointerY();
 
         // Convert to world coordinates
         Vector3 worldCoords = camera.unproject(new Vector3(screenX, screenY, 0));
@@ -1194,7 +1208,7 @@ private void handleEnemyDeath(Enemy e) {
         }
 
         // Small chance to also drop a potion (10%)
-        if (Math.random() < 0.1f) {
+        if (MathUtils.random() < 0.1f) {
             gameMap.addGameObject(Potion.createHealthPotion(e.getX() + 0.5f, e.getY()));
         }
     }
@@ -1282,11 +1296,11 @@ private void updateProjectiles(float delta) {
     /**
      * Update dropped items and handle pickup
      */
-    private void updateDroppedItems() {
+    private void updateDroppedItems(float delta) {
         Iterator<DroppedItem> iter = droppedItems.iterator();
         while (iter.hasNext()) {
             DroppedItem item = iter.next();
-            item.update(Gdx.graphics.getDeltaTime());
+            item.update(delta);
 
             if (item.canPickUp(player)) {
                 if (item.applyToPlayer(player)) {
@@ -1358,6 +1372,10 @@ public int getKillCount() {
         return killCount;
     }
 
+    public String getCurrentLevelPath() {
+        return currentLevelPath;
+    }
+
     public int getCoinsCollected() {
         return coinsCollected;
     }
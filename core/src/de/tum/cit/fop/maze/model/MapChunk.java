@@ -3,6 +3,7 @@
 import com.badlogic.gdx.math.Vector2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -10,6 +11,13 @@
  * 
  * Represents a 64x64 block in Endless Mode map.
  * Used for sliced loading and rendering optimization.
+ * 
+ * Wall occupancy is additionally kept in two packed bitsets (one bit per
+ * tile, row-major) so collision queries are O(1) instead of a scan over all
+ * walls:
+ * - footprint layer: full visual grid height of each wall (movement blocking)
+ * - base layer: collision height only (the part of a wall that stands on the
+ * floor, see {@link WallEntity#getCollisionHeight()})
  */
 public class MapChunk {
 
@@ -28,6 +36,15 @@ public class MapChunk {
     /** Wall entities within the chunk */
     private List<WallEntity> walls;
 
+    /** Packed occupancy bits for the full wall footprint (size * size bits) */
+    private final long[] blockedBits;
+
+    /** Packed occupancy bits for the wall collision-height base */
+    private final long[] wallBaseBits;
+
+    /** Precompiled wall sprites, set while the chunk is loaded for rendering */
+    private WallDrawList wallDrawList;
+
     /** Trap positions within the chunk */
     private List<Vector2> trapPositions;
 
@@ -58,6 +75,8 @@ public MapChunk(int chunkX, int chunkY, int size) {
         this.chunkY = chunkY;
         this.size = size;
         this.walls = new ArrayList<>();
+        this.blockedBits = new long[(size * size + 63) >>> 6];
+        this.wallBaseBits = new long[(size * size + 63) >>> 6];
         this.trapPositions = new ArrayList<>();
         this.chestPositions = new ArrayList<>();
         this.spawnPoints = new ArrayList<>();
@@ -105,10 +124,62 @@ public boolean containsWorldPosition(float worldX, float worldY) {
     }
 
     /**
-     * Adds a wall.
+     * Adds a wall and marks its tiles in the occupancy bitsets.
      */
     public void addWall(WallEntity wall) {
         walls.add(wall);
+        wallDrawList = null;
+
+        int localX = wall.getOriginX() - getWorldStartX();
+        int localY = wall.getOriginY() - getWorldStartY();
+        markBits(blockedBits, localX, localY, wall.getGridWidth(), wall.getGridHeight());
+        markBits(wallBaseBits, localX, localY, wall.getGridWidth(), wall.getCollisionHeight());
+    }
+
+    /**
+     * Sets the bits of a rectangle, clipped to the chunk bounds.
+     */
+    private void markBits(long[] bits, int localX, int localY, int w, int h) {
+        int startX = Math.max(0, localX);
+        int startY = Math.max(0, localY);
+        int endX = Math.min(size, localX + w);
+        int endY = Math.min(size, localY + h);
+        for (int ly = startY; ly < endY; ly++) {
+            for (int lx = startX; lx < endX; lx++) {
+                int index = ly * size + lx;
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Checks if a tile is covered by a wall footprint (O(1)).
+     * 
+     * @param localX X coordinate relative to the chunk origin
+     * @param localY Y coordinate relative to the chunk origin
+     * @return true if blocked; tiles outside the chunk are reported as blocked
+     */
+    public boolean isBlocked(int localX, int localY) {
+        if (localX < 0 || localY < 0 || localX >= size || localY >= size) {
+            return true;
+        }
+        int index = localY * size + localX;
+        return (blockedBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks if a tile is covered by the collision-height base of a wall (O(1)).
+     * 
+     * @param localX X coordinate relative to the chunk origin
+     * @param localY Y coordinate relative to the chunk origin
+     * @return true if the tile is a wall base; false outside the chunk
+     */
+    public boolean isWallBase(int localX, int localY) {
+        if (localX < 0 || localY < 0 || localX >= size || localY >= size) {
+            return false;
+        }
+        int index = localY * size + localX;
+        return (wallBaseBits[index >>> 6] & (1L << index)) != 0;
     }
 
     /**
@@ -173,6 +244,9 @@ public String getId() {
      */
     public void clear() {
         walls.clear();
+        wallDrawList = null;
+        Arrays.fill(blockedBits, 0L);
+        Arrays.fill(wallBaseBits, 0L);
         trapPositions.clear();
         chestPositions.clear();
         spawnPoints.clear();
@@ -206,6 +280,14 @@ public List<WallEntity> getWalls() {
         return walls;
     }
 
+    public WallDrawList getWallDrawList() {
+        return wallDrawList;
+    }
+
+    public void setWallDrawList(WallDrawList wallDrawList) {
+        this.wallDrawList = wallDrawList;
+    }
+
     public List<Vector2> getTrapPositions() {
         return trapPositions;
     }
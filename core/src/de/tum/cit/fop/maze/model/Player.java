@@ -1,5 +1,6 @@
 package de.tum.cit.fop.maze.model;
 
+import com.badlogic.gdx.math.MathUtils;
 import de.tum.cit.fop.maze.config.GameSettings;
 import de.tum.cit.fop.maze.model.items.Armor;
 import de.tum.cit.fop.maze.utils.GameLogger;
@@ -428,7 +429,7 @@ public boolean damage(int amount, DamageType type) {
             // Trigger blood particle effect - random direction (player damage has no clear
             // source)
             if (damageListener != null) {
-                float angle = (float) (Math.random() * Math.PI * 2);
+                float angle = MathUtils.random(MathUtils.PI2);
                 damageListener.onDamage(x + 0.5f, y + 0.5f, remainingDamage,
                         (float) Math.cos(angle), (float) Math.sin(angle), 1.0f);
             }
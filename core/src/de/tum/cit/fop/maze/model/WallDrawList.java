@@ -0,0 +1,74 @@
+package de.tum.cit.fop.maze.model;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Precompiled wall sprites of one {@link MapChunk}.
+ *
+ * Built once when the chunk is loaded: the texture region and world-space
+ * rectangle of every wall sprite (grassland walls contribute two, body and
+ * top) in draw order, plus the bounds of all of them for chunk culling.
+ * Drawing is then a walk over flat arrays.
+ */
+public class WallDrawList {
+
+    /** Floats per entry in {@link #rects}: x, y, width, height */
+    public static final int RECT_SIZE = 4;
+
+    private final TextureRegion[] regions;
+    private final float[] rects;
+    private final int count;
+
+    private final float minX;
+    private final float minY;
+    private final float maxX;
+    private final float maxY;
+
+    /**
+     * @param regions Region of each entry
+     * @param rects   {@link #RECT_SIZE} floats per entry
+     * @param count   Number of entries used
+     */
+    public WallDrawList(TextureRegion[] regions, float[] rects, int count) {
+        this.regions = regions;
+        this.rects = rects;
+        this.count = count;
+
+        float x0 = Float.MAX_VALUE, y0 = Float.MAX_VALUE;
+        float x1 = -Float.MAX_VALUE, y1 = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            int r = i * RECT_SIZE;
+            x0 = Math.min(x0, rects[r]);
+            y0 = Math.min(y0, rects[r + 1]);
+            x1 = Math.max(x1, rects[r] + rects[r + 2]);
+            y1 = Math.max(y1, rects[r + 1] + rects[r + 3]);
+        }
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+    }
+
+    /**
+     * Checks if any sprite of the list overlaps the given world rectangle.
+     */
+    public boolean overlaps(float left, float bottom, float right, float top) {
+        return count > 0 && minX <= right && maxX >= left && minY <= top && maxY >= bottom;
+    }
+
+    public TextureRegion getRegion(int index) {
+        return regions[index];
+    }
+
+    /**
+     * Gets the rectangle array ({@link #RECT_SIZE} floats per entry, shared, do
+     * not modify).
+     */
+    public float[] getRects() {
+        return rects;
+    }
+
+    public int size() {
+        return count;
+    }
+}
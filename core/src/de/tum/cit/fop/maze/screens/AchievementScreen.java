@@ -47,6 +47,7 @@ public class AchievementScreen implements Screen {
 
     // Cached drawables for rarity backgrounds
     private TextureRegionDrawable commonBg, rareBg, epicBg, legendaryBg;
+    private final AssetService.Group assets = AssetService.getInstance().group();
     private Texture backgroundTexture;
 
     public AchievementScreen(MazeRunnerGame game) {
@@ -59,7 +60,7 @@ public AchievementScreen(MazeRunnerGame game) {
 
         // Load background
         try {
-            backgroundTexture = new Texture(Gdx.files.internal("achievement_bg.jpg"));
+            backgroundTexture = assets.texture("achievement_bg.jpg");
         } catch (Exception e) {
             backgroundTexture = null;
         }
@@ -486,7 +487,6 @@ public void hide() {
     @Override
     public void dispose() {
         stage.dispose();
-        if (backgroundTexture != null)
-            backgroundTexture.dispose();
+        assets.releaseAll();
     }
 }
@@ -22,6 +22,7 @@
 import com.badlogic.gdx.utils.viewport.Viewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.config.EndlessModeConfig;
+import de.tum.cit.fop.maze.config.GameConfig;
 import de.tum.cit.fop.maze.config.GameSettings;
 import de.tum.cit.fop.maze.effects.FloatingText;
 import de.tum.cit.fop.maze.model.*;
@@ -31,7 +32,6 @@
 import de.tum.cit.fop.maze.ui.EndlessHUD;
 import de.tum.cit.fop.maze.ui.ChestInteractUI;
 import de.tum.cit.fop.maze.utils.*;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -74,7 +74,13 @@ public class EndlessGameScreen implements Screen {
     // === Game Objects ===
     private Player player;
     private List<Enemy> enemies;
+    private ChunkFloorRenderer floorRenderer; // Cached, culled floor layer
+    private ChunkWallRenderer wallRenderer; // Precompiled, culled wall layer
     private SpatialHashGrid<Enemy> enemyGrid; // Spatial hash for O(1) neighbor queries
+    private final List<Enemy> nearbyEnemies = new ArrayList<>(); // Reused enemyGrid query buffer
+    private final FlowField enemyFlowField = new FlowField(GameConfig.ENEMY_FLOW_FIELD_MAX_STEPS); // Shared chase paths
+    private final FlowField.Passability flowFieldPassability = (x, y) -> chunkManager.isBlockedWorld(x, y);
+    private final com.badlogic.gdx.math.GridPoint2 flowStep = new com.badlogic.gdx.math.GridPoint2();
     private List<Trap> traps;
     private List<FloatingText> floatingTexts;
     private List<Potion> potions; // Dropped potions
@@ -88,6 +94,13 @@ public class EndlessGameScreen implements Screen {
     // === HUD ===
     private EndlessHUD hud;
 
+    // === Fixed-step simulation (same loop as GameScreen) ===
+    private final de.tum.cit.fop.maze.simulation.FixedTimestep simulationClock = new de.tum.cit.fop.maze.simulation.FixedTimestep(
+            de.tum.cit.fop.maze.config.GameConfig.SIMULATION_TIMESTEP, GameSettings.getMaxSimulationSubsteps());
+    private final de.tum.cit.fop.maze.simulation.BufferedInputSource simulationInput = new de.tum.cit.fop.maze.simulation.BufferedInputSource(
+            de.tum.cit.fop.maze.simulation.GdxInputSource.INSTANCE);
+    private float renderAlpha = 1f;
+
     // === Game State ===
     private float stateTime = 0f;
     private int totalKills = 0;
@@ -111,6 +124,23 @@ public class EndlessGameScreen implements Screen {
     private static final float UNIT_SCALE = 16f;
     private static final float CAMERA_LERP_SPEED = 4.0f;
     private static final int MAX_ENEMIES = EndlessModeConfig.MAX_ENEMY_COUNT;
+    private static final float ENEMY_HALF_SIZE = 0.45f; // Half of the 0.9 enemy collision box
+    private static final float ENEMY_CONTACT_RADIUS = 0.8f;
+    private static final float ENEMY_SEPARATION_RADIUS = 0.8f;
+    private static final float ENEMY_SEPARATION_SPEED = 1.5f;
+
+    /** Position accessor used for exact-distance queries on {@link #enemyGrid} */
+    private static final SpatialHashGrid.FullPositionProvider<Enemy> ENEMY_POSITION = new SpatialHashGrid.FullPositionProvider<Enemy>() {
+        @Override
+        public float getX(Enemy entity) {
+            return entity.getX();
+        }
+
+        @Override
+        public float getY(Enemy entity) {
+            return entity.getY();
+        }
+    };
 
     // === Player/Weapon Facing Memory (Partner Functionality) ===
     private int lastPlayerFacing = 3;
@@ -118,12 +148,20 @@ public class EndlessGameScreen implements Screen {
     // === Enemy Spawn ===
     private Random spawnRandom;
 
-    // === Grayscale Shader (Matches Level Mode Death Effect) ===
-    private ShaderProgram grayscaleShader;
-    private com.badlogic.gdx.graphics.glutils.ShapeRenderer shapeRenderer;
+    // === Enemy Sprites & Health Bars (grayscale death effect matches Level Mode) ===
+    private de.tum.cit.fop.maze.utils.WorldOverlayRenderer overlayRenderer;
+    private de.tum.cit.fop.maze.utils.ProfilerOverlay profilerOverlay;
+    private static final float HURT_TINT_BITS = Color.toFloatBits(1f, 0f, 0f, 1f);
+    private static final float POISON_TINT_BITS = Color.toFloatBits(0f, 1f, 0f, 1f);
+    private static final float FREEZE_TINT_BITS = Color.toFloatBits(0f, 0.5f, 1f, 1f);
+    private static final float BURN_TINT_BITS = Color.toFloatBits(1f, 0.5f, 0f, 1f);
+    private static final float HEALTH_BAR_BACKGROUND_BITS = Color.RED.toFloatBits();
+    private static final float HEALTH_BAR_FILL_BITS = Color.GREEN.toFloatBits();
 
     // === Blood Particle System ===
     private BloodParticleSystem bloodParticles;
+    private static final Color PLAYER_BLOOD_COLOR = new Color(0.0f, 0.0f, 0.5f, 1.0f);
+    private static final Color DUST_COLOR = new Color(0.5f, 0.45f, 0.35f, 1f);
     private de.tum.cit.fop.maze.utils.DustParticleSystem dustParticles;
 
     // === Mouse Aiming System ===
@@ -150,9 +188,11 @@ public EndlessGameScreen(MazeRunnerGame game, EndlessGameState savedState) {
         fogRenderer = new FogRenderer(game.getSpriteBatch());
         playerRenderer = new de.tum.cit.fop.maze.utils.PlayerRenderer(game.getSpriteBatch(), textureManager,
                 UNIT_SCALE);
-        shapeRenderer = new com.badlogic.gdx.graphics.glutils.ShapeRenderer();
+        overlayRenderer = new de.tum.cit.fop.maze.utils.WorldOverlayRenderer(textureManager.whitePixel);
+        profilerOverlay = new de.tum.cit.fop.maze.utils.ProfilerOverlay(textureManager.whitePixel,
+                game.getSkin().getFont("font"));
 
-        initializeSystems();
+        initializeSystems(savedState);
 
         if (savedState != null) {
             loadState(savedState);
@@ -169,10 +209,34 @@ public EndlessGameScreen(MazeRunnerGame game, EndlessGameState savedState) {
         AudioManager.getInstance().playBgm(AudioManager.BGM_BOSS);
     }
 
-    private void initializeSystems() {
-        // Map system
-        mapGenerator = new EndlessMapGenerator();
-        chunkManager = new ChunkManager();
+    private void initializeSystems(EndlessGameState savedState) {
+        // Map system: a saved world is regenerated from its seed plus the chunk delta log
+        long worldSeed = System.currentTimeMillis();
+        int[] chunkDeltas = null;
+        if (savedState != null && savedState.worldSeed != 0) {
+            worldSeed = savedState.worldSeed;
+            chunkDeltas = savedState.chunkDeltas;
+        } else if (savedState != null) {
+            GameLogger.warn("EndlessGameScreen", "Save has no world seed, generating a new world");
+        }
+        mapGenerator = new EndlessMapGenerator(worldSeed);
+        chunkManager = new ChunkManager(worldSeed, ChunkDeltaLog.fromArray(chunkDeltas));
+        floorRenderer = new ChunkFloorRenderer(UNIT_SCALE, this::getFloorTextureForChunk);
+        wallRenderer = new ChunkWallRenderer(UNIT_SCALE, (theme, wall) -> textureManager.getWallRegion(
+                theme, wall.getGridWidth(), wall.getGridHeight(), wall.getOriginX(), wall.getOriginY()));
+        chunkManager.setListener(new ChunkManager.ChunkListener() {
+            @Override
+            public void onChunkLoaded(MapChunk chunk) {
+                floorRenderer.onChunkLoaded(chunk);
+                wallRenderer.onChunkLoaded(chunk);
+            }
+
+            @Override
+            public void onChunkUnloaded(MapChunk chunk) {
+                floorRenderer.onChunkUnloaded(chunk);
+                wallRenderer.onChunkUnloaded(chunk);
+            }
+        });
 
         // Core systems
         comboSystem = new ComboSystem();
@@ -191,54 +255,14 @@ private void initializeSystems() {
         chunkChests = new HashMap<>();
 
         // Blood particle system
-        bloodParticles = new BloodParticleSystem();
-        dustParticles = new de.tum.cit.fop.maze.utils.DustParticleSystem();
+        bloodParticles = new BloodParticleSystem(textureManager.whitePixel);
+        dustParticles = new de.tum.cit.fop.maze.utils.DustParticleSystem(textureManager.whitePixel);
 
         // Crosshair renderer
         crosshairRenderer = new de.tum.cit.fop.maze.utils.CrosshairRenderer();
 
         // Setup system listeners
         setupSystemListeners();
-
-        // Initialize Grayscale Shader
-        String vertexShader = "attribute vec4 "
-                + com.badlogic.gdx.graphics.glutils.ShaderProgram.POSITION_ATTRIBUTE + ";\n"
-                + "attribute vec4 " + com.badlogic.gdx.graphics.glutils.ShaderProgram.COLOR_ATTRIBUTE
-                + ";\n"
-                + "attribute vec2 " + com.badlogic.gdx.graphics.glutils.ShaderProgram.TEXCOORD_ATTRIBUTE
-                + "0;\n"
-                + "uniform mat4 u_projTrans;\n"
-                + "varying vec4 v_color;\n"
-                + "varying vec2 v_texCoords;\n"
-                + "\n"
-                + "void main()\n"
-                + "{\n"
-                + "   v_color = " + com.badlogic.gdx.graphics.glutils.ShaderProgram.COLOR_ATTRIBUTE
-                + ";\n"
-                + "   v_color.a = v_color.a * (255.0/254.0);\n"
-                + "   v_texCoords = "
-                + com.badlogic.gdx.graphics.glutils.ShaderProgram.TEXCOORD_ATTRIBUTE
-                + "0;\n"
-                + "   gl_Position =  u_projTrans * "
-                + com.badlogic.gdx.graphics.glutils.ShaderProgram.POSITION_ATTRIBUTE + ";\n"
-                + "}\n";
-        String fragmentShader = "#ifdef GL_ES\n"
-                + "precision mediump float;\n"
-                + "#endif\n"
-                + "varying vec4 v_color;\n"
-                + "varying vec2 v_texCoords;\n"
-                + "uniform sampler2D u_texture;\n"
-                + "void main()\n"
-                + "{\n"
-                + "  vec4 c = v_color * texture2D(u_texture, v_texCoords);\n"
-                + "  float gray = dot(c.rgb, vec3(0.299, 0.587, 0.114));\n"
-                + "  gl_FragColor = vec4(gray, gray, gray, c.a);\n"
-                + "}";
-        grayscaleShader = new com.badlogic.gdx.graphics.glutils.ShaderProgram(vertexShader,
-                fragmentShader);
-        if (!grayscaleShader.isCompiled()) {
-            GameLogger.error("EndlessGameScreen", "Shader compile failed: " + grayscaleShader.getLog());
-        }
     }
 
     private void setupSystemListeners() {
@@ -298,7 +322,7 @@ private void initializeNewGame() {
         // Bind player blood particle listener
         player.setDamageListener(
                 (x, y, amount, dirX, dirY, knockback) -> bloodParticles.spawn(x, y, amount, dirX, dirY, knockback,
-                        new Color(0.0f, 0.0f, 0.5f, 1.0f)));
+                        PLAYER_BLOOD_COLOR));
 
         // Load initial chunks
         chunkManager.updateActiveChunks(player.getX(), player.getY());
@@ -320,6 +344,19 @@ private void loadState(EndlessGameState state) {
         totalKills = state.totalKills;
         currentScore = state.score;
 
+        // Restore potions on the ground
+        if (state.droppedPotions != null) {
+            Potion.PotionType[] types = Potion.PotionType.values();
+            for (int i = 0; i + EndlessGameState.POTION_RECORD_SIZE <= state.droppedPotions.length;
+                    i += EndlessGameState.POTION_RECORD_SIZE) {
+                int type = (int) state.droppedPotions[i + 2];
+                if (type < 0 || type >= types.length)
+                    continue;
+                potions.add(new Potion(state.droppedPotions[i], state.droppedPotions[i + 1], types[type],
+                        (int) state.droppedPotions[i + 3], state.droppedPotions[i + 4]));
+            }
+        }
+
         // Load chunks
         chunkManager.updateActiveChunks(player.getX(), player.getY());
     }
@@ -474,6 +511,21 @@ public int clearAllEnemies() {
                 return count;
             }
 
+            @Override
+            public int killEnemiesNear(float radius) {
+                int count = 0;
+                nearbyEnemies.clear();
+                enemyGrid.getNearbyExact(player.getX(), player.getY(), radius, ENEMY_POSITION, nearbyEnemies);
+                for (Enemy e : nearbyEnemies) {
+                    if (!e.isDead()) {
+                        e.takeDamage(9999);
+                        onEnemyKilled(e);
+                        count++;
+                    }
+                }
+                return count;
+            }
+
             @Override
             public int getEnemyCount() {
                 return enemies.size();
@@ -484,7 +536,7 @@ public int getEnemyCount() {
             public void teleportPlayer(float x, float y) {
                 x = com.badlogic.gdx.math.MathUtils.clamp(x, 5, EndlessModeConfig.MAP_WIDTH - 5);
                 y = com.badlogic.gdx.math.MathUtils.clamp(y, 5, EndlessModeConfig.MAP_HEIGHT - 5);
-                player.setPosition(x, y);
+                player.teleport(x, y);
             }
 
             @Override
@@ -612,6 +664,8 @@ public boolean keyDown(int keycode) {
 
     @Override
     public void render(float delta) {
+        FrameProfiler.beginFrame();
+
         // Developer Console Toggle - handled in InputProcessor for '~'/'`'
         // (GameSettings.KEY_CONSOLE)
         // F3 here as backup/alternative (aligned with GameScreen)
@@ -647,6 +701,8 @@ public void render(float delta) {
 
         if (!isPaused && !isGameOver) {
             updateGame(delta);
+        } else {
+            simulationInput.endTick(); // Presses made while paused are not replayed
         }
 
         renderGame(delta);
@@ -657,6 +713,9 @@ public void render(float delta) {
             uiStage.getViewport().apply();
             uiStage.draw();
         }
+
+        FrameProfiler.endFrame(game.getSpriteBatch());
+        profilerOverlay.render(game.getSpriteBatch(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
     private void updateGame(float delta) {
@@ -670,6 +729,37 @@ private void updateGame(float delta) {
             }
         }
 
+        // Run as many fixed ticks as the elapsed time covers (capped)
+        simulationClock.setMaxSubsteps(GameSettings.getMaxSimulationSubsteps());
+        simulationClock.accumulate(delta);
+        simulationInput.poll();
+        while (simulationClock.step()) {
+            updateTick(simulationClock.getStep());
+            simulationInput.endTick();
+            if (isGameOver)
+                break;
+        }
+        renderAlpha = simulationClock.getAlpha();
+
+        // Update HUD data
+        hud.setTotalKills(totalKills);
+        hud.setCurrentScore(currentScore);
+        hud.setCurrentZone(EndlessModeConfig.getThemeForPosition(
+                (int) player.getX(), (int) player.getY()));
+    }
+
+    /**
+     * One fixed simulation tick
+     */
+    private void updateTick(float delta) {
+        FrameProfiler.begin(FrameProfiler.Stage.WORLD_UPDATE);
+
+        // Positions at tick start, for render interpolation
+        player.savePreviousPosition();
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            enemies.get(i).savePreviousPosition();
+        }
+
         // Update player timers (attack animation, hurt flash, etc.)
         player.updateTimers(delta);
 
@@ -681,11 +771,16 @@ private void updateGame(float delta) {
         // Update player input
         updatePlayerInput(delta);
 
-        // Update chunk loading
-        chunkManager.updateActiveChunks(player.getX(), player.getY());
+        // Update chunk loading (velocity drives background prefetch of the next ring)
+        FrameProfiler.begin(FrameProfiler.Stage.CHUNKS);
+        chunkManager.updateActiveChunks(player.getX(), player.getY(),
+                player.getVelocityX(), player.getVelocityY());
+        FrameProfiler.end(FrameProfiler.Stage.CHUNKS);
 
         // Update enemies
+        FrameProfiler.begin(FrameProfiler.Stage.ENEMIES);
         updateEnemies(delta);
+        FrameProfiler.end(FrameProfiler.Stage.ENEMIES);
 
         // Update trap collision detection
         updateTraps(delta);
@@ -697,13 +792,9 @@ private void updateGame(float delta) {
         updatePotions(delta);
 
         // Update chest interaction
+        FrameProfiler.begin(FrameProfiler.Stage.CHESTS);
         updateChests(delta);
-
-        // Update HUD data
-        hud.setTotalKills(totalKills);
-        hud.setCurrentScore(currentScore);
-        hud.setCurrentZone(EndlessModeConfig.getThemeForPosition(
-                (int) player.getX(), (int) player.getY()));
+        FrameProfiler.end(FrameProfiler.Stage.CHESTS);
 
         // Check for game over - Triggered when player is dead and game is not yet over
         // Fix: Previous condition `player.getLives() <= 0 && !player.isDead()` had
@@ -713,6 +804,8 @@ private void updateGame(float delta) {
         if (player.isDead() && !isGameOver) {
             triggerGameOver();
         }
+
+        FrameProfiler.end(FrameProfiler.Stage.WORLD_UPDATE);
     }
 
     private void updatePlayerInput(float delta) {
@@ -723,7 +816,7 @@ private void updatePlayerInput(float delta) {
 
         boolean hasInput = false;
 
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_UP)) {
+        if (simulationInput.isDown(de.tum.cit.fop.maze.simulation.InputSource.Action.MOVE_UP)) {
             targetVy = speed;
             hasInput = true;
             // Update direction based on keyboard when not in mouse mode
@@ -732,7 +825,7 @@ private void updatePlayerInput(float delta) {
                 aimAngle = 90f;
             }
         }
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_DOWN)) {
+        if (simulationInput.isDown(de.tum.cit.fop.maze.simulation.InputSource.Action.MOVE_DOWN)) {
             targetVy = -speed;
             hasInput = true;
             if (!GameSettings.isUseMouseAiming()) {
@@ -740,7 +833,7 @@ private void updatePlayerInput(float delta) {
                 aimAngle = 270f;
             }
         }
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_LEFT)) {
+        if (simulationInput.isDown(de.tum.cit.fop.maze.simulation.InputSource.Action.MOVE_LEFT)) {
             targetVx = -speed;
             hasInput = true;
             if (!GameSettings.isUseMouseAiming()) {
@@ -748,7 +841,7 @@ private void updatePlayerInput(float delta) {
                 aimAngle = 180f;
             }
         }
-        if (Gdx.input.isKeyPressed(GameSettings.KEY_RIGHT)) {
+        if (simulationInput.isDown(de.tum.cit.fop.maze.simulation.InputSource.Action.MOVE_RIGHT)) {
             targetVx = speed;
             hasInput = true;
             if (!GameSettings.isUseMouseAiming()) {
@@ -757,7 +850,7 @@ private void updatePlayerInput(float delta) {
             }
         }
 
-        player.setRunning(Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT));
+        player.setRunning(simulationInput.isDown(de.tum.cit.fop.maze.simulation.InputSource.Action.RUN));
         player.applyAcceleration(targetVx, targetVy, delta);
 
         // Apply movement
@@ -788,7 +881,7 @@ private void updatePlayerInput(float delta) {
 
         // Keyboard attack has moved to mouse input processor (getMouseInputProcessor)
         // Keep keyboard attack as an alternative
-        if (Gdx.input.isKeyJustPressed(GameSettings.KEY_ATTACK)) {
+        if (simulationInput.isJustPressed(de.tum.cit.fop.maze.simulation.InputSource.Action.ATTACK)) {
             if (player.canAttack()) {
                 player.attack();
                 performAttack();
@@ -830,11 +923,13 @@ private void performAttack() {
         float outerRadiusSq = outerRadius * outerRadius; // Used for fast pre-filtering
         float attackDamage = weapon.getDamage() + player.getDamageBonus();
 
-        for (Enemy enemy : enemies) {
+        // Only enemies within the outer radius are candidates (spatial hash query)
+        nearbyEnemies.clear();
+        enemyGrid.getNearbyExact(player.getX(), player.getY(), outerRadius, ENEMY_POSITION, nearbyEnemies);
+        for (Enemy enemy : nearbyEnemies) {
             if (enemy.isDead())
                 continue;
 
-            // Fast pre-filtering: Skip enemies clearly too far using squared outer radius
             float dx = enemy.getX() - player.getX();
             float dy = enemy.getY() - player.getY();
             if (dx * dx + dy * dy > outerRadiusSq)
@@ -963,6 +1058,8 @@ private void updateEnemies(float delta) {
             return false;
         });
 
+        updateEnemyFlowField();
+
         // Update surviving enemies - Use pathfinding logic with collision detection
         for (Enemy enemy : enemies) {
             if (!enemy.isDead()) {
@@ -983,7 +1080,22 @@ private void updateEnemies(float delta) {
                     // Determine primary and secondary axes
                     boolean preferX = Math.abs(dx) > Math.abs(dy);
 
-                    if (preferX) {
+                    if (enemyFlowField.getNextCell((int) (enemy.getX() + ENEMY_HALF_SIZE),
+                            (int) (enemy.getY() + ENEMY_HALF_SIZE), flowStep)) {
+                        // Shared flow field: head for the next cell on the path, sliding along
+                        // walls one axis at a time
+                        float stepX = flowStep.x + 0.5f - ENEMY_HALF_SIZE - enemy.getX();
+                        float stepY = flowStep.y + 0.5f - ENEMY_HALF_SIZE - enemy.getY();
+                        float stepLength = (float) Math.sqrt(stepX * stepX + stepY * stepY);
+                        if (stepLength > 0.001f) {
+                            moveX = stepX / stepLength * Math.min(speed, stepLength);
+                            moveY = stepY / stepLength * Math.min(speed, stepLength);
+                        }
+                        if (moveX != 0 && !canEnemyMoveTo(enemy.getX() + moveX, enemy.getY()))
+                            moveX = 0;
+                        if (moveY != 0 && !canEnemyMoveTo(enemy.getX() + moveX, enemy.getY() + moveY))
+                            moveY = 0;
+                    } else if (preferX) {
                         // Primary Axis X: try horizontal movement
                         moveX = Math.signum(dx) * speed;
                         if (!canEnemyMoveTo(enemy.getX() + moveX, enemy.getY())) {
@@ -1021,19 +1133,115 @@ private void updateEnemies(float delta) {
                     }
                 }
 
-                // Attack player
-                if (dist < 0.8f) {
-                    int baseDamage = 1;
-                    int damage = (int) (baseDamage * rageSystem.getEnemyDamageMultiplier());
-                    if (player.damage(damage, enemy.getAttackDamageType())) {
-                        // === Hit Feedback: Player Knockback + Sound ===
-                        player.knockback(enemy.getX(), enemy.getY(), 1.5f);
-                        AudioManager.getInstance().playSound("hit");
-                    }
-                }
             }
             // === Update enemy timers (knockback physics, status effects, hurt flash) ===
             enemy.updateTimers(delta);
+            // Knockback may have moved the enemy; keep the spatial grid in sync
+            enemyGrid.update(enemy, enemy.getX(), enemy.getY());
+        }
+
+        applyEnemySeparation(delta);
+        applyEnemyContactDamage();
+    }
+
+    /**
+     * Recompute the shared chase flow field over the active chunk window. The
+     * field is only rebuilt when the player enters a new tile.
+     */
+    private void updateEnemyFlowField() {
+        int chunkSize = EndlessModeConfig.CHUNK_SIZE;
+        int radius = EndlessModeConfig.ACTIVE_CHUNK_RADIUS;
+        int playerTileX = (int) (player.getX() + 0.5f);
+        int playerTileY = (int) (player.getY() + 0.5f);
+        int chunkX = playerTileX / chunkSize;
+        int chunkY = playerTileY / chunkSize;
+
+        int minX = Math.max(0, (chunkX - radius) * chunkSize);
+        int minY = Math.max(0, (chunkY - radius) * chunkSize);
+        int maxX = Math.min(EndlessModeConfig.MAP_WIDTH - 1, (chunkX + radius + 1) * chunkSize - 1);
+        int maxY = Math.min(EndlessModeConfig.MAP_HEIGHT - 1, (chunkY + radius + 1) * chunkSize - 1);
+
+        enemyFlowField.update(playerTileX, playerTileY, minX, minY, maxX, maxY, flowFieldPassability);
+    }
+
+    /**
+     * Damages the player when a living enemy touches them. Only enemies in the
+     * grid cells around the player are checked.
+     */
+    private void applyEnemyContactDamage() {
+        nearbyEnemies.clear();
+        enemyGrid.getNearbyExact(player.getX(), player.getY(), ENEMY_CONTACT_RADIUS, ENEMY_POSITION, nearbyEnemies);
+        for (Enemy enemy : nearbyEnemies) {
+            if (enemy.isDead())
+                continue;
+            // getNearbyExact is inclusive, contact requires strictly less than the radius
+            if (Vector2.dst2(player.getX(), player.getY(), enemy.getX(), enemy.getY())
+                    >= ENEMY_CONTACT_RADIUS * ENEMY_CONTACT_RADIUS)
+                continue;
+
+            int baseDamage = 1;
+            int damage = (int) (baseDamage * rageSystem.getEnemyDamageMultiplier());
+            if (player.damage(damage, enemy.getAttackDamageType())) {
+                // === Hit Feedback: Player Knockback + Sound ===
+                player.knockback(enemy.getX(), enemy.getY(), 1.5f);
+                AudioManager.getInstance().playSound("hit");
+            }
+        }
+    }
+
+    /**
+     * Pushes overlapping living enemies apart so chasing groups spread out
+     * instead of stacking on the same tile. Neighbours come from the spatial
+     * grid, so the cost is proportional to local crowd size, not enemy count.
+     */
+    private void applyEnemySeparation(float delta) {
+        float radiusSq = ENEMY_SEPARATION_RADIUS * ENEMY_SEPARATION_RADIUS;
+        float maxStep = ENEMY_SEPARATION_SPEED * delta;
+
+        for (Enemy enemy : enemies) {
+            if (enemy.isDead())
+                continue;
+
+            float pushX = 0;
+            float pushY = 0;
+            nearbyEnemies.clear();
+            enemyGrid.getNearbyExact(enemy.getX(), enemy.getY(), ENEMY_SEPARATION_RADIUS, ENEMY_POSITION,
+                    nearbyEnemies);
+            for (Enemy other : nearbyEnemies) {
+                if (other == enemy || other.isDead())
+                    continue;
+                float dx = enemy.getX() - other.getX();
+                float dy = enemy.getY() - other.getY();
+                float distSq = dx * dx + dy * dy;
+                if (distSq >= radiusSq)
+                    continue;
+                float dist;
+                if (distSq < 0.0001f) {
+                    // Exactly stacked: full push along an arbitrary but stable axis
+                    dist = 0.0001f;
+                    dx = System.identityHashCode(enemy) < System.identityHashCode(other) ? -dist : dist;
+                    dy = 0;
+                } else {
+                    dist = (float) Math.sqrt(distSq);
+                }
+                float overlap = (ENEMY_SEPARATION_RADIUS - dist) / ENEMY_SEPARATION_RADIUS;
+                pushX += dx / dist * overlap;
+                pushY += dy / dist * overlap;
+            }
+
+            if (pushX == 0 && pushY == 0)
+                continue;
+
+            float moveX = MathUtils.clamp(pushX * maxStep, -maxStep, maxStep);
+            float moveY = MathUtils.clamp(pushY * maxStep, -maxStep, maxStep);
+            if (moveX != 0 && !canEnemyMoveTo(enemy.getX() + moveX, enemy.getY()))
+                moveX = 0;
+            if (moveY != 0 && !canEnemyMoveTo(enemy.getX() + moveX, enemy.getY() + moveY))
+                moveY = 0;
+            if (moveX != 0 || moveY != 0) {
+                enemy.setPosition(enemy.getX() + moveX, enemy.getY() + moveY);
+                enemyGrid.update(enemy, enemy.getX(), enemy.getY());
+            }
         }
     }
 
@@ -1315,17 +1523,7 @@ private void updateFloatingTexts(float delta) {
     }
 
     private boolean isWallAt(int x, int y) {
-        MapChunk chunk = chunkManager.getChunkAtWorld(x, y);
-        if (chunk == null)
-            return true;
-
-        for (WallEntity wall : chunk.getWalls()) {
-            if (x >= wall.getOriginX() && x < wall.getOriginX() + wall.getGridWidth() &&
-                    y >= wall.getOriginY() && y < wall.getOriginY() + wall.getGridHeight()) {
-                return true;
-            }
-        }
-        return false;
+        return chunkManager.isBlockedWorld(x, y);
     }
 
     /**
@@ -1338,16 +1536,10 @@ private boolean isWallAt(int x, int y) {
      * @return true if occupied by a wall
      */
     private boolean isWallAtInChunk(MapChunk chunk, int worldX, int worldY) {
-        for (WallEntity wall : chunk.getWalls()) {
-            // [FIX] Use collision height, not visual grid height, to determine if this tile
-            // should stand as a "wall base". This allows visuals to extend over walkable
-            // floor.
-            if (worldX >= wall.getOriginX() && worldX < wall.getOriginX() + wall.getGridWidth() &&
-                    worldY >= wall.getOriginY() && worldY < wall.getOriginY() + wall.getCollisionHeight()) {
-                return true;
-            }
-        }
-        return false;
+        // [FIX] Use collision height, not visual grid height, to determine if this tile
+        // should stand as a "wall base". This allows visuals to extend over walkable
+        // floor.
+        return chunk.isWallBase(worldX - chunk.getWorldStartX(), worldY - chunk.getWorldStartY());
     }
 
     /**
@@ -1375,42 +1567,25 @@ private void renderGame(float delta) {
         // [FIX] Use each chunk's own theme texture instead of the player position
         // theme.
         // This ensures different themed areas maintain their respective floor textures.
-        for (MapChunk chunk : chunkManager.getLoadedChunks()) {
-            // Get chunk theme (priority to stored chunk theme, otherwise calculate based on
-            // chunk center)
-            String chunkTheme = chunk.getTheme();
-            if (chunkTheme == null) {
-                chunkTheme = EndlessModeConfig.getThemeForPosition(
-                        chunk.getWorldStartX() + chunk.getSize() / 2,
-                        chunk.getWorldStartY() + chunk.getSize() / 2);
-            }
-            TextureRegion floor = getFloorTextureForTheme(chunkTheme);
-
-            int startX = chunk.getWorldStartX();
-            int startY = chunk.getWorldStartY();
-            int endX = startX + chunk.getSize();
-            int endY = startY + chunk.getSize();
-
-            for (int y = startY; y < endY; y++) {
-                for (int x = startX; x < endX; x++) {
-                    game.getSpriteBatch().draw(floor, x * UNIT_SCALE, y * UNIT_SCALE, UNIT_SCALE, UNIT_SCALE);
-                }
-            }
-        }
+        // Floors are pre-baked per chunk and culled against the camera view.
+        game.getSpriteBatch().end();
+        FrameProfiler.begin(FrameProfiler.Stage.MAP);
+        floorRenderer.render(camera, chunkManager.getLoadedChunks());
+        FrameProfiler.end(FrameProfiler.Stage.MAP);
+        game.getSpriteBatch().begin();
 
         // === Render Dust Particles (Behind entities, on top of floor) ===
-        game.getSpriteBatch().end();
+        FrameProfiler.begin(FrameProfiler.Stage.PARTICLES);
         dustParticles.update(Gdx.graphics.getDeltaTime());
         if (player.isMoving() && !isPaused) {
             // Spawn dust occasionally
             if (Math.random() < 0.3f) {
                 // Endless mode default dirt color
-                Color themeColor = new Color(0.5f, 0.45f, 0.35f, 1f);
-                dustParticles.spawn(player.getX(), player.getY(), themeColor);
+                dustParticles.spawn(player.getX(), player.getY(), DUST_COLOR);
             }
         }
-        dustParticles.render(camera.combined);
-        game.getSpriteBatch().begin();
+        dustParticles.render(game.getSpriteBatch());
+        FrameProfiler.end(FrameProfiler.Stage.PARTICLES);
 
         // 1.5 Render Traps - above floor, below entities
         for (MapChunk chunk : chunkManager.getLoadedChunks()) {
@@ -1451,16 +1626,16 @@ private void renderGame(float delta) {
         for (Enemy e : enemies) {
             renderEnemy(e);
         }
+        overlayRenderer.drawSprites(game.getSpriteBatch());
         // Player
         renderPlayer();
 
         // 3. Render Walls (Foreground/Cover)
         // User Requirement: Player is always behind the wall layer (occluded by walls)
-        for (MapChunk chunk : chunkManager.getLoadedChunks()) {
-            for (WallEntity wall : chunk.getWalls()) {
-                renderWall(wall);
-            }
-        }
+        // Draw lists are compiled per chunk on load and culled against the view
+        FrameProfiler.begin(FrameProfiler.Stage.MAP);
+        wallRenderer.render(game.getSpriteBatch(), camera);
+        FrameProfiler.end(FrameProfiler.Stage.MAP);
 
         // Render potion drops (select correct texture based on type, scale size to 60%)
         float dropScale = 0.6f;
@@ -1493,28 +1668,24 @@ private void renderGame(float delta) {
         font.setColor(Color.WHITE);
         font.getData().setScale(1f);
 
-        // 6. Overlay Pass: Health Bars (Always on top of walls)
-        for (Enemy e : enemies) {
-            if (!e.isDead()) {
-                float x = e.getX() * UNIT_SCALE;
-                float y = e.getY() * UNIT_SCALE;
-                float w = e.getWidth() * UNIT_SCALE;
-                float h = e.getHeight() * UNIT_SCALE;
-                renderHealthBar(e, x, y, w, h);
-            }
-        }
+        // 6. Overlay Pass: Health Bars (Always on top of walls, queued in renderEnemy)
+        overlayRenderer.drawBars(game.getSpriteBatch());
 
         // Fog effect
         game.getSpriteBatch().setColor(Color.WHITE);
-        float pcX = player.getX() * UNIT_SCALE + UNIT_SCALE / 2;
-        float pcY = player.getY() * UNIT_SCALE + UNIT_SCALE / 2;
+        float pcX = player.getRenderX(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        float pcY = player.getRenderY(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        FrameProfiler.begin(FrameProfiler.Stage.FOG);
         fogRenderer.render(pcX, pcY, camera);
-
-        game.getSpriteBatch().end();
+        FrameProfiler.end(FrameProfiler.Stage.FOG);
 
         // === Render blood particles ===
+        FrameProfiler.begin(FrameProfiler.Stage.PARTICLES);
         bloodParticles.update(Gdx.graphics.getDeltaTime());
-        bloodParticles.render(camera.combined);
+        bloodParticles.render(game.getSpriteBatch());
+        FrameProfiler.end(FrameProfiler.Stage.PARTICLES);
+
+        game.getSpriteBatch().end();
 
         // === Render crosshair - Only displayed when Mouse Mode is enabled ===
         if (crosshairRenderer != null && GameSettings.isUseMouseAiming() && !isPaused && !isConsoleOpen
@@ -1523,53 +1694,13 @@ private void renderGame(float delta) {
         }
     }
 
-    // [Helper] Render a single wall (Full render)
-    private void renderWall(WallEntity wall) {
-        String theme = EndlessModeConfig.getThemeForPosition(wall.getOriginX(), wall.getOriginY());
-        TextureRegion region = textureManager.getWallRegion(
-                theme,
-                wall.getGridWidth(),
-                wall.getGridHeight(),
-                wall.getOriginX(),
-                wall.getOriginY());
-
-        if (region != null) {
-            float drawX = wall.getOriginX() * UNIT_SCALE;
-            float drawY = wall.getOriginY() * UNIT_SCALE;
-            float wallW = wall.getGridWidth() * UNIT_SCALE;
-            float wallH = wall.getGridHeight() * UNIT_SCALE;
-
-            boolean isGrassland = "grassland".equalsIgnoreCase(theme);
-
-            if (isGrassland && region.getRegionHeight() >= 32) {
-                // Split Rendering: Draw Body then Top (Visual correctness)
-                int topH = 16;
-                int bodyH = region.getRegionHeight() - topH;
-                TextureRegion bodyReg = new TextureRegion(region, 0, topH, region.getRegionWidth(), bodyH);
-                TextureRegion topReg = new TextureRegion(region, 0, 0, region.getRegionWidth(), topH);
-
-                // Draw Body
-                game.getSpriteBatch().draw(bodyReg, drawX, drawY, wallW, wallH);
-                // Draw Top (at wallY + wallH)
-                game.getSpriteBatch().draw(topReg, drawX, drawY + wallH, wallW, UNIT_SCALE);
-            } else {
-                // Standard Rendering
-                float drawHeight = wallH;
-                if (region.getRegionWidth() > 0) {
-                    drawHeight = region.getRegionHeight() * (wallW / region.getRegionWidth());
-                }
-                game.getSpriteBatch().draw(region, drawX, drawY, wallW, drawHeight);
-            }
-        }
-    }
-
     // [Added Helper Method] Render a single enemy - Aligned with Level Mode
     private void renderEnemy(Enemy e) {
         // Use fixed dimensions, consistent with Level Mode
         float drawWidth = 16f;
         float drawHeight = 16f;
-        float drawX = e.getX() * UNIT_SCALE - (drawWidth - UNIT_SCALE) / 2;
-        float drawY = e.getY() * UNIT_SCALE - (drawHeight - UNIT_SCALE) / 2;
+        float drawX = e.getRenderX(renderAlpha) * UNIT_SCALE - (drawWidth - UNIT_SCALE) / 2;
+        float drawY = e.getRenderY(renderAlpha) * UNIT_SCALE - (drawHeight - UNIT_SCALE) / 2;
 
         // 1. Custom Element Support
         com.badlogic.gdx.graphics.g2d.Animation<TextureRegion> enemyAnim = null;
@@ -1618,68 +1749,47 @@ private void renderEnemy(Enemy e) {
 
         TextureRegion enemyFrame = enemyAnim.getKeyFrame(stateTime, true);
 
-        // 2. Grayscale Shader for Dead Enemies
-        if (e.isDead()) {
-            game.getSpriteBatch().setShader(grayscaleShader);
-            // Ensure color is white for dead enemies so shader works purely
-            game.getSpriteBatch().setColor(Color.WHITE);
-        }
-
-        // Status tinting (hurt, poisoned, frozen, burning) - Only when ALIVE
+        // 2. Status tinting (hurt, poisoned, frozen, burning) - Only when ALIVE
+        // Dead enemies stay white so the grayscale shader works purely
+        float tint = Color.WHITE_FLOAT_BITS;
         if (!e.isDead()) {
             if (e.isHurt()) {
-                game.getSpriteBatch().setColor(1, 0, 0, 1); // Red flash
+                tint = HURT_TINT_BITS; // Red flash
             } else if (e.getCurrentEffect() == WeaponEffect.POISON) {
-                game.getSpriteBatch().setColor(0, 1, 0, 1); // Green tint
+                tint = POISON_TINT_BITS; // Green tint
             } else if (e.getCurrentEffect() == WeaponEffect.FREEZE) {
-                game.getSpriteBatch().setColor(0, 0.5f, 1, 1); // Blue tint
+                tint = FREEZE_TINT_BITS; // Blue tint
             } else if (e.getCurrentEffect() == WeaponEffect.BURN) {
-                game.getSpriteBatch().setColor(1, 0.5f, 0, 1); // Orange tint
+                tint = BURN_TINT_BITS; // Orange tint
             }
         }
 
         // Flip if moving left (only if enabled for generic animations)
         boolean flipX = enableFlip && e.getVelocityX() < 0;
 
-        if (flipX) {
-            game.getSpriteBatch().draw(enemyFrame, drawX + drawWidth, drawY, -drawWidth, drawHeight);
-        } else {
-            game.getSpriteBatch().draw(enemyFrame, drawX, drawY, drawWidth, drawHeight);
-        }
+        // Queued: drawn sorted after all enemies, dead ones with one grayscale shader switch
+        overlayRenderer.addSprite(enemyFrame, drawX, drawY, drawWidth, drawHeight, tint, e.isDead(), flipX);
 
-        // IMPORTANT: Restore color before restoring shader
-        game.getSpriteBatch().setColor(Color.WHITE);
-        game.getSpriteBatch().setShader(null);
+        // 3. Health Bar - Aligned with Level Mode, always displayed while alive
+        if (!e.isDead()) {
+            float healthPercent = (float) e.getHealth() / (float) e.getMaxHealth();
+            overlayRenderer.addBar(drawX, drawY + drawWidth + 2, drawWidth, 4, healthPercent,
+                    HEALTH_BAR_BACKGROUND_BITS, HEALTH_BAR_FILL_BITS);
+        }
     }
 
-    // [Helper] Render Health Bar - Aligned with Level Mode, health bar always
-    // displayed
-    private void renderHealthBar(Enemy e, float x, float y, float w, float h) {
-        // Use fixed dimensions, consistent with Level Mode
-        float drawWidth = 16f;
-        float drawX = e.getX() * UNIT_SCALE - (drawWidth - UNIT_SCALE) / 2;
-        float drawY = e.getY() * UNIT_SCALE - (drawWidth - UNIT_SCALE) / 2;
-
-        float barWidth = drawWidth;
-        float barHeight = 4;
-        float barX = drawX;
-        float barY = drawY + drawWidth + 2;
-
-        game.getSpriteBatch().end();
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType.Filled);
-
-        // Background
-        shapeRenderer.setColor(com.badlogic.gdx.graphics.Color.RED);
-        shapeRenderer.rect(barX, barY, barWidth, barHeight);
-
-        // Health - Using float division to ensure correct percentage
-        float healthPercent = (float) e.getHealth() / (float) e.getMaxHealth();
-        shapeRenderer.setColor(com.badlogic.gdx.graphics.Color.GREEN);
-        shapeRenderer.rect(barX, barY, barWidth * healthPercent, barHeight);
-
-        shapeRenderer.end();
-        game.getSpriteBatch().begin();
+    /**
+     * Floor texture for a chunk (priority to stored chunk theme, otherwise
+     * calculate based on chunk center)
+     */
+    private TextureRegion getFloorTextureForChunk(MapChunk chunk) {
+        String chunkTheme = chunk.getTheme();
+        if (chunkTheme == null) {
+            chunkTheme = EndlessModeConfig.getThemeForPosition(
+                    chunk.getWorldStartX() + chunk.getSize() / 2,
+                    chunk.getWorldStartY() + chunk.getSize() / 2);
+        }
+        return getFloorTextureForTheme(chunkTheme);
     }
 
     private TextureRegion getFloorTextureForTheme(String theme) {
@@ -1713,6 +1823,7 @@ private void renderPlayer() {
         // Use unified PlayerRenderer utility class for rendering
         // Weapon rendering callback ensures weapon is rendered at the correct layer
         // (front/back of player)
+        playerRenderer.setInterpolationAlpha(renderAlpha);
         playerRenderer.render(player, dir, stateTime, isMoving,
                 (p, d, t) -> renderEquippedWeapon(p, d));
     }
@@ -1768,8 +1879,8 @@ private void renderEquippedWeapon(Player player, int dir) {
 
         TextureRegion weaponFrame = weaponAnim.getKeyFrame(stateTime, !player.isAttacking());
 
-        float playerCenterX = player.getX() * UNIT_SCALE + UNIT_SCALE / 2;
-        float playerCenterY = player.getY() * UNIT_SCALE + UNIT_SCALE / 2;
+        float playerCenterX = player.getRenderX(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        float playerCenterY = player.getRenderY(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
 
         float weaponSize = UNIT_SCALE * 1.2f;
         float offsetX;
@@ -1839,8 +1950,8 @@ private String findCustomWeaponId(String weaponName) {
     }
 
     private void updateCamera(float delta) {
-        float targetX = player.getX() * UNIT_SCALE + UNIT_SCALE / 2;
-        float targetY = player.getY() * UNIT_SCALE + UNIT_SCALE / 2;
+        float targetX = player.getRenderX(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        float targetY = player.getRenderY(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
         camera.position.x += (targetX - camera.position.x) * CAMERA_LERP_SPEED * delta;
         camera.position.y += (targetY - camera.position.y) * CAMERA_LERP_SPEED * delta;
 
@@ -1856,9 +1967,11 @@ private void updateCamera(float delta) {
     }
 
     private void renderHUD(float delta) {
+        FrameProfiler.begin(FrameProfiler.Stage.HUD);
         hud.getStage().getViewport().apply();
         hud.update(delta);
         hud.render();
+        FrameProfiler.end(FrameProfiler.Stage.HUD);
     }
 
     private void renderConsole(float delta) {
@@ -1947,7 +2060,24 @@ private void saveEndlessGame() {
                 currentScore,
                 EndlessModeConfig.getThemeForPosition((int) player.getX(), (int) player.getY()));
 
-        // TODO: Call SaveManager to save endless game
+        // World: seed and per-chunk changes are enough to rebuild every chunk
+        state.worldSeed = chunkManager.getSeed();
+        state.chunkDeltas = chunkManager.getDeltaLog().toArray();
+        state.currentChunkX = (int) (player.getX() / EndlessModeConfig.CHUNK_SIZE);
+        state.currentChunkY = (int) (player.getY() / EndlessModeConfig.CHUNK_SIZE);
+
+        state.droppedPotions = new float[potions.size() * EndlessGameState.POTION_RECORD_SIZE];
+        for (int i = 0; i < potions.size(); i++) {
+            Potion potion = potions.get(i);
+            int offset = i * EndlessGameState.POTION_RECORD_SIZE;
+            state.droppedPotions[offset] = potion.getX();
+            state.droppedPotions[offset + 1] = potion.getY();
+            state.droppedPotions[offset + 2] = potion.getType().ordinal();
+            state.droppedPotions[offset + 3] = potion.getValue();
+            state.droppedPotions[offset + 4] = potion.getDuration();
+        }
+
+        SaveManager.saveEndlessGame(state);
         GameLogger.info("EndlessGameScreen", "Game saved: " + state);
     }
 
@@ -2012,24 +2142,24 @@ private void showLoadDialog() {
         win.setResizable(true);
         win.getTitleLabel().setAlignment(com.badlogic.gdx.utils.Align.center);
 
-        com.badlogic.gdx.files.FileHandle[] files = SaveManager.getEndlessSaveFiles();
+        java.util.List<de.tum.cit.fop.maze.utils.SaveService.SaveInfo> files = SaveManager.getEndlessSaveInfos();
         Table listTable = new Table();
         listTable.top();
         java.text.SimpleDateFormat sdf = new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm");
 
-        if (files.length == 0) {
+        if (files.isEmpty()) {
             listTable.add(new Label("No endless saves found.", game.getSkin())).pad(20);
         } else {
-            for (com.badlogic.gdx.files.FileHandle file : files) {
+            for (de.tum.cit.fop.maze.utils.SaveService.SaveInfo file : files) {
                 Table rowTable = new Table();
-                String dateStr = sdf.format(new java.util.Date(file.lastModified()));
-                TextButton loadBtn = new TextButton(file.nameWithoutExtension() + "\n" + dateStr, game.getSkin());
+                String dateStr = sdf.format(new java.util.Date(file.getSavedAt()));
+                TextButton loadBtn = new TextButton(file.getName() + "\n" + dateStr, game.getSkin());
                 loadBtn.getLabel().setFontScale(0.8f);
                 loadBtn.getLabel().setAlignment(com.badlogic.gdx.utils.Align.left);
                 loadBtn.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeEvent event, Actor actor) {
-                        EndlessGameState state = SaveManager.loadEndlessGame(file.name());
+                        EndlessGameState state = SaveManager.loadEndlessGame(file.getFileName());
                         if (state != null) {
                             win.remove();
                             game.setScreen(new EndlessGameScreen(game, state));
@@ -2041,7 +2171,7 @@ public void changed(ChangeEvent event, Actor actor) {
                 deleteBtn.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeEvent event, Actor actor) {
-                        SaveManager.deleteEndlessSave(file.name());
+                        SaveManager.deleteEndlessSave(file.getFileName());
                         win.remove();
                         showLoadDialog();
                     }
@@ -2150,6 +2280,7 @@ private void updateChests(float delta) {
                         // Normal chest: open directly
                         chest.startOpening();
                         chest.update(0.5f); // Fast-forward opening animation
+                        chunkManager.recordChestOpened((int) chest.getX(), (int) chest.getY());
 
                         // Claim reward (claimReward applies it to player internally)
                         boolean success = chest.claimReward(player);
@@ -2178,6 +2309,7 @@ public void onChestOpened(ChestReward reward) {
                                 }
                                 chest.startOpening();
                                 chest.update(0.5f);
+                                chunkManager.recordChestOpened((int) chest.getX(), (int) chest.getY());
                             }
 
                             @Override
@@ -2185,6 +2317,7 @@ public void onChestFailed() {
                                 // Puzzle failed, give consolation prize
                                 player.addCoins(1);
                                 chest.setInteracted(true);
+                                chunkManager.recordChestOpened((int) chest.getX(), (int) chest.getY());
                             }
 
                             @Override
@@ -2257,12 +2390,16 @@ public void dispose() {
             hud.dispose();
         if (mazeRenderer != null)
             mazeRenderer.dispose();
+        if (chunkManager != null)
+            chunkManager.dispose();
+        if (floorRenderer != null)
+            floorRenderer.dispose();
+        if (wallRenderer != null)
+            wallRenderer.dispose();
         if (fogRenderer != null)
             fogRenderer.dispose();
-        if (shapeRenderer != null)
-            shapeRenderer.dispose();
-        if (grayscaleShader != null)
-            grayscaleShader.dispose();
+        if (overlayRenderer != null)
+            overlayRenderer.dispose();
         if (bloodParticles != null)
             bloodParticles.dispose();
         if (dustParticles != null)
@@ -83,8 +83,10 @@ public void render(float delta) {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         // Render Particles behind UI
-        // particleSystem.updateAndDrawRefactored(delta,
+        // game.getSpriteBatch().begin();
+        // particleSystem.updateAndDraw(game.getSpriteBatch(), delta,
         // stage.getViewport().getScreenWidth(), stage.getViewport().getScreenHeight());
+        // game.getSpriteBatch().end();
 
         stage.act(delta);
         stage.draw();
@@ -4,7 +4,6 @@
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -64,6 +63,8 @@ public class GameScreen implements Screen, GameWorld.WorldListener {
     private de.tum.cit.fop.maze.utils.FogRenderer fogRenderer;
     private de.tum.cit.fop.maze.utils.CrosshairRenderer crosshairRenderer;
     private de.tum.cit.fop.maze.utils.PlayerRenderer playerRenderer;
+    private de.tum.cit.fop.maze.utils.WorldOverlayRenderer overlayRenderer;
+    private de.tum.cit.fop.maze.utils.ProfilerOverlay profilerOverlay;
     private BloodParticleSystem bloodParticles;
     private de.tum.cit.fop.maze.utils.DustParticleSystem dustParticles;
 
@@ -77,10 +78,36 @@ public class GameScreen implements Screen, GameWorld.WorldListener {
      */
     private boolean consoleJustClosed = false;
 
+    // --- Fixed-step simulation ---
+    // The world advances in fixed ticks; rendering interpolates between the
+    // last two ticks so motion is smooth at any refresh rate.
+    private final de.tum.cit.fop.maze.simulation.FixedTimestep simulationClock = new de.tum.cit.fop.maze.simulation.FixedTimestep(
+            de.tum.cit.fop.maze.config.GameConfig.SIMULATION_TIMESTEP, GameSettings.getMaxSimulationSubsteps());
+    private final de.tum.cit.fop.maze.simulation.BufferedInputSource simulationInput = new de.tum.cit.fop.maze.simulation.BufferedInputSource(
+            de.tum.cit.fop.maze.simulation.GdxInputSource.INSTANCE);
+    private float renderAlpha = 1f;
+
     private float stateTime = 0f;
     private static final float UNIT_SCALE = 16f;
     private static final float CAMERA_LERP_SPEED = 4.0f;
 
+    // Packed enemy tints and bar colors for the overlay renderer
+    private static final float GRAY_BITS = Color.GRAY.toFloatBits();
+    private static final float CLEAR_BITS = Color.CLEAR.toFloatBits();
+    private static final float HURT_TINT_BITS = Color.toFloatBits(1f, 0f, 0f, 1f);
+    private static final float FREEZE_TINT_BITS = Color.toFloatBits(0.5f, 0.5f, 1f, 1f);
+    private static final float BURN_TINT_BITS = Color.toFloatBits(1f, 0.5f, 0.5f, 1f);
+    private static final float POISON_TINT_BITS = Color.toFloatBits(0.5f, 1f, 0.5f, 1f);
+    private static final float BAR_BACKGROUND_BITS = Color.toFloatBits(0.2f, 0.2f, 0.2f, 0.8f);
+    private static final float PHYSICAL_SHIELD_BITS = Color.toFloatBits(0.3f, 0.5f, 0.8f, 1f);
+    private static final float MAGIC_SHIELD_BITS = Color.toFloatBits(0.7f, 0.3f, 0.9f, 1f);
+
+    // Particle colors (player blood, weapon fire and projectile impacts)
+    private static final Color PLAYER_BLOOD_COLOR = new Color(0.0f, 0.0f, 0.5f, 1.0f);
+    private static final Color FIRE_PARTICLE_COLOR = new Color(1.0f, 0.4f, 0.1f, 1.0f);
+    private static final Color MAGIC_PARTICLE_COLOR = new Color(0.3f, 0.5f, 1.0f, 1.0f);
+    private static final Color ICE_PARTICLE_COLOR = new Color(0.6f, 0.9f, 1.0f, 1.0f);
+
     private boolean isPaused = false;
     private Table pauseTable;
     // New Settings UI Overlay
@@ -88,7 +115,6 @@ public class GameScreen implements Screen, GameWorld.WorldListener {
     private de.tum.cit.fop.maze.ui.SettingsUI settingsUI;
 
     private Color biomeColor = Color.WHITE;
-    private com.badlogic.gdx.graphics.glutils.ShaderProgram grayscaleShader;
 
     // Treasure chest interaction UI
     private ChestInteractUI chestInteractUI;
@@ -115,6 +141,9 @@ public GameScreen(MazeRunnerGame game, String saveFilePath) {
         mazeRenderer = new de.tum.cit.fop.maze.utils.MazeRenderer(game.getSpriteBatch(), textureManager);
         fogRenderer = new de.tum.cit.fop.maze.utils.FogRenderer(game.getSpriteBatch());
         attackRangeRenderer = new de.tum.cit.fop.maze.utils.AttackRangeRenderer();
+        overlayRenderer = new de.tum.cit.fop.maze.utils.WorldOverlayRenderer(textureManager.whitePixel);
+        profilerOverlay = new de.tum.cit.fop.maze.utils.ProfilerOverlay(textureManager.whitePixel,
+                game.getSkin().getFont("font"));
         playerRenderer = new de.tum.cit.fop.maze.utils.PlayerRenderer(game.getSpriteBatch(), textureManager,
                 UNIT_SCALE);
 
@@ -153,6 +182,9 @@ public GameScreen(MazeRunnerGame game, String mapPath, boolean loadPersistentSta
         this.mazeRenderer = new de.tum.cit.fop.maze.utils.MazeRenderer(game.getSpriteBatch(), textureManager);
         this.fogRenderer = new de.tum.cit.fop.maze.utils.FogRenderer(game.getSpriteBatch());
         this.attackRangeRenderer = new de.tum.cit.fop.maze.utils.AttackRangeRenderer();
+        this.overlayRenderer = new de.tum.cit.fop.maze.utils.WorldOverlayRenderer(textureManager.whitePixel);
+        this.profilerOverlay = new de.tum.cit.fop.maze.utils.ProfilerOverlay(textureManager.whitePixel,
+                game.getSkin().getFont("font"));
         this.playerRenderer = new de.tum.cit.fop.maze.utils.PlayerRenderer(game.getSpriteBatch(), textureManager,
                 UNIT_SCALE);
 
@@ -242,22 +274,20 @@ else if (mapPath.contains("level-5"))
 
         this.gameWorld = new GameWorld(map, mapPath);
         this.gameWorld.setListener(this);
+        this.gameWorld.setInputSource(simulationInput);
 
         // === Register projectile hit particle effect listener ===
         this.gameWorld.setProjectileHitListener((x, y, textureKey, damage, effect) -> {
             // Spawn different color particles based on effect type
             if (effect == de.tum.cit.fop.maze.model.weapons.WeaponEffect.SLOW) {
                 // Magic Wand: blue explosion particles
-                Color blueColor = new Color(0.3f, 0.5f, 1.0f, 1.0f);
-                bloodParticles.spawn(x, y, 8, 0, 0, 1.5f, blueColor);
+                bloodParticles.spawn(x, y, 8, 0, 0, 1.5f, MAGIC_PARTICLE_COLOR);
             } else if (effect == de.tum.cit.fop.maze.model.weapons.WeaponEffect.FREEZE) {
                 // Ice Bow: ice blue explosion particles
-                Color iceColor = new Color(0.6f, 0.9f, 1.0f, 1.0f);
-                bloodParticles.spawn(x, y, 12, 0, 0, 2.0f, iceColor);
+                bloodParticles.spawn(x, y, 12, 0, 0, 2.0f, ICE_PARTICLE_COLOR);
             } else if (effect == de.tum.cit.fop.maze.model.weapons.WeaponEffect.BURN) {
                 // Machine Gun: orange-red particles
-                Color fireColor = new Color(1.0f, 0.4f, 0.1f, 1.0f);
-                bloodParticles.spawn(x, y, 5, 0, 0, 0.8f, fireColor);
+                bloodParticles.spawn(x, y, 5, 0, 0, 0.8f, FIRE_PARTICLE_COLOR);
             }
         });
 
@@ -292,8 +322,8 @@ else if (mapPath.contains("level-5"))
 
         // === Initialize Blood Particle System ===
         if (bloodParticles == null) {
-            this.bloodParticles = new BloodParticleSystem();
-            this.dustParticles = new de.tum.cit.fop.maze.utils.DustParticleSystem();
+            this.bloodParticles = new BloodParticleSystem(textureManager.whitePixel);
+            this.dustParticles = new de.tum.cit.fop.maze.utils.DustParticleSystem(textureManager.whitePixel);
             this.crosshairRenderer = new de.tum.cit.fop.maze.utils.CrosshairRenderer();
         } else {
             bloodParticles.clear();
@@ -302,7 +332,7 @@ else if (mapPath.contains("level-5"))
         // Wire up damage listeners (Player) [Correct Dark Blue Color]
         gameWorld.getPlayer().setDamageListener(
                 (x, y, amount, dirX, dirY, knockback) -> bloodParticles.spawn(x, y, amount, dirX, dirY, knockback,
-                        new Color(0.0f, 0.0f, 0.5f, 1.0f)));
+                        PLAYER_BLOOD_COLOR));
 
         // Wire up damage listeners (Enemies)
         for (Enemy enemy : gameWorld.getEnemies()) {
@@ -477,6 +507,8 @@ public void onPuzzleChestInteract(TreasureChest chest) {
 
     @Override
     public void render(float delta) {
+        de.tum.cit.fop.maze.utils.FrameProfiler.beginFrame();
+
         // Developer Console Toggle - handled in InputProcessor for '~'/'`', keeping
         // F3/GRAVE here as backup/alternative
         // Developer Console Toggle - handled in InputProcessor for '~'/'`'
@@ -536,7 +568,18 @@ public void render(float delta) {
         if (!isPaused) {
             // Apply time scale from developer console
             float effectiveDelta = delta * developerConsole.getTimeScale();
-            gameWorld.update(effectiveDelta);
+
+            // Run as many fixed ticks as the elapsed time covers (capped)
+            simulationClock.setMaxSubsteps(GameSettings.getMaxSimulationSubsteps());
+            simulationClock.accumulate(effectiveDelta);
+            simulationInput.poll();
+            while (simulationClock.step()) {
+                gameWorld.update(simulationClock.getStep());
+                simulationInput.endTick();
+                if (game.getScreen() != this)
+                    break; // Game over / victory switched screens
+            }
+            renderAlpha = simulationClock.getAlpha();
             stateTime += effectiveDelta;
 
             // === Continuous attack when holding left button in mouse mode ===
@@ -553,7 +596,6 @@ public void render(float delta) {
             // === Machine Gun fire particle effect ===
             if (gameWorld.consumeFireEvent()) {
                 // Use orange-red fire particles
-                Color fireColor = new Color(1.0f, 0.4f, 0.1f, 1.0f);
                 bloodParticles.spawn(
                         gameWorld.getLastFireX(),
                         gameWorld.getLastFireY(),
@@ -561,9 +603,10 @@ public void render(float delta) {
                         gameWorld.getLastFireDirX(),
                         gameWorld.getLastFireDirY(),
                         0.8f, // Diffusion intensity
-                        fireColor);
+                        FIRE_PARTICLE_COLOR);
             }
         } else {
+            simulationInput.endTick(); // Presses made while paused are not replayed
             updateCamera(0); // Still update camera if needed (e.g. initial frame)
         }
 
@@ -605,11 +648,13 @@ public void render(float delta) {
         // For now, let's keep it clean since we are generating a specific texture.
         game.getSpriteBatch().setColor(Color.WHITE);
 
+        de.tum.cit.fop.maze.utils.FrameProfiler.begin(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.MAP);
         mazeRenderer.renderFloor(gameMap, camera, currentFloor);
+        de.tum.cit.fop.maze.utils.FrameProfiler.end(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.MAP);
         game.getSpriteBatch().setColor(Color.WHITE); // Reset
 
-        game.getSpriteBatch().end();
         // === Render Dust Particles (Behind entities, on top of floor) ===
+        de.tum.cit.fop.maze.utils.FrameProfiler.begin(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.PARTICLES);
         dustParticles.update(delta);
         if (player.isMoving() && !isPaused) {
             // Spawn dust occasionally (random chance per frame)
@@ -619,8 +664,8 @@ public void render(float delta) {
                 dustParticles.spawn(player.getX(), player.getY(), themeColor);
             }
         }
-        dustParticles.render(camera.combined);
-        game.getSpriteBatch().begin();
+        dustParticles.render(game.getSpriteBatch());
+        de.tum.cit.fop.maze.utils.FrameProfiler.end(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.PARTICLES);
 
         // 2. Render Static Dynamic Objects
         for (GameObject obj : gameMap.getDynamicObjects()) {
@@ -755,12 +800,14 @@ else if (obj instanceof Potion) {
         // Note: Now using boar animations with directional support
         float renderRadius = de.tum.cit.fop.maze.config.GameConfig.ENTITY_RENDER_RADIUS;
         float renderRadiusSq = renderRadius * renderRadius;
-        float pX = gameWorld.getPlayer().getX();
-        float pY = gameWorld.getPlayer().getY();
+        float pX = gameWorld.getPlayer().getRenderX(renderAlpha);
+        float pY = gameWorld.getPlayer().getRenderY(renderAlpha);
         for (Enemy e : gameWorld.getEnemies()) {
             // Distance filtering: only render enemies within the player's render radius
-            float dx = e.getX() - pX;
-            float dy = e.getY() - pY;
+            float eX = e.getRenderX(renderAlpha);
+            float eY = e.getRenderY(renderAlpha);
+            float dx = eX - pX;
+            float dy = eY - pY;
             if (dx * dx + dy * dy > renderRadiusSq)
                 continue;
 
@@ -836,98 +883,64 @@ else if (obj instanceof Potion) {
             }
 
             TextureRegion currentFrame;
+            float tint = Color.WHITE_FLOAT_BITS;
             if (isCustom && e.isDead()) {
                 currentFrame = enemyAnim.getKeyFrame(stateTime, false);
-                game.getSpriteBatch().setColor(Color.WHITE);
             } else if (e.isDead()) {
                 currentFrame = enemyAnim.getKeyFrame(0); // Static frame for dead
-                game.getSpriteBatch().setColor(Color.GRAY);
+                tint = GRAY_BITS;
             } else if (e.isHurt()) {
                 currentFrame = enemyAnim.getKeyFrame(stateTime, true);
-                game.getSpriteBatch().setColor(1f, 0f, 0f, 1f);
+                tint = HURT_TINT_BITS;
             } else if (e.getCurrentEffect() == de.tum.cit.fop.maze.model.weapons.WeaponEffect.FREEZE) {
                 currentFrame = enemyAnim.getKeyFrame(0); // Frozen = static
-                game.getSpriteBatch().setColor(0.5f, 0.5f, 1f, 1f);
+                tint = FREEZE_TINT_BITS;
             } else if (e.getCurrentEffect() == de.tum.cit.fop.maze.model.weapons.WeaponEffect.BURN) {
                 currentFrame = enemyAnim.getKeyFrame(stateTime, true);
-                game.getSpriteBatch().setColor(1f, 0.5f, 0.5f, 1f);
+                tint = BURN_TINT_BITS;
             } else if (e.getCurrentEffect() == de.tum.cit.fop.maze.model.weapons.WeaponEffect.POISON) {
                 currentFrame = enemyAnim.getKeyFrame(stateTime, true);
-                game.getSpriteBatch().setColor(0.5f, 1f, 0.5f, 1f);
+                tint = POISON_TINT_BITS;
             } else {
                 currentFrame = enemyAnim.getKeyFrame(stateTime, true);
             }
 
             if (e.getHealth() > 0 || e.isDead()) {
-                // Grayscale for dead enemies
-                if (e.isDead()) {
-                    if (grayscaleShader == null) {
-                        String vertexShader = "attribute vec4 "
-                                + com.badlogic.gdx.graphics.glutils.ShaderProgram.POSITION_ATTRIBUTE + ";\n"
-                                + "attribute vec4 " + com.badlogic.gdx.graphics.glutils.ShaderProgram.COLOR_ATTRIBUTE
-                                + ";\n"
-                                + "attribute vec2 " + com.badlogic.gdx.graphics.glutils.ShaderProgram.TEXCOORD_ATTRIBUTE
-                                + "0;\n"
-                                + "uniform mat4 u_projTrans;\n"
-                                + "varying vec4 v_color;\n"
-                                + "varying vec2 v_texCoords;\n"
-                                + "\n"
-                                + "void main()\n"
-                                + "{\n"
-                                + "   v_color = " + com.badlogic.gdx.graphics.glutils.ShaderProgram.COLOR_ATTRIBUTE
-                                + ";\n"
-                                + "   v_color.a = v_color.a * (255.0/254.0);\n"
-                                + "   v_texCoords = "
-                                + com.badlogic.gdx.graphics.glutils.ShaderProgram.TEXCOORD_ATTRIBUTE
-                                + "0;\n"
-                                + "   gl_Position =  u_projTrans * "
-                                + com.badlogic.gdx.graphics.glutils.ShaderProgram.POSITION_ATTRIBUTE + ";\n"
-                                + "}\n";
-                        String fragmentShader = "#ifdef GL_ES\n"
-                                + "precision mediump float;\n"
-                                + "#endif\n"
-                                + "varying vec4 v_color;\n"
-                                + "varying vec2 v_texCoords;\n"
-                                + "uniform sampler2D u_texture;\n"
-                                + "void main()\n"
-                                + "{\n"
-                                + "  vec4 c = v_color * texture2D(u_texture, v_texCoords);\n"
-                                + "  float gray = dot(c.rgb, vec3(0.299, 0.587, 0.114));\n"
-                                + "  gl_FragColor = vec4(gray, gray, gray, c.a);\n"
-                                + "}";
-                        grayscaleShader = new com.badlogic.gdx.graphics.glutils.ShaderProgram(vertexShader,
-                                fragmentShader);
-                        if (!grayscaleShader.isCompiled()) {
-                            GameLogger.error("GameScreen", "Shader compile failed: " + grayscaleShader.getLog());
-                        }
-                    }
-                    if (grayscaleShader.isCompiled()) {
-                        game.getSpriteBatch().setShader(grayscaleShader);
-                    }
-                }
-
                 // Render enemy centered (scale to fit 16px tile)
                 float drawWidth = 16f;
                 float drawHeight = 16f;
-                float drawX = e.getX() * UNIT_SCALE - (drawWidth - UNIT_SCALE) / 2;
-                float drawY = e.getY() * UNIT_SCALE - (drawHeight - UNIT_SCALE) / 2;
+                float drawX = eX * UNIT_SCALE - (drawWidth - UNIT_SCALE) / 2;
+                float drawY = eY * UNIT_SCALE - (drawHeight - UNIT_SCALE) / 2;
 
                 // Flip if moving left, ONLY if enableFlip is true (generic Move fallback)
                 boolean flipX = enableFlip && e.getVelocityX() < 0;
 
-                if (flipX) {
-                    game.getSpriteBatch().draw(currentFrame, drawX + drawWidth, drawY, -drawWidth, drawHeight);
-                } else {
-                    game.getSpriteBatch().draw(currentFrame, drawX, drawY, drawWidth, drawHeight);
-                }
+                // Queued: dead enemies share one grayscale shader switch
+                overlayRenderer.addSprite(currentFrame, drawX, drawY, drawWidth, drawHeight, tint,
+                        e.isDead(), flipX);
+            }
 
-                if (e.isDead()) {
-                    game.getSpriteBatch().setShader(null);
+            // Health and shield bars, drawn in the overlay pass
+            if (!e.isDead() && e.getHealth() > 0) {
+                float barWidth = 14f;
+                float barHeight = 2f;
+                float barX = eX * UNIT_SCALE + 1f;
+                float barY = eY * UNIT_SCALE + 17f; // Above enemy
+
+                if (e.hasShield()) {
+                    float shieldColor = e.getShieldType() == DamageType.PHYSICAL ? PHYSICAL_SHIELD_BITS
+                            : MAGIC_SHIELD_BITS;
+                    overlayRenderer.addBar(barX, barY + barHeight, barWidth, barHeight,
+                            e.getShieldPercentage(), CLEAR_BITS, shieldColor);
                 }
+
+                float healthPercent = e.getHealthPercentage();
+                overlayRenderer.addBar(barX, barY, barWidth, barHeight, healthPercent, BAR_BACKGROUND_BITS,
+                        Color.toFloatBits(1f - healthPercent * 0.5f, healthPercent, 0.2f, 1f));
             }
-            game.getSpriteBatch().setColor(Color.WHITE);
 
         }
+        overlayRenderer.drawSprites(game.getSpriteBatch());
 
         // 4. Mobile Traps
         for (MobileTrap trap : gameWorld.getMobileTraps()) {
@@ -943,8 +956,8 @@ else if (obj instanceof Potion) {
             }
 
             if (currentFrame != null) {
-                float x = trap.getX() * UNIT_SCALE;
-                float y = trap.getY() * UNIT_SCALE;
+                float x = trap.getRenderX(renderAlpha) * UNIT_SCALE;
+                float y = trap.getRenderY(renderAlpha) * UNIT_SCALE;
                 float drawSize = UNIT_SCALE;
 
                 // Flip if moving left
@@ -976,7 +989,7 @@ else if (obj instanceof Potion) {
                 float progress = elapsed / total;
                 // Use unified getAttackAngle() method, supporting mouse and 8-way keyboard
                 // attacks
-                attackRangeRenderer.render(camera, player.getX(), player.getY(),
+                attackRangeRenderer.render(camera, player.getRenderX(renderAlpha), player.getRenderY(renderAlpha),
                         gameWorld.getAttackAngle(), currentWeapon.getRange(),
                         currentWeapon.getAttackArc(),
                         currentWeapon.isRanged(), progress);
@@ -1021,7 +1034,7 @@ else if (obj instanceof Potion) {
                 float rotation = p.getRotation() * com.badlogic.gdx.math.MathUtils.radDeg;
 
                 game.getSpriteBatch().draw(projRegion,
-                        p.getX() * UNIT_SCALE, p.getY() * UNIT_SCALE,
+                        p.getRenderX(renderAlpha) * UNIT_SCALE, p.getRenderY(renderAlpha) * UNIT_SCALE,
                         width / 2, height / 2,
                         width, height,
                         1f, 1f,
@@ -1034,45 +1047,13 @@ else if (obj instanceof Potion) {
         // 6.8 Render Walls (Strict Layering: Always above players)
         game.getSpriteBatch().setColor(Color.WHITE); // Defensive reset
         game.getSpriteBatch().setShader(null); // Defensive reset
+        de.tum.cit.fop.maze.utils.FrameProfiler.begin(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.MAP);
         mazeRenderer.renderWalls(gameMap, camera, stateTime);
+        de.tum.cit.fop.maze.utils.FrameProfiler.end(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.MAP);
 
         // 6.9 UI Overlay Pass (Health Bars & Floating Texts - Always on top of Walls)
-        // 1. Health Bars
-        for (Enemy e : gameWorld.getEnemies()) {
-            renderRadius = de.tum.cit.fop.maze.config.GameConfig.ENTITY_RENDER_RADIUS;
-            float dx = e.getX() - gameWorld.getPlayer().getX();
-            float dy = e.getY() - gameWorld.getPlayer().getY();
-            if (dx * dx + dy * dy > renderRadius * renderRadius)
-                continue;
-
-            if (!e.isDead() && e.getHealth() > 0) {
-                float barWidth = 14f;
-                float barHeight = 2f;
-                float barX = e.getX() * UNIT_SCALE + 1f;
-                float barY = e.getY() * UNIT_SCALE + 17f; // Above enemy
-
-                game.getSpriteBatch().setColor(0.2f, 0.2f, 0.2f, 0.8f);
-                game.getSpriteBatch().draw(textureManager.whitePixel, barX, barY, barWidth, barHeight);
-
-                if (e.hasShield()) {
-                    float shieldPercent = e.getShieldPercentage();
-                    if (e.getShieldType() == DamageType.PHYSICAL) {
-                        game.getSpriteBatch().setColor(0.3f, 0.5f, 0.8f, 1f);
-                    } else {
-                        game.getSpriteBatch().setColor(0.7f, 0.3f, 0.9f, 1f);
-                    }
-                    game.getSpriteBatch().draw(textureManager.whitePixel, barX, barY + barHeight,
-                            barWidth * shieldPercent, barHeight);
-                }
-
-                float healthPercent = e.getHealthPercentage();
-                game.getSpriteBatch().setColor(1f - healthPercent * 0.5f, healthPercent, 0.2f, 1f);
-                game.getSpriteBatch().draw(textureManager.whitePixel, barX, barY,
-                        barWidth * healthPercent, barHeight);
-
-                game.getSpriteBatch().setColor(Color.WHITE);
-            }
-        }
+        // 1. Health Bars (queued during the enemy pass)
+        overlayRenderer.drawBars(game.getSpriteBatch());
 
         // 2. Floating Texts
         com.badlogic.gdx.graphics.g2d.BitmapFont font = game.getSkin().getFont("font");
@@ -1090,15 +1071,19 @@ else if (obj instanceof Potion) {
         // Note: Fog visibility radius is fixed and does not change with camera zoom to
         // prevent cheating
         game.getSpriteBatch().setColor(Color.WHITE);
-        float playerCenterX = player.getX() * UNIT_SCALE + UNIT_SCALE / 2;
-        float playerCenterY = player.getY() * UNIT_SCALE + UNIT_SCALE / 2;
+        float playerCenterX = player.getRenderX(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        float playerCenterY = player.getRenderY(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        de.tum.cit.fop.maze.utils.FrameProfiler.begin(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.FOG);
         fogRenderer.render(playerCenterX, playerCenterY, camera);
+        de.tum.cit.fop.maze.utils.FrameProfiler.end(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.FOG);
 
-        game.getSpriteBatch().end();
-
-        // === Render Blood Particles (after main batch, before HUD) ===
+        // === Render Blood Particles (on top of fog, before HUD) ===
+        de.tum.cit.fop.maze.utils.FrameProfiler.begin(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.PARTICLES);
         bloodParticles.update(delta);
-        bloodParticles.render(camera.combined);
+        bloodParticles.render(game.getSpriteBatch());
+        de.tum.cit.fop.maze.utils.FrameProfiler.end(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.PARTICLES);
+
+        game.getSpriteBatch().end();
 
         // === Render Crosshair - only displayed when mouse mode is enabled ===
         if (crosshairRenderer != null && GameSettings.isUseMouseAiming() && !isPaused && !isConsoleOpen
@@ -1107,9 +1092,11 @@ else if (obj instanceof Potion) {
             crosshairRenderer.render(camera, mousePos.x * UNIT_SCALE, mousePos.y * UNIT_SCALE);
         }
 
+        de.tum.cit.fop.maze.utils.FrameProfiler.begin(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.HUD);
         hud.getStage().getViewport().apply();
         hud.update(delta);
         hud.render();
+        de.tum.cit.fop.maze.utils.FrameProfiler.end(de.tum.cit.fop.maze.utils.FrameProfiler.Stage.HUD);
 
         // === NEW: Display achievement popups ===
         List<String> newAchievements = gameWorld.getAndClearNewAchievements();
@@ -1127,6 +1114,9 @@ else if (obj instanceof Potion) {
             uiStage.getViewport().apply();
             uiStage.draw();
         }
+
+        de.tum.cit.fop.maze.utils.FrameProfiler.endFrame(game.getSpriteBatch());
+        profilerOverlay.render(game.getSpriteBatch(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
     private void renderPlayer(Player player) {
@@ -1138,6 +1128,7 @@ private void renderPlayer(Player player) {
         // Use unified PlayerRenderer utility class for rendering
         // Weapon rendering callback ensures weapon is rendered at the correct layer
         // (front/back of player)
+        playerRenderer.setInterpolationAlpha(renderAlpha);
         playerRenderer.render(player, dir, stateTime, isMoving,
                 (p, d, t) -> renderEquippedWeapon(p, d));
     }
@@ -1193,8 +1184,8 @@ private void renderEquippedWeapon(Player player, int dir) {
 
         TextureRegion weaponFrame = weaponAnim.getKeyFrame(stateTime, !player.isAttacking());
 
-        float playerCenterX = player.getX() * UNIT_SCALE + UNIT_SCALE / 2;
-        float playerCenterY = player.getY() * UNIT_SCALE + UNIT_SCALE / 2;
+        float playerCenterX = player.getRenderX(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        float playerCenterY = player.getRenderY(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
 
         float weaponSize = UNIT_SCALE * 1.2f;
         float offsetX;
@@ -1267,8 +1258,8 @@ private void updateCamera(float delta) {
         Player player = gameWorld.getPlayer();
         GameMap gameMap = gameWorld.getGameMap();
 
-        float targetX = player.getX() * UNIT_SCALE + UNIT_SCALE / 2;
-        float targetY = player.getY() * UNIT_SCALE + UNIT_SCALE / 2;
+        float targetX = player.getRenderX(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
+        float targetY = player.getRenderY(renderAlpha) * UNIT_SCALE + UNIT_SCALE / 2;
         camera.position.x += (targetX - camera.position.x) * CAMERA_LERP_SPEED * delta;
         camera.position.y += (targetY - camera.position.y) * CAMERA_LERP_SPEED * delta;
 
@@ -1305,7 +1296,7 @@ private void updateCamera(float delta) {
     private void loadState(GameState state) {
         initGameWorld(state.getCurrentLevel());
         Player player = gameWorld.getPlayer();
-        player.setPosition(state.getPlayerX(), state.getPlayerY());
+        player.teleport(state.getPlayerX(), state.getPlayerY());
         player.setLives(state.getLives());
         player.setHasKey(state.isHasKey());
 
@@ -1515,24 +1506,24 @@ private void showLoadDialog() {
         win.setModal(true);
         win.setResizable(true);
         win.getTitleLabel().setAlignment(Align.center);
-        FileHandle[] files = SaveManager.getSaveFiles();
+        java.util.List<de.tum.cit.fop.maze.utils.SaveService.SaveInfo> files = SaveManager.getSaveInfos();
         Table listTable = new Table();
         listTable.top();
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
 
-        if (files.length == 0)
+        if (files.isEmpty())
             listTable.add(new Label("No save files found.", game.getSkin())).pad(20);
         else {
-            for (FileHandle file : files) {
+            for (de.tum.cit.fop.maze.utils.SaveService.SaveInfo file : files) {
                 Table rowTable = new Table();
-                String dateStr = sdf.format(new Date(file.lastModified()));
-                TextButton loadBtn = new TextButton(file.nameWithoutExtension() + "\n" + dateStr, game.getSkin());
+                String dateStr = sdf.format(new Date(file.getSavedAt()));
+                TextButton loadBtn = new TextButton(file.getName() + "\n" + dateStr, game.getSkin());
                 loadBtn.getLabel().setFontScale(0.8f);
                 loadBtn.getLabel().setAlignment(Align.left);
                 loadBtn.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeEvent event, Actor actor) {
-                        GameState s = SaveManager.loadGame(file.name());
+                        GameState s = SaveManager.loadGame(file.getFileName());
                         if (s != null) {
                             loadState(s);
                             win.remove();
@@ -1545,7 +1536,7 @@ public void changed(ChangeEvent event, Actor actor) {
                 deleteBtn.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeEvent event, Actor actor) {
-                        SaveManager.deleteSave(file.name());
+                        SaveManager.deleteSave(file.getFileName());
                         win.remove();
                         showLoadDialog();
                     }
@@ -1674,15 +1665,20 @@ public void resize(int width, int height) {
     public void dispose() {
         if (textureManager != null)
             textureManager.dispose();
+        itemAssets.releaseAll();
+        if (inventoryUI != null)
+            inventoryUI.dispose();
         uiStage.dispose();
         if (hud != null)
             hud.dispose();
+        if (mazeRenderer != null)
+            mazeRenderer.dispose();
         if (fogRenderer != null)
             fogRenderer.dispose();
         if (attackRangeRenderer != null)
             attackRangeRenderer.dispose();
-        if (grayscaleShader != null)
-            grayscaleShader.dispose();
+        if (overlayRenderer != null)
+            overlayRenderer.dispose();
         if (dustParticles != null)
             dustParticles.dispose();
         // Clean up settings UI resources
@@ -1738,6 +1734,8 @@ private Color getThemeColor(String theme) {
     }
 
     // Weapon/Armor texture cache (using shop assets)
+    private final de.tum.cit.fop.maze.utils.AssetService.Group itemAssets = de.tum.cit.fop.maze.utils.AssetService
+            .getInstance().group();
     private java.util.Map<String, TextureRegion> weaponTexCache = new java.util.HashMap<>();
     private java.util.Map<String, TextureRegion> armorTexCache = new java.util.HashMap<>();
 
@@ -1754,7 +1752,7 @@ private TextureRegion getWeaponTexture(String weaponName) {
         String path = "images/items/shop/" + fileName;
         try {
             if (Gdx.files.internal(path).exists()) {
-                Texture tex = new Texture(Gdx.files.internal(path));
+                Texture tex = itemAssets.texture(path);
                 TextureRegion region = new TextureRegion(tex);
                 weaponTexCache.put(weaponName, region);
                 return region;
@@ -1780,7 +1778,7 @@ private TextureRegion getArmorTexture(String armorName) {
         String path = "images/items/shop/" + fileName;
         try {
             if (Gdx.files.internal(path).exists()) {
-                Texture tex = new Texture(Gdx.files.internal(path));
+                Texture tex = itemAssets.texture(path);
                 TextureRegion region = new TextureRegion(tex);
                 armorTexCache.put(armorName, region);
                 return region;
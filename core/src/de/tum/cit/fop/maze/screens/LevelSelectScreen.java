@@ -16,6 +16,7 @@
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.config.GameSettings;
+import de.tum.cit.fop.maze.utils.AssetService;
 import de.tum.cit.fop.maze.utils.LevelInfoDefs;
 import de.tum.cit.fop.maze.utils.UIConstants;
 
@@ -37,12 +38,15 @@ public class LevelSelectScreen implements Screen {
     private Label missionHazardsLabel;
     private TextButton initiateBtn;
 
-    // Background Textures
-    private final Texture bgGrassland;
-    private final Texture bgJungle;
-    private final Texture bgDesert;
-    private final Texture bgIce;
-    private final Texture bgSpace;
+    // Background Textures (one per zone, level 1-4, 5-8, ...)
+    private static final String[] ZONE_BACKGROUNDS = {
+            "images/backgrounds/level_select_grassland.png",
+            "images/backgrounds/level_select_jungle.png",
+            "images/backgrounds/level_select_desert.png",
+            "images/backgrounds/level_select_ice.png",
+            "images/backgrounds/level_select_space.png"
+    };
+    private final AssetService.Group assets = AssetService.getInstance().group();
     private Texture currentBackground;
 
     private int selectedLevel = -1; // -1 means none selected
@@ -50,23 +54,11 @@ public class LevelSelectScreen implements Screen {
 
     public LevelSelectScreen(MazeRunnerGame game) {
         this.game = game;
-        // Load background textures
-        bgGrassland = new Texture(Gdx.files.internal("images/backgrounds/level_select_grassland.png"));
-        bgJungle = new Texture(Gdx.files.internal("images/backgrounds/level_select_jungle.png"));
-        bgDesert = new Texture(Gdx.files.internal("images/backgrounds/level_select_desert.png"));
-        bgIce = new Texture(Gdx.files.internal("images/backgrounds/level_select_ice.png"));
-        bgSpace = new Texture(Gdx.files.internal("images/backgrounds/level_select_space.png"));
-
-        // Default background
-        currentBackground = bgGrassland;
-
-        // Set texture filters for smoother scaling
-        Texture.TextureFilter filter = Texture.TextureFilter.Linear;
-        bgGrassland.setFilter(filter, filter);
-        bgJungle.setFilter(filter, filter);
-        bgDesert.setFilter(filter, filter);
-        bgIce.setFilter(filter, filter);
-        bgSpace.setFilter(filter, filter);
+        // Default background now, the other zones load in the background
+        currentBackground = zoneBackground(0);
+        for (int zone = 1; zone < ZONE_BACKGROUNDS.length; zone++) {
+            assets.prefetch(ZONE_BACKGROUNDS[zone], Texture.class);
+        }
 
         // Use standard viewport from UIConstants
         this.stage = new Stage(new FitViewport(UIConstants.VIEWPORT_WIDTH, UIConstants.VIEWPORT_HEIGHT),
@@ -278,19 +270,20 @@ private void updatePanels(int level) {
         missionHazardsLabel.setText(data.hazards);
 
         // Update Background based on Level Range
-        if (level >= 1 && level <= 4) {
-            currentBackground = bgGrassland;
-        } else if (level >= 5 && level <= 8) {
-            currentBackground = bgJungle;
-        } else if (level >= 9 && level <= 12) {
-            currentBackground = bgDesert;
-        } else if (level >= 13 && level <= 16) {
-            currentBackground = bgIce;
-        } else if (level >= 17 && level <= 20) {
-            currentBackground = bgSpace;
+        if (level >= 1 && level <= 20) {
+            currentBackground = zoneBackground((level - 1) / 4);
         }
     }
 
+    /**
+     * Background of a zone (smooth scaling); waits for it if still loading
+     */
+    private Texture zoneBackground(int zone) {
+        Texture texture = assets.texture(ZONE_BACKGROUNDS[zone]);
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        return texture;
+    }
+
     private void startGame(int level) {
         // Enter equipment selection screen before entering the level
         game.setScreen(new LoadoutScreen(game, level));
@@ -361,6 +354,9 @@ public void show() {
 
     @Override
     public void render(float delta) {
+        // Keep the other zone backgrounds loading
+        AssetService.getInstance().update(2);
+
         // Clear screen
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -435,10 +431,6 @@ public void hide() {
     @Override
     public void dispose() {
         stage.dispose();
-        bgGrassland.dispose();
-        bgJungle.dispose();
-        bgDesert.dispose();
-        bgIce.dispose();
-        bgSpace.dispose();
+        assets.releaseAll();
     }
 }
@@ -16,7 +16,9 @@
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.custom.CustomElementManager;
+import de.tum.cit.fop.maze.utils.AssetService;
 import de.tum.cit.fop.maze.utils.GameLogger;
+import de.tum.cit.fop.maze.utils.TextureManager;
 
 import java.util.List;
 
@@ -27,7 +29,9 @@
  * Workflow:
  * 1. Display loading screen (warmup phase)
  * 2. Get list of preload tasks
- * 3. Load a portion of resources per frame, update progress bar
+ * 3. Load a portion of resources per frame, update progress bar. The game
+ * screen's textures are prefetched through the {@link AssetService} at the
+ * same time and count towards the progress.
  * 4. Transition to GameScreen on completion
  */
 public class LoadingScreen implements Screen {
@@ -45,10 +49,15 @@ public class LoadingScreen implements Screen {
     private int currentTaskIndex = 0;
     private int tasksPerFrame = 2; // Tasks to load per frame (set low to avoid stuttering)
 
+    // Time budget per frame for streaming in the next screen's textures
+    private static final int ASSET_UPDATE_MILLIS = 8;
+    private int prefetchedTextures = 0;
+
     // Warmup phase: render a few frames first to let UI display
     private int warmupFrames = 3;
     private int frameCount = 0;
     private boolean initialized = false;
+    private boolean atlasBuilt = false;
 
     private Texture barBgTexture;
     private Texture barFillTexture;
@@ -174,6 +183,16 @@ public void render(float delta) {
             return;
         }
 
+        // Pack all custom sprites into the shared atlas before loading animations
+        if (!atlasBuilt) {
+            CustomElementManager.getInstance().buildSpriteAtlas();
+            atlasBuilt = true;
+            return;
+        }
+
+        // Stream the game textures in while the custom element tasks run
+        boolean texturesLoaded = AssetService.getInstance().update(ASSET_UPDATE_MILLIS);
+
         // Execute preload tasks
         if (currentTaskIndex < preloadTasks.size()) {
             // Load a few tasks per frame
@@ -197,21 +216,22 @@ public void render(float delta) {
                 currentTaskIndex++;
             }
 
-            // Update progress bar
-            float progress = preloadTasks.size() > 0
-                    ? (float) currentTaskIndex / preloadTasks.size()
-                    : 1f;
-            progressBar.setValue(progress);
-
             // Output log every 10 tasks
             if (currentTaskIndex % 10 == 0) {
                 GameLogger.info("LoadingScreen", "Progress: " + currentTaskIndex + "/" + preloadTasks.size());
             }
+        } else if (!texturesLoaded) {
+            statusLabel.setText("Loading textures...");
         } else {
             // Loading complete, enter game
             statusLabel.setText("Complete!");
             onLoadingComplete();
         }
+
+        // Update progress bar (tasks and textures weighted by count)
+        int total = preloadTasks.size() + prefetchedTextures;
+        float done = currentTaskIndex + AssetService.getInstance().getProgress() * prefetchedTextures;
+        progressBar.setValue(total > 0 ? done / total : 1f);
     }
 
     private void initializePreloadTasks() {
@@ -219,15 +239,20 @@ private void initializePreloadTasks() {
         preloadTasks = CustomElementManager.getInstance().getPreloadTasks();
         GameLogger.info("LoadingScreen", "Total preload tasks: " + preloadTasks.size());
 
+        prefetchedTextures = TextureManager.prefetchAssets();
+        GameLogger.info("LoadingScreen", "Prefetching " + prefetchedTextures + " textures");
+
         if (preloadTasks.isEmpty()) {
             GameLogger.info("LoadingScreen", "No tasks to preload, entering game directly");
         }
+        statusLabel.setText("Packing sprites...");
     }
 
     private void onLoadingComplete() {
         GameLogger.info("LoadingScreen", "Preloading complete, entering game");
         if (isEndlessMode) {
             game.setScreen(new EndlessGameScreen(game));
+            AssetService.getInstance().releaseUnclaimedPrefetches();
         } else {
             GameScreen gameScreen = new GameScreen(game, saveFilePath, true);
 
@@ -248,6 +273,8 @@ private void onLoadingComplete() {
             }
 
             game.setScreen(gameScreen);
+            // The game screen has taken over what it needs
+            AssetService.getInstance().releaseUnclaimedPrefetches();
         }
     }
 
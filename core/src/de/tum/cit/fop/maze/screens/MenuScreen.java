@@ -2,7 +2,6 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -17,6 +16,7 @@
 
 import com.badlogic.gdx.utils.viewport.Viewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utils.AssetService;
 import de.tum.cit.fop.maze.utils.SaveManager;
 
 import java.text.SimpleDateFormat;
@@ -28,6 +28,7 @@ public class MenuScreen implements Screen {
 
     private final Stage stage;
     private final MazeRunnerGame game;
+    private final AssetService.Group assets = AssetService.getInstance().group();
     private final Texture backgroundTexture;
 
     public MenuScreen(MazeRunnerGame game) {
@@ -35,7 +36,7 @@ public MenuScreen(MazeRunnerGame game) {
         var camera = new OrthographicCamera();
 
         // Load background texture
-        backgroundTexture = new Texture(Gdx.files.internal("images/menu_background.png"));
+        backgroundTexture = assets.texture("images/menu_background.png");
         backgroundTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
 
         Viewport viewport = new FitViewport(1920, 1080, camera);
@@ -222,19 +223,19 @@ private void showLoadDialog() {
         win.setResizable(true);
         win.getTitleLabel().setAlignment(Align.center);
 
-        FileHandle[] files = SaveManager.getSaveFiles();
+        java.util.List<de.tum.cit.fop.maze.utils.SaveService.SaveInfo> files = SaveManager.getSaveInfos();
         Table listTable = new Table();
         listTable.top();
 
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm");
 
-        if (files.length == 0) {
+        if (files.isEmpty()) {
             listTable.add(new Label("No save files found.", game.getSkin())).pad(20);
         } else {
-            for (FileHandle file : files) {
+            for (de.tum.cit.fop.maze.utils.SaveService.SaveInfo file : files) {
                 Table rowTable = new Table();
-                String dateStr = sdf.format(new Date(file.lastModified()));
-                String infoText = file.nameWithoutExtension() + "\n" + dateStr;
+                String dateStr = sdf.format(new Date(file.getSavedAt()));
+                String infoText = file.getName() + "\n" + dateStr;
 
                 TextButton loadBtn = new TextButton(infoText, game.getSkin());
                 loadBtn.getLabel().setFontScale(0.8f);
@@ -246,7 +247,7 @@ public void changed(ChangeEvent event, Actor actor) {
                         saveCurrentProfile();
 
                         // Pre-load state to sync global managers (Shop, etc)
-                        de.tum.cit.fop.maze.model.GameState loaded = SaveManager.loadGame(file.name());
+                        de.tum.cit.fop.maze.model.GameState loaded = SaveManager.loadGame(file.getFileName());
                         if (loaded != null) {
                             de.tum.cit.fop.maze.shop.ShopManager.importState(loaded.getCoins(),
                                     loaded.getPurchasedItemIds());
@@ -256,13 +257,13 @@ public void changed(ChangeEvent event, Actor actor) {
                             // Sync Achievements
                             de.tum.cit.fop.maze.utils.AchievementManager.importData(loaded.getAchievementData());
 
-                            game.setCurrentSaveFilePath(file.name());
+                            game.setCurrentSaveFilePath(file.getFileName());
 
                             // Instead of going to game, show feedback
                             win.remove();
-                            MenuScreen.this.showToast("Profile Loaded: " + file.nameWithoutExtension());
+                            MenuScreen.this.showToast("Profile Loaded: " + file.getName());
                         } else {
-                            GameLogger.error("MenuScreen", "Failed to load save: " + file.name());
+                            GameLogger.error("MenuScreen", "Failed to load save: " + file.getFileName());
                         }
                     }
                 });
@@ -272,7 +273,7 @@ public void changed(ChangeEvent event, Actor actor) {
                 deleteBtn.addListener(new ChangeListener() {
                     @Override
                     public void changed(ChangeEvent event, Actor actor) {
-                        SaveManager.deleteSave(file.name());
+                        SaveManager.deleteSave(file.getFileName());
                         win.remove();
                         showLoadDialog();
                     }
@@ -450,7 +451,7 @@ public void resize(int width, int height) {
     @Override
     public void dispose() {
         stage.dispose();
-        backgroundTexture.dispose();
+        assets.releaseAll();
     }
 
     @Override
@@ -19,6 +19,7 @@
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
+import de.tum.cit.fop.maze.utils.AssetService;
 
 /**
  * Visual Novel style story screen.
@@ -36,6 +37,7 @@ public class StoryScreen implements Screen {
     private int currentLineIndex = 0;
 
     // Background texture
+    private final AssetService.Group assets = AssetService.getInstance().group();
     private Texture backgroundTexture;
     // Dialogue box textures
     private Texture dialogBoxTexture;
@@ -100,12 +102,12 @@ public static StoryScreen forLevel(MazeRunnerGame game, String mapPath) {
     private void loadBackgroundTexture() {
         String bgPath = dialogueData.backgroundPath;
         try {
-            this.backgroundTexture = new Texture(Gdx.files.internal(bgPath));
+            this.backgroundTexture = assets.texture(bgPath);
             backgroundTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         } catch (Exception e) {
             Gdx.app.error("StoryScreen", "Failed to load background: " + bgPath, e);
             // Use default background
-            this.backgroundTexture = new Texture(Gdx.files.internal("images/backgrounds/doctor_scene.jpg"));
+            this.backgroundTexture = assets.texture("images/backgrounds/doctor_scene.jpg");
         }
     }
 
@@ -335,8 +337,7 @@ public void hide() {
     @Override
     public void dispose() {
         stage.dispose();
-        if (backgroundTexture != null)
-            backgroundTexture.dispose();
+        assets.releaseAll();
         if (dialogBoxTexture != null)
             dialogBoxTexture.dispose();
         if (borderTexture != null)
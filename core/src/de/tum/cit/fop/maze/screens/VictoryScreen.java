@@ -13,6 +13,7 @@
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import de.tum.cit.fop.maze.MazeRunnerGame;
 import de.tum.cit.fop.maze.utils.AchievementManager;
+import de.tum.cit.fop.maze.utils.AssetService;
 
 import java.util.List;
 import de.tum.cit.fop.maze.utils.UIUtils;
@@ -22,6 +23,7 @@ public class VictoryScreen implements Screen {
     private final MazeRunnerGame game;
     private final Stage stage;
     private final de.tum.cit.fop.maze.utils.SimpleParticleSystem particleSystem;
+    private final AssetService.Group assets = AssetService.getInstance().group();
     private final Texture backgroundTexture;
 
     // Statistics
@@ -52,7 +54,7 @@ public VictoryScreen(MazeRunnerGame game, String lastMapPath, int killCount,
         this.particleSystem = new de.tum.cit.fop.maze.utils.SimpleParticleSystem(theme);
 
         // Load Background
-        this.backgroundTexture = new Texture(Gdx.files.internal(getBackgroundPath(theme)));
+        this.backgroundTexture = assets.texture(getBackgroundPath(theme));
 
         Table table = new Table();
         table.setFillParent(true);
@@ -375,6 +377,6 @@ public void hide() {
     public void dispose() {
         stage.dispose();
         particleSystem.dispose();
-        backgroundTexture.dispose();
+        assets.releaseAll();
     }
 }
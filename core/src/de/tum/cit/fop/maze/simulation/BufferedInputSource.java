@@ -0,0 +1,61 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * Latches "just pressed" events of a per-frame input source until the next
+ * simulation tick consumes them.
+ *
+ * With a fixed timestep a rendered frame can run zero, one or several ticks.
+ * Reading {@code isJustPressed} straight from {@link GdxInputSource} would
+ * then lose presses in frames without a tick and repeat them in frames with
+ * several. Call {@link #poll()} once per frame and {@link #endTick()} after
+ * each tick; held actions and the pointer are passed through unchanged.
+ */
+public class BufferedInputSource implements InputSource {
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final InputSource source;
+    private int pressedMask;
+
+    public BufferedInputSource(InputSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Collect the presses of the current frame
+     */
+    public void poll() {
+        for (Action action : ACTIONS) {
+            if (source.isJustPressed(action)) {
+                pressedMask |= 1 << action.ordinal();
+            }
+        }
+    }
+
+    /**
+     * Forget collected presses once a tick has seen them (or on pause)
+     */
+    public void endTick() {
+        pressedMask = 0;
+    }
+
+    @Override
+    public boolean isDown(Action action) {
+        return source.isDown(action);
+    }
+
+    @Override
+    public boolean isJustPressed(Action action) {
+        return (pressedMask & (1 << action.ordinal())) != 0;
+    }
+
+    @Override
+    public float getPointerX() {
+        return source.getPointerX();
+    }
+
+    @Override
+    public float getPointerY() {
+        return source.getPointerY();
+    }
+}
@@ -0,0 +1,118 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * Accumulator that turns variable frame times into fixed simulation ticks.
+ *
+ * Each rendered frame adds its delta with {@link #accumulate(float)} and then
+ * runs one simulation tick per successful {@link #step()}. The time left over
+ * is exposed as {@link #getAlpha()}, the fraction of a tick to interpolate
+ * render positions by.
+ *
+ * At most {@code maxSubsteps} ticks run per frame. When a frame falls further
+ * behind, the excess whole ticks are dropped (the game slows down) instead of
+ * piling up and making every following frame even slower.
+ *
+ * <pre>
+ * clock.accumulate(delta);
+ * while (clock.step()) {
+ *     world.update(clock.getStep());
+ * }
+ * render(clock.getAlpha());
+ * </pre>
+ */
+public class FixedTimestep {
+
+    private final float step;
+    private int maxSubsteps;
+
+    private float accumulator;
+    private int substeps;
+    private long droppedSteps;
+
+    /**
+     * @param step        Seconds per simulation tick
+     * @param maxSubsteps Maximum ticks per frame (at least 1)
+     */
+    public FixedTimestep(float step, int maxSubsteps) {
+        if (step <= 0)
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        this.step = step;
+        setMaxSubsteps(maxSubsteps);
+    }
+
+    /**
+     * Add the time of one rendered frame and start a new frame
+     */
+    public void accumulate(float frameDelta) {
+        if (frameDelta > 0) {
+            accumulator += frameDelta;
+        }
+        substeps = 0;
+    }
+
+    /**
+     * Consume one tick from the accumulator
+     *
+     * @return true if the caller should run one simulation tick now
+     */
+    public boolean step() {
+        if (accumulator < step)
+            return false;
+
+        if (substeps >= maxSubsteps) {
+            // Too far behind: drop whole ticks, keep the fraction for interpolation
+            int dropped = (int) (accumulator / step);
+            droppedSteps += dropped;
+            accumulator -= dropped * step;
+            return false;
+        }
+
+        accumulator -= step;
+        substeps++;
+        return true;
+    }
+
+    /**
+     * Seconds per simulation tick
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Interpolation factor between the previous and the current tick, in [0, 1]
+     */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / step);
+    }
+
+    /**
+     * Ticks run since the last {@link #accumulate(float)}
+     */
+    public int getSubsteps() {
+        return substeps;
+    }
+
+    /**
+     * Total ticks dropped because of the substep cap
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
+    public int getMaxSubsteps() {
+        return maxSubsteps;
+    }
+
+    public void setMaxSubsteps(int maxSubsteps) {
+        this.maxSubsteps = Math.max(1, maxSubsteps);
+    }
+
+    /**
+     * Discard accumulated time (e.g. after a pause or a level load)
+     */
+    public void reset() {
+        accumulator = 0;
+        substeps = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import de.tum.cit.fop.maze.config.GameSettings;
+
+/**
+ * Live input from {@code Gdx.input}, using the key bindings in
+ * {@link GameSettings}.
+ */
+public final class GdxInputSource implements InputSource {
+
+    public static final GdxInputSource INSTANCE = new GdxInputSource();
+
+    private GdxInputSource() {
+    }
+
+    @Override
+    public boolean isDown(Action action) {
+        if (action == Action.RUN) {
+            return Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT);
+        }
+        return Gdx.input.isKeyPressed(keyFor(action));
+    }
+
+    @Override
+    public boolean isJustPressed(Action action) {
+        if (action == Action.RUN) {
+            return Gdx.input.isKeyJustPressed(Input.Keys.SHIFT_LEFT)
+                    || Gdx.input.isKeyJustPressed(Input.Keys.SHIFT_RIGHT);
+        }
+        return Gdx.input.isKeyJustPressed(keyFor(action));
+    }
+
+    @Override
+    public float getPointerX() {
+        return Gdx.input.getX();
+    }
+
+    @Override
+    public float getPointerY() {
+        return Gdx.input.getY();
+    }
+
+    private static int keyFor(Action action) {
+        switch (action) {
+            case MOVE_UP:
+                return GameSettings.KEY_UP;
+            case MOVE_DOWN:
+                return GameSettings.KEY_DOWN;
+            case MOVE_LEFT:
+                return GameSettings.KEY_LEFT;
+            case MOVE_RIGHT:
+                return GameSettings.KEY_RIGHT;
+            case ATTACK:
+                return GameSettings.KEY_ATTACK;
+            case SWITCH_WEAPON:
+                return GameSettings.KEY_SWITCH_WEAPON;
+            default:
+                return Input.Keys.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * Records the actions of another input source tick by tick, so a play
+ * session can be replayed later as a {@link ScriptedInputSource}.
+ *
+ * The recorder passes all queries through to the wrapped source. Call
+ * {@link #capture()} once per simulation tick, before the world update.
+ */
+public class InputRecorder implements InputSource {
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final InputSource source;
+    private final ScriptedInputSource recording = new ScriptedInputSource();
+
+    public InputRecorder(InputSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Sample the held actions of the wrapped source as the next tick
+     */
+    public void capture() {
+        int mask = 0;
+        for (Action action : ACTIONS) {
+            if (source.isDown(action)) {
+                mask |= 1 << action.ordinal();
+            }
+        }
+        recording.appendFrame(mask);
+    }
+
+    /**
+     * Number of captured ticks
+     */
+    public int getLength() {
+        return recording.getLength();
+    }
+
+    /**
+     * The captured ticks as a replayable script
+     */
+    public ScriptedInputSource getRecording() {
+        return recording;
+    }
+
+    @Override
+    public boolean isDown(Action action) {
+        return source.isDown(action);
+    }
+
+    @Override
+    public boolean isJustPressed(Action action) {
+        return source.isJustPressed(action);
+    }
+
+    @Override
+    public float getPointerX() {
+        return source.getPointerX();
+    }
+
+    @Override
+    public float getPointerY() {
+        return source.getPointerY();
+    }
+}
@@ -0,0 +1,42 @@
+package de.tum.cit.fop.maze.simulation;
+
+/**
+ * Source of player input for {@link de.tum.cit.fop.maze.model.GameWorld}.
+ *
+ * Input is expressed as game actions rather than key codes, so scripts and
+ * recordings stay valid when the user rebinds keys. The live game reads
+ * {@link GdxInputSource}; simulations feed a {@link ScriptedInputSource}.
+ */
+public interface InputSource {
+
+    /** Player actions read by the simulation */
+    enum Action {
+        MOVE_UP,
+        MOVE_DOWN,
+        MOVE_LEFT,
+        MOVE_RIGHT,
+        RUN,
+        ATTACK,
+        SWITCH_WEAPON
+    }
+
+    /**
+     * @return true while the action is held
+     */
+    boolean isDown(Action action);
+
+    /**
+     * @return true only in the tick/frame the action went down
+     */
+    boolean isJustPressed(Action action);
+
+    /**
+     * Pointer X in screen coordinates (mouse aiming)
+     */
+    float getPointerX();
+
+    /**
+     * Pointer Y in screen coordinates, y-down (mouse aiming)
+     */
+    float getPointerY();
+}
@@ -0,0 +1,167 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Input that replays a per-tick script of held actions.
+ *
+ * Each tick stores the held actions as a bit mask. An action is "just
+ * pressed" in a tick when it is held there but not in the previous tick.
+ * Ticks after the end of the script hold nothing.
+ *
+ * Scripts have a plain text form, one entry per line:
+ *
+ * <pre>
+ * # walk right for two seconds at 60 ticks/s, then attack once
+ * 0-119 MOVE_RIGHT RUN
+ * 120 ATTACK
+ * </pre>
+ *
+ * Ranges are inclusive, entries for overlapping ticks are combined.
+ */
+public class ScriptedInputSource implements InputSource {
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private final IntArray frames = new IntArray();
+    private int tick;
+
+    /**
+     * Hold actions from tick {@code from} to tick {@code to} (inclusive)
+     */
+    public ScriptedInputSource hold(int from, int to, Action... actions) {
+        if (from < 0 || to < from)
+            throw new IllegalArgumentException("Invalid tick range " + from + "-" + to);
+        int mask = 0;
+        for (Action action : actions) {
+            mask |= bit(action);
+        }
+        while (frames.size <= to) {
+            frames.add(0);
+        }
+        for (int t = from; t <= to; t++) {
+            frames.items[t] |= mask;
+        }
+        return this;
+    }
+
+    /**
+     * Press actions for a single tick
+     */
+    public ScriptedInputSource press(int tick, Action... actions) {
+        return hold(tick, tick, actions);
+    }
+
+    /**
+     * Append one tick with the given action mask (used by recorders)
+     */
+    void appendFrame(int mask) {
+        frames.add(mask);
+    }
+
+    /**
+     * Select the tick that following queries answer for
+     */
+    public void setTick(int tick) {
+        this.tick = tick;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Number of scripted ticks
+     */
+    public int getLength() {
+        return frames.size;
+    }
+
+    @Override
+    public boolean isDown(Action action) {
+        return (maskAt(tick) & bit(action)) != 0;
+    }
+
+    @Override
+    public boolean isJustPressed(Action action) {
+        int bit = bit(action);
+        return (maskAt(tick) & bit) != 0 && (maskAt(tick - 1) & bit) == 0;
+    }
+
+    @Override
+    public float getPointerX() {
+        return 0f;
+    }
+
+    @Override
+    public float getPointerY() {
+        return 0f;
+    }
+
+    private int maskAt(int t) {
+        return t >= 0 && t < frames.size ? frames.items[t] : 0;
+    }
+
+    private static int bit(Action action) {
+        return 1 << action.ordinal();
+    }
+
+    /**
+     * Parse the text form of a script
+     *
+     * @throws IllegalArgumentException on malformed lines or unknown actions
+     */
+    public static ScriptedInputSource parse(String script) {
+        ScriptedInputSource source = new ScriptedInputSource();
+        String[] lines = script.split("\\r?\\n");
+        for (int lineNo = 0; lineNo < lines.length; lineNo++) {
+            String line = lines[lineNo].trim();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+
+            String[] parts = line.split("\\s+");
+            try {
+                int dash = parts[0].indexOf('-');
+                int from = Integer.parseInt(dash < 0 ? parts[0] : parts[0].substring(0, dash));
+                int to = dash < 0 ? from : Integer.parseInt(parts[0].substring(dash + 1));
+                Action[] actions = new Action[parts.length - 1];
+                for (int i = 1; i < parts.length; i++) {
+                    actions[i - 1] = Action.valueOf(parts[i].toUpperCase());
+                }
+                source.hold(from, to, actions);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid input script line " + (lineNo + 1) + ": " + line, e);
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Text form of this script, consecutive equal ticks merged into ranges
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        int start = 0;
+        while (start < frames.size) {
+            int mask = frames.items[start];
+            int end = start;
+            while (end + 1 < frames.size && frames.items[end + 1] == mask) {
+                end++;
+            }
+            if (mask != 0) {
+                sb.append(start);
+                if (end > start) {
+                    sb.append('-').append(end);
+                }
+                for (Action action : ACTIONS) {
+                    if ((mask & bit(action)) != 0) {
+                        sb.append(' ').append(action.name());
+                    }
+                }
+                sb.append('\n');
+            }
+            start = end + 1;
+        }
+        return sb.toString();
+    }
+}
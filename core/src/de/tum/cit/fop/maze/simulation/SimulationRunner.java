@@ -0,0 +1,131 @@
+package de.tum.cit.fop.maze.simulation;
+
+import com.badlogic.gdx.math.MathUtils;
+import de.tum.cit.fop.maze.config.GameConfig;
+import de.tum.cit.fop.maze.model.GameWorld;
+import de.tum.cit.fop.maze.utils.AudioManager;
+import de.tum.cit.fop.maze.utils.MapLoader;
+
+/**
+ * Steps a {@link GameWorld} without rendering, as fast as possible.
+ *
+ * Every tick advances the world by the same fixed timestep and reads its
+ * input from a {@link ScriptedInputSource}, so a run depends only on the
+ * level, the script, the timestep and the random seed. Sound effects are
+ * muted during a run. The runner needs {@code Gdx.files} (and preferences)
+ * but no graphics, so it works on a HeadlessApplication backend.
+ *
+ * Runs end after the given number of ticks or as soon as the world reports
+ * game over or victory, and report the achieved ticks per second.
+ */
+public class SimulationRunner {
+
+    /** Default timestep: the game's fixed simulation tick */
+    public static final float DEFAULT_TIMESTEP = GameConfig.SIMULATION_TIMESTEP;
+
+    /** Outcome and timing of one run */
+    public static class Result {
+        public final String levelPath;
+        public final int ticks;
+        public final float simulatedSeconds;
+        public final long elapsedNanos;
+        public final boolean gameOver;
+        public final boolean victory;
+        public final int killCount;
+
+        Result(String levelPath, int ticks, float simulatedSeconds, long elapsedNanos, boolean gameOver,
+                boolean victory, int killCount) {
+            this.levelPath = levelPath;
+            this.ticks = ticks;
+            this.simulatedSeconds = simulatedSeconds;
+            this.elapsedNanos = elapsedNanos;
+            this.gameOver = gameOver;
+            this.victory = victory;
+            this.killCount = killCount;
+        }
+
+        /**
+         * Simulation speed of this run
+         */
+        public double getTicksPerSecond() {
+            return elapsedNanos > 0 ? ticks * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d ticks (%.1fs simulated) in %.1fms, %.0f ticks/s%s%s, kills=%d",
+                    levelPath, ticks, simulatedSeconds, elapsedNanos / 1_000_000.0, getTicksPerSecond(),
+                    gameOver ? ", game over" : "", victory ? ", victory" : "", killCount);
+        }
+    }
+
+    private final float timestep;
+
+    public SimulationRunner() {
+        this(DEFAULT_TIMESTEP);
+    }
+
+    /**
+     * @param timestep Seconds advanced per tick
+     */
+    public SimulationRunner(float timestep) {
+        if (timestep <= 0)
+            throw new IllegalArgumentException("Timestep must be positive: " + timestep);
+        this.timestep = timestep;
+    }
+
+    /**
+     * Load a level and run it
+     *
+     * @param levelPath Map path (e.g. "maps/level-1.properties")
+     * @param script    Input script, replayed from tick 0
+     * @param maxTicks  Tick limit
+     * @param seed      Seed for the global random generator, applied before
+     *                  the level is loaded
+     */
+    public Result runLevel(String levelPath, ScriptedInputSource script, int maxTicks, long seed) {
+        MathUtils.random.setSeed(seed);
+        GameWorld world = new GameWorld(MapLoader.loadMap(levelPath), levelPath);
+        return run(world, script, maxTicks);
+    }
+
+    /**
+     * Run an already created world. Replaces the world's listener and input
+     * source.
+     */
+    public Result run(GameWorld world, ScriptedInputSource script, int maxTicks) {
+        final boolean[] outcome = new boolean[2]; // game over, victory
+        world.setListener(new GameWorld.WorldListener() {
+            @Override
+            public void onGameOver(int killCount) {
+                outcome[0] = true;
+            }
+
+            @Override
+            public void onVictory(String currentMapPath) {
+                outcome[1] = true;
+            }
+        });
+        world.setInputSource(script);
+
+        AudioManager audio = AudioManager.getInstance();
+        boolean sfxWasEnabled = audio.isSfxEnabled();
+        audio.setSfxEnabled(false);
+
+        int ticks = 0;
+        long start = System.nanoTime();
+        try {
+            while (ticks < maxTicks && !outcome[0] && !outcome[1]) {
+                script.setTick(ticks);
+                world.update(timestep);
+                ticks++;
+            }
+        } finally {
+            audio.setSfxEnabled(sfxWasEnabled);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(world.getCurrentLevelPath(), ticks, ticks * timestep, elapsed, outcome[0], outcome[1],
+                world.getKillCount());
+    }
+}
@@ -1,13 +1,14 @@
 package de.tum.cit.fop.maze.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.ObjectMap;
 import de.tum.cit.fop.maze.model.InventorySystem;
 import de.tum.cit.fop.maze.model.items.Potion;
 import de.tum.cit.fop.maze.model.weapons.Weapon;
@@ -30,6 +31,11 @@ public class InventoryUI {
     private final TextureManager textureManager;
     private final InventorySystem inventorySystem;
 
+    // Item icons, kept across refreshes. Owned by the inventory (not shared
+    // through AssetService) because they use Linear filtering while the world
+    // draws the same files with Nearest.
+    private final ObjectMap<String, Texture> icons = new ObjectMap<>();
+
     // UI Elements
     private Window inventoryWindow;
     private Table weaponsTable;
@@ -244,8 +250,7 @@ private void refreshWeaponsDisplay() {
                 }
 
                 try {
-                    Texture iconTexture = new Texture(Gdx.files.internal(iconPath));
-                    iconTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                    Texture iconTexture = getIcon(iconPath);
                     Image weaponIcon = new Image(iconTexture);
                     // Fill the slot more completely for consistent appearance
                     float iconSize = SLOT_SIZE - 8;
@@ -311,8 +316,7 @@ private void refreshPotionsDisplay() {
                 String iconPath = "images/items/" + textureKey + ".png";
 
                 try {
-                    Texture iconTexture = new Texture(Gdx.files.internal(iconPath));
-                    iconTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                    Texture iconTexture = getIcon(iconPath);
                     Image potionIcon = new Image(iconTexture);
                     // Fill the slot more completely for consistent appearance
                     float iconSize = SLOT_SIZE - 8;
@@ -522,7 +526,21 @@ public boolean handleKeyDown(int keycode) {
         return false;
     }
 
+    private Texture getIcon(String path) {
+        Texture texture = icons.get(path);
+        if (texture == null) {
+            texture = new Texture(Gdx.files.internal(path));
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            icons.put(path, texture);
+        }
+        return texture;
+    }
+
     public void dispose() {
+        for (Texture texture : icons.values()) {
+            texture.dispose();
+        }
+        icons.clear();
         // Dispose any textures created
         if (selectedSlotBg != null && selectedSlotBg.getRegion() != null) {
             selectedSlotBg.getRegion().getTexture().dispose();
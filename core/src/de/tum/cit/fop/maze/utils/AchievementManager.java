@@ -4,6 +4,8 @@
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
+
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -11,7 +13,8 @@
 
 /**
  * Manages achievements and unlocked cards.
- * Persists data using LibGDX Preferences.
+ * Persists data through a write-behind {@link AchievementStatsStore}; counters
+ * updated during play are written in batches, unlocks are written right away.
  * 
  * Achievement Categories:
  * - Kill-based: Novice Hunter, Veteran Slayer, Maze Master, etc.
@@ -23,7 +26,9 @@
  * - Challenge: Flawless victory, speedrun, etc.
  */
 public class AchievementManager {
+    /** Legacy preferences, migrated into {@link #STATS_FILE} on first start */
     private static final String PREFS_NAME = "maze_achievements_v1";
+    private static final String STATS_FILE = ".prefs/maze_achievements_v1.properties";
     private static final String UNLOCKED_CARDS_KEY = "unlocked_cards";
     private static final String TOTAL_COINS_KEY = "total_coins_earned";
 
@@ -41,6 +46,7 @@ public class AchievementManager {
     private static final String ACHIEVEMENTS_FILE = "data/achievements.json";
     private static Map<String, Achievement> allAchievements;
     private static boolean loadedFromFile = false;
+    private static AchievementStatsStore stats;
 
     static {
         allAchievements = new HashMap<>();
@@ -51,6 +57,35 @@ public class AchievementManager {
         }
     }
 
+    /**
+     * Statistics store, created (and migrated from the legacy preferences) on
+     * first use.
+     */
+    private static synchronized AchievementStatsStore stats() {
+        if (stats == null) {
+            File file = Gdx.files.external(STATS_FILE).file();
+            Map<String, ?> legacy = file.exists() ? null : Gdx.app.getPreferences(PREFS_NAME).get();
+            stats = new AchievementStatsStore(file, legacy);
+        }
+        return stats;
+    }
+
+    /**
+     * Start writing pending statistics in the background (screen changes).
+     */
+    public static synchronized void flush() {
+        if (stats != null)
+            stats.flush();
+    }
+
+    /**
+     * Write pending statistics and wait for the write (pause, exit).
+     */
+    public static synchronized void flushNow() {
+        if (stats != null)
+            stats.flushNow();
+    }
+
     /**
      * Load achievement definitions from external JSON file.
      * 
@@ -422,7 +457,7 @@ public static List<String> checkFirstKill() {
      */
     public static List<String> recordWeaponKill(String weaponName) {
         List<String> newUnlocks = new ArrayList<>();
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
 
         // Normalize weapon name to key
         String weaponKey = normalizeWeaponKey(weaponName);
@@ -431,7 +466,6 @@ public static List<String> recordWeaponKill(String weaponName) {
         // Increment kill count
         int kills = prefs.getInteger(statsKey, 0) + 1;
         prefs.putInteger(statsKey, kills);
-        prefs.flush();
 
         GameLogger.debug("AchievementManager",
                 "Weapon kill recorded: " + weaponName + " -> " + kills + " total kills");
@@ -474,12 +508,11 @@ public static List<String> recordWeaponKill(String weaponName) {
      */
     public static List<String> recordEffectApplied(String effectName) {
         List<String> newUnlocks = new ArrayList<>();
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
 
         String statsKey = STATS_PREFIX + "effect_" + effectName.toLowerCase();
         int count = prefs.getInteger(statsKey, 0) + 1;
         prefs.putInteger(statsKey, count);
-        prefs.flush();
 
         if ("FREEZE".equalsIgnoreCase(effectName) && count >= 50 && unlockCard("Frozen Heart")) {
             newUnlocks.add("Frozen Heart");
@@ -502,7 +535,7 @@ public static List<String> recordEffectApplied(String effectName) {
      */
     public static List<String> recordArmorAbsorbed(String armorType, int damageAbsorbed) {
         List<String> newUnlocks = new ArrayList<>();
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
 
         // Track per armor type
         String statsKey = ARMOR_ABSORBED_PREFIX + armorType.toLowerCase();
@@ -513,7 +546,6 @@ public static List<String> recordArmorAbsorbed(String armorType, int damageAbsor
         String globalKey = ARMOR_ABSORBED_PREFIX + "total";
         int globalTotal = prefs.getInteger(globalKey, 0) + damageAbsorbed;
         prefs.putInteger(globalKey, globalTotal);
-        prefs.flush();
 
         GameLogger.debug("AchievementManager",
                 "Armor absorbed: " + armorType + " +" + damageAbsorbed + " (total: " + total + ")");
@@ -541,7 +573,7 @@ public static List<String> recordArmorAbsorbed(String armorType, int damageAbsor
      */
     public static List<String> recordLevelComplete(String levelPath, boolean tookDamage, float completionTime) {
         List<String> newUnlocks = new ArrayList<>();
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
 
         // Extract level number from path
         int levelNumber = extractLevelNumber(levelPath);
@@ -664,13 +696,12 @@ public static List<String> checkComeback(int playerHP) {
      */
     public static List<String> checkMultiKill(int killsInWindow) {
         List<String> newUnlocks = new ArrayList<>();
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
 
         // Update max combo
         int maxCombo = prefs.getInteger(MAX_COMBO_KEY, 0);
         if (killsInWindow > maxCombo) {
             prefs.putInteger(MAX_COMBO_KEY, killsInWindow);
-            prefs.flush();
         }
 
         if (killsInWindow >= 3 && unlockCard("Rampage")) {
@@ -747,7 +778,7 @@ private static boolean hasAllWeaponMasteryAchievements() {
      * @return true if the card was newly unlocked, false if already unlocked.
      */
     public static boolean unlockCard(String cardName) {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         String current = prefs.getString(UNLOCKED_CARDS_KEY, "");
 
         if (current.contains(cardName + ";")) {
@@ -763,7 +794,7 @@ public static boolean unlockCard(String cardName) {
     }
 
     public static List<String> getUnlockedCards() {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         String current = prefs.getString(UNLOCKED_CARDS_KEY, "");
         List<String> list = new ArrayList<>();
         if (!current.isEmpty()) {
@@ -793,7 +824,7 @@ public static int getTotalCount() {
      * Get total coins ever earned.
      */
     public static int getTotalCoinsEarned() {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         return prefs.getInteger(TOTAL_COINS_KEY, 0);
     }
 
@@ -806,7 +837,7 @@ public static int getTotalCoinsEarned() {
     public static void addCoinsToTotal(int amount) {
         if (amount <= 0)
             return;
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         int total = prefs.getInteger(TOTAL_COINS_KEY, 0) + amount;
         prefs.putInteger(TOTAL_COINS_KEY, total);
         prefs.flush();
@@ -817,7 +848,7 @@ public static void addCoinsToTotal(int amount) {
      * Get weapon kills for a specific weapon
      */
     public static int getWeaponKills(String weaponName) {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         String weaponKey = normalizeWeaponKey(weaponName);
         return prefs.getInteger(WEAPON_KILLS_PREFIX + weaponKey, 0);
     }
@@ -826,7 +857,7 @@ public static int getWeaponKills(String weaponName) {
      * Get total armor damage absorbed
      */
     public static int getTotalArmorAbsorbed() {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         return prefs.getInteger(ARMOR_ABSORBED_PREFIX + "total", 0);
     }
 
@@ -864,7 +895,7 @@ public static List<Achievement> getAchievementsByCategory(AchievementCategory ca
      * Reset all achievements (for debugging).
      */
     public static void resetAll() {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         prefs.clear();
         prefs.flush();
         GameLogger.info("AchievementManager", "All achievements and statistics reset.");
@@ -912,7 +943,7 @@ public static List<AchievementUnlockInfo> getAchievementInfoList(List<String> ac
      * Export all achievement data (progress, unlocks, stats) to a Map.
      */
     public static Map<String, Object> exportData() {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         Map<String, Object> data = new HashMap<>();
         data.putAll(prefs.get());
         return data;
@@ -923,7 +954,7 @@ public static Map<String, Object> exportData() {
      * Replaces current state.
      */
     public static void importData(Map<String, Object> data) {
-        Preferences prefs = Gdx.app.getPreferences(PREFS_NAME);
+        Preferences prefs = stats();
         prefs.clear();
         if (data != null) {
             for (Map.Entry<String, Object> entry : data.entrySet()) {
@@ -0,0 +1,353 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.Preferences;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-memory achievement statistics with write-behind persistence.
+ *
+ * Reads and writes only touch a map, so kill/effect/armor counters can be
+ * updated every frame. Changes are coalesced and written on a background
+ * thread once {@link #FLUSH_DELAY_MS} have passed since the first unsaved
+ * change or {@link #MAX_PENDING_UPDATES} updates have piled up, whichever
+ * comes first. {@link #flush()} requests a write right away (screen
+ * changes, unlocks); {@link #flushNow()} waits for it (pause, exit).
+ *
+ * The file is replaced atomically (see {@link AtomicFiles}). Values are
+ * stored as strings like the desktop Preferences backend does, and the class
+ * implements {@link Preferences} so callers keep the familiar API.
+ */
+public class AchievementStatsStore implements Preferences {
+
+    /** Longest time an update stays unsaved */
+    public static final long FLUSH_DELAY_MS = 5000;
+    /** Unsaved updates that trigger an immediate write */
+    public static final int MAX_PENDING_UPDATES = 64;
+
+    private static final long FLUSH_NOW_TIMEOUT_MS = 2000;
+
+    private final File file;
+    private final Map<String, String> values = new HashMap<>();
+    private final ScheduledExecutorService writer;
+
+    // Guarded by this
+    private int pendingUpdates;
+    private boolean dirty;
+    private ScheduledFuture<?> scheduledWrite;
+    private long scheduledAt;
+    private int writeCount;
+
+    /**
+     * @param file   Backing file; loaded if it exists
+     * @param legacy Values to start from when the file does not exist yet
+     *               (migration from the old preferences), may be null
+     */
+    public AchievementStatsStore(File file, Map<String, ?> legacy) {
+        this.file = file;
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "achievement-stats-writer");
+            t.setDaemon(true);
+            return t;
+        });
+
+        if (file.exists()) {
+            load();
+        } else if (legacy != null && !legacy.isEmpty()) {
+            for (Map.Entry<String, ?> entry : legacy.entrySet()) {
+                if (entry.getValue() != null) {
+                    values.put(entry.getKey(), entry.getValue().toString());
+                }
+            }
+            GameLogger.info("AchievementStatsStore", "Migrated " + values.size() + " entries to " + file);
+            markDirty();
+            flush();
+        }
+    }
+
+    private void load() {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            GameLogger.error("AchievementStatsStore", "Failed to read " + file, e);
+            return;
+        }
+        synchronized (this) {
+            for (String key : properties.stringPropertyNames()) {
+                values.put(key, properties.getProperty(key));
+            }
+        }
+    }
+
+    // ==================== Write-behind ====================
+
+    private synchronized void markDirty() {
+        dirty = true;
+        pendingUpdates++;
+        if (pendingUpdates >= MAX_PENDING_UPDATES) {
+            scheduleWrite(0);
+        } else if (scheduledWrite == null) {
+            scheduleWrite(FLUSH_DELAY_MS);
+        }
+    }
+
+    /**
+     * Schedule a write in {@code delayMs}, unless one is already due sooner
+     */
+    private synchronized void scheduleWrite(long delayMs) {
+        long due = System.currentTimeMillis() + delayMs;
+        if (scheduledWrite != null && !scheduledWrite.isDone() && scheduledAt <= due)
+            return;
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel(false);
+        }
+        if (writer.isShutdown())
+            return;
+        scheduledAt = due;
+        scheduledWrite = writer.schedule(this::writeIfDirty, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs on the writer thread
+     */
+    private void writeIfDirty() {
+        Properties snapshot;
+        synchronized (this) {
+            scheduledWrite = null;
+            if (!dirty)
+                return;
+            snapshot = new Properties();
+            snapshot.putAll(values);
+            dirty = false;
+            pendingUpdates = 0;
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            snapshot.store(bytes, "Achievement statistics");
+            AtomicFiles.write(file, bytes.toByteArray());
+            synchronized (this) {
+                writeCount++;
+            }
+        } catch (IOException e) {
+            GameLogger.error("AchievementStatsStore", "Failed to write " + file, e);
+            synchronized (this) {
+                // Keep the data and retry with the next flush window
+                dirty = true;
+                if (scheduledWrite == null) {
+                    scheduleWrite(FLUSH_DELAY_MS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Request an asynchronous write of unsaved changes as soon as possible
+     */
+    @Override
+    public void flush() {
+        scheduleWrite(0);
+    }
+
+    /**
+     * Write unsaved changes and wait until they are on disk (bounded wait)
+     */
+    public void flushNow() {
+        if (writer.isShutdown())
+            return;
+        try {
+            writer.submit(this::writeIfDirty).get(FLUSH_NOW_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            GameLogger.error("AchievementStatsStore", "Flush did not complete", e);
+        }
+    }
+
+    /**
+     * Write unsaved changes and stop the writer thread
+     */
+    public void close() {
+        flushNow();
+        writer.shutdown();
+    }
+
+    /**
+     * True while changes are waiting to be written
+     */
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Number of completed file writes (for tests and diagnostics)
+     */
+    public synchronized int getWriteCount() {
+        return writeCount;
+    }
+
+    // ==================== Preferences ====================
+
+    private Preferences set(String key, String value) {
+        synchronized (this) {
+            if (value.equals(values.put(key, value)))
+                return this; // Unchanged, nothing to write
+        }
+        markDirty();
+        return this;
+    }
+
+    @Override
+    public Preferences putBoolean(String key, boolean val) {
+        return set(key, Boolean.toString(val));
+    }
+
+    @Override
+    public Preferences putInteger(String key, int val) {
+        return set(key, Integer.toString(val));
+    }
+
+    @Override
+    public Preferences putLong(String key, long val) {
+        return set(key, Long.toString(val));
+    }
+
+    @Override
+    public Preferences putFloat(String key, float val) {
+        return set(key, Float.toString(val));
+    }
+
+    @Override
+    public Preferences putString(String key, String val) {
+        return set(key, val);
+    }
+
+    @Override
+    public Preferences put(Map<String, ?> vals) {
+        synchronized (this) {
+            for (Map.Entry<String, ?> entry : vals.entrySet()) {
+                values.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+        markDirty();
+        return this;
+    }
+
+    private synchronized String raw(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    @Override
+    public int getInteger(String key) {
+        return getInteger(key, 0);
+    }
+
+    @Override
+    public long getLong(String key) {
+        return getLong(key, 0);
+    }
+
+    @Override
+    public float getFloat(String key) {
+        return getFloat(key, 0);
+    }
+
+    @Override
+    public String getString(String key) {
+        return getString(key, "");
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defValue) {
+        String value = raw(key);
+        return value != null ? Boolean.parseBoolean(value) : defValue;
+    }
+
+    @Override
+    public int getInteger(String key, int defValue) {
+        String value = raw(key);
+        if (value == null)
+            return defValue;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defValue;
+        }
+    }
+
+    @Override
+    public long getLong(String key, long defValue) {
+        String value = raw(key);
+        if (value == null)
+            return defValue;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return defValue;
+        }
+    }
+
+    @Override
+    public float getFloat(String key, float defValue) {
+        String value = raw(key);
+        if (value == null)
+            return defValue;
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            return defValue;
+        }
+    }
+
+    @Override
+    public String getString(String key, String defValue) {
+        String value = raw(key);
+        return value != null ? value : defValue;
+    }
+
+    @Override
+    public synchronized Map<String, ?> get() {
+        return new HashMap<>(values);
+    }
+
+    @Override
+    public synchronized boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this) {
+            values.clear();
+        }
+        markDirty();
+    }
+
+    @Override
+    public void remove(String key) {
+        synchronized (this) {
+            if (values.remove(key) == null)
+                return;
+        }
+        markDirty();
+    }
+}
@@ -0,0 +1,245 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Central, reference-counted access to file-backed resources (textures,
+ * ...), built on libGDX's {@link AssetManager}.
+ *
+ * - {@link #acquire} returns a shared instance and adds a reference;
+ * {@link #release} removes it. The asset is disposed when the last reference
+ * is released, so screens that show the same background share one texture.
+ * - {@link #prefetch} queues an asset for asynchronous loading. The queue is
+ * advanced by {@link #update(int)} (e.g. from the loading screen's progress bar);
+ * a later {@link #acquire} of a prefetched asset takes over the prefetch
+ * reference instead of loading again.
+ * - {@link Group} tracks what one owner (a screen, a widget) acquired and
+ * releases everything at once on dispose.
+ *
+ * Must be used on the render thread.
+ */
+public class AssetService implements Disposable {
+    private static AssetService instance;
+
+    private final AssetManager manager;
+
+    /** Prefetched paths not yet taken over by {@link #acquire} */
+    private final Set<String> prefetched = new HashSet<>();
+
+    AssetService(AssetManager manager) {
+        this.manager = manager;
+    }
+
+    public static AssetService getInstance() {
+        if (instance == null) {
+            instance = new AssetService(new AssetManager(new InternalFileHandleResolver()));
+        }
+        return instance;
+    }
+
+    /**
+     * Get an asset, loading it now if it is neither loaded nor prefetched.
+     * Each call adds one reference; balance it with {@link #release}.
+     *
+     * @throws GdxRuntimeException if the asset cannot be loaded
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        // A prefetched asset already holds the reference this call takes over
+        if (!prefetched.remove(path)) {
+            if (manager.isLoaded(path, type)) {
+                // AssetManager only counts a repeated load() once its queue runs
+                manager.setReferenceCount(path, manager.getReferenceCount(path) + 1);
+                return manager.get(path, type);
+            }
+            manager.load(path, type);
+        }
+        try {
+            return manager.finishLoadingAsset(path);
+        } catch (GdxRuntimeException e) {
+            dropFailedPrefetches();
+            throw e;
+        }
+    }
+
+    /**
+     * Get a texture (see {@link #acquire})
+     */
+    public Texture acquireTexture(String path) {
+        return acquire(path, Texture.class);
+    }
+
+    /**
+     * Drop one reference; the asset is disposed when none are left
+     */
+    public void release(String path) {
+        if (!manager.contains(path)) {
+            GameLogger.warn("AssetService", "Release of unknown asset: " + path);
+            return;
+        }
+        manager.unload(path);
+    }
+
+    /**
+     * Queue an asset for asynchronous loading (once per path until acquired)
+     */
+    public <T> void prefetch(String path, Class<T> type) {
+        if (prefetched.add(path)) {
+            manager.load(path, type);
+        }
+    }
+
+    /**
+     * Release a prefetched asset if it was not acquired yet
+     */
+    public void cancelPrefetch(String path) {
+        if (prefetched.remove(path) && manager.contains(path)) {
+            manager.unload(path);
+        }
+    }
+
+    /**
+     * Release prefetched assets nobody acquired (e.g. after a transition)
+     */
+    public void releaseUnclaimedPrefetches() {
+        for (String path : prefetched) {
+            if (manager.contains(path)) {
+                manager.unload(path);
+            }
+        }
+        prefetched.clear();
+    }
+
+    /**
+     * Advance asynchronous loading for a few milliseconds.
+     *
+     * @return true when the queue is empty
+     */
+    public boolean update(int millis) {
+        try {
+            return manager.update(millis);
+        } catch (GdxRuntimeException e) {
+            // A missing prefetched file must not stop the remaining queue
+            GameLogger.warn("AssetService", "Failed to load asset: " + e.getMessage());
+            dropFailedPrefetches();
+            return manager.isFinished();
+        }
+    }
+
+    /**
+     * Loading progress of the current queue, 0 to 1
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    /**
+     * Number of references held on a loaded asset (0 if not loaded)
+     */
+    public int getReferenceCount(String path) {
+        return manager.isLoaded(path) ? manager.getReferenceCount(path) : 0;
+    }
+
+    /**
+     * Number of prefetched assets not yet acquired
+     */
+    public int getPrefetchedCount() {
+        return prefetched.size();
+    }
+
+    /**
+     * Create an empty group of assets owned together
+     */
+    public Group group() {
+        return new Group();
+    }
+
+    private void dropFailedPrefetches() {
+        Iterator<String> it = prefetched.iterator();
+        while (it.hasNext()) {
+            if (!manager.contains(it.next())) {
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        prefetched.clear();
+        manager.dispose();
+        if (instance == this) {
+            instance = null;
+        }
+    }
+
+    /**
+     * Assets acquired by one owner. Acquiring a path the group already holds
+     * adds no reference, so refreshing UI is free; {@link #releaseAll()}
+     * drops everything.
+     */
+    public class Group {
+        private final Set<String> paths = new LinkedHashSet<>();
+        private final Set<String> prefetches = new LinkedHashSet<>();
+
+        private Group() {
+        }
+
+        public <T> T get(String path, Class<T> type) {
+            if (paths.contains(path)) {
+                return manager.get(path, type);
+            }
+            T asset = acquire(path, type);
+            paths.add(path);
+            prefetches.remove(path);
+            return asset;
+        }
+
+        public Texture texture(String path) {
+            return get(path, Texture.class);
+        }
+
+        /**
+         * Start loading an asset this owner will probably {@link #get} later
+         */
+        public <T> void prefetch(String path, Class<T> type) {
+            if (!paths.contains(path) && prefetches.add(path)) {
+                AssetService.this.prefetch(path, type);
+            }
+        }
+
+        /**
+         * Paths currently held by this group
+         */
+        public List<String> getPaths() {
+            return new ArrayList<>(paths);
+        }
+
+        /**
+         * Release everything acquired and cancel prefetches never used
+         */
+        public void releaseAll() {
+            for (String path : paths) {
+                release(path);
+            }
+            paths.clear();
+            for (String path : prefetches) {
+                cancelPrefetch(path);
+            }
+            prefetches.clear();
+        }
+    }
+}
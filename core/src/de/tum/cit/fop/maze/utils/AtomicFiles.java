@@ -0,0 +1,49 @@
+package de.tum.cit.fop.maze.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Crash-safe file replacement.
+ *
+ * Data is written to a temporary file next to the target, synced to disk and
+ * then moved over the target. A crash or power loss during the write leaves
+ * either the old or the new file, never a truncated one.
+ */
+public final class AtomicFiles {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Replace {@code target} with {@code data}, creating parent directories
+     * as needed
+     */
+    public static void write(File target, byte[] data) throws IOException {
+        File parent = target.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+
+        File temp = new File(parent, target.getName() + TEMP_SUFFIX);
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(data);
+            out.getFD().sync();
+        }
+
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Some file systems cannot rename atomically; a plain replace is still
+            // better than writing the target in place
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
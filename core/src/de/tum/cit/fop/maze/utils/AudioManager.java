@@ -37,6 +37,7 @@ public class AudioManager implements Disposable {
     private boolean musicEnabled = true;
     private float musicVolume = 0.3f;
     private float sfxVolume = 1.0f;
+    private boolean sfxEnabled = true;
 
     // === BGM Keys ===
     public static final String BGM_MENU = "menu";
@@ -322,7 +323,20 @@ public float getSfxVolume() {
 
     // ==================== Sound Effects ====================
 
+    /**
+     * Enable or mute all sound effects (muted for headless simulation runs)
+     */
+    public void setSfxEnabled(boolean enabled) {
+        this.sfxEnabled = enabled;
+    }
+
+    public boolean isSfxEnabled() {
+        return sfxEnabled;
+    }
+
     public void playSound(String name) {
+        if (!sfxEnabled)
+            return;
         Sound sound = soundEffects.get(name);
         if (sound != null) {
             sound.play(sfxVolume);
@@ -330,6 +344,8 @@ public void playSound(String name) {
     }
 
     public void playSound(String name, float volume) {
+        if (!sfxEnabled)
+            return;
         Sound sound = soundEffects.get(name);
         if (sound != null) {
             sound.play(volume * sfxVolume);
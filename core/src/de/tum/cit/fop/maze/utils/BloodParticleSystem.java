@@ -1,13 +1,15 @@
 package de.tum.cit.fop.maze.utils;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * Blood Splatter Particle System
- * Produces visual effects when enemies or players take damage.
+ * Produces visual effects when enemies or players take damage. Also used for
+ * colored weapon fire and projectile impact bursts.
+ * Particles are simulated and drawn by a {@link ParticleEngine}.
  */
 public class BloodParticleSystem {
 
@@ -28,105 +30,24 @@ public interface DamageListener {
         void onDamage(float x, float y, int amount, float attackDirX, float attackDirY, float knockbackStrength);
     }
 
-    /**
-     * Individual blood particle
-     */
-    private static class BloodParticle {
-        float x, y; // Position
-        float vx, vy; // Velocity
-        float life; // Remaining life
-        float maxLife; // Max life
-        float size; // Size
-        Color color; // Color
-
-        /**
-         * @param spawnX    Spawn position X
-         * @param spawnY    Spawn position Y
-         * @param dirX      Direction X
-         * @param dirY      Direction Y
-         * @param intensity Intensity factor (1.0 = base, >1.0 = more exaggerated)
-         * @param spread    Spread angle factor (1.0 = base, >1.0 = wider range)
-         */
-        BloodParticle(float spawnX, float spawnY, float dirX, float dirY, float intensity, float spread,
-                Color customColor) {
-            this.x = spawnX;
-            this.y = spawnY;
-
-            // Random velocity direction - primarily based on attack direction, with narrow
-            // spread
-            float baseAngle = MathUtils.atan2(dirY, dirX);
-            float spreadAngle = MathUtils.random(-0.25f, 0.25f) * spread; // Narrow spread angle (~±14 degrees)
-            float angle = baseAngle + spreadAngle;
-            // Higher damage results in faster speed - increased base speed to let particles
-            // fly further
-            float baseSpeed = MathUtils.random(60f, 150f);
-            float speed = baseSpeed * intensity;
-            this.vx = MathUtils.cos(angle) * speed;
-            this.vy = MathUtils.sin(angle) * speed;
-
-            // Lifecycle - higher intensity results in longer duration (increased lifecycle
-            // for further flight)
-            this.maxLife = MathUtils.random(0.5f, 0.9f) * (0.8f + intensity * 0.2f);
-            this.life = maxLife;
-
-            // Size (pixels) - higher damage results in larger particles
-            float baseSize = MathUtils.random(1f, 2.5f);
-            this.size = baseSize * intensity;
-
-            // Color (reddish tones, with slight variation)
-            if (customColor != null) {
-                this.color = new Color(customColor); // Copy base color
-                // Slight variation for custom color
-                this.color.r = MathUtils.clamp(this.color.r + MathUtils.random(-0.1f, 0.1f), 0f, 1f);
-                this.color.g = MathUtils.clamp(this.color.g + MathUtils.random(-0.1f, 0.1f), 0f, 1f);
-                this.color.b = MathUtils.clamp(this.color.b + MathUtils.random(-0.1f, 0.1f), 0f, 1f);
-            } else {
-                float r = MathUtils.random(0.7f, 1.0f);
-                float g = MathUtils.random(0.0f, 0.15f);
-                float b = MathUtils.random(0.0f, 0.1f);
-                this.color = new Color(r, g, b, 1.0f);
-            }
-        }
-
-        /**
-         * Update particle state
-         * 
-         * @return true if the particle is still alive
-         */
-        boolean update(float delta) {
-            // Update position
-            x += vx * delta;
-            y += vy * delta;
-
-            // Apply gravity effect (slight falling) - pixels/sec²
-            vy -= 80.0f * delta;
-
-            // Deceleration
-            vx *= 0.95f;
-            vy *= 0.95f;
-
-            // Update life
-            life -= delta;
-
-            // Update opacity (fade out)
-            float lifeRatio = life / maxLife;
-            color.a = lifeRatio;
-
-            return life > 0;
-        }
-    }
-
-    // Particle container
-    private final Array<BloodParticle> particles = new Array<>();
-    private final ShapeRenderer shapeRenderer;
-
     // Configuration
-    private static final int MAX_PARTICLES = 200;
+    private static final int MAX_PARTICLES = 2000;
     private static final int PARTICLES_PER_DAMAGE = 8; // Number of particles generated per damage point
     private static final float UNIT_SCALE = 16f; // Matches game world coordinate scale
 
-    public BloodParticleSystem() {
-        this.shapeRenderer = new ShapeRenderer();
+    private final ParticleEngine engine;
+    private final TextureRegion pixel;
+
+    /**
+     * @param pixel Solid white region the particles are drawn with
+     */
+    public BloodParticleSystem(TextureRegion pixel) {
+        this.pixel = pixel;
+        // Slight falling (pixels/sec²), deceleration and fade out
+        this.engine = new ParticleEngine(MAX_PARTICLES)
+                .setGravity(80f)
+                .setDrag(0.95f)
+                .setFadeOut(true);
     }
 
     /**
@@ -147,7 +68,7 @@ public void spawn(float x, float y, int damageAmount, float attackDirX, float at
     public void spawn(float x, float y, int damageAmount, float attackDirX, float attackDirY, float knockbackStrength,
             Color customColor) {
         // Higher damage results in more particles
-        int baseCount = Math.min(damageAmount * PARTICLES_PER_DAMAGE, MAX_PARTICLES - particles.size);
+        int baseCount = Math.min(damageAmount * PARTICLES_PER_DAMAGE, MAX_PARTICLES - engine.getCount());
         baseCount = Math.max(baseCount, 5); // At least 5 particles
 
         // Damage intensity factor (1 damage = 1.0, 10 damage = ~1.8)
@@ -159,14 +80,38 @@ public void spawn(float x, float y, int damageAmount, float attackDirX, float at
         // Convert to pixel coordinates
         float pixelX = x * UNIT_SCALE;
         float pixelY = y * UNIT_SCALE;
+        float baseAngle = MathUtils.atan2(attackDirY, attackDirX);
 
-        for (int i = 0; i < baseCount && particles.size < MAX_PARTICLES; i++) {
+        for (int i = 0; i < baseCount; i++) {
             // Add small offset for natural variation (in pixels)
             float offsetX = MathUtils.random(-4f, 4f) * spread;
             float offsetY = MathUtils.random(-4f, 4f) * spread;
-            particles.add(
-                    new BloodParticle(pixelX + offsetX, pixelY + offsetY, attackDirX, attackDirY, intensity, spread,
-                            customColor));
+
+            // Random velocity direction - primarily based on attack direction, with narrow
+            // spread (~±14 degrees). Higher damage results in faster speed
+            float angle = baseAngle + MathUtils.random(-0.25f, 0.25f) * spread;
+            float speed = MathUtils.random(60f, 150f) * intensity;
+
+            // Higher intensity results in longer duration and larger particles
+            float life = MathUtils.random(0.5f, 0.9f) * (0.8f + intensity * 0.2f);
+            float size = MathUtils.random(1f, 2.5f) * intensity;
+
+            // Color (reddish tones, or the custom color with slight variation)
+            float r, g, b;
+            if (customColor != null) {
+                r = customColor.r + MathUtils.random(-0.1f, 0.1f);
+                g = customColor.g + MathUtils.random(-0.1f, 0.1f);
+                b = customColor.b + MathUtils.random(-0.1f, 0.1f);
+            } else {
+                r = MathUtils.random(0.7f, 1.0f);
+                g = MathUtils.random(0.0f, 0.15f);
+                b = MathUtils.random(0.0f, 0.1f);
+            }
+
+            if (!engine.emit(pixelX + offsetX, pixelY + offsetY, MathUtils.cos(angle) * speed,
+                    MathUtils.sin(angle) * speed, life, size, r, g, b, 1f, 0f)) {
+                break; // Full
+            }
         }
     }
 
@@ -174,52 +119,35 @@ public void spawn(float x, float y, int damageAmount, float attackDirX, float at
      * Update all particles
      */
     public void update(float delta) {
-        for (int i = particles.size - 1; i >= 0; i--) {
-            if (!particles.get(i).update(delta)) {
-                particles.removeIndex(i);
-            }
-        }
+        engine.update(delta);
     }
 
     /**
-     * Renders particles in the game world (using game camera)
-     * 
-     * @param projectionMatrix Camera projection matrix
+     * Renders particles in the game world. Must be called between begin() and
+     * end() of a batch using the game camera.
      */
-    public void render(com.badlogic.gdx.math.Matrix4 projectionMatrix) {
-        if (particles.size == 0)
-            return;
-
-        shapeRenderer.setProjectionMatrix(projectionMatrix);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        for (BloodParticle p : particles) {
-            shapeRenderer.setColor(p.color);
-            shapeRenderer.rect(p.x - p.size / 2, p.y - p.size / 2, p.size, p.size);
-        }
-
-        shapeRenderer.end();
+    public void render(Batch batch) {
+        engine.render(batch, pixel, 1f, 1f);
     }
 
     /**
      * Get current active particle count (for debugging)
      */
     public int getParticleCount() {
-        return particles.size;
+        return engine.getCount();
     }
 
     /**
      * Clear all particles
      */
     public void clear() {
-        particles.clear();
+        engine.clear();
     }
 
     /**
      * Release resources
      */
     public void dispose() {
-        shapeRenderer.dispose();
-        particles.clear();
+        engine.clear();
     }
 }
@@ -0,0 +1,157 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.config.EndlessModeConfig;
+import de.tum.cit.fop.maze.model.MapChunk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-chunk changes to generated Endless Mode content.
+ *
+ * Chunks are generated deterministically from the world seed, so only what
+ * the player changed needs to be stored: opened chests and removed traps,
+ * keyed by chunk and local tile. {@link ChunkManager} applies the log to every
+ * chunk it generates, which makes chunks evicted from the cache come back
+ * exactly as they were left.
+ *
+ * Saved as a flat int array of {@value #RECORD_SIZE}-int records
+ * {@code [chunkX, chunkY, kind, localTile]} (see {@link #toArray()}).
+ */
+public class ChunkDeltaLog {
+
+    /** Kind of change, stored by ordinal: only append new values */
+    public enum Kind {
+        CHEST_OPENED,
+        TRAP_REMOVED
+    }
+
+    public static final int RECORD_SIZE = 4;
+
+    private static final Kind[] KINDS = Kind.values();
+    /** Local tile indices of a 64x64 chunk fit in 16 bits */
+    private static final int KIND_SHIFT = 16;
+
+    private final int chunkSize;
+
+    /** chunkId -> (kind << KIND_SHIFT | localTile) */
+    private final Map<String, Set<Integer>> entries = new HashMap<>();
+
+    public ChunkDeltaLog() {
+        this(EndlessModeConfig.CHUNK_SIZE);
+    }
+
+    ChunkDeltaLog(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Rebuild a log from {@link #toArray()} output; null gives an empty log
+     */
+    public static ChunkDeltaLog fromArray(int[] records) {
+        ChunkDeltaLog log = new ChunkDeltaLog();
+        if (records == null)
+            return log;
+
+        for (int i = 0; i + RECORD_SIZE <= records.length; i += RECORD_SIZE) {
+            int kind = records[i + 2];
+            if (kind < 0 || kind >= KINDS.length) {
+                GameLogger.warn("ChunkDeltaLog", "Skipping unknown delta kind " + kind);
+                continue;
+            }
+            log.add(records[i] + "_" + records[i + 1], KINDS[kind], records[i + 3]);
+        }
+        return log;
+    }
+
+    /**
+     * Record a change at a world tile
+     *
+     * @return true if the change was not recorded before
+     */
+    public boolean record(Kind kind, int worldX, int worldY) {
+        int chunkX = worldX / chunkSize;
+        int chunkY = worldY / chunkSize;
+        int localTile = (worldY - chunkY * chunkSize) * chunkSize + (worldX - chunkX * chunkSize);
+        return add(chunkX + "_" + chunkY, kind, localTile);
+    }
+
+    private boolean add(String chunkId, Kind kind, int localTile) {
+        return entries.computeIfAbsent(chunkId, id -> new HashSet<>()).add(key(kind, localTile));
+    }
+
+    public boolean contains(Kind kind, int worldX, int worldY) {
+        int chunkX = worldX / chunkSize;
+        int chunkY = worldY / chunkSize;
+        Set<Integer> chunkEntries = entries.get(chunkX + "_" + chunkY);
+        int localTile = (worldY - chunkY * chunkSize) * chunkSize + (worldX - chunkX * chunkSize);
+        return chunkEntries != null && chunkEntries.contains(key(kind, localTile));
+    }
+
+    /**
+     * Remove opened chests and removed traps from a freshly generated chunk
+     */
+    public void apply(MapChunk chunk) {
+        Set<Integer> chunkEntries = entries.get(chunk.getId());
+        if (chunkEntries == null)
+            return;
+
+        removeRecorded(chunk, chunk.getChestPositions(), Kind.CHEST_OPENED, chunkEntries);
+        removeRecorded(chunk, chunk.getTrapPositions(), Kind.TRAP_REMOVED, chunkEntries);
+    }
+
+    private void removeRecorded(MapChunk chunk, List<Vector2> positions, Kind kind, Set<Integer> chunkEntries) {
+        Iterator<Vector2> it = positions.iterator();
+        while (it.hasNext()) {
+            Vector2 pos = it.next();
+            int localX = (int) pos.x - chunk.getWorldStartX();
+            int localY = (int) pos.y - chunk.getWorldStartY();
+            if (chunkEntries.contains(key(kind, localY * chunkSize + localX))) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Flat {@code [chunkX, chunkY, kind, localTile]} records for saving
+     */
+    public int[] toArray() {
+        List<int[]> records = new ArrayList<>();
+        for (Map.Entry<String, Set<Integer>> entry : entries.entrySet()) {
+            String chunkId = entry.getKey();
+            int split = chunkId.indexOf('_');
+            int chunkX = Integer.parseInt(chunkId.substring(0, split));
+            int chunkY = Integer.parseInt(chunkId.substring(split + 1));
+            for (int value : entry.getValue()) {
+                records.add(new int[] { chunkX, chunkY, value >>> KIND_SHIFT, value & ((1 << KIND_SHIFT) - 1) });
+            }
+        }
+
+        int[] result = new int[records.size() * RECORD_SIZE];
+        for (int i = 0; i < records.size(); i++) {
+            System.arraycopy(records.get(i), 0, result, i * RECORD_SIZE, RECORD_SIZE);
+        }
+        return result;
+    }
+
+    /**
+     * Number of recorded changes
+     */
+    public int size() {
+        int size = 0;
+        for (Set<Integer> chunkEntries : entries.values()) {
+            size += chunkEntries.size();
+        }
+        return size;
+    }
+
+    private static int key(Kind kind, int localTile) {
+        return kind.ordinal() << KIND_SHIFT | localTile;
+    }
+}
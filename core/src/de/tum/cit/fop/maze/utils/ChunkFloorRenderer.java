@@ -0,0 +1,238 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import de.tum.cit.fop.maze.model.MapChunk;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders the floor layer of Endless Mode chunks.
+ *
+ * The floor of each loaded chunk is baked once into a {@link SpriteCache}
+ * (split into square blocks of {@link #BLOCK_SIZE} tiles) when the chunk is
+ * loaded and released when it is unloaded. Each frame only the blocks that
+ * overlap the camera view are drawn, so the floor costs a few draw calls per
+ * visible chunk instead of one batch draw per tile of every loaded chunk.
+ *
+ * Must be used on the render thread; register it as the
+ * {@link ChunkManager.ChunkListener}.
+ */
+public class ChunkFloorRenderer implements ChunkManager.ChunkListener {
+
+    /** Edge length (in tiles) of one cached floor block */
+    private static final int BLOCK_SIZE = 32;
+
+    /** SpriteCache limit for indexed meshes */
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    /** Released caches kept for reuse (avoids mesh re-creation on chunk churn) */
+    private static final int MAX_POOLED_CACHES = 8;
+
+    /**
+     * Resolves the floor texture of a chunk (usually by theme)
+     */
+    public interface FloorTextureProvider {
+        TextureRegion getFloorTexture(MapChunk chunk);
+    }
+
+    /** Baked floor of one chunk */
+    private static final class ChunkFloor {
+        SpriteCache cache;
+        int[] blockIds;
+        int blocksPerSide;
+    }
+
+    private final float unitScale;
+    private final FloorTextureProvider floorProvider;
+    private final ShaderProgram shader;
+    private final Map<MapChunk, ChunkFloor> floors = new HashMap<>();
+    private final ArrayDeque<SpriteCache> cachePool = new ArrayDeque<>();
+
+    /** Number of block draws issued by the last {@link #render} call */
+    private int lastBlockDraws;
+
+    /**
+     * @param unitScale     World pixels per tile
+     * @param floorProvider Floor texture lookup
+     */
+    public ChunkFloorRenderer(float unitScale, FloorTextureProvider floorProvider) {
+        this.unitScale = unitScale;
+        this.floorProvider = floorProvider;
+        // One shader shared by all chunk caches instead of one per SpriteCache
+        this.shader = createShader();
+    }
+
+    @Override
+    public void onChunkLoaded(MapChunk chunk) {
+        if (!floors.containsKey(chunk)) {
+            floors.put(chunk, bake(chunk));
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded(MapChunk chunk) {
+        ChunkFloor floor = floors.remove(chunk);
+        if (floor != null) {
+            release(floor.cache);
+        }
+    }
+
+    /**
+     * Draw the floor of all visible chunks. The SpriteBatch must not be active.
+     *
+     * @param camera       Game camera (unrotated)
+     * @param loadedChunks Currently loaded chunks
+     */
+    public void render(OrthographicCamera camera, Iterable<MapChunk> loadedChunks) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        float viewLeft = camera.position.x - halfWidth;
+        float viewRight = camera.position.x + halfWidth;
+        float viewBottom = camera.position.y - halfHeight;
+        float viewTop = camera.position.y + halfHeight;
+
+        lastBlockDraws = 0;
+
+        for (MapChunk chunk : loadedChunks) {
+            float chunkLeft = chunk.getWorldStartX() * unitScale;
+            float chunkBottom = chunk.getWorldStartY() * unitScale;
+            float chunkExtent = chunk.getSize() * unitScale;
+            if (chunkLeft > viewRight || chunkLeft + chunkExtent < viewLeft ||
+                    chunkBottom > viewTop || chunkBottom + chunkExtent < viewBottom) {
+                continue;
+            }
+
+            ChunkFloor floor = floors.get(chunk);
+            if (floor == null) {
+                // Chunk was loaded before this renderer was registered
+                floor = bake(chunk);
+                floors.put(chunk, floor);
+            }
+
+            float blockExtent = BLOCK_SIZE * unitScale;
+            int minBlockX = Math.max(0, (int) ((viewLeft - chunkLeft) / blockExtent));
+            int maxBlockX = Math.min(floor.blocksPerSide - 1, (int) ((viewRight - chunkLeft) / blockExtent));
+            int minBlockY = Math.max(0, (int) ((viewBottom - chunkBottom) / blockExtent));
+            int maxBlockY = Math.min(floor.blocksPerSide - 1, (int) ((viewTop - chunkBottom) / blockExtent));
+
+            SpriteCache cache = floor.cache;
+            cache.setProjectionMatrix(camera.combined);
+            cache.begin();
+            for (int by = minBlockY; by <= maxBlockY; by++) {
+                for (int bx = minBlockX; bx <= maxBlockX; bx++) {
+                    cache.draw(floor.blockIds[by * floor.blocksPerSide + bx]);
+                    lastBlockDraws++;
+                }
+            }
+            cache.end();
+        }
+    }
+
+    /**
+     * Get number of floor block draws in the last frame
+     */
+    public int getLastBlockDraws() {
+        return lastBlockDraws;
+    }
+
+    /**
+     * Dispose all GPU resources
+     */
+    public void dispose() {
+        for (ChunkFloor floor : floors.values()) {
+            floor.cache.dispose();
+        }
+        floors.clear();
+        for (SpriteCache cache : cachePool) {
+            cache.dispose();
+        }
+        cachePool.clear();
+        shader.dispose();
+    }
+
+    /**
+     * Same program as SpriteCache's built-in default shader (which is not
+     * accessible), compiled once for all caches.
+     */
+    private static ShaderProgram createShader() {
+        String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+                + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+                + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+                + "uniform mat4 u_projectionViewMatrix;\n"
+                + "varying vec4 v_color;\n"
+                + "varying vec2 v_texCoords;\n"
+                + "\n"
+                + "void main()\n"
+                + "{\n"
+                + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+                + "   v_color.a = v_color.a * (255.0/254.0);\n"
+                + "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+                + "   gl_Position =  u_projectionViewMatrix * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+                + "}\n";
+        String fragmentShader = "#ifdef GL_ES\n"
+                + "precision mediump float;\n"
+                + "#endif\n"
+                + "varying vec4 v_color;\n"
+                + "varying vec2 v_texCoords;\n"
+                + "uniform sampler2D u_texture;\n"
+                + "void main()\n"
+                + "{\n"
+                + "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n"
+                + "}";
+        ShaderProgram program = new ShaderProgram(vertexShader, fragmentShader);
+        if (!program.isCompiled()) {
+            GameLogger.error("ChunkFloorRenderer", "Shader compile failed: " + program.getLog());
+        }
+        return program;
+    }
+
+    private ChunkFloor bake(MapChunk chunk) {
+        int size = chunk.getSize();
+        TextureRegion region = floorProvider.getFloorTexture(chunk);
+
+        SpriteCache cache = cachePool.poll();
+        if (cache == null) {
+            int sprites = size * size;
+            cache = new SpriteCache(sprites, shader, sprites <= MAX_INDEXED_SPRITES);
+        }
+
+        ChunkFloor floor = new ChunkFloor();
+        floor.cache = cache;
+        floor.blocksPerSide = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        floor.blockIds = new int[floor.blocksPerSide * floor.blocksPerSide];
+
+        int startX = chunk.getWorldStartX();
+        int startY = chunk.getWorldStartY();
+        for (int by = 0; by < floor.blocksPerSide; by++) {
+            for (int bx = 0; bx < floor.blocksPerSide; bx++) {
+                int x0 = bx * BLOCK_SIZE;
+                int y0 = by * BLOCK_SIZE;
+                int x1 = Math.min(size, x0 + BLOCK_SIZE);
+                int y1 = Math.min(size, y0 + BLOCK_SIZE);
+
+                cache.beginCache();
+                for (int y = y0; y < y1; y++) {
+                    for (int x = x0; x < x1; x++) {
+                        cache.add(region, (startX + x) * unitScale, (startY + y) * unitScale, unitScale, unitScale);
+                    }
+                }
+                floor.blockIds[by * floor.blocksPerSide + bx] = cache.endCache();
+            }
+        }
+        return floor;
+    }
+
+    private void release(SpriteCache cache) {
+        if (cachePool.size() < MAX_POOLED_CACHES) {
+            cache.clear();
+            cachePool.push(cache);
+        } else {
+            cache.dispose();
+        }
+    }
+}
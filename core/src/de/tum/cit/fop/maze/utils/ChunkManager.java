@@ -5,6 +5,12 @@
 import de.tum.cit.fop.maze.model.WallEntity;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Chunk Loading Manager
@@ -15,6 +21,11 @@
  * - Dynamically load surrounding chunks based on player position
  * - Unload chunks far from player to save memory
  * - LRU cache for generated chunks
+ * - Background generation on a worker pool; finished chunks are handed back
+ * to the render thread through a lock-free queue
+ * - Prefetching of the next chunk ring in the player's movement direction
+ * - Seeded generation plus a {@link ChunkDeltaLog} of player changes, so a
+ * chunk evicted from the cache (or restored from a save) is rebuilt exactly
  * 
  * Follows Single Responsibility Principle: handles only chunk loading/unloading
  * logic.
@@ -33,12 +44,30 @@ public class ChunkManager {
     /** Map generator */
     private final EndlessMapGenerator mapGenerator;
 
+    /** Player changes applied to every generated chunk */
+    private final ChunkDeltaLog deltaLog;
+
     /** Maximum number of cached chunks */
     private static final int MAX_CACHED_CHUNKS = 100;
 
     /** Listener: callback for chunk load/unload events */
     private ChunkListener listener;
 
+    /** Worker pool generating chunks off the render thread */
+    private final ExecutorService generatorPool;
+
+    /** Chunks finished by workers, drained on the render thread */
+    private final Queue<MapChunk> completedChunks;
+
+    /** IDs of chunks whose generation threw on a worker, drained on the render thread */
+    private final Queue<String> failedChunkIds;
+
+    /** IDs of chunks submitted to the pool but not yet drained (render thread only) */
+    private final Set<String> pendingChunkIds;
+
+    /** Last chunk resolved by {@link #isBlockedWorld(int, int)} (collision hot path) */
+    private MapChunk lastCollisionChunk;
+
     /**
      * Chunk event listener interface
      */
@@ -51,10 +80,34 @@ public interface ChunkListener {
     }
 
     public ChunkManager() {
+        this(System.currentTimeMillis(), new ChunkDeltaLog());
+    }
+
+    /**
+     * @param seed     World seed
+     * @param deltaLog Changes to apply to generated chunks (e.g. from a save)
+     */
+    public ChunkManager(long seed, ChunkDeltaLog deltaLog) {
         this.chunkSize = EndlessModeConfig.CHUNK_SIZE;
         this.allChunks = new LinkedHashMap<>(16, 0.75f, true); // LRU ordering
         this.loadedChunkIds = new HashSet<>();
-        this.mapGenerator = new EndlessMapGenerator();
+        this.mapGenerator = new EndlessMapGenerator(seed);
+        this.deltaLog = deltaLog;
+        this.completedChunks = new ConcurrentLinkedQueue<>();
+        this.failedChunkIds = new ConcurrentLinkedQueue<>();
+        this.pendingChunkIds = new HashSet<>();
+        this.generatorPool = Executors.newFixedThreadPool(EndlessModeConfig.CHUNK_WORKER_THREADS,
+                new ThreadFactory() {
+                    private final AtomicInteger counter = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "ChunkGen-" + counter.incrementAndGet());
+                        t.setDaemon(true);
+                        t.setPriority(Thread.NORM_PRIORITY - 1);
+                        return t;
+                    }
+                });
     }
 
     /**
@@ -71,6 +124,27 @@ public void setListener(ChunkListener listener) {
      * @param playerY Player Y coordinate (grid units)
      */
     public void updateActiveChunks(float playerX, float playerY) {
+        updateActiveChunks(playerX, playerY, 0f, 0f);
+    }
+
+    /**
+     * Update active chunks based on player position and velocity.
+     * 
+     * Chunks adjacent to the player's chunk are guaranteed to be present after
+     * this call (generated synchronously if a worker has not delivered them
+     * yet). The outer ring of the active window is generated in the background
+     * and attached once ready. When the player is moving, the ring beyond the
+     * active window in the movement direction is prefetched into the cache.
+     * 
+     * @param playerX   Player X coordinate (grid units)
+     * @param playerY   Player Y coordinate (grid units)
+     * @param velocityX Player X velocity (grid units per second)
+     * @param velocityY Player Y velocity (grid units per second)
+     */
+    public void updateActiveChunks(float playerX, float playerY, float velocityX, float velocityY) {
+        // Attach chunks finished by the worker pool since the last frame
+        drainCompletedChunks();
+
         int centerChunkX = (int) (playerX / chunkSize);
         int centerChunkY = (int) (playerY / chunkSize);
 
@@ -94,7 +168,8 @@ public void updateActiveChunks(float playerX, float playerY) {
 
                 // If chunk is not loaded, load it
                 if (!loadedChunkIds.contains(chunkId)) {
-                    loadChunk(chunkX, chunkY);
+                    boolean critical = Math.abs(dx) <= 1 && Math.abs(dy) <= 1;
+                    loadChunk(chunkX, chunkY, critical);
                 }
             }
         }
@@ -111,21 +186,110 @@ public void updateActiveChunks(float playerX, float playerY) {
             unloadChunk(id);
         }
 
+        // Warm the cache with the ring the player is heading towards
+        prefetchNextRing(centerChunkX, centerChunkY, velocityX, velocityY);
+
         // Cleanup cache
         cleanupCache();
     }
 
+    /**
+     * Requests background generation of the chunk ring just outside the active
+     * window on the side(s) the player is moving towards.
+     */
+    private void prefetchNextRing(int centerChunkX, int centerChunkY, float velocityX, float velocityY) {
+        float minSpeed = EndlessModeConfig.CHUNK_PREFETCH_MIN_SPEED;
+        int dirX = Math.abs(velocityX) >= minSpeed ? (int) Math.signum(velocityX) : 0;
+        int dirY = Math.abs(velocityY) >= minSpeed ? (int) Math.signum(velocityY) : 0;
+        if (dirX == 0 && dirY == 0) {
+            return;
+        }
+
+        int ring = EndlessModeConfig.ACTIVE_CHUNK_RADIUS + 1;
+        for (int offset = -ring; offset <= ring; offset++) {
+            if (dirX != 0) {
+                requestChunk(centerChunkX + dirX * ring, centerChunkY + offset);
+            }
+            if (dirY != 0) {
+                requestChunk(centerChunkX + offset, centerChunkY + dirY * ring);
+            }
+        }
+    }
+
+    /**
+     * Submits a chunk to the worker pool unless it is already cached or pending.
+     */
+    private void requestChunk(int chunkX, int chunkY) {
+        if (!isValidChunkPosition(chunkX, chunkY)) {
+            return;
+        }
+        String chunkId = getChunkId(chunkX, chunkY);
+        if (allChunks.containsKey(chunkId) || pendingChunkIds.contains(chunkId)) {
+            return;
+        }
+
+        try {
+            generatorPool.execute(() -> {
+                try {
+                    completedChunks.add(mapGenerator.generateChunk(chunkX, chunkY));
+                } catch (RuntimeException e) {
+                    GameLogger.error("ChunkManager", "Background generation failed for chunk " + chunkId, e);
+                    // Let the render thread clear the pending mark so the chunk can be requested again
+                    failedChunkIds.add(chunkId);
+                }
+            });
+            pendingChunkIds.add(chunkId);
+        } catch (RejectedExecutionException e) {
+            // Pool already shut down (screen disposed)
+        }
+    }
+
+    /**
+     * Moves chunks finished by the worker pool into the cache and loads those
+     * that are part of the active window. Chunks that failed to generate are
+     * no longer pending, so a later update requests them again.
+     */
+    private void drainCompletedChunks() {
+        String failedId;
+        while ((failedId = failedChunkIds.poll()) != null) {
+            pendingChunkIds.remove(failedId);
+        }
+
+        MapChunk chunk;
+        while ((chunk = completedChunks.poll()) != null) {
+            String chunkId = chunk.getId();
+            pendingChunkIds.remove(chunkId);
+
+            // A synchronous fallback may already have produced an identical chunk
+            if (allChunks.containsKey(chunkId)) {
+                continue;
+            }
+            deltaLog.apply(chunk);
+            allChunks.put(chunkId, chunk);
+        }
+    }
+
     /**
      * Load specified chunk
+     * 
+     * @param critical if true the chunk is generated on the calling thread when
+     *                 it is not cached yet; otherwise it is requested from the
+     *                 worker pool and attached on a later frame
      */
-    private void loadChunk(int chunkX, int chunkY) {
+    private void loadChunk(int chunkX, int chunkY, boolean critical) {
         String chunkId = getChunkId(chunkX, chunkY);
 
         MapChunk chunk = allChunks.get(chunkId);
 
         if (chunk == null) {
-            // Chunk not generated, generate it
+            if (!critical) {
+                requestChunk(chunkX, chunkY);
+                return;
+            }
+            // Chunk not generated, generate it (seed-deterministic, so a pending
+            // worker result for the same chunk is simply discarded later)
             chunk = mapGenerator.generateChunk(chunkX, chunkY);
+            deltaLog.apply(chunk);
             allChunks.put(chunkId, chunk);
         }
 
@@ -175,6 +339,9 @@ private void cleanupCache() {
 
             // Do not remove currently loaded chunks
             if (!chunk.isLoaded()) {
+                if (chunk == lastCollisionChunk) {
+                    lastCollisionChunk = null;
+                }
                 chunk.clear();
                 iterator.remove();
                 toRemove--;
@@ -221,6 +388,34 @@ public MapChunk getChunkAtWorld(float worldX, float worldY) {
         return getChunk(chunkX, chunkY);
     }
 
+    /**
+     * Checks if a world tile is blocked by a wall, using the chunk occupancy
+     * bitsets. Consecutive queries usually hit the same chunk, so the last
+     * resolved chunk is cached to skip the chunk map lookup.
+     * 
+     * @param x World X coordinate (grid units)
+     * @param y World Y coordinate (grid units)
+     * @return true if blocked or if the chunk is outside the map / not
+     *         generated
+     */
+    public boolean isBlockedWorld(int x, int y) {
+        if (x < 0 || y < 0) {
+            return true;
+        }
+        int chunkX = x / chunkSize;
+        int chunkY = y / chunkSize;
+
+        MapChunk chunk = lastCollisionChunk;
+        if (chunk == null || chunk.getChunkX() != chunkX || chunk.getChunkY() != chunkY) {
+            chunk = allChunks.get(getChunkId(chunkX, chunkY));
+            if (chunk == null) {
+                return true;
+            }
+            lastCollisionChunk = chunk;
+        }
+        return chunk.isBlocked(x - chunkX * chunkSize, y - chunkY * chunkSize);
+    }
+
     /**
      * Get walls from all currently loaded chunks
      */
@@ -235,6 +430,46 @@ public List<WallEntity> getLoadedWalls() {
         return walls;
     }
 
+    /**
+     * Record that the chest at a world tile was opened; it will not be
+     * generated again
+     */
+    public void recordChestOpened(int worldX, int worldY) {
+        recordChange(ChunkDeltaLog.Kind.CHEST_OPENED, worldX, worldY);
+    }
+
+    /**
+     * Record that the trap at a world tile was removed
+     */
+    public void recordTrapRemoved(int worldX, int worldY) {
+        recordChange(ChunkDeltaLog.Kind.TRAP_REMOVED, worldX, worldY);
+    }
+
+    private void recordChange(ChunkDeltaLog.Kind kind, int worldX, int worldY) {
+        if (!deltaLog.record(kind, worldX, worldY)) {
+            return;
+        }
+        // Keep the cached copy identical to what a rebuild would produce
+        MapChunk chunk = allChunks.get(getChunkId(worldX / chunkSize, worldY / chunkSize));
+        if (chunk != null) {
+            deltaLog.apply(chunk);
+        }
+    }
+
+    /**
+     * Get the change log (for saving)
+     */
+    public ChunkDeltaLog getDeltaLog() {
+        return deltaLog;
+    }
+
+    /**
+     * Get the world seed
+     */
+    public long getSeed() {
+        return mapGenerator.getSeed();
+    }
+
     /**
      * Get all currently loaded chunks
      */
@@ -270,6 +505,13 @@ public int getCachedChunkCount() {
         return allChunks.size();
     }
 
+    /**
+     * Get number of chunks queued for or running on the worker pool
+     */
+    public int getPendingChunkCount() {
+        return pendingChunkIds.size();
+    }
+
     /**
      * Get center chunk coordinate (for player spawn point)
      */
@@ -281,14 +523,31 @@ public int getCenterChunkCoord() {
      * Force regeneration of all chunks
      */
     public void regenerateAll() {
+        if (listener != null) {
+            for (String chunkId : loadedChunkIds) {
+                MapChunk chunk = allChunks.get(chunkId);
+                if (chunk != null) {
+                    listener.onChunkUnloaded(chunk);
+                }
+            }
+        }
+        lastCollisionChunk = null;
         allChunks.clear();
         loadedChunkIds.clear();
+        completedChunks.clear();
+        failedChunkIds.clear();
+        pendingChunkIds.clear();
     }
 
     /**
      * Dispose all resources
      */
     public void dispose() {
+        generatorPool.shutdownNow();
+        lastCollisionChunk = null;
+        completedChunks.clear();
+        failedChunkIds.clear();
+        pendingChunkIds.clear();
         for (MapChunk chunk : allChunks.values()) {
             chunk.clear();
         }
@@ -0,0 +1,189 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.fop.maze.config.EndlessModeConfig;
+import de.tum.cit.fop.maze.model.MapChunk;
+import de.tum.cit.fop.maze.model.WallDrawList;
+import de.tum.cit.fop.maze.model.WallEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the wall layer of Endless Mode chunks.
+ *
+ * When a chunk is loaded, the theme and texture region of each of its walls
+ * are resolved once into a {@link WallDrawList} stored on the chunk. Each
+ * frame only chunks and wall sprites that overlap the camera view are drawn,
+ * without theme lookups, string keys or region allocations.
+ *
+ * Must be used on the render thread; forward the
+ * {@link ChunkManager.ChunkListener} events to it.
+ */
+public class ChunkWallRenderer implements ChunkManager.ChunkListener {
+
+    /** Height (in texels) of the top part of split grassland walls */
+    private static final int GRASSLAND_TOP_HEIGHT = 16;
+
+    /**
+     * Resolves the texture region of a wall
+     */
+    public interface WallRegionProvider {
+        TextureRegion getWallRegion(String theme, WallEntity wall);
+    }
+
+    private final float unitScale;
+    private final WallRegionProvider regionProvider;
+    private final List<MapChunk> chunks = new ArrayList<>();
+
+    /** Body/top halves of split grassland regions, shared by all walls using them */
+    private final Map<TextureRegion, TextureRegion[]> splitRegions = new HashMap<>();
+
+    /** Number of wall sprites drawn by the last {@link #render} call */
+    private int lastSpriteDraws;
+
+    /**
+     * @param unitScale      World pixels per tile
+     * @param regionProvider Wall texture lookup
+     */
+    public ChunkWallRenderer(float unitScale, WallRegionProvider regionProvider) {
+        this.unitScale = unitScale;
+        this.regionProvider = regionProvider;
+    }
+
+    @Override
+    public void onChunkLoaded(MapChunk chunk) {
+        if (!chunks.contains(chunk)) {
+            chunks.add(chunk);
+        }
+        if (chunk.getWallDrawList() == null) {
+            chunk.setWallDrawList(compile(chunk));
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded(MapChunk chunk) {
+        chunks.remove(chunk);
+        chunk.setWallDrawList(null);
+    }
+
+    /**
+     * Draw the walls of all visible chunks inside the running batch.
+     *
+     * @param batch  Active batch using the camera projection
+     * @param camera Game camera (unrotated)
+     */
+    public void render(Batch batch, OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        float viewLeft = camera.position.x - halfWidth;
+        float viewRight = camera.position.x + halfWidth;
+        float viewBottom = camera.position.y - halfHeight;
+        float viewTop = camera.position.y + halfHeight;
+
+        lastSpriteDraws = 0;
+
+        for (int c = 0; c < chunks.size(); c++) {
+            MapChunk chunk = chunks.get(c);
+            WallDrawList list = chunk.getWallDrawList();
+            if (list == null) {
+                // Walls changed since the chunk was loaded
+                list = compile(chunk);
+                chunk.setWallDrawList(list);
+            }
+            if (!list.overlaps(viewLeft, viewBottom, viewRight, viewTop)) {
+                continue;
+            }
+
+            float[] rects = list.getRects();
+            for (int i = 0, r = 0; i < list.size(); i++, r += WallDrawList.RECT_SIZE) {
+                float x = rects[r];
+                float y = rects[r + 1];
+                float w = rects[r + 2];
+                float h = rects[r + 3];
+                if (x > viewRight || x + w < viewLeft || y > viewTop || y + h < viewBottom) {
+                    continue;
+                }
+                batch.draw(list.getRegion(i), x, y, w, h);
+                lastSpriteDraws++;
+            }
+        }
+    }
+
+    /**
+     * Get number of wall sprites drawn in the last frame
+     */
+    public int getLastSpriteDraws() {
+        return lastSpriteDraws;
+    }
+
+    /**
+     * Forget all chunks and cached regions
+     */
+    public void dispose() {
+        for (MapChunk chunk : chunks) {
+            chunk.setWallDrawList(null);
+        }
+        chunks.clear();
+        splitRegions.clear();
+    }
+
+    private WallDrawList compile(MapChunk chunk) {
+        List<WallEntity> walls = chunk.getWalls();
+        // At most two sprites per wall (grassland body + top)
+        TextureRegion[] regions = new TextureRegion[walls.size() * 2];
+        float[] rects = new float[walls.size() * 2 * WallDrawList.RECT_SIZE];
+        int count = 0;
+
+        for (WallEntity wall : walls) {
+            String theme = EndlessModeConfig.getThemeForPosition(wall.getOriginX(), wall.getOriginY());
+            TextureRegion region = regionProvider.getWallRegion(theme, wall);
+            if (region == null) {
+                continue;
+            }
+
+            float drawX = wall.getOriginX() * unitScale;
+            float drawY = wall.getOriginY() * unitScale;
+            float wallW = wall.getGridWidth() * unitScale;
+            float wallH = wall.getGridHeight() * unitScale;
+
+            if (EndlessModeConfig.THEME_GRASSLAND.equalsIgnoreCase(theme) && region.getRegionHeight() >= 32) {
+                // Split Rendering: Body, then Top above the wall (Visual correctness)
+                TextureRegion[] split = splitRegions.computeIfAbsent(region, ChunkWallRenderer::split);
+                count = add(regions, rects, count, split[0], drawX, drawY, wallW, wallH);
+                count = add(regions, rects, count, split[1], drawX, drawY + wallH, wallW, unitScale);
+            } else {
+                // Standard Rendering: keep the region's aspect ratio
+                float drawHeight = wallH;
+                if (region.getRegionWidth() > 0) {
+                    drawHeight = region.getRegionHeight() * (wallW / region.getRegionWidth());
+                }
+                count = add(regions, rects, count, region, drawX, drawY, wallW, drawHeight);
+            }
+        }
+        return new WallDrawList(regions, rects, count);
+    }
+
+    private static int add(TextureRegion[] regions, float[] rects, int index, TextureRegion region,
+            float x, float y, float width, float height) {
+        regions[index] = region;
+        int r = index * WallDrawList.RECT_SIZE;
+        rects[r] = x;
+        rects[r + 1] = y;
+        rects[r + 2] = width;
+        rects[r + 3] = height;
+        return index + 1;
+    }
+
+    private static TextureRegion[] split(TextureRegion region) {
+        int bodyH = region.getRegionHeight() - GRASSLAND_TOP_HEIGHT;
+        return new TextureRegion[] {
+                new TextureRegion(region, 0, GRASSLAND_TOP_HEIGHT, region.getRegionWidth(), bodyH),
+                new TextureRegion(region, 0, 0, region.getRegionWidth(), GRASSLAND_TOP_HEIGHT)
+        };
+    }
+}
@@ -25,7 +25,7 @@
  * - player: god, noclip, heal, give, set
  * - world: tp, spawn, kill, time
  * - level: level, restart, win, skip
- * - debug: status, vars, clear, fps
+ * - debug: status, vars, clear, fps, profile
  * - help: help, ?
  */
 public class DeveloperConsole {
@@ -233,6 +233,9 @@ public void executeCommand(String input) {
                 case "fps":
                     handleFps(parts);
                     break;
+                case "profile":
+                    handleProfile(parts);
+                    break;
 
                 // Legacy commands (backward compatibility)
                 case "speed":
@@ -352,6 +355,13 @@ private void handleHelp(String[] parts) {
                         "Params: accel, decel, bounce, turn, enemy.accel...",
                         new String[] { "physics set accel 60", "physics set bounce 0.5" });
                 break;
+            case "profile":
+                showHelpCommand("profile", "profile [on|off] | profile dump [csv|json]",
+                        "Toggle the frame profiler overlay or dump its history.",
+                        "Shows stage timings, batch flushes, texture binds, GC runs and allocations for the last "
+                                + FrameProfiler.HISTORY_SIZE + " frames. Dumps go to profiler/ in the local directory.",
+                        new String[] { "profile", "profile on", "profile dump csv", "profile dump json" });
+                break;
             case "status":
                 showHelpCommand("status", "status",
                         "Show current game status.",
@@ -445,6 +455,8 @@ private void showHelpDebug() {
         log("vars                  Show all console variables");
         log("clear / cls           Clear console output");
         log("fps [on|off]          Toggle FPS display");
+        log("profile [on|off]      Toggle frame profiler overlay");
+        log("profile dump [csv|json]  Write profiler history to file");
         log("");
         log("EXAMPLES:");
         log("  status              View player HP, position, etc.");
@@ -674,7 +686,7 @@ private void handleTeleport(String[] parts) {
             return;
         }
 
-        gameWorld.getPlayer().setPosition(x, y);
+        gameWorld.getPlayer().teleport(x, y);
         log("[OK] Teleported to (" + (int) x + ", " + (int) y + ")");
     }
 
@@ -727,6 +739,10 @@ private void handleSpawn(String[] parts) {
     }
 
     private void handleKill(String[] parts) {
+        if (gameWorld == null && endlessMode && endlessModeData != null) {
+            handleEndlessKill(parts);
+            return;
+        }
         if (gameWorld == null) {
             log("[ERROR] No active game world.");
             return;
@@ -751,6 +767,28 @@ private void handleKill(String[] parts) {
         }
     }
 
+    /**
+     * Kill command for Endless Mode (no GameWorld available)
+     */
+    private void handleEndlessKill(String[] parts) {
+        String target = parts.length > 1 ? parts[1].toLowerCase() : "all";
+
+        switch (target) {
+            case "all":
+                int count = endlessModeData.clearAllEnemies();
+                log("[OK] Cleared " + count + " enemies.");
+                break;
+            case "nearby":
+            case "near":
+                int nearCount = endlessModeData.killEnemiesNear(3.0f);
+                log("[OK] Killed " + nearCount + " nearby enemies.");
+                break;
+            default:
+                log("[ERROR] Unknown target: " + target);
+                log("  Targets: all, nearby");
+        }
+    }
+
     private void handleTime(String[] parts) {
         if (parts.length < 2) {
             log("[INFO] Current time scale: " + timeScale);
@@ -778,6 +816,8 @@ private void handlePhysics(String[] parts) {
             // Enemy
             log("  enemy.patrol: " + de.tum.cit.fop.maze.model.Enemy.getPatrolAcceleration());
             log("  enemy.chase: " + de.tum.cit.fop.maze.model.Enemy.getChaseAcceleration());
+            // Simulation loop
+            log("  substeps: " + GameSettings.getMaxSimulationSubsteps());
             log("");
             log("Usage: physics set <param> <value>");
             return;
@@ -819,6 +859,11 @@ private void handlePhysics(String[] parts) {
                     de.tum.cit.fop.maze.model.Enemy.setChaseAcceleration(val);
                     log("[OK] Enemy Chase Accel = " + val);
                     break;
+                // Simulation loop
+                case "substeps":
+                    GameSettings.setMaxSimulationSubsteps((int) val);
+                    log("[OK] Max Simulation Substeps = " + GameSettings.getMaxSimulationSubsteps());
+                    break;
                 default:
                     log("[ERROR] Unknown parameter: " + param);
             }
@@ -940,6 +985,38 @@ private void handleFps(String[] parts) {
         log("[OK] FPS display: " + (showFps ? "ON" : "OFF"));
     }
 
+    private void handleProfile(String[] parts) {
+        if (parts.length > 1 && parts[1].equalsIgnoreCase("dump")) {
+            if (FrameProfiler.getFrameCount() == 0) {
+                log("[ERROR] No frames recorded. Use 'profile on' first.");
+                return;
+            }
+            String format = parts.length > 2 ? parts[2].toLowerCase() : "csv";
+            if (!format.equals("csv") && !format.equals("json")) {
+                log("[ERROR] Usage: profile dump [csv|json]");
+                return;
+            }
+            try {
+                log("[OK] Wrote " + FrameProfiler.getFrameCount() + " frames to "
+                        + FrameProfiler.dump(format).path());
+            } catch (com.badlogic.gdx.utils.GdxRuntimeException e) {
+                GameLogger.error("DeveloperConsole", "Profiler dump failed", e);
+                log("[ERROR] Could not write profile: " + e.getMessage());
+            }
+            return;
+        }
+
+        boolean enable;
+        if (parts.length > 1) {
+            enable = parts[1].equalsIgnoreCase("on") || parts[1].equals("1") || parts[1].equalsIgnoreCase("true");
+        } else {
+            enable = !FrameProfiler.isEnabled();
+        }
+        FrameProfiler.setEnabled(enable);
+        variables.put("profiler", enable);
+        log("[OK] Frame profiler: " + (enable ? "ON" : "OFF"));
+    }
+
     // ==================== Legacy Commands ====================
 
     private void handleSpeed(String[] parts) {
@@ -1090,6 +1167,8 @@ public interface EndlessModeData {
 
         int clearAllEnemies();
 
+        int killEnemiesNear(float radius);
+
         int getEnemyCount();
 
         // === NEW: Teleport ===
@@ -1,97 +1,41 @@
 package de.tum.cit.fop.maze.utils;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * Dust/Footprint Particle System - Dust Particle System
  * Generates ground dust effects when the player moves, color changes based on
- * terrain
+ * terrain. Particles are simulated and drawn by a {@link ParticleEngine}.
  */
 public class DustParticleSystem {
 
-    /**
-     * Single dust particle
-     */
-    private static class DustParticle {
-        float x, y; // Position
-        float vx, vy; // Velocity
-        float life; // Remaining life
-        float maxLife; // Max life
-        float size; // Size
-        Color color; // Color
-
-        /**
-         * @param spawnX     Spawn position X
-         * @param spawnY     Spawn position Y
-         * @param themeColor Terrain color
-         */
-        DustParticle(float spawnX, float spawnY, Color themeColor) {
-            this.x = spawnX;
-            this.y = spawnY;
-
-            // Random velocity direction - upward burst or random spread
-            float angle = MathUtils.random(0f, 360f) * MathUtils.degreesToRadians;
-            float speed = MathUtils.random(5f, 15f); // Slower speed
-            this.vx = MathUtils.cos(angle) * speed;
-            this.vy = MathUtils.sin(angle) * speed + 5f; // Slight upward trend
-
-            // Short lifespan (shortened)
-            this.maxLife = MathUtils.random(0.5f, 1.0f);
-            this.life = maxLife;
-
-            // Small size (a bit smaller)
-            this.size = MathUtils.random(0.5f, 1.5f);
-
-            // Color (based on terrain color, with random variants, and darkened)
-            float darkenFactor = 0.6f; // Darkening factor
-            float r = MathUtils.clamp((themeColor.r + MathUtils.random(-0.05f, 0.05f)) * darkenFactor, 0f, 1f);
-            float g = MathUtils.clamp((themeColor.g + MathUtils.random(-0.05f, 0.05f)) * darkenFactor, 0f, 1f);
-            float b = MathUtils.clamp((themeColor.b + MathUtils.random(-0.05f, 0.05f)) * darkenFactor, 0f, 1f);
-            this.color = new Color(r, g, b, 1.0f); // Opaque
-        }
-
-        boolean update(float delta) {
-            x += vx * delta;
-            y += vy * delta;
-
-            // Fast deceleration
-            vx *= 0.9f;
-            vy *= 0.9f;
-
-            life -= delta;
-
-            // Keep opaque, disappear directly
-            // float lifeRatio = life / maxLife;
-            // color.a = lifeRatio * 0.6f;
-
-            return life > 0;
-        }
-    }
-
-    private final Array<DustParticle> particles = new Array<>();
-    private final ShapeRenderer shapeRenderer;
-
-    private static final int MAX_PARTICLES = 100;
+    private static final int MAX_PARTICLES = 500;
     private static final float UNIT_SCALE = 16f;
+    private static final float DARKEN_FACTOR = 0.6f; // Dust is darker than the terrain
 
-    public DustParticleSystem() {
-        this.shapeRenderer = new ShapeRenderer();
+    private final ParticleEngine engine;
+    private final TextureRegion pixel;
+
+    /**
+     * @param pixel Solid white region the particles are drawn with
+     */
+    public DustParticleSystem(TextureRegion pixel) {
+        this.pixel = pixel;
+        // Fast deceleration, keep opaque and disappear directly
+        this.engine = new ParticleEngine(MAX_PARTICLES).setDrag(0.9f);
     }
 
     /**
      * Generate dust under player's feet
-     * 
+     *
      * @param x          Player X (tiles)
      * @param y          Player Y (tiles)
      * @param themeColor Terrain primary color
      */
     public void spawn(float x, float y, Color themeColor) {
-        if (particles.size >= MAX_PARTICLES)
-            return;
-
         // Convert to pixel coordinates (generate near feet)
         float pixelX = x * UNIT_SCALE + UNIT_SCALE / 2f;
         float pixelY = y * UNIT_SCALE + 2f; // Slightly above feet
@@ -100,41 +44,41 @@ public void spawn(float x, float y, Color themeColor) {
         for (int i = 0; i < count; i++) {
             float offsetX = MathUtils.random(-3f, 3f);
             float offsetY = MathUtils.random(-2f, 2f);
-            particles.add(new DustParticle(pixelX + offsetX, pixelY + offsetY, themeColor));
-        }
-    }
 
-    public void update(float delta) {
-        for (int i = particles.size - 1; i >= 0; i--) {
-            if (!particles.get(i).update(delta)) {
-                particles.removeIndex(i);
+            // Random velocity direction - slow random spread with slight upward trend
+            float angle = MathUtils.random(0f, 360f) * MathUtils.degreesToRadians;
+            float speed = MathUtils.random(5f, 15f);
+
+            // Color based on terrain color, with random variants, and darkened
+            float r = (themeColor.r + MathUtils.random(-0.05f, 0.05f)) * DARKEN_FACTOR;
+            float g = (themeColor.g + MathUtils.random(-0.05f, 0.05f)) * DARKEN_FACTOR;
+            float b = (themeColor.b + MathUtils.random(-0.05f, 0.05f)) * DARKEN_FACTOR;
+
+            if (!engine.emit(pixelX + offsetX, pixelY + offsetY, MathUtils.cos(angle) * speed,
+                    MathUtils.sin(angle) * speed + 5f, MathUtils.random(0.5f, 1.0f), MathUtils.random(0.5f, 1.5f),
+                    r, g, b, 1f, 0f)) {
+                break; // Full
             }
         }
     }
 
-    public void render(com.badlogic.gdx.math.Matrix4 projectionMatrix) {
-        if (particles.size == 0)
-            return;
-
-        shapeRenderer.setProjectionMatrix(projectionMatrix);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        // Enable blend mode to support transparency
-        // com.badlogic.gdx.Gdx.gl.glEnable(com.badlogic.gdx.graphics.GL20.GL_BLEND);
-        com.badlogic.gdx.Gdx.gl.glBlendFunc(com.badlogic.gdx.graphics.GL20.GL_SRC_ALPHA,
-                com.badlogic.gdx.graphics.GL20.GL_ONE_MINUS_SRC_ALPHA);
+    public void update(float delta) {
+        engine.update(delta);
+    }
 
-        for (DustParticle p : particles) {
-            shapeRenderer.setColor(p.color);
-            shapeRenderer.rect(p.x - p.size / 2, p.y - p.size / 2, p.size, p.size);
-        }
+    /**
+     * Render dust. Must be called between begin() and end() of a batch using
+     * the game camera.
+     */
+    public void render(Batch batch) {
+        engine.render(batch, pixel, 1f, 1f);
+    }
 
-        shapeRenderer.end();
-        com.badlogic.gdx.Gdx.gl.glDisable(com.badlogic.gdx.graphics.GL20.GL_BLEND);
+    public int getParticleCount() {
+        return engine.getCount();
     }
 
     public void dispose() {
-        shapeRenderer.dispose();
-        particles.clear();
+        engine.clear();
     }
 }
@@ -317,17 +317,8 @@ private void generateTraps(MapChunk chunk, Random rand) {
                 continue;
             }
 
-            // Check for wall collisions
-            boolean collision = false;
-            for (WallEntity wall : chunk.getWalls()) {
-                if (worldX >= wall.getOriginX() && worldX < wall.getOriginX() + wall.getGridWidth() &&
-                        worldY >= wall.getOriginY() && worldY < wall.getOriginY() + wall.getGridHeight()) {
-                    collision = true;
-                    break;
-                }
-            }
-
-            if (!collision) {
+            // Check for wall collisions (chunk occupancy bitset)
+            if (!chunk.isBlocked(localX, localY)) {
                 // Add trap with integer coordinates
                 chunk.addTrap(worldX, worldY);
                 occupiedCells.add(cellKey);
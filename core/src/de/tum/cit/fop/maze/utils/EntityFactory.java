@@ -40,7 +40,7 @@ public class EntityFactory {
 
         // Register treasure chests (Treasure Chest - Simple touch-to-open)
         register(GameConfig.OBJECT_ID_CHEST, (x, y) -> {
-            java.util.Random random = new java.util.Random();
+            java.util.Random random = new java.util.Random(com.badlogic.gdx.math.MathUtils.random.nextLong());
             TreasureChest chest = TreasureChest.createRandom(x, y, random);
             chest.setReward(ChestRewardGenerator.generateLevelModeReward(random));
             return chest;
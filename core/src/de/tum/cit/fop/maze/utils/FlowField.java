@@ -0,0 +1,211 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.math.GridPoint2;
+
+/**
+ * Flow Field
+ *
+ * Shared chase pathfinding for many enemies. A breadth-first (uniform cost
+ * Dijkstra) expansion from the target tile assigns every reachable cell its
+ * step distance to the target. Each enemy then picks the neighbouring cell
+ * with the smallest distance, an O(1) lookup, instead of running its own
+ * search.
+ *
+ * The field is only recomputed when the target changes tile, the window moves
+ * or {@link #invalidate()} is called. Expansion is limited to a rectangular
+ * window (e.g. the loaded chunks) and to {@code maxDistance} steps, and all
+ * buffers are reused, so a recompute touches only the cells it reaches and
+ * allocates nothing once the window size is stable.
+ */
+public class FlowField {
+
+    /** Distance value of cells that were not reached */
+    public static final int UNREACHABLE = -1;
+
+    // 8 neighbours, orthogonal first so ties prefer straight moves
+    private static final int[] DIR_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] DIR_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+    /**
+     * Tells the flow field which cells cannot be entered
+     */
+    @FunctionalInterface
+    public interface Passability {
+        boolean isBlocked(int x, int y);
+    }
+
+    private final int maxDistance;
+
+    // Window (world tile coordinates, inclusive)
+    private int minX, minY, maxX, maxY;
+    private int width, height;
+
+    // Per-cell data, valid only where stamp == generation
+    private int[] distance = new int[0];
+    private int[] stamp = new int[0];
+    private int[] queue = new int[0];
+    private int generation;
+
+    // Inputs of the last recompute
+    private int targetX = Integer.MIN_VALUE;
+    private int targetY = Integer.MIN_VALUE;
+    private boolean valid;
+    private int reachedCells;
+
+    /**
+     * @param maxDistance Maximum path length (in steps) to expand from the
+     *                    target
+     */
+    public FlowField(int maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Recompute the field if the target tile or the window changed.
+     *
+     * @param targetX     Target tile X (usually the player)
+     * @param targetY     Target tile Y
+     * @param windowMinX  Window left (inclusive)
+     * @param windowMinY  Window bottom (inclusive)
+     * @param windowMaxX  Window right (inclusive)
+     * @param windowMaxY  Window top (inclusive)
+     * @param passability Collision lookup
+     * @return true if the field was recomputed
+     */
+    public boolean update(int targetX, int targetY, int windowMinX, int windowMinY, int windowMaxX,
+            int windowMaxY, Passability passability) {
+        if (valid && targetX == this.targetX && targetY == this.targetY
+                && windowMinX == minX && windowMinY == minY && windowMaxX == maxX && windowMaxY == maxY) {
+            return false;
+        }
+
+        setWindow(windowMinX, windowMinY, windowMaxX, windowMaxY);
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.valid = true;
+        compute(passability);
+        return true;
+    }
+
+    /**
+     * Force a recompute on the next {@link #update} (e.g. the walls changed)
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Get step distance from a cell to the target
+     *
+     * @return Distance in steps, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int x, int y) {
+        if (!valid || x < minX || x > maxX || y < minY || y > maxY)
+            return UNREACHABLE;
+        int index = (y - minY) * width + (x - minX);
+        return stamp[index] == generation ? distance[index] : UNREACHABLE;
+    }
+
+    /**
+     * Get the neighbouring cell an entity standing on (x, y) should move to.
+     * Diagonal steps are only taken when both adjacent orthogonal cells are
+     * reachable, so entities do not cut wall corners.
+     *
+     * @param out Receives the next cell
+     * @return false if (x, y) is unreachable or already the target
+     */
+    public boolean getNextCell(int x, int y, GridPoint2 out) {
+        int current = getDistance(x, y);
+        if (current <= 0)
+            return false;
+
+        int best = current;
+        int bestDir = -1;
+        for (int d = 0; d < DIR_X.length; d++) {
+            int nx = x + DIR_X[d];
+            int ny = y + DIR_Y[d];
+            int dist = getDistance(nx, ny);
+            if (dist == UNREACHABLE || dist >= best)
+                continue;
+            if (d >= 4 && (getDistance(nx, y) == UNREACHABLE || getDistance(x, ny) == UNREACHABLE))
+                continue;
+            best = dist;
+            bestDir = d;
+        }
+
+        if (bestDir < 0)
+            return false;
+        out.set(x + DIR_X[bestDir], y + DIR_Y[bestDir]);
+        return true;
+    }
+
+    /**
+     * Get number of cells reached by the last recompute
+     */
+    public int getReachedCells() {
+        return reachedCells;
+    }
+
+    private void setWindow(int windowMinX, int windowMinY, int windowMaxX, int windowMaxY) {
+        minX = windowMinX;
+        minY = windowMinY;
+        maxX = windowMaxX;
+        maxY = windowMaxY;
+        width = Math.max(0, maxX - minX + 1);
+        height = Math.max(0, maxY - minY + 1);
+
+        int cells = width * height;
+        if (cells > distance.length) {
+            distance = new int[cells];
+            stamp = new int[cells];
+            queue = new int[cells];
+            generation = 0;
+        }
+    }
+
+    private void compute(Passability passability) {
+        // A new generation invalidates all cells without clearing the arrays
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        reachedCells = 0;
+
+        if (targetX < minX || targetX > maxX || targetY < minY || targetY > maxY)
+            return;
+
+        int head = 0;
+        int tail = 0;
+        int start = (targetY - minY) * width + (targetX - minX);
+        stamp[start] = generation;
+        distance[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int index = queue[head++];
+            int dist = distance[index];
+            if (dist >= maxDistance)
+                continue;
+
+            int cx = index % width;
+            int cy = index / width;
+            // Orthogonal expansion only: distances are Manhattan path lengths
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height)
+                    continue;
+                int next = ny * width + nx;
+                if (stamp[next] == generation)
+                    continue;
+                if (passability.isBlocked(nx + minX, ny + minY))
+                    continue;
+                stamp[next] = generation;
+                distance[next] = dist + 1;
+                queue[tail++] = next;
+            }
+        }
+        reachedCells = tail;
+    }
+}
@@ -0,0 +1,382 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lightweight per-frame profiler.
+ *
+ * Code wraps frame stages in {@link #begin(Stage)} / {@link #end(Stage)}.
+ * A stage may run several times per frame (e.g. one world update per
+ * simulation tick); its times are summed. Once per frame the screen calls
+ * {@link #beginFrame()} and {@link #endFrame(SpriteBatch)}, which also
+ * sample batch flushes, GL draw calls and texture binds, GC runs and bytes
+ * allocated by the render thread. The last {@link #HISTORY_SIZE} frames are
+ * kept for the overlay and for CSV/JSON dumps.
+ *
+ * All calls return immediately while the profiler is disabled (the
+ * default), so the instrumentation can stay in the game loop.
+ */
+public final class FrameProfiler {
+
+    /** Instrumented frame stages */
+    public enum Stage {
+        WORLD_UPDATE("world", false),
+        ENEMIES("enemies", true),
+        PROJECTILES("projectiles", true),
+        CHESTS("chests", true),
+        DYNAMIC_OBJECTS("objects", true),
+        CHUNKS("chunks", true), // Endless mode, inside the world tick
+        MAP("map", false),
+        PARTICLES("particles", false),
+        FOG("fog", false),
+        HUD("hud", false);
+
+        /** Short name used in the overlay and in dumps */
+        public final String label;
+        /** True if the stage runs inside another stage (e.g. inside the world update) */
+        public final boolean nested;
+
+        Stage(String label, boolean nested) {
+            this.label = label;
+            this.nested = nested;
+        }
+    }
+
+    /** Number of frames kept */
+    public static final int HISTORY_SIZE = 240;
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final String DUMP_DIR = "profiler/";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static boolean enabled = false;
+
+    // Current frame
+    private static final long[] stageStart = new long[STAGES.length];
+    private static final long[] stageNanos = new long[STAGES.length];
+    private static long frameStart;
+    private static int lastTotalRenderCalls;
+    private static long lastGcCount;
+    private static long lastAllocatedBytes;
+
+    // History (ring buffer, index of the oldest frame = head when full)
+    private static final float[][] stageMillis = new float[STAGES.length][HISTORY_SIZE];
+    private static final float[] frameMillis = new float[HISTORY_SIZE];
+    private static final int[] batchFlushes = new int[HISTORY_SIZE];
+    private static final int[] drawCalls = new int[HISTORY_SIZE];
+    private static final int[] textureBinds = new int[HISTORY_SIZE];
+    private static final int[] gcRuns = new int[HISTORY_SIZE];
+    private static final long[] allocatedBytes = new long[HISTORY_SIZE];
+    private static int head;
+    private static int size;
+
+    private static GLProfiler glProfiler;
+
+    private FrameProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn profiling on or off. Enabling clears the history.
+     */
+    public static void setEnabled(boolean enable) {
+        if (enable == enabled)
+            return;
+        enabled = enable;
+
+        if (enable) {
+            clear();
+            lastTotalRenderCalls = -1; // Baseline taken at the first frame
+            lastGcCount = readGcCount();
+            lastAllocatedBytes = readAllocatedBytes();
+            if (glProfiler == null && Gdx.graphics != null && Gdx.gl != null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+        }
+        if (glProfiler != null) {
+            if (enable) {
+                glProfiler.enable();
+            } else {
+                glProfiler.disable();
+            }
+        }
+        GameLogger.info("FrameProfiler", "Profiling " + (enable ? "enabled" : "disabled"));
+    }
+
+    /**
+     * Drop all recorded frames
+     */
+    public static void clear() {
+        head = 0;
+        size = 0;
+        for (int i = 0; i < STAGES.length; i++) {
+            stageNanos[i] = 0;
+        }
+    }
+
+    public static void begin(Stage stage) {
+        if (!enabled)
+            return;
+        stageStart[stage.ordinal()] = System.nanoTime();
+    }
+
+    public static void end(Stage stage) {
+        if (!enabled)
+            return;
+        int i = stage.ordinal();
+        stageNanos[i] += System.nanoTime() - stageStart[i];
+    }
+
+    /**
+     * Start timing a frame. Call first thing in {@code render()}.
+     */
+    public static void beginFrame() {
+        if (!enabled)
+            return;
+        frameStart = System.nanoTime();
+        for (int i = 0; i < STAGES.length; i++) {
+            stageNanos[i] = 0;
+        }
+    }
+
+    /**
+     * Finish the frame and store its sample
+     *
+     * @param batch The screen's main batch (for flush counts), may be null
+     */
+    public static void endFrame(SpriteBatch batch) {
+        if (!enabled)
+            return;
+        long now = System.nanoTime();
+
+        int slot = (head + size) % HISTORY_SIZE;
+        if (size == HISTORY_SIZE) {
+            head = (head + 1) % HISTORY_SIZE;
+        } else {
+            size++;
+        }
+
+        frameMillis[slot] = (now - frameStart) / 1_000_000f;
+        for (int i = 0; i < STAGES.length; i++) {
+            stageMillis[i][slot] = stageNanos[i] / 1_000_000f;
+        }
+
+        if (batch != null) {
+            batchFlushes[slot] = lastTotalRenderCalls < 0 ? 0
+                    : Math.max(0, batch.totalRenderCalls - lastTotalRenderCalls);
+            lastTotalRenderCalls = batch.totalRenderCalls;
+        } else {
+            batchFlushes[slot] = 0;
+        }
+
+        if (glProfiler != null && glProfiler.isEnabled()) {
+            drawCalls[slot] = glProfiler.getDrawCalls();
+            textureBinds[slot] = glProfiler.getTextureBindings();
+            glProfiler.reset();
+        } else {
+            drawCalls[slot] = 0;
+            textureBinds[slot] = 0;
+        }
+
+        long gc = readGcCount();
+        gcRuns[slot] = (int) Math.max(0, gc - lastGcCount);
+        lastGcCount = gc;
+
+        long allocated = readAllocatedBytes();
+        allocatedBytes[slot] = Math.max(0, allocated - lastAllocatedBytes);
+        lastAllocatedBytes = allocated;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Number of recorded frames (at most {@link #HISTORY_SIZE})
+     */
+    public static int getFrameCount() {
+        return size;
+    }
+
+    private static int slot(int frame) {
+        if (frame < 0 || frame >= size)
+            throw new IndexOutOfBoundsException("Frame " + frame + " of " + size);
+        return (head + frame) % HISTORY_SIZE;
+    }
+
+    /**
+     * @param frame 0 = oldest recorded frame, {@code getFrameCount() - 1} = newest
+     */
+    public static float getFrameMillis(int frame) {
+        return frameMillis[slot(frame)];
+    }
+
+    public static float getStageMillis(Stage stage, int frame) {
+        return stageMillis[stage.ordinal()][slot(frame)];
+    }
+
+    public static int getBatchFlushes(int frame) {
+        return batchFlushes[slot(frame)];
+    }
+
+    public static int getDrawCalls(int frame) {
+        return drawCalls[slot(frame)];
+    }
+
+    public static int getTextureBinds(int frame) {
+        return textureBinds[slot(frame)];
+    }
+
+    public static int getGcRuns(int frame) {
+        return gcRuns[slot(frame)];
+    }
+
+    public static long getAllocatedBytes(int frame) {
+        return allocatedBytes[slot(frame)];
+    }
+
+    /**
+     * Mean frame time over the history, in milliseconds
+     */
+    public static float getAverageFrameMillis() {
+        if (size == 0)
+            return 0;
+        float sum = 0;
+        for (int f = 0; f < size; f++) {
+            sum += frameMillis[slot(f)];
+        }
+        return sum / size;
+    }
+
+    /**
+     * Mean stage time over the history, in milliseconds
+     */
+    public static float getAverageStageMillis(Stage stage) {
+        if (size == 0)
+            return 0;
+        float[] millis = stageMillis[stage.ordinal()];
+        float sum = 0;
+        for (int f = 0; f < size; f++) {
+            sum += millis[slot(f)];
+        }
+        return sum / size;
+    }
+
+    // ==================== Dumps ====================
+
+    /**
+     * History as CSV, one row per frame, oldest first
+     */
+    public static String toCsv() {
+        StringBuilder sb = new StringBuilder(64 + size * 96);
+        sb.append("frame,frame_ms");
+        for (Stage stage : STAGES) {
+            sb.append(',').append(stage.label).append("_ms");
+        }
+        sb.append(",batch_flushes,draw_calls,texture_binds,gc_runs,allocated_bytes\n");
+
+        for (int f = 0; f < size; f++) {
+            int s = slot(f);
+            sb.append(f).append(',').append(format(frameMillis[s]));
+            for (int i = 0; i < STAGES.length; i++) {
+                sb.append(',').append(format(stageMillis[i][s]));
+            }
+            sb.append(',').append(batchFlushes[s])
+                    .append(',').append(drawCalls[s])
+                    .append(',').append(textureBinds[s])
+                    .append(',').append(gcRuns[s])
+                    .append(',').append(allocatedBytes[s])
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * History as JSON: per-stage averages plus one object per frame
+     */
+    public static String toJson() {
+        StringBuilder sb = new StringBuilder(128 + size * 192);
+        sb.append("{\n  \"frames\": ").append(size);
+        sb.append(",\n  \"averageFrameMs\": ").append(format(getAverageFrameMillis()));
+        sb.append(",\n  \"averageStageMs\": {");
+        for (int i = 0; i < STAGES.length; i++) {
+            sb.append(i == 0 ? "" : ", ").append('"').append(STAGES[i].label).append("\": ")
+                    .append(format(getAverageStageMillis(STAGES[i])));
+        }
+        sb.append("},\n  \"history\": [");
+        for (int f = 0; f < size; f++) {
+            int s = slot(f);
+            sb.append(f == 0 ? "\n" : ",\n").append("    {\"frameMs\": ").append(format(frameMillis[s]));
+            for (int i = 0; i < STAGES.length; i++) {
+                sb.append(", \"").append(STAGES[i].label).append("\": ").append(format(stageMillis[i][s]));
+            }
+            sb.append(", \"batchFlushes\": ").append(batchFlushes[s])
+                    .append(", \"drawCalls\": ").append(drawCalls[s])
+                    .append(", \"textureBinds\": ").append(textureBinds[s])
+                    .append(", \"gcRuns\": ").append(gcRuns[s])
+                    .append(", \"allocatedBytes\": ").append(allocatedBytes[s])
+                    .append('}');
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Write the history to a local file
+     *
+     * @param format "csv" or "json"
+     * @return The written file
+     */
+    public static FileHandle dump(String format) {
+        boolean json = "json".equalsIgnoreCase(format);
+        if (!json && !"csv".equalsIgnoreCase(format))
+            throw new IllegalArgumentException("Unknown dump format: " + format);
+
+        String name = DUMP_DIR + "frame-profile-" + LocalDateTime.now().format(FILE_TIME) + (json ? ".json" : ".csv");
+        FileHandle file = Gdx.files.local(name);
+        file.writeString(json ? toJson() : toCsv(), false, "UTF-8");
+        GameLogger.info("FrameProfiler", "Wrote " + size + " frames to " + file.path());
+        return file;
+    }
+
+    private static String format(float value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    // ==================== JVM counters ====================
+
+    private static long readGcCount() {
+        long count = 0;
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        for (int i = 0, n = beans.size(); i < n; i++) {
+            long c = beans.get(i).getCollectionCount();
+            if (c > 0) {
+                count += c;
+            }
+        }
+        return count;
+    }
+
+    private static long readAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return 0;
+    }
+}
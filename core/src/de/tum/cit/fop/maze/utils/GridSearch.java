@@ -0,0 +1,160 @@
+package de.tum.cit.fop.maze.utils;
+
+import java.util.Arrays;
+
+/**
+ * Grid Search
+ *
+ * Reusable 4-connected breadth-first search over a tile grid. Cells are
+ * addressed by a flat row-major index; the queue, the visited stamps and the
+ * distances are plain int arrays that are kept between searches, so repeated
+ * searches on the same grid size allocate nothing and never box coordinates.
+ *
+ * A search result (reached cells and step distances) stays readable until
+ * the next search. Not thread-safe; use one instance per thread.
+ */
+public class GridSearch {
+
+    /** Distance value of cells that were not reached */
+    public static final int UNREACHABLE = -1;
+
+    private static final int[] DIR_X = { 0, 0, 1, -1 };
+    private static final int[] DIR_Y = { 1, -1, 0, 0 };
+
+    /**
+     * Tells the search which cells can be entered
+     */
+    @FunctionalInterface
+    public interface Walkable {
+        boolean isWalkable(int x, int y);
+    }
+
+    private int width;
+    private int height;
+
+    // Per-cell data, valid only where stamp == generation
+    private int[] stamp = new int[0];
+    private int[] distance = new int[0];
+    private int[] queue = new int[0];
+    private int generation;
+    private int reachedCells;
+
+    /**
+     * Expand from the start cell until every reachable cell was visited.
+     * The start cell itself is always reached, even if it is not walkable.
+     *
+     * @return Number of reached cells (0 if the start is outside the grid)
+     */
+    public int floodFill(int width, int height, int startX, int startY, Walkable walkable) {
+        search(width, height, startX, startY, -1, -1, walkable);
+        return reachedCells;
+    }
+
+    /**
+     * Search a shortest path length from start to target. Expansion stops as
+     * soon as the target is reached.
+     *
+     * @return Steps from start to target, or {@link #UNREACHABLE}
+     */
+    public int search(int width, int height, int startX, int startY, int targetX, int targetY,
+            Walkable walkable) {
+        prepare(width, height);
+        reachedCells = 0;
+
+        if (!inBounds(startX, startY))
+            return UNREACHABLE;
+
+        int target = inBounds(targetX, targetY) ? targetY * width + targetX : -1;
+        int head = 0;
+        int tail = 0;
+        int start = startY * width + startX;
+        stamp[start] = generation;
+        distance[start] = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int index = queue[head++];
+            if (index == target) {
+                reachedCells = tail;
+                return distance[index];
+            }
+
+            int cx = index % width;
+            int cy = index / width;
+            int nextDistance = distance[index] + 1;
+            for (int d = 0; d < DIR_X.length; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height)
+                    continue;
+                int next = ny * width + nx;
+                if (stamp[next] == generation || !walkable.isWalkable(nx, ny))
+                    continue;
+                stamp[next] = generation;
+                distance[next] = nextDistance;
+                queue[tail++] = next;
+            }
+        }
+
+        reachedCells = tail;
+        return UNREACHABLE;
+    }
+
+    /**
+     * Check whether the target can be reached from the start
+     */
+    public boolean isConnected(int width, int height, int startX, int startY, int targetX, int targetY,
+            Walkable walkable) {
+        return search(width, height, startX, startY, targetX, targetY, walkable) != UNREACHABLE;
+    }
+
+    /**
+     * Check whether the last search reached a cell
+     */
+    public boolean isReached(int x, int y) {
+        return inBounds(x, y) && stamp[y * width + x] == generation;
+    }
+
+    /**
+     * Get step distance of a cell found by the last search
+     *
+     * @return Distance in steps, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int x, int y) {
+        if (!inBounds(x, y))
+            return UNREACHABLE;
+        int index = y * width + x;
+        return stamp[index] == generation ? distance[index] : UNREACHABLE;
+    }
+
+    /**
+     * Get number of cells reached by the last search
+     */
+    public int getReachedCells() {
+        return reachedCells;
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private void prepare(int width, int height) {
+        this.width = Math.max(0, width);
+        this.height = Math.max(0, height);
+
+        int cells = this.width * this.height;
+        if (cells > stamp.length) {
+            stamp = new int[cells];
+            distance = new int[cells];
+            queue = new int[cells];
+            generation = 0;
+        }
+
+        // A new generation invalidates all cells without clearing the arrays
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+}
@@ -4,6 +4,7 @@
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Disposable;
 import de.tum.cit.fop.maze.model.GameMap;
@@ -100,6 +101,23 @@ public void renderGrout(SpriteBatch batch, GameMap gameMap, int x, int y, float
         }
     }
 
+    /**
+     * Adds the grout lines of a tile to a {@link SpriteCache} that is between
+     * beginCache/endCache. Produces the same sprites as
+     * {@link #renderGrout}.
+     */
+    public void cacheGrout(SpriteCache cache, GameMap gameMap, int x, int y, float unitScale, Color baseColor) {
+        cache.setColor(baseColor);
+        if (x < gameMap.getWidth() - 1) {
+            cache.add(verticalGroutTexture, (x + 1) * unitScale - (GROUT_WIDTH_A / 2), y * unitScale,
+                    GROUT_WIDTH_A, unitScale);
+        }
+        if (y < gameMap.getHeight() - 1) {
+            cache.add(horizontalGroutTexture, x * unitScale, (y + 1) * unitScale - (GROUT_WIDTH_A / 2),
+                    unitScale, GROUT_WIDTH_A);
+        }
+    }
+
     private void renderVerticalLine(SpriteBatch batch, int x, int y, float unitScale, float width, Color color,
             boolean use3D) {
         float centerX = (x + 1) * unitScale - (width / 2);
@@ -0,0 +1,179 @@
+package de.tum.cit.fop.maze.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Properties;
+
+/**
+ * Compact binary level format ({@value #EXTENSION}), converted from the
+ * {@code .properties} maps at build time.
+ *
+ * Layout (big endian):
+ * <pre>
+ * magic "MZLV", u16 version
+ * u16 metadata count, then (UTF key, UTF value) pairs   - theme, damageType, ...
+ * i32 entity count, then count x (i16 typeId, i16 x, i16 y)
+ * </pre>
+ * The entity table keeps the order in which the properties loader visits the
+ * cells, so both paths build identical maps (including entities that draw
+ * from a random generator). It is read with one bulk copy instead of a
+ * string split and parse per cell.
+ */
+public final class LevelBinaryFormat {
+
+    public static final String EXTENSION = ".lvl";
+    public static final String SOURCE_EXTENSION = ".properties";
+
+    static final byte[] MAGIC = { 'M', 'Z', 'L', 'V' };
+    static final int VERSION = 1;
+
+    /** Shorts per entity record: typeId, x, y */
+    public static final int ENTITY_RECORD_SIZE = 3;
+
+    /**
+     * Parsed level: metadata plus entity table
+     */
+    public static class LevelData {
+        /** Non-coordinate keys (theme, damageType, playableWidth, ...) */
+        public final Properties metadata;
+        /** {@link #ENTITY_RECORD_SIZE} values per entity: typeId, x, y */
+        public final short[] entities;
+
+        public LevelData(Properties metadata, short[] entities) {
+            this.metadata = metadata;
+            this.entities = entities;
+        }
+
+        public int getEntityCount() {
+            return entities.length / ENTITY_RECORD_SIZE;
+        }
+    }
+
+    private LevelBinaryFormat() {
+    }
+
+    /**
+     * Path of the binary level next to a {@code .properties} map
+     */
+    public static String binaryPathFor(String propertiesPath) {
+        if (propertiesPath.endsWith(SOURCE_EXTENSION)) {
+            return propertiesPath.substring(0, propertiesPath.length() - SOURCE_EXTENSION.length()) + EXTENSION;
+        }
+        return propertiesPath + EXTENSION;
+    }
+
+    /**
+     * Split a loaded {@code .properties} map into metadata and entity table.
+     * Cells with a malformed key or value are logged and skipped.
+     */
+    public static LevelData fromProperties(Properties props) {
+        Properties metadata = new Properties();
+        short[] entities = new short[props.size() * ENTITY_RECORD_SIZE];
+        int count = 0;
+
+        for (String key : props.stringPropertyNames()) {
+            String value = props.getProperty(key);
+
+            // Lines that are not in coordinate format (no comma) are metadata
+            if (!key.contains(",")) {
+                metadata.setProperty(key, value);
+                continue;
+            }
+
+            try {
+                String[] coords = key.split(",");
+                int x = Integer.parseInt(coords[0].trim());
+                int y = Integer.parseInt(coords[1].trim());
+                int typeId = Integer.parseInt(value.trim());
+
+                short[] record = { toShort(typeId, key), toShort(x, key), toShort(y, key) };
+                System.arraycopy(record, 0, entities, count, ENTITY_RECORD_SIZE);
+                count += ENTITY_RECORD_SIZE;
+            } catch (NumberFormatException e) {
+                GameLogger.error("MapLoader", "Invalid format in map file at line: " + key);
+            }
+        }
+
+        short[] trimmed = new short[count];
+        System.arraycopy(entities, 0, trimmed, 0, count);
+        return new LevelData(metadata, trimmed);
+    }
+
+    private static short toShort(int value, String key) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new NumberFormatException("Out of range in " + key);
+        }
+        return (short) value;
+    }
+
+    public static byte[] write(LevelData level) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + level.entities.length * 2);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.write(MAGIC);
+        out.writeShort(VERSION);
+
+        out.writeShort(level.metadata.size());
+        for (String key : level.metadata.stringPropertyNames()) {
+            out.writeUTF(key);
+            out.writeUTF(level.metadata.getProperty(key));
+        }
+
+        out.writeInt(level.getEntityCount());
+        ByteBuffer table = ByteBuffer.allocate(level.entities.length * 2);
+        table.asShortBuffer().put(level.entities);
+        out.write(table.array());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public static LevelData read(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        for (byte b : MAGIC) {
+            if (in.readByte() != b)
+                throw new IOException("Not a binary level");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION)
+            throw new IOException("Unsupported level format version " + version);
+
+        Properties metadata = new Properties();
+        int metadataCount = in.readUnsignedShort();
+        for (int i = 0; i < metadataCount; i++) {
+            String key = in.readUTF();
+            metadata.setProperty(key, in.readUTF());
+        }
+
+        int entityCount = in.readInt();
+        int tableOffset = data.length - in.available();
+        int tableBytes = entityCount * ENTITY_RECORD_SIZE * 2;
+        if (entityCount < 0 || tableBytes > in.available())
+            throw new IOException("Truncated entity table");
+
+        short[] entities = new short[entityCount * ENTITY_RECORD_SIZE];
+        ByteBuffer.wrap(data, tableOffset, tableBytes).asShortBuffer().get(entities);
+        return new LevelData(metadata, entities);
+    }
+
+    /**
+     * Convert one {@code .properties} map to a binary level
+     *
+     * @return Number of entities written
+     */
+    public static int convert(File source, File target) throws IOException {
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(source)) {
+            props.load(in);
+        }
+        LevelData level = fromProperties(props);
+        AtomicFiles.write(target, write(level));
+        return level.getEntityCount();
+    }
+}
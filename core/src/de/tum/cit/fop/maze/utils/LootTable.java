@@ -1,5 +1,6 @@
 package de.tum.cit.fop.maze.utils;
 
+import com.badlogic.gdx.math.MathUtils;
 import de.tum.cit.fop.maze.model.DamageType;
 import de.tum.cit.fop.maze.model.items.*;
 import de.tum.cit.fop.maze.model.weapons.*;
@@ -14,7 +15,7 @@
  */
 public class LootTable {
 
-    private static final Random random = new Random();
+    private static final Random random = MathUtils.random; // Shared, so seeding MathUtils covers loot
 
     // === Base drop probabilities ===
     public static final float COIN_DROP_CHANCE = 0.70f; // 70% Coin drop
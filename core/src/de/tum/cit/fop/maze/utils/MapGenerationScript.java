@@ -5,35 +5,41 @@
 
 public class MapGenerationScript {
 
+    /** Level themes in campaign order, four levels each */
+    public static final String[] THEMES = { "Grassland", "Desert", "Ice", "Jungle", "Space" };
+    private static final DamageType[] DAMAGE_TYPES = { DamageType.PHYSICAL, DamageType.PHYSICAL,
+            DamageType.MAGICAL, DamageType.PHYSICAL, DamageType.MAGICAL };
+    private static final boolean[] SHIELDS = { false, true, false, true, true };
+
+    /** Map sizes of the four levels of a theme */
+    public static final int[] SIZES = { 50, 100, 150, 200 };
+
+    /**
+     * Configuration of the level with the given theme and size index
+     */
+    public static MapGenerator.MapConfig createConfig(int themeIndex, int sizeIndex) {
+        MapGenerator.MapConfig config = new MapGenerator.MapConfig();
+        config.width = SIZES[sizeIndex];
+        config.height = SIZES[sizeIndex];
+        config.theme = THEMES[themeIndex];
+        config.damageType = DAMAGE_TYPES[themeIndex];
+        config.enemyShieldEnabled = SHIELDS[themeIndex];
+        config.difficulty = sizeIndex + 1; // 1 to 4 based on level progression
+        return config;
+    }
+
     public void generateMaps() {
         Gdx.app.log("MapGenScript", "Starting Map Generation for 20 Levels...");
 
-        String[] themes = { "Grassland", "Desert", "Ice", "Jungle", "Space" };
-        DamageType[] damageTypes = { DamageType.PHYSICAL, DamageType.PHYSICAL, DamageType.MAGICAL, DamageType.PHYSICAL,
-                DamageType.MAGICAL };
-        boolean[] shields = { false, true, false, true, true };
-
         int levelCounter = 1;
 
-        for (int t = 0; t < themes.length; t++) {
-            String theme = themes[t];
-            DamageType dmg = damageTypes[t];
-            boolean shield = shields[t];
-
-            for (int i = 0; i < 4; i++) {
-                int size = 50 + (i * 50); // 50, 100, 150, 200
-                int difficulty = i + 1; // 1 to 4 based on level progression
-
-                MapGenerator.MapConfig config = new MapGenerator.MapConfig();
-                config.width = size;
-                config.height = size;
-                config.theme = theme;
-                config.damageType = dmg;
-                config.enemyShieldEnabled = shield;
-                config.difficulty = difficulty;
+        for (int t = 0; t < THEMES.length; t++) {
+            for (int i = 0; i < SIZES.length; i++) {
+                MapGenerator.MapConfig config = createConfig(t, i);
 
                 String filename = "maps/level-" + levelCounter + ".properties";
-                Gdx.app.log("MapGenScript", "Generating " + filename + " [" + theme + " " + size + "x" + size + "]");
+                Gdx.app.log("MapGenScript", "Generating " + filename + " [" + config.theme + " " + config.width
+                        + "x" + config.height + "]");
 
                 new MapGenerator(config).generateAndSave(filename);
                 levelCounter++;
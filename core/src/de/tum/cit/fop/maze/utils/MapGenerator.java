@@ -2,7 +2,6 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import de.tum.cit.fop.maze.config.GameConfig;
 import de.tum.cit.fop.maze.model.WallEntity;
@@ -16,19 +15,29 @@
  * Core Features:
  * 1. Automatic border wall generation (2 grids wide)
  * 2. Room + Corridor algorithm instead of perfect maze
- * 3. Path connectivity validation after each wall placement
+ * 3. Path connectivity validation after each wall placement (walls that
+ * would split the floor, and so could cut off start, key or exit, are
+ * rejected when they are placed)
  * 4. Multi-retry mechanism to ensure generation success
+ *
+ * All randomness comes from the injected {@link Random}, so a generator
+ * created with a seeded RNG reproduces the same map, and generators share no
+ * state (one instance per thread).
  */
 public class MapGenerator {
 
     private static final int MAX_ATTEMPTS = 10;
     private static final int BORDER_WIDTH = 2;
 
+    /** Margin around a new wall searched by the local connectivity check */
+    private static final int LOCAL_CHECK_MARGIN = 4;
+
     private int playableWidth;
     private int playableHeight;
     private int totalWidth;
     private int totalHeight;
     private MapConfig config;
+    private final Random random;
 
     // Grid status: 0 = Wall/Blocked, 1 = Floor/Path
     private int[][] grid;
@@ -39,6 +48,14 @@ public class MapGenerator {
     // Safe zones (around spawn, exit, keys)
     private Set<Long> safeZone;
 
+    // Reused across attempts and validations
+    private final GridSearch pathSearch = new GridSearch();
+    private final GridSearch localSearch = new GridSearch();
+    // Floor cells bordering a wall being placed (x, y pairs), grown to the largest wall
+    private int[] borderCells = new int[0];
+    // Set by canPlaceWall when a free spot was refused for connectivity
+    private boolean lastRejectedForPath;
+
     /**
      * Inner Map Config class
      */
@@ -81,7 +98,16 @@ public MapGenerator() {
     }
 
     public MapGenerator(MapConfig config) {
+        this(config, new Random());
+    }
+
+    /**
+     * @param config Map configuration
+     * @param random Source of all randomness (seed it for reproducible maps)
+     */
+    public MapGenerator(MapConfig config, Random random) {
         this.config = config;
+        this.random = random;
     }
 
     public void generateAndSave(String fileName) {
@@ -112,7 +138,10 @@ public void generateAndSave(String fileName, MapConfig config) {
         saveToFile(fileName, fallback);
     }
 
-    private static class GenerationResult {
+    /**
+     * A generated map: key positions, walls, entities and the walkable grid
+     */
+    public static class GenerationResult {
         boolean isValid;
         Vector2 playerStart;
         Vector2 exitPos;
@@ -122,15 +151,115 @@ private static class GenerationResult {
         List<Vector2> traps;
         List<Vector2> mobileTraps;
 
+        MapConfig config;
+        int playableWidth;
+        int playableHeight;
+        // 0 = Wall/Blocked, 1 = Floor/Path (including border)
+        int[][] grid;
+
         GenerationResult() {
             walls = new ArrayList<>();
             enemies = new ArrayList<>();
             traps = new ArrayList<>();
             mobileTraps = new ArrayList<>();
         }
+
+        public Vector2 getPlayerStart() {
+            return playerStart;
+        }
+
+        public Vector2 getExitPos() {
+            return exitPos;
+        }
+
+        public Vector2 getKeyPos() {
+            return keyPos;
+        }
+
+        public List<WallEntity> getWalls() {
+            return walls;
+        }
+
+        public List<Vector2> getEnemies() {
+            return enemies;
+        }
+
+        public List<Vector2> getTraps() {
+            return traps;
+        }
+
+        public List<Vector2> getMobileTraps() {
+            return mobileTraps;
+        }
+
+        /**
+         * Grid width including the border
+         */
+        public int getTotalWidth() {
+            return grid.length;
+        }
+
+        /**
+         * Grid height including the border
+         */
+        public int getTotalHeight() {
+            return grid.length == 0 ? 0 : grid[0].length;
+        }
+
+        public boolean isWalkable(int x, int y) {
+            return grid[x][y] == 1;
+        }
+
+        /**
+         * Serialize in the level .properties format read by MapLoader
+         */
+        public String toProperties() {
+            StringBuilder sb = new StringBuilder();
+
+            // Metadata
+            sb.append("# Generated Map\n");
+            sb.append("theme=").append(config.theme).append("\n");
+            sb.append("damageType=").append(config.damageType.name()).append("\n");
+            sb.append("enemyShieldEnabled=").append(config.enemyShieldEnabled).append("\n");
+            sb.append("levelDifficulty=").append(config.difficulty).append("\n");
+            sb.append("suggestedArmor=").append(config.damageType.name()).append("\n");
+            sb.append("lootDropRate=").append(config.lootDropRate).append("\n");
+            sb.append("playableWidth=").append(playableWidth).append("\n");
+            sb.append("playableHeight=").append(playableHeight).append("\n");
+            sb.append("\n");
+
+            // Key positions
+            appendEntity(sb, playerStart, 1);
+            appendEntity(sb, exitPos, 2);
+            appendEntity(sb, keyPos, 5);
+
+            // Entities
+            for (Vector2 e : enemies)
+                appendEntity(sb, e, 4);
+            for (Vector2 t : traps)
+                appendEntity(sb, t, 3);
+            for (Vector2 m : mobileTraps)
+                appendEntity(sb, m, 6);
+
+            // Walls
+            for (WallEntity w : walls) {
+                sb.append((int) w.getX()).append(",").append((int) w.getY())
+                        .append("=").append(w.getTypeId()).append("\n");
+            }
+            return sb.toString();
+        }
+
+        private static void appendEntity(StringBuilder sb, Vector2 pos, int type) {
+            sb.append((int) pos.x).append(",").append((int) pos.y).append("=").append(type).append("\n");
+        }
     }
 
-    private GenerationResult generate() {
+    /**
+     * Run one generation attempt in memory (no retries, no file output).
+     *
+     * @return The map, or null if start, key and exit ended up disconnected
+     */
+    public GenerationResult generate() {
         GenerationResult result = new GenerationResult();
 
         // Initialize dimensions
@@ -143,6 +272,11 @@ private GenerationResult generate() {
         this.walls = new ArrayList<>();
         this.safeZone = new HashSet<>();
 
+        result.config = config;
+        result.playableWidth = playableWidth;
+        result.playableHeight = playableHeight;
+        result.grid = grid;
+
         // 1. Initialize: Set all to floor
         for (int x = 0; x < totalWidth; x++) {
             for (int y = 0; y < totalHeight; y++) {
@@ -165,7 +299,7 @@ private GenerationResult generate() {
         // 4. Generate internal maze walls (Room + Corridor algorithm)
         generateInternalMaze();
 
-        // 5. Validate path connectivity
+        // 5. Validate path connectivity (kept by canPlaceWall, safety net only)
         if (!validatePath(result.playerStart, result.keyPos) ||
                 !validatePath(result.keyPos, result.exitPos)) {
             return null; // Retry
@@ -191,11 +325,11 @@ private void determineStartAndExit(GenerationResult result) {
 
         for (int i = 0; i < maxAttempts; i++) {
             // Randomly generate two points (avoiding buffer near borders)
-            int x1 = BORDER_WIDTH + 2 + MathUtils.random(playableWidth - 5);
-            int y1 = BORDER_WIDTH + 2 + MathUtils.random(playableHeight - 5);
+            int x1 = BORDER_WIDTH + 2 + random.nextInt(playableWidth - 4);
+            int y1 = BORDER_WIDTH + 2 + random.nextInt(playableHeight - 4);
 
-            int x2 = BORDER_WIDTH + 2 + MathUtils.random(playableWidth - 5);
-            int y2 = BORDER_WIDTH + 2 + MathUtils.random(playableHeight - 5);
+            int x2 = BORDER_WIDTH + 2 + random.nextInt(playableWidth - 4);
+            int y2 = BORDER_WIDTH + 2 + random.nextInt(playableHeight - 4);
 
             Vector2 p1 = new Vector2(x1, y1);
             Vector2 p2 = new Vector2(x2, y2);
@@ -208,7 +342,7 @@ private void determineStartAndExit(GenerationResult result) {
         }
 
         // Fallback: Near diagonals
-        if (MathUtils.randomBoolean()) {
+        if (random.nextBoolean()) {
             result.playerStart = new Vector2(BORDER_WIDTH + 3, BORDER_WIDTH + 3);
             result.exitPos = new Vector2(totalWidth - BORDER_WIDTH - 4, totalHeight - BORDER_WIDTH - 4);
         } else {
@@ -252,6 +386,7 @@ private void generateBorderWalls() {
     private void generateInternalMaze() {
         int roomCount = config.roomCount;
         int wallsPlaced = 0;
+        int rejected = 0;
         int maxWalls = (playableWidth * playableHeight) / 20; // Approx 5% coverage
         // Wall size priorities
         int[][] sizes = {
@@ -264,26 +399,31 @@ private void generateInternalMaze() {
             attempts++;
 
             // Randomly select position and size
-            int sizeIdx = MathUtils.random(sizes.length - 1);
+            int sizeIdx = random.nextInt(sizes.length);
             int w = sizes[sizeIdx][0];
             int h = sizes[sizeIdx][1];
 
-            int x = BORDER_WIDTH + MathUtils.random(playableWidth - w);
-            int y = BORDER_WIDTH + MathUtils.random(playableHeight - h);
+            int x = BORDER_WIDTH + random.nextInt(playableWidth - w + 1);
+            int y = BORDER_WIDTH + random.nextInt(playableHeight - h + 1);
 
             // Check if it can be placed
             if (canPlaceWall(x, y, w, h)) {
                 addWall(x, y, w, h, false);
                 wallsPlaced++;
+            } else if (lastRejectedForPath) {
+                rejected++;
             }
         }
-        GameLogger.info("MapGenerator", "Placed " + wallsPlaced + " internal walls");
+        GameLogger.info("MapGenerator", "Placed " + wallsPlaced + " internal walls ("
+                + rejected + " rejected to keep the path open)");
     }
 
     /**
      * Check if a wall can be placed at specified position
      */
     private boolean canPlaceWall(int x, int y, int w, int h) {
+        lastRejectedForPath = false;
+
         // Boundary check
         if (x < BORDER_WIDTH || x + w > totalWidth - BORDER_WIDTH)
             return false;
@@ -309,10 +449,114 @@ private boolean canPlaceWall(int x, int y, int w, int h) {
         }
 
         // Validate path connectivity after placement
-        // (Simplified: only validation at the final step, skipped here for performance)
+        if (!keepsConnected(x, y, w, h)) {
+            for (int dx = 0; dx < w; dx++) {
+                for (int dy = 0; dy < h; dy++) {
+                    grid[x + dx][y + dy] = 1;
+                }
+            }
+            lastRejectedForPath = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check that the floor is still one connected area with the wall cells
+     * already blocked (so start, key and exit stay connected and no sealed
+     * pockets appear).
+     *
+     * If all floor cells bordering the wall still reach each other, every path
+     * that crossed the wall can go around it. That holds right away when the
+     * floor cells of the ring around the wall form one unbroken run; otherwise
+     * a flood fill in a small window around the wall decides. A detour longer
+     * than the window counts as disconnected, so such a wall is also rejected.
+     */
+    private boolean keepsConnected(int x, int y, int w, int h) {
+        if (countFloorRunsAround(x, y, w, h) <= 1) {
+            return true;
+        }
+
+        // Two ints for each of the 2 * (w + h) cells next to the wall's sides
+        int capacity = 4 * (w + h);
+        if (borderCells.length < capacity) {
+            borderCells = new int[capacity];
+        }
+
+        int count = 0;
+        for (int dx = 0; dx < w; dx++) {
+            count = addBorderCell(x + dx, y - 1, count);
+            count = addBorderCell(x + dx, y + h, count);
+        }
+        for (int dy = 0; dy < h; dy++) {
+            count = addBorderCell(x - 1, y + dy, count);
+            count = addBorderCell(x + w, y + dy, count);
+        }
+        if (count <= 2) {
+            return true; // At most one floor neighbour: no path can cross the wall
+        }
+
+        int ox = Math.max(0, x - LOCAL_CHECK_MARGIN);
+        int oy = Math.max(0, y - LOCAL_CHECK_MARGIN);
+        int windowW = Math.min(totalWidth, x + w + LOCAL_CHECK_MARGIN) - ox;
+        int windowH = Math.min(totalHeight, y + h + LOCAL_CHECK_MARGIN) - oy;
+        localSearch.floodFill(windowW, windowH, borderCells[0] - ox, borderCells[1] - oy,
+                (cx, cy) -> grid[cx + ox][cy + oy] == 1);
+
+        for (int i = 2; i < count; i += 2) {
+            if (!localSearch.isReached(borderCells[i] - ox, borderCells[i + 1] - oy)) {
+                return false;
+            }
+        }
         return true;
     }
 
+    /**
+     * Count runs of floor cells on the ring of cells around a rectangle
+     * (corners included, a closed loop of 4-adjacent cells)
+     */
+    private int countFloorRunsAround(int x, int y, int w, int h) {
+        int ringLength = 2 * (w + h) + 4;
+        boolean previous = isRingFloor(x, y, w, h, ringLength - 1);
+        int runs = 0;
+        for (int i = 0; i < ringLength; i++) {
+            boolean floor = isRingFloor(x, y, w, h, i);
+            if (floor && !previous)
+                runs++;
+            previous = floor;
+        }
+        return runs;
+    }
+
+    /**
+     * Check the i-th ring cell, counter-clockwise from the bottom-left corner
+     */
+    private boolean isRingFloor(int x, int y, int w, int h, int i) {
+        if (i < w + 2)
+            return isFloor(x - 1 + i, y - 1); // Bottom row with corners
+        i -= w + 2;
+        if (i < h)
+            return isFloor(x + w, y + i); // Right column
+        i -= h;
+        if (i < w + 2)
+            return isFloor(x + w - i, y + h); // Top row with corners
+        i -= w + 2;
+        return isFloor(x - 1, y + h - 1 - i); // Left column
+    }
+
+    private boolean isFloor(int x, int y) {
+        return x >= 0 && y >= 0 && x < totalWidth && y < totalHeight && grid[x][y] == 1;
+    }
+
+    private int addBorderCell(int x, int y, int count) {
+        if (x >= 0 && y >= 0 && x < totalWidth && y < totalHeight && grid[x][y] == 1) {
+            borderCells[count] = x;
+            borderCells[count + 1] = y;
+            return count + 2;
+        }
+        return count;
+    }
+
     /**
      * Add wall
      */
@@ -378,32 +622,8 @@ private boolean isInSafeZone(int x, int y) {
      * Validate path connectivity (BFS)
      */
     private boolean validatePath(Vector2 from, Vector2 to) {
-        int fx = (int) from.x, fy = (int) from.y;
-        int tx = (int) to.x, ty = (int) to.y;
-
-        boolean[][] visited = new boolean[totalWidth][totalHeight];
-        Queue<int[]> queue = new LinkedList<>();
-        queue.add(new int[] { fx, fy });
-        visited[fx][fy] = true;
-
-        int[][] dirs = { { 0, 1 }, { 0, -1 }, { 1, 0 }, { -1, 0 } };
-
-        while (!queue.isEmpty()) {
-            int[] cur = queue.poll();
-            if (cur[0] == tx && cur[1] == ty)
-                return true;
-
-            for (int[] d : dirs) {
-                int nx = cur[0] + d[0];
-                int ny = cur[1] + d[1];
-                if (nx >= 0 && nx < totalWidth && ny >= 0 && ny < totalHeight
-                        && !visited[nx][ny] && grid[nx][ny] == 1) {
-                    visited[nx][ny] = true;
-                    queue.add(new int[] { nx, ny });
-                }
-            }
-        }
-        return false;
+        return pathSearch.isConnected(totalWidth, totalHeight, (int) from.x, (int) from.y,
+                (int) to.x, (int) to.y, (x, y) -> grid[x][y] == 1);
     }
 
     /**
@@ -411,8 +631,8 @@ private boolean validatePath(Vector2 from, Vector2 to) {
      */
     private Vector2 findKeyPosition(Vector2 start, Vector2 exit) {
         // Simplified: place near center leaning towards exit
-        int kx = (int) (start.x + exit.x) / 2 + MathUtils.random(-5, 5);
-        int ky = (int) (start.y + exit.y) / 2 + MathUtils.random(-5, 5);
+        int kx = (int) (start.x + exit.x) / 2 + (random.nextInt(11) - 5);
+        int ky = (int) (start.y + exit.y) / 2 + (random.nextInt(11) - 5);
         kx = Math.max(BORDER_WIDTH + 3, Math.min(totalWidth - BORDER_WIDTH - 3, kx));
         ky = Math.max(BORDER_WIDTH + 3, Math.min(totalHeight - BORDER_WIDTH - 3, ky));
         return new Vector2(kx, ky);
@@ -438,7 +658,7 @@ private void placeEntities(GenerationResult result) {
         int trapCount = (int) (floorCount / 150 * config.trapDensity);
         int mobileTrapCount = (int) (floorCount / 100 * config.mobileTrapDensity);
 
-        Collections.shuffle(floors);
+        Collections.shuffle(floors, random);
 
         int idx = 0;
         for (int i = 0; i < enemyCount && idx < floors.size(); i++, idx++) {
@@ -456,52 +676,15 @@ private void placeEntities(GenerationResult result) {
      * Save to file
      */
     private void saveToFile(String fileName, GenerationResult result) {
-        StringBuilder sb = new StringBuilder();
-
-        // Metadata
-        sb.append("# Generated Map\n");
-        sb.append("theme=").append(config.theme).append("\n");
-        sb.append("damageType=").append(config.damageType.name()).append("\n");
-        sb.append("enemyShieldEnabled=").append(config.enemyShieldEnabled).append("\n");
-        sb.append("levelDifficulty=").append(config.difficulty).append("\n");
-        sb.append("suggestedArmor=").append(config.damageType.name()).append("\n");
-        sb.append("lootDropRate=").append(config.lootDropRate).append("\n");
-        sb.append("playableWidth=").append(playableWidth).append("\n");
-        sb.append("playableHeight=").append(playableHeight).append("\n");
-        sb.append("\n");
-
-        // Key positions
-        appendEntity(sb, result.playerStart, 1);
-        appendEntity(sb, result.exitPos, 2);
-        appendEntity(sb, result.keyPos, 5);
-
-        // Entities
-        for (Vector2 e : result.enemies)
-            appendEntity(sb, e, 4);
-        for (Vector2 t : result.traps)
-            appendEntity(sb, t, 3);
-        for (Vector2 m : result.mobileTraps)
-            appendEntity(sb, m, 6);
-
-        // Walls
-        for (WallEntity w : result.walls) {
-            sb.append((int) w.getX()).append(",").append((int) w.getY())
-                    .append("=").append(w.getTypeId()).append("\n");
-        }
-
         FileHandle file = Gdx.files.local(fileName);
         file.parent().mkdirs();
-        file.writeString(sb.toString(), false);
+        file.writeString(result.toProperties(), false);
 
         GameLogger.info("MapGenerator", "Saved map: " + fileName +
                 " | Size: " + totalWidth + "x" + totalHeight +
                 " | Walls: " + result.walls.size());
     }
 
-    private void appendEntity(StringBuilder sb, Vector2 pos, int type) {
-        sb.append((int) pos.x).append(",").append((int) pos.y).append("=").append(type).append("\n");
-    }
-
     /**
      * Fallback map generation
      */
@@ -516,6 +699,11 @@ private GenerationResult generateFallback() {
         this.walls = new ArrayList<>();
         this.safeZone = new HashSet<>();
 
+        result.config = config;
+        result.playableWidth = playableWidth;
+        result.playableHeight = playableHeight;
+        result.grid = grid;
+
         // All floor
         for (int x = 0; x < totalWidth; x++) {
             for (int y = 0; y < totalHeight; y++) {
@@ -9,8 +9,9 @@
 import java.util.Properties;
 
 /**
- * Utility Class: Responsible for reading .properties files and converting them
- * into GameMap objects.
+ * Utility Class: Responsible for reading .properties files (or their binary
+ * {@link LevelBinaryFormat} conversion) and converting them into GameMap
+ * objects.
  * 
  * Supported metadata configuration keys:
  * - damageType: PHYSICAL or MAGICAL (Level enemy damage type)
@@ -52,86 +53,81 @@ public LoadResult(GameMap map, LevelConfig config) {
     }
 
     /**
-     * Load map file from specified path (returns full result)
+     * Load map file from specified path (returns full result).
+     * 
+     * A converted binary level ({@link LevelBinaryFormat}) next to the
+     * .properties file is used when present and not older than the source;
+     * otherwise the .properties file is parsed.
      */
     public static LoadResult loadMapWithConfig(String internalPath) {
         GameLogger.info("MapLoader", "Attempting to load map: " + internalPath);
         GameMap map = new GameMap();
         LevelConfig config = new LevelConfig();
-        Properties props = new Properties();
 
-        FileHandle file = Gdx.files.internal(internalPath);
-        if (!file.exists()) {
-            file = Gdx.files.local(internalPath);
-        }
-
-        if (!file.exists()) {
+        FileHandle file = resolve(internalPath);
+        if (file == null) {
             GameLogger.error("MapLoader", "Map file not found in Internal or Local: " + internalPath);
             return new LoadResult(createFallbackMap(), config);
         }
 
-        try (InputStream input = file.read()) {
-            props.load(input);
+        LevelBinaryFormat.LevelData level = loadBinary(internalPath, file);
+        if (level == null) {
+            Properties props = new Properties();
+            try (InputStream input = file.read()) {
+                props.load(input);
+            } catch (IOException e) {
+                GameLogger.error("MapLoader", "Failed to load map file", e);
+                return new LoadResult(createFallbackMap(), config);
+            }
+            level = LevelBinaryFormat.fromProperties(props);
+        }
 
-            // 1. Parse metadata config
-            config = parseMetadata(props);
-            // Set theme on map
-            map.setTheme(config.theme);
+        // 1. Parse metadata config
+        config = parseMetadata(level.metadata);
+        // Set theme on map
+        map.setTheme(config.theme);
 
-            // 2. Parse map dimensions and initialize
-            int playableWidth = Integer.parseInt(props.getProperty("playableWidth", "50"));
-            int playableHeight = Integer.parseInt(props.getProperty("playableHeight", "50"));
+        // 2. Parse map dimensions and initialize
+        try {
+            int playableWidth = Integer.parseInt(level.metadata.getProperty("playableWidth", "50").trim());
+            int playableHeight = Integer.parseInt(level.metadata.getProperty("playableHeight", "50").trim());
             map.initializeSize(playableWidth, playableHeight);
+        } catch (NumberFormatException e) {
+            GameLogger.error("MapLoader", "Invalid map dimensions in " + internalPath);
+            return new LoadResult(createFallbackMap(), config);
+        }
 
-            // 3. Iterate through each Key in Properties
-            for (String key : props.stringPropertyNames()) {
-
-                // Filter out lines that are not in coordinate format (must contain a comma)
-                if (!key.contains(",")) {
-                    continue;
-                }
-
-                try {
-                    String[] coords = key.split(",");
-                    int x = Integer.parseInt(coords[0].trim());
-                    int y = Integer.parseInt(coords[1].trim());
-
-                    String value = props.getProperty(key).trim();
-                    int typeId = Integer.parseInt(value);
-
-                    if (typeId == de.tum.cit.fop.maze.config.GameConfig.OBJECT_ID_ENTRY) {
-                        map.setPlayerStart(x, y);
-                    } else {
-                        GameObject obj = EntityFactory.createEntity(typeId, (float) x, (float) y);
-                        if (obj != null) {
-                            // If it's an enemy
-                            if (obj instanceof Enemy) {
-                                Enemy enemy = (Enemy) obj;
-
-                                // Uniformly use Level 1 monster assets (BOAR) for older maps
-                                enemy.setType(Enemy.EnemyType.BOAR);
-
-                                // 2. If shield enabled, set shield and attack attributes
-                                if (config.enemyShieldEnabled) {
-                                    enemy.setAttackDamageType(config.damageType);
-                                    enemy.setShield(config.damageType, 3); // Default 3 point shield
-                                }
-                            }
-                            map.addGameObject(obj);
-                        } else {
-                            GameLogger.info("MapLoader",
-                                    "Unknown or unhandled object type ID: " + typeId + " at " + x + "," + y);
+        // 3. Create the entities of each cell
+        short[] entities = level.entities;
+        for (int i = 0; i < entities.length; i += LevelBinaryFormat.ENTITY_RECORD_SIZE) {
+            int typeId = entities[i];
+            int x = entities[i + 1];
+            int y = entities[i + 2];
+
+            if (typeId == de.tum.cit.fop.maze.config.GameConfig.OBJECT_ID_ENTRY) {
+                map.setPlayerStart(x, y);
+            } else {
+                GameObject obj = EntityFactory.createEntity(typeId, (float) x, (float) y);
+                if (obj != null) {
+                    // If it's an enemy
+                    if (obj instanceof Enemy) {
+                        Enemy enemy = (Enemy) obj;
+
+                        // Uniformly use Level 1 monster assets (BOAR) for older maps
+                        enemy.setType(Enemy.EnemyType.BOAR);
+
+                        // 2. If shield enabled, set shield and attack attributes
+                        if (config.enemyShieldEnabled) {
+                            enemy.setAttackDamageType(config.damageType);
+                            enemy.setShield(config.damageType, 3); // Default 3 point shield
                         }
                     }
-
-                } catch (NumberFormatException e) {
-                    GameLogger.error("MapLoader", "Invalid format in map file at line: " + key);
+                    map.addGameObject(obj);
+                } else {
+                    GameLogger.info("MapLoader",
+                            "Unknown or unhandled object type ID: " + typeId + " at " + x + "," + y);
                 }
             }
-
-        } catch (IOException e) {
-            GameLogger.error("MapLoader", "Failed to load map file", e);
-            return new LoadResult(createFallbackMap(), config);
         }
 
         if (map.getWidth() == 0 || map.getHeight() == 0) {
@@ -144,6 +140,38 @@ public static LoadResult loadMapWithConfig(String internalPath) {
         return new LoadResult(map, config);
     }
 
+    /**
+     * Internal file, falling back to local storage; null if neither exists
+     */
+    private static FileHandle resolve(String path) {
+        FileHandle file = Gdx.files.internal(path);
+        if (!file.exists()) {
+            file = Gdx.files.local(path);
+        }
+        return file.exists() ? file : null;
+    }
+
+    /**
+     * Read the converted binary level for a map, or null to parse the source
+     * instead (missing, stale or unreadable)
+     */
+    private static LevelBinaryFormat.LevelData loadBinary(String internalPath, FileHandle source) {
+        FileHandle binary = resolve(LevelBinaryFormat.binaryPathFor(internalPath));
+        if (binary == null)
+            return null;
+        if (source.lastModified() > binary.lastModified()) {
+            GameLogger.info("MapLoader", "Binary level is older than " + internalPath + ", parsing source");
+            return null;
+        }
+
+        try {
+            return LevelBinaryFormat.read(binary.readBytes());
+        } catch (IOException | RuntimeException e) {
+            GameLogger.warn("MapLoader", "Ignoring unreadable binary level " + binary.path() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Load map file from specified path (backward compatible, returns only GameMap)
      */
@@ -1,8 +1,11 @@
 package de.tum.cit.fop.maze.utils;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import de.tum.cit.fop.maze.model.GameMap;
 import de.tum.cit.fop.maze.model.WallEntity;
@@ -12,6 +15,10 @@
 /**
  * MazeRenderer - Refactored Version
  * Renders walls using WallEntity list instead of traversing grids.
+ * 
+ * Floor and grout are static in level mode, so they are baked once into a
+ * {@link SpriteCache} (in blocks of {@link #FLOOR_BLOCK_SIZE} tiles) and only
+ * rebuilt when the map, its walls or the floor theme change.
  */
 public class MazeRenderer {
 
@@ -21,12 +28,34 @@ public class MazeRenderer {
 
     private final GroutRenderer groutRenderer;
 
+    /** Edge length (in tiles) of one baked floor block, about a screen at zoom 1 */
+    private static final int FLOOR_BLOCK_SIZE = 32;
+
+    /** SpriteCache limit for indexed meshes */
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    // Baked floor + grout and the state it was built from
+    private SpriteCache floorCache;
+    private int[] floorBlockIds;
+    private int[] groutBlockIds;
+    private int floorBlocksX;
+    private int floorBlocksY;
+    private GameMap cachedMap;
+    private TextureRegion cachedFloorTexture;
+    private String cachedTheme;
+    private int cachedWallCount = -1;
+
     public MazeRenderer(SpriteBatch batch, TextureManager textureManager) {
         this.batch = batch;
         this.textureManager = textureManager;
         this.groutRenderer = new GroutRenderer(textureManager);
     }
 
+    /**
+     * Render floor and grout of the visible area. Must be called between
+     * batch.begin() and batch.end(); the batch is flushed while the baked
+     * floor is drawn.
+     */
     public void renderFloor(GameMap gameMap, OrthographicCamera camera, TextureRegion floorTexture) {
         float zoom = camera.zoom;
         float viewW = camera.viewportWidth * zoom;
@@ -44,40 +73,108 @@ public void renderFloor(GameMap gameMap, OrthographicCamera camera, TextureRegio
         minY = Math.max(0, minY);
         maxX = Math.min(gameMap.getWidth() - 1, maxX);
         maxY = Math.min(gameMap.getHeight() - 1, maxY);
+        if (minX > maxX || minY > maxY)
+            return;
 
-        // Pass 1: Floors - Distinguish between walkable area and wall area
-        // Get wall base floor texture (for tiles occupied by walls)
-        TextureRegion wallBaseFloor = textureManager.getWallBaseFloor(gameMap.getTheme());
-        TextureRegion walkableFloor = floorTexture != null ? floorTexture
-                : textureManager.getWalkableFloor(gameMap.getTheme());
+        ensureFloorCache(gameMap, floorTexture);
 
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                TextureRegion region;
-                if (gameMap.isOccupied(x, y)) {
-                    // Wall tile -> Use wall base floor
-                    region = wallBaseFloor;
-                } else {
-                    // Walkable area -> Use walkable floor
-                    region = walkableFloor;
-                }
-                batch.draw(region, x * UNIT_SCALE, y * UNIT_SCALE, UNIT_SCALE, UNIT_SCALE);
+        int minBlockX = minX / FLOOR_BLOCK_SIZE;
+        int maxBlockX = maxX / FLOOR_BLOCK_SIZE;
+        int minBlockY = minY / FLOOR_BLOCK_SIZE;
+        int maxBlockY = maxY / FLOOR_BLOCK_SIZE;
+
+        batch.end();
+
+        // Grout is translucent; SpriteCache does not manage blending itself
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        floorCache.setProjectionMatrix(camera.combined);
+        floorCache.begin();
+        // Pass 1: Floors, Pass 2: Grout (grout overlaps neighbouring blocks)
+        for (int by = minBlockY; by <= maxBlockY; by++) {
+            for (int bx = minBlockX; bx <= maxBlockX; bx++) {
+                floorCache.draw(floorBlockIds[by * floorBlocksX + bx]);
             }
         }
+        for (int by = minBlockY; by <= maxBlockY; by++) {
+            for (int bx = minBlockX; bx <= maxBlockX; bx++) {
+                floorCache.draw(groutBlockIds[by * floorBlocksX + bx]);
+            }
+        }
+        floorCache.end();
+
+        batch.begin();
+        // Reset color to avoid tinting walls
+        batch.setColor(Color.WHITE);
+    }
+
+    /**
+     * Rebuild the baked floor if the map, its walls or the floor theme changed
+     */
+    private void ensureFloorCache(GameMap gameMap, TextureRegion floorTexture) {
+        if (floorCache != null && gameMap == cachedMap && floorTexture == cachedFloorTexture
+                && java.util.Objects.equals(gameMap.getTheme(), cachedTheme)
+                && gameMap.getWalls().size() == cachedWallCount) {
+            return;
+        }
+
+        int width = gameMap.getWidth();
+        int height = gameMap.getHeight();
+        // One floor sprite per tile plus the east and north grout lines
+        int sprites = width * height + (width - 1) * height + width * (height - 1);
+
+        if (floorCache != null) {
+            floorCache.dispose();
+        }
+        floorCache = new SpriteCache(sprites, sprites <= MAX_INDEXED_SPRITES);
+
+        floorBlocksX = (width + FLOOR_BLOCK_SIZE - 1) / FLOOR_BLOCK_SIZE;
+        floorBlocksY = (height + FLOOR_BLOCK_SIZE - 1) / FLOOR_BLOCK_SIZE;
+        floorBlockIds = new int[floorBlocksX * floorBlocksY];
+        groutBlockIds = new int[floorBlocksX * floorBlocksY];
 
-        // Pass 2: Grout (Tile Gaps)
+        // Get wall base floor texture (for tiles occupied by walls)
+        TextureRegion wallBaseFloor = textureManager.getWallBaseFloor(gameMap.getTheme());
+        TextureRegion walkableFloor = floorTexture != null ? floorTexture
+                : textureManager.getWalkableFloor(gameMap.getTheme());
         Color groutColor = getGroutColorForBiome(floorTexture);
-        Color wallBoundaryColor = new Color(groutColor).mul(0.4f, 0.4f, 0.4f, 1f);
-        wallBoundaryColor.a = 1f;
 
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                groutRenderer.renderGrout(batch, gameMap, x, y, UNIT_SCALE, groutColor, wallBoundaryColor);
+        for (int by = 0; by < floorBlocksY; by++) {
+            for (int bx = 0; bx < floorBlocksX; bx++) {
+                int x0 = bx * FLOOR_BLOCK_SIZE;
+                int y0 = by * FLOOR_BLOCK_SIZE;
+                int x1 = Math.min(width, x0 + FLOOR_BLOCK_SIZE);
+                int y1 = Math.min(height, y0 + FLOOR_BLOCK_SIZE);
+
+                // Floors - Distinguish between walkable area and wall area
+                floorCache.beginCache();
+                floorCache.setColor(Color.WHITE);
+                for (int x = x0; x < x1; x++) {
+                    for (int y = y0; y < y1; y++) {
+                        TextureRegion region = gameMap.isOccupied(x, y) ? wallBaseFloor : walkableFloor;
+                        floorCache.add(region, x * UNIT_SCALE, y * UNIT_SCALE, UNIT_SCALE, UNIT_SCALE);
+                    }
+                }
+                floorBlockIds[by * floorBlocksX + bx] = floorCache.endCache();
+
+                // Grout (Tile Gaps)
+                floorCache.beginCache();
+                for (int x = x0; x < x1; x++) {
+                    for (int y = y0; y < y1; y++) {
+                        groutRenderer.cacheGrout(floorCache, gameMap, x, y, UNIT_SCALE, groutColor);
+                    }
+                }
+                groutBlockIds[by * floorBlocksX + bx] = floorCache.endCache();
             }
         }
 
-        // Reset color to avoid tinting walls
-        batch.setColor(Color.WHITE);
+        cachedMap = gameMap;
+        cachedFloorTexture = floorTexture;
+        cachedTheme = gameMap.getTheme();
+        cachedWallCount = gameMap.getWalls().size();
+        GameLogger.info("MazeRenderer", "Baked floor cache " + width + "x" + height + " (" + floorBlockIds.length
+                + " blocks)");
     }
 
     public void renderWalls(GameMap gameMap, OrthographicCamera camera, float stateTime) {
@@ -280,6 +377,10 @@ private TextureRegion getWallRegion(WallEntity wall, String theme, float stateTi
     }
 
     public void dispose() {
+        if (floorCache != null) {
+            floorCache.dispose();
+            floorCache = null;
+        }
         if (groutRenderer != null) {
             groutRenderer.dispose();
         }
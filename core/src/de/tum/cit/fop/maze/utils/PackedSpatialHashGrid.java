@@ -0,0 +1,498 @@
+package de.tum.cit.fop.maze.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Packed Spatial Hash Grid
+ *
+ * Allocation-free backend of {@link SpatialHashGrid}. Cells live in an
+ * open-addressing table keyed by the packed (cellX, cellY) long, entities are
+ * stored in flat slot arrays and chained per cell through int indices. Once the
+ * internal arrays have grown to the working set, insert/update/remove and all
+ * queries allocate nothing.
+ *
+ * Entities are tracked by identity. The grid is not thread-safe, and a
+ * {@link Visitor} must not insert, remove or update entities while a query is
+ * running (collect into a buffer first if the grid has to change).
+ *
+ * @param <T> Entity type
+ */
+public class PackedSpatialHashGrid<T> {
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Callback for visitor-style queries, receives the stored position */
+    @FunctionalInterface
+    public interface Visitor<T> {
+        void visit(T entity, float x, float y);
+    }
+
+    /** Cell size (world units) */
+    private final float cellSize;
+
+    // ---- Cell table: open addressing with linear probing, count == 0 marks a
+    // free bucket ----
+    private long[] cellKeys;
+    private int[] cellHeads;
+    private int[] cellCounts;
+    private int cellMask;
+    private int cellsUsed;
+
+    // ---- Entity slots, chained per cell through slotNext / slotPrev ----
+    private Object[] slotEntities;
+    private float[] slotX;
+    private float[] slotY;
+    private long[] slotCell;
+    private int[] slotNext;
+    private int[] slotPrev;
+    private int slotHigh;
+    private int freeSlot = NONE;
+    private int size;
+
+    // ---- Identity index: entity -> slot, null key marks a free bucket ----
+    private Object[] indexKeys;
+    private int[] indexSlots;
+    private int indexMask;
+
+    /**
+     * Constructor
+     *
+     * @param cellSize Cell size in world units
+     */
+    public PackedSpatialHashGrid(float cellSize) {
+        this.cellSize = cellSize;
+
+        cellKeys = new long[INITIAL_CAPACITY];
+        cellHeads = new int[INITIAL_CAPACITY];
+        cellCounts = new int[INITIAL_CAPACITY];
+        cellMask = INITIAL_CAPACITY - 1;
+
+        slotEntities = new Object[INITIAL_CAPACITY];
+        slotX = new float[INITIAL_CAPACITY];
+        slotY = new float[INITIAL_CAPACITY];
+        slotCell = new long[INITIAL_CAPACITY];
+        slotNext = new int[INITIAL_CAPACITY];
+        slotPrev = new int[INITIAL_CAPACITY];
+
+        indexKeys = new Object[INITIAL_CAPACITY * 2];
+        indexSlots = new int[INITIAL_CAPACITY * 2];
+        indexMask = INITIAL_CAPACITY * 2 - 1;
+    }
+
+    // ==================== Mutation ====================
+
+    /**
+     * Insert entity. Inserting an entity that is already present moves it.
+     */
+    public void insert(T entity, float x, float y) {
+        int slot = indexFind(entity);
+        if (slot != NONE) {
+            moveSlot(slot, x, y);
+            return;
+        }
+
+        slot = allocSlot();
+        slotEntities[slot] = entity;
+        slotX[slot] = x;
+        slotY[slot] = y;
+        long key = cellKey(cellCoord(x), cellCoord(y));
+        slotCell[slot] = key;
+        link(slot, cellAdd(key));
+        indexPut(entity, slot);
+        size++;
+    }
+
+    /**
+     * Remove entity (no-op if not present)
+     */
+    public void remove(T entity) {
+        int slot = indexRemove(entity);
+        if (slot == NONE) {
+            return;
+        }
+        unlink(slot);
+        slotEntities[slot] = null;
+        slotNext[slot] = freeSlot;
+        freeSlot = slot;
+        size--;
+    }
+
+    /**
+     * Update entity position, inserting it if not present yet
+     */
+    public void update(T entity, float newX, float newY) {
+        int slot = indexFind(entity);
+        if (slot == NONE) {
+            insert(entity, newX, newY);
+        } else {
+            moveSlot(slot, newX, newY);
+        }
+    }
+
+    /**
+     * Clear all entities (keeps the allocated capacity)
+     */
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+        Arrays.fill(slotEntities, 0, slotHigh, null);
+        Arrays.fill(indexKeys, null);
+        cellsUsed = 0;
+        slotHigh = 0;
+        freeSlot = NONE;
+        size = 0;
+    }
+
+    /**
+     * Get total number of entities
+     */
+    public int size() {
+        return size;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Visit every entity in the cells overlapping the query square (no distance
+     * filtering).
+     */
+    public void forEachCandidate(float centerX, float centerY, float radius, Visitor<? super T> visitor) {
+        int minCellX = cellCoord(centerX - radius);
+        int maxCellX = cellCoord(centerX + radius);
+        int minCellY = cellCoord(centerY - radius);
+        int maxCellY = cellCoord(centerY + radius);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                int cell = cellFind(cellKey(cx, cy));
+                if (cell == NONE) {
+                    continue;
+                }
+                for (int s = cellHeads[cell]; s != NONE; s = slotNext[s]) {
+                    visitor.visit(entityAt(s), slotX[s], slotY[s]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit every entity whose stored position lies within {@code radius}
+     * (inclusive) of the center.
+     */
+    public void forEachWithin(float centerX, float centerY, float radius, Visitor<? super T> visitor) {
+        float radiusSq = radius * radius;
+        int minCellX = cellCoord(centerX - radius);
+        int maxCellX = cellCoord(centerX + radius);
+        int minCellY = cellCoord(centerY - radius);
+        int maxCellY = cellCoord(centerY + radius);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                int cell = cellFind(cellKey(cx, cy));
+                if (cell == NONE) {
+                    continue;
+                }
+                for (int s = cellHeads[cell]; s != NONE; s = slotNext[s]) {
+                    float dx = slotX[s] - centerX;
+                    float dy = slotY[s] - centerY;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        visitor.visit(entityAt(s), slotX[s], slotY[s]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Append every entity in the cells overlapping the query square to
+     * {@code out}.
+     *
+     * @return Number of entities appended
+     */
+    public int collectCandidates(float centerX, float centerY, float radius, List<? super T> out) {
+        int added = 0;
+        int minCellX = cellCoord(centerX - radius);
+        int maxCellX = cellCoord(centerX + radius);
+        int minCellY = cellCoord(centerY - radius);
+        int maxCellY = cellCoord(centerY + radius);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                int cell = cellFind(cellKey(cx, cy));
+                if (cell == NONE) {
+                    continue;
+                }
+                for (int s = cellHeads[cell]; s != NONE; s = slotNext[s]) {
+                    out.add(entityAt(s));
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Append every entity whose stored position lies within {@code radius}
+     * (inclusive) of the center to {@code out}.
+     *
+     * @return Number of entities appended
+     */
+    public int collectWithin(float centerX, float centerY, float radius, List<? super T> out) {
+        float radiusSq = radius * radius;
+        int added = 0;
+        int minCellX = cellCoord(centerX - radius);
+        int maxCellX = cellCoord(centerX + radius);
+        int minCellY = cellCoord(centerY - radius);
+        int maxCellY = cellCoord(centerY + radius);
+
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                int cell = cellFind(cellKey(cx, cy));
+                if (cell == NONE) {
+                    continue;
+                }
+                for (int s = cellHeads[cell]; s != NONE; s = slotNext[s]) {
+                    float dx = slotX[s] - centerX;
+                    float dy = slotY[s] - centerY;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(entityAt(s));
+                        added++;
+                    }
+                }
+            }
+        }
+        return added;
+    }
+
+    // ==================== Slots ====================
+
+    @SuppressWarnings("unchecked")
+    private T entityAt(int slot) {
+        return (T) slotEntities[slot];
+    }
+
+    private void moveSlot(int slot, float x, float y) {
+        slotX[slot] = x;
+        slotY[slot] = y;
+        long key = cellKey(cellCoord(x), cellCoord(y));
+        // If still in the same cell, only the stored position changes
+        if (key == slotCell[slot]) {
+            return;
+        }
+        unlink(slot);
+        slotCell[slot] = key;
+        link(slot, cellAdd(key));
+    }
+
+    private int allocSlot() {
+        if (freeSlot != NONE) {
+            int slot = freeSlot;
+            freeSlot = slotNext[slot];
+            return slot;
+        }
+        if (slotHigh == slotEntities.length) {
+            int capacity = slotEntities.length * 2;
+            slotEntities = Arrays.copyOf(slotEntities, capacity);
+            slotX = Arrays.copyOf(slotX, capacity);
+            slotY = Arrays.copyOf(slotY, capacity);
+            slotCell = Arrays.copyOf(slotCell, capacity);
+            slotNext = Arrays.copyOf(slotNext, capacity);
+            slotPrev = Arrays.copyOf(slotPrev, capacity);
+        }
+        return slotHigh++;
+    }
+
+    private void link(int slot, int cell) {
+        int head = cellHeads[cell];
+        slotPrev[slot] = NONE;
+        slotNext[slot] = head;
+        if (head != NONE) {
+            slotPrev[head] = slot;
+        }
+        cellHeads[cell] = slot;
+        cellCounts[cell]++;
+    }
+
+    private void unlink(int slot) {
+        int cell = cellFind(slotCell[slot]);
+        int prev = slotPrev[slot];
+        int next = slotNext[slot];
+        if (prev != NONE) {
+            slotNext[prev] = next;
+        } else {
+            cellHeads[cell] = next;
+        }
+        if (next != NONE) {
+            slotPrev[next] = prev;
+        }
+        if (--cellCounts[cell] == 0) {
+            cellRemoveAt(cell);
+        }
+    }
+
+    // ==================== Cell table ====================
+
+    private int cellCoord(float v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        // Combine two ints into a long to avoid collisions
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int cellFind(long key) {
+        int i = mix(key) & cellMask;
+        while (cellCounts[i] != 0) {
+            if (cellKeys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & cellMask;
+        }
+        return NONE;
+    }
+
+    /** Returns the bucket for {@code key}, creating an empty cell if needed */
+    private int cellAdd(long key) {
+        if ((cellsUsed + 1) * 4 > cellKeys.length * 3) {
+            resizeCells(cellKeys.length * 2);
+        }
+        int i = mix(key) & cellMask;
+        while (cellCounts[i] != 0) {
+            if (cellKeys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & cellMask;
+        }
+        cellKeys[i] = key;
+        cellHeads[i] = NONE;
+        // Count becomes non-zero in link(), which always follows
+        cellsUsed++;
+        return i;
+    }
+
+    /** Backward-shift deletion keeps probe chains intact without tombstones */
+    private void cellRemoveAt(int hole) {
+        int j = (hole + 1) & cellMask;
+        while (cellCounts[j] != 0) {
+            int ideal = mix(cellKeys[j]) & cellMask;
+            if (((j - ideal) & cellMask) >= ((j - hole) & cellMask)) {
+                cellKeys[hole] = cellKeys[j];
+                cellHeads[hole] = cellHeads[j];
+                cellCounts[hole] = cellCounts[j];
+                hole = j;
+            }
+            j = (j + 1) & cellMask;
+        }
+        cellCounts[hole] = 0;
+        cellsUsed--;
+    }
+
+    private void resizeCells(int capacity) {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        int[] oldCounts = cellCounts;
+
+        cellKeys = new long[capacity];
+        cellHeads = new int[capacity];
+        cellCounts = new int[capacity];
+        cellMask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] == 0) {
+                continue;
+            }
+            int j = mix(oldKeys[i]) & cellMask;
+            while (cellCounts[j] != 0) {
+                j = (j + 1) & cellMask;
+            }
+            cellKeys[j] = oldKeys[i];
+            cellHeads[j] = oldHeads[i];
+            cellCounts[j] = oldCounts[i];
+        }
+    }
+
+    // ==================== Identity index ====================
+
+    private static int identityHash(Object o) {
+        return System.identityHashCode(o) * 0x9E3779B9;
+    }
+
+    private int indexFind(Object entity) {
+        int i = identityHash(entity) & indexMask;
+        Object k;
+        while ((k = indexKeys[i]) != null) {
+            if (k == entity) {
+                return indexSlots[i];
+            }
+            i = (i + 1) & indexMask;
+        }
+        return NONE;
+    }
+
+    private void indexPut(Object entity, int slot) {
+        // size is incremented after this call, keep load factor below 1/2
+        if ((size + 1) * 2 > indexKeys.length) {
+            resizeIndex(indexKeys.length * 2);
+        }
+        int i = identityHash(entity) & indexMask;
+        while (indexKeys[i] != null) {
+            i = (i + 1) & indexMask;
+        }
+        indexKeys[i] = entity;
+        indexSlots[i] = slot;
+    }
+
+    private int indexRemove(Object entity) {
+        int hole = identityHash(entity) & indexMask;
+        Object k;
+        while ((k = indexKeys[hole]) != entity) {
+            if (k == null) {
+                return NONE;
+            }
+            hole = (hole + 1) & indexMask;
+        }
+        int slot = indexSlots[hole];
+
+        int j = (hole + 1) & indexMask;
+        while ((k = indexKeys[j]) != null) {
+            int ideal = identityHash(k) & indexMask;
+            if (((j - ideal) & indexMask) >= ((j - hole) & indexMask)) {
+                indexKeys[hole] = k;
+                indexSlots[hole] = indexSlots[j];
+                hole = j;
+            }
+            j = (j + 1) & indexMask;
+        }
+        indexKeys[hole] = null;
+        return slot;
+    }
+
+    private void resizeIndex(int capacity) {
+        Object[] oldKeys = indexKeys;
+        int[] oldSlots = indexSlots;
+
+        indexKeys = new Object[capacity];
+        indexSlots = new int[capacity];
+        indexMask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object k = oldKeys[i];
+            if (k == null) {
+                continue;
+            }
+            int j = identityHash(k) & indexMask;
+            while (indexKeys[j] != null) {
+                j = (j + 1) & indexMask;
+            }
+            indexKeys[j] = k;
+            indexSlots[j] = oldSlots[i];
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/**
+ * Particle Engine
+ *
+ * Shared backend of the particle effects. All particle state lives in
+ * preallocated primitive arrays sized to a fixed capacity, so emitting,
+ * updating and drawing allocate nothing. Dead particles are swap-removed
+ * with the last live one, keeping live particles packed at the front.
+ *
+ * Colors are stored as packed ABGR ints without alpha; the alpha (base alpha
+ * times the optional life fade) is merged in when a particle is drawn.
+ * Particles are drawn as tinted quads of a single texture region into an
+ * already running {@link Batch}, so a whole effect costs one batch pass and
+ * no ShapeRenderer.
+ *
+ * Movement rules (gravity, drag, horizontal sway) are configured per engine,
+ * one engine per effect.
+ */
+public class ParticleEngine {
+
+    private final int capacity;
+
+    // Particle state (struct of arrays), live particles are [0, count)
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final float[] size;
+    private final float[] alpha;
+    private final float[] trail;
+    private final int[] rgb;
+    private int count;
+
+    // Movement rules
+    private float gravity;
+    private float drag = 1f;
+    private float sway;
+    private float swayLimit;
+    private boolean fadeOut;
+
+    /**
+     * @param capacity Maximum number of live particles, further emits are
+     *                 dropped
+     */
+    public ParticleEngine(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        size = new float[capacity];
+        alpha = new float[capacity];
+        trail = new float[capacity];
+        rgb = new int[capacity];
+    }
+
+    /**
+     * Downward acceleration in units/sec²
+     */
+    public ParticleEngine setGravity(float gravity) {
+        this.gravity = gravity;
+        return this;
+    }
+
+    /**
+     * Velocity multiplier applied on every update (1 = no drag)
+     */
+    public ParticleEngine setDrag(float drag) {
+        this.drag = drag;
+        return this;
+    }
+
+    /**
+     * Random horizontal acceleration of up to +-strength, with the horizontal
+     * speed clamped to +-limit
+     */
+    public ParticleEngine setSway(float strength, float limit) {
+        this.sway = strength;
+        this.swayLimit = limit;
+        return this;
+    }
+
+    /**
+     * Fade alpha linearly to zero over the particle's lifetime
+     */
+    public ParticleEngine setFadeOut(boolean fadeOut) {
+        this.fadeOut = fadeOut;
+        return this;
+    }
+
+    /**
+     * Emit one particle
+     *
+     * @param lifetime Lifetime in seconds
+     * @param size     Quad size (or line width base for trails)
+     * @param trail    Trail length behind the particle, 0 for none
+     * @return false if the engine is full and the particle was dropped
+     */
+    public boolean emit(float x, float y, float vx, float vy, float lifetime, float size,
+            float r, float g, float b, float a, float trail) {
+        if (count >= capacity)
+            return false;
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.vx[i] = vx;
+        this.vy[i] = vy;
+        this.life[i] = lifetime;
+        this.maxLife[i] = lifetime;
+        this.size[i] = size;
+        this.alpha[i] = a;
+        this.trail[i] = trail;
+        this.rgb[i] = toBits(b) << 16 | toBits(g) << 8 | toBits(r);
+        return true;
+    }
+
+    /**
+     * Advance all particles and remove the ones whose life ran out
+     */
+    public void update(float delta) {
+        int i = 0;
+        while (i < count) {
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+            vy[i] -= gravity * delta;
+            if (sway != 0f) {
+                vx[i] = MathUtils.clamp(vx[i] + MathUtils.random(-sway, sway) * delta, -swayLimit, swayLimit);
+            }
+            vx[i] *= drag;
+            vy[i] *= drag;
+            life[i] -= delta;
+
+            if (life[i] > 0) {
+                i++;
+            } else {
+                remove(i); // Re-check index i, it now holds the former last particle
+            }
+        }
+    }
+
+    /**
+     * Draw every particle as a square quad centered on its position. The
+     * batch must be drawing; its color is restored afterwards.
+     *
+     * @param sizeScale  Quad size relative to the particle size
+     * @param alphaScale Alpha multiplier
+     */
+    public void render(Batch batch, TextureRegion region, float sizeScale, float alphaScale) {
+        if (count == 0)
+            return;
+        float previousColor = batch.getPackedColor();
+        for (int i = 0; i < count; i++) {
+            float s = size[i] * sizeScale;
+            batch.setPackedColor(packedColor(i, alphaScale));
+            batch.draw(region, x[i] - s / 2, y[i] - s / 2, s, s);
+        }
+        batch.setPackedColor(previousColor);
+    }
+
+    /**
+     * Draw the trails of all particles that have one: a line from the particle
+     * back against its direction of travel. The batch must be drawing; its
+     * color is restored afterwards.
+     *
+     * @param widthScale Line width relative to the particle size
+     * @param alphaScale Alpha multiplier
+     */
+    public void renderTrails(Batch batch, TextureRegion region, float widthScale, float alphaScale) {
+        if (count == 0)
+            return;
+        float previousColor = batch.getPackedColor();
+        for (int i = 0; i < count; i++) {
+            if (trail[i] <= 0f || (vx[i] == 0f && vy[i] == 0f))
+                continue;
+            float width = size[i] * widthScale;
+            float angle = MathUtils.atan2(-vy[i], -vx[i]) * MathUtils.radiansToDegrees;
+            batch.setPackedColor(packedColor(i, alphaScale));
+            batch.draw(region, x[i], y[i] - width / 2, 0f, width / 2, trail[i], width, 1f, 1f, angle);
+        }
+        batch.setPackedColor(previousColor);
+    }
+
+    private float packedColor(int i, float alphaScale) {
+        float a = alpha[i] * alphaScale;
+        if (fadeOut) {
+            a *= life[i] / maxLife[i];
+        }
+        return NumberUtils.intToFloatColor(toBits(a) << 24 | rgb[i]);
+    }
+
+    private static int toBits(float component) {
+        return (int) (255 * MathUtils.clamp(component, 0f, 1f));
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        size[i] = size[last];
+        alpha[i] = alpha[last];
+        trail[i] = trail[last];
+        rgb[i] = rgb[last];
+    }
+
+    /**
+     * Get current live particle count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get maximum number of live particles
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Remove all particles
+     */
+    public void clear() {
+        count = 0;
+    }
+}
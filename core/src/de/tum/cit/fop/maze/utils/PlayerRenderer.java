@@ -32,12 +32,23 @@ public class PlayerRenderer {
     private String cachedPlayerSkinId = null;
     private boolean skinCacheValid = false;
 
+    // Fraction of a simulation tick to interpolate the player position by
+    private float interpolationAlpha = 1f;
+
     public PlayerRenderer(SpriteBatch batch, TextureManager textureManager, float unitScale) {
         this.batch = batch;
         this.textureManager = textureManager;
         this.unitScale = unitScale;
     }
 
+    /**
+     * Set the interpolation factor between the previous and the current
+     * simulation tick (1 draws the current position)
+     */
+    public void setInterpolationAlpha(float alpha) {
+        this.interpolationAlpha = alpha;
+    }
+
     /**
      * Renders the player sprite
      *
@@ -130,8 +141,8 @@ public void render(Player player, int direction, float stateTime, boolean isMovi
         }
 
         // Calculate drawing position and size
-        float drawX = player.getX() * unitScale;
-        float drawY = player.getY() * unitScale;
+        float drawX = player.getRenderX(interpolationAlpha) * unitScale;
+        float drawY = player.getRenderY(interpolationAlpha) * unitScale;
         float drawWidth = playerFrame.getRegionWidth();
         float drawHeight = playerFrame.getRegionHeight();
 
@@ -0,0 +1,158 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.Locale;
+
+/**
+ * Draws the {@link FrameProfiler} history in screen space: a rolling
+ * histogram of frame times, stacked by top-level stage, plus a text summary
+ * of stage averages and per-frame counters.
+ *
+ * Toggled from the developer console ({@code profile on}).
+ */
+public class ProfilerOverlay {
+
+    private static final float BAR_WIDTH = 2f;
+    private static final float GRAPH_HEIGHT = 100f;
+    /** Frame time that fills the graph height */
+    private static final float GRAPH_MAX_MS = 33.3f;
+    private static final float MARGIN = 10f;
+    private static final int TEXT_REFRESH_FRAMES = 15;
+    private static final float TEXT_SCALE = 0.5f;
+
+    private static final float BACKGROUND_BITS = Color.toFloatBits(0f, 0f, 0f, 0.6f);
+    private static final float OTHER_BITS = Color.toFloatBits(0.5f, 0.5f, 0.5f, 0.9f);
+    private static final float TARGET_LINE_BITS = Color.toFloatBits(1f, 1f, 1f, 0.5f);
+    private static final FrameProfiler.Stage[] STAGES = FrameProfiler.Stage.values();
+    private static final float[] STAGE_BITS = new float[STAGES.length];
+
+    static {
+        STAGE_BITS[FrameProfiler.Stage.WORLD_UPDATE.ordinal()] = Color.toFloatBits(0.9f, 0.3f, 0.3f, 0.9f);
+        STAGE_BITS[FrameProfiler.Stage.CHUNKS.ordinal()] = Color.toFloatBits(0.9f, 0.6f, 0.2f, 0.9f);
+        STAGE_BITS[FrameProfiler.Stage.MAP.ordinal()] = Color.toFloatBits(0.3f, 0.8f, 0.3f, 0.9f);
+        STAGE_BITS[FrameProfiler.Stage.PARTICLES.ordinal()] = Color.toFloatBits(0.8f, 0.3f, 0.9f, 0.9f);
+        STAGE_BITS[FrameProfiler.Stage.FOG.ordinal()] = Color.toFloatBits(0.3f, 0.6f, 0.9f, 0.9f);
+        STAGE_BITS[FrameProfiler.Stage.HUD.ordinal()] = Color.toFloatBits(0.9f, 0.9f, 0.3f, 0.9f);
+    }
+
+    private final TextureRegion whitePixel;
+    private final BitmapFont font;
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private final StringBuilder text = new StringBuilder(512);
+    private String summary = "";
+    private int summaryLines;
+    private int framesSinceText = TEXT_REFRESH_FRAMES;
+
+    public ProfilerOverlay(TextureRegion whitePixel, BitmapFont font) {
+        this.whitePixel = whitePixel;
+        this.font = font;
+    }
+
+    /**
+     * Draw the overlay in the lower left corner. The batch must not be
+     * drawing; its projection and color are restored afterwards.
+     */
+    public void render(Batch batch, int screenWidth, int screenHeight) {
+        int frames = FrameProfiler.getFrameCount();
+        if (!FrameProfiler.isEnabled() || frames == 0)
+            return;
+
+        if (++framesSinceText >= TEXT_REFRESH_FRAMES) {
+            framesSinceText = 0;
+            summary = buildSummary(frames);
+            summaryLines = 1;
+            for (int i = 0; i < summary.length(); i++) {
+                if (summary.charAt(i) == '\n')
+                    summaryLines++;
+            }
+        }
+
+        savedProjection.set(batch.getProjectionMatrix());
+        projection.setToOrtho2D(0, 0, screenWidth, screenHeight);
+        batch.setProjectionMatrix(projection);
+        float oldColor = batch.getPackedColor();
+        batch.begin();
+
+        float graphWidth = FrameProfiler.HISTORY_SIZE * BAR_WIDTH;
+        float x0 = MARGIN;
+        float y0 = MARGIN;
+        float scale = GRAPH_HEIGHT / GRAPH_MAX_MS;
+
+        batch.setPackedColor(BACKGROUND_BITS);
+        batch.draw(whitePixel, x0 - 4, y0 - 4, graphWidth + 8, GRAPH_HEIGHT + 8);
+
+        // One stacked bar per frame, newest on the right
+        float x = x0 + (FrameProfiler.HISTORY_SIZE - frames) * BAR_WIDTH;
+        for (int f = 0; f < frames; f++, x += BAR_WIDTH) {
+            float total = Math.min(FrameProfiler.getFrameMillis(f), GRAPH_MAX_MS);
+            float y = y0;
+            float stacked = 0;
+            for (FrameProfiler.Stage stage : STAGES) {
+                if (stage.nested)
+                    continue;
+                float ms = Math.min(FrameProfiler.getStageMillis(stage, f), GRAPH_MAX_MS - stacked);
+                if (ms <= 0)
+                    continue;
+                batch.setPackedColor(STAGE_BITS[stage.ordinal()]);
+                batch.draw(whitePixel, x, y, BAR_WIDTH, ms * scale);
+                y += ms * scale;
+                stacked += ms;
+            }
+            if (total > stacked) {
+                batch.setPackedColor(OTHER_BITS);
+                batch.draw(whitePixel, x, y, BAR_WIDTH, (total - stacked) * scale);
+            }
+        }
+
+        // 60 FPS budget line
+        batch.setPackedColor(TARGET_LINE_BITS);
+        batch.draw(whitePixel, x0, y0 + 16.7f * scale, graphWidth, 1);
+
+        // Summary above the graph (the font is shared, restore its scale)
+        float oldScaleX = font.getData().scaleX;
+        float oldScaleY = font.getData().scaleY;
+        font.getData().setScale(TEXT_SCALE);
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+        font.draw(batch, summary, x0, y0 + GRAPH_HEIGHT + 8 + font.getLineHeight() * summaryLines);
+        font.getData().setScale(oldScaleX, oldScaleY);
+
+        batch.end();
+        batch.setPackedColor(oldColor);
+        batch.setProjectionMatrix(savedProjection);
+    }
+
+    private String buildSummary(int frames) {
+        int last = frames - 1;
+        text.setLength(0);
+        text.append(String.format(Locale.ROOT, "frame %.2f ms avg (%.2f last)\n",
+                FrameProfiler.getAverageFrameMillis(), FrameProfiler.getFrameMillis(last)));
+        int column = 0;
+        for (FrameProfiler.Stage stage : STAGES) {
+            text.append(String.format(Locale.ROOT, "%s%-11s %6.2f", stage.nested ? " >" : "  ", stage.label,
+                    FrameProfiler.getAverageStageMillis(stage)));
+            text.append(++column % 3 == 0 ? '\n' : ' ');
+        }
+        if (column % 3 != 0) {
+            text.append('\n');
+        }
+        text.append(String.format(Locale.ROOT, "batch flushes %d  draw calls %d  texture binds %d\n",
+                FrameProfiler.getBatchFlushes(last), FrameProfiler.getDrawCalls(last),
+                FrameProfiler.getTextureBinds(last)));
+
+        long allocated = 0;
+        int gcRuns = 0;
+        for (int f = 0; f < frames; f++) {
+            allocated += FrameProfiler.getAllocatedBytes(f);
+            gcRuns += FrameProfiler.getGcRuns(f);
+        }
+        text.append(String.format(Locale.ROOT, "alloc %.1f KB/frame  gc runs %d (last %d frames)",
+                allocated / 1024f / frames, gcRuns, frames));
+        return text.toString();
+    }
+}
@@ -2,30 +2,28 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonWriter;
 import de.tum.cit.fop.maze.model.GameState;
 
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
 
 /*
  * ╔═══════════════════════════════════════════════════════════════════════════╗
  * ║  ⚠️  CORE SYSTEM FILE - DO NOT MODIFY WITHOUT TEAM LEAD APPROVAL ⚠️      ║
  * ╠═══════════════════════════════════════════════════════════════════════════╣
- * ║  This file implements the SAVE/LOAD system using LibGDX JSON:             ║
- * ║  • Saves game state as human-readable JSON to local storage               ║
- * ║  • Loads and deserializes GameState objects                               ║
- * ║  • Lists and sorts save files by modification date                        ║
+ * ║  This file implements the SAVE/LOAD system on top of SaveService:         ║
+ * ║  • Saves game state asynchronously as versioned, compressed snapshots     ║
+ * ║    (.sav) in local storage, replaced atomically                           ║
+ * ║  • Loads snapshots and legacy human-readable JSON saves (.json)           ║
+ * ║  • Keeps an in-memory index of save slots for the load dialogs            ║
  * ║                                                                           ║
- * ║  CRITICAL: The JSON format must match GameState.java fields exactly.      ║
- * ║  If you add fields to GameState, they auto-serialize. Removing fields     ║
- * ║  will break loading of old saves.                                         ║
+ * ║  CRITICAL: The snapshot payload is LibGDX JSON of GameState. If you add   ║
+ * ║  fields to GameState, they auto-serialize. Removing fields will break     ║
+ * ║  loading of old saves.                                                    ║
  * ║                                                                           ║
  * ║  DO NOT CHANGE:                                                           ║
  * ║  - SAVE_DIR path (breaks existing user saves)                             ║
  * ║  - Method signatures (used by GameScreen)                                 ║
- * ║  - JSON output format (JsonWriter.OutputType.json)                        ║
+ * ║  - Legacy JSON loading (old saves are migrated on their next save)        ║
  * ╚═══════════════════════════════════════════════════════════════════════════╝
  */
 
@@ -34,36 +32,29 @@ public class SaveManager {
     // All save files are placed in the saves folder
     private static final String SAVE_DIR = "saves/";
 
+    private static SaveService<GameState> saves;
+
+    private static synchronized SaveService<GameState> saves() {
+        if (saves == null) {
+            saves = new SaveService<>(Gdx.files.local(SAVE_DIR).file(), GameState.class);
+        }
+        return saves;
+    }
+
     /**
-     * Save game with specified filename
+     * Save game with specified filename. The write happens in the background;
+     * do not modify {@code state} afterwards.
      * 
      * @param state    Game state
-     * @param filename User-defined filename (without .json extension)
+     * @param filename User-defined filename (extension optional)
      */
     public static void saveGame(GameState state, String filename) {
-        Json json = new Json();
-        // Critical setting: Output standard JSON format
-        json.setOutputType(JsonWriter.OutputType.json);
-
-        // Ensure directory exists
-        if (!Gdx.files.local(SAVE_DIR).exists()) {
-            Gdx.files.local(SAVE_DIR).mkdirs();
-        }
-
-        // Automatically add .json extension
-        if (!filename.endsWith(".json")) {
-            filename += ".json";
-        }
-
-        String text = json.prettyPrint(state);
-        FileHandle file = Gdx.files.local(SAVE_DIR + filename);
-        file.writeString(text, false);
-
-        Gdx.app.log("SaveManager", "Saved to: " + file.path());
+        saves().save(filename, state);
+        Gdx.app.log("SaveManager", "Saving to: " + SAVE_DIR + SaveService.slotName(filename));
     }
 
     /**
-     * Compatibility method: Default save (save to auto_save.json)
+     * Compatibility method: Default save (save to auto_save)
      */
     public static void saveGame(GameState state) {
         saveGame(state, "auto_save");
@@ -80,13 +71,15 @@ public static void saveGlobalProgression(String filename) {
         if (filename == null || filename.isEmpty())
             return;
 
-        // 1. Load existing state to preserve player position etc.
-        GameState state = loadGame(filename);
+        // 1. Copy the state saved this session, else load it to preserve player
+        // position etc. Loading only waits for a pending write of this slot.
+        GameState state = saves().copyLastSaved(filename);
+        if (state == null) {
+            state = loadGame(filename);
+        }
         if (state == null) {
             // If file doesn't exist, we probably shouldn't create a blank one
             // blindly because we lack player position data.
-            // However, for a persistent profile system, maybe we should?
-            // Let's assume valid profiles exist.
             Gdx.app.error("SaveManager", "Cannot sync progression: Save file not found: " + filename);
             return;
         }
@@ -103,61 +96,44 @@ public static void saveGlobalProgression(String filename) {
     }
 
     /**
-     * Load save file with specified name
+     * Load save file with specified name (.sav snapshot or legacy .json)
      */
     public static GameState loadGame(String filename) {
         if (filename == null || filename.isEmpty()) {
-            filename = "auto_save.json";
-        }
-        if (!filename.endsWith(".json")) {
-            filename += ".json";
-        }
-
-        FileHandle file = Gdx.files.local(SAVE_DIR + filename);
-
-        if (!file.exists()) {
-            Gdx.app.log("SaveManager", "Save file not found: " + filename);
-            return null;
-        }
-
-        Json json = new Json();
-        try {
-            return json.fromJson(GameState.class, file.readString());
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+            filename = "auto_save";
         }
+        return saves().load(filename);
     }
 
     /**
-     * Compatibility method: Default load (load from auto_save.json)
+     * Compatibility method: Default load (load from auto_save)
      */
     public static GameState loadGame() {
-        return loadGame("auto_save.json");
+        return loadGame("auto_save");
     }
 
     /**
-     * Get all save files, sorted by modification time descending (newest first)
-     * Used by the load game list in GameScreen.
+     * Save slots from the in-memory index, newest first. Used by the load game
+     * dialogs.
      */
-    public static FileHandle[] getSaveFiles() {
-        FileHandle dir = Gdx.files.local(SAVE_DIR);
-        if (!dir.exists()) {
-            dir.mkdirs();
-            return new FileHandle[0];
-        }
-
-        // Get all files ending with .json
-        FileHandle[] files = dir.list(".json");
+    public static List<SaveService.SaveInfo> getSaveInfos() {
+        return saves().list();
+    }
 
-        // Sort by time (newest first)
-        Arrays.sort(files, new Comparator<FileHandle>() {
-            @Override
-            public int compare(FileHandle f1, FileHandle f2) {
-                return Long.compare(f2.lastModified(), f1.lastModified());
-            }
-        });
+    /**
+     * Get all save files, sorted by save time descending (newest first).
+     * Files of saves still being written may not exist yet; prefer
+     * {@link #getSaveInfos()}.
+     */
+    public static FileHandle[] getSaveFiles() {
+        return toFileHandles(SAVE_DIR, getSaveInfos());
+    }
 
+    private static FileHandle[] toFileHandles(String dir, List<SaveService.SaveInfo> infos) {
+        FileHandle[] files = new FileHandle[infos.size()];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = Gdx.files.local(dir + infos.get(i).getFileName());
+        }
         return files;
     }
 
@@ -165,57 +141,56 @@ public static boolean deleteSave(String filename) {
         if (filename == null || filename.isEmpty())
             return false;
 
-        if (!filename.endsWith(".json")) {
-            filename += ".json";
+        boolean deleted = saves().delete(filename);
+        if (deleted) {
+            Gdx.app.log("SaveManager", "Deleted save file: " + filename);
         }
+        return deleted;
+    }
 
-        FileHandle file = Gdx.files.local(SAVE_DIR + filename);
-
-        if (file.exists()) {
-            boolean deleted = file.delete();
-            if (deleted) {
-                Gdx.app.log("SaveManager", "Deleted save file: " + filename);
-            } else {
-                Gdx.app.error("SaveManager", "Failed to delete: " + filename);
-            }
-            return deleted;
-        }
-        return false;
+    /**
+     * Wait until all queued saves are on disk (pause and exit)
+     */
+    public static void flush() {
+        SaveService<GameState> normal;
+        SaveService<de.tum.cit.fop.maze.model.EndlessGameState> endless;
+        synchronized (SaveManager.class) {
+            normal = saves;
+            endless = endlessSaves;
+        }
+        if (normal != null)
+            normal.flush();
+        if (endless != null)
+            endless.flush();
     }
 
     // ==================== ENDLESS MODE SAVE SYSTEM ====================
 
     private static final String ENDLESS_SAVE_DIR = "saves/endless/";
 
+    private static SaveService<de.tum.cit.fop.maze.model.EndlessGameState> endlessSaves;
+
+    private static synchronized SaveService<de.tum.cit.fop.maze.model.EndlessGameState> endlessSaves() {
+        if (endlessSaves == null) {
+            endlessSaves = new SaveService<>(Gdx.files.local(ENDLESS_SAVE_DIR).file(),
+                    de.tum.cit.fop.maze.model.EndlessGameState.class);
+        }
+        return endlessSaves;
+    }
+
     /**
-     * Save Endless Mode game state
+     * Save Endless Mode game state in the background
      * 
      * @param state    Endless Mode game state
-     * @param filename Filename (without .json extension)
+     * @param filename Filename (extension optional)
      */
     public static void saveEndlessGame(de.tum.cit.fop.maze.model.EndlessGameState state, String filename) {
-        Json json = new Json();
-        json.setOutputType(JsonWriter.OutputType.json);
-
-        // Ensure endless save directory exists
-        if (!Gdx.files.local(ENDLESS_SAVE_DIR).exists()) {
-            Gdx.files.local(ENDLESS_SAVE_DIR).mkdirs();
-        }
-
-        // Automatically add .json extension
-        if (!filename.endsWith(".json")) {
-            filename += ".json";
-        }
-
-        String text = json.prettyPrint(state);
-        FileHandle file = Gdx.files.local(ENDLESS_SAVE_DIR + filename);
-        file.writeString(text, false);
-
-        Gdx.app.log("SaveManager", "Saved Endless Mode to: " + file.path());
+        endlessSaves().save(filename, state);
+        Gdx.app.log("SaveManager", "Saving Endless Mode to: " + ENDLESS_SAVE_DIR + SaveService.slotName(filename));
     }
 
     /**
-     * Default save for Endless Mode (endless_auto_save.json)
+     * Default save for Endless Mode (endless_auto_save)
      */
     public static void saveEndlessGame(de.tum.cit.fop.maze.model.EndlessGameState state) {
         saveEndlessGame(state, "endless_auto_save");
@@ -226,54 +201,30 @@ public static void saveEndlessGame(de.tum.cit.fop.maze.model.EndlessGameState st
      */
     public static de.tum.cit.fop.maze.model.EndlessGameState loadEndlessGame(String filename) {
         if (filename == null || filename.isEmpty()) {
-            filename = "endless_auto_save.json";
-        }
-        if (!filename.endsWith(".json")) {
-            filename += ".json";
-        }
-
-        FileHandle file = Gdx.files.local(ENDLESS_SAVE_DIR + filename);
-
-        if (!file.exists()) {
-            Gdx.app.log("SaveManager", "Endless save file not found: " + filename);
-            return null;
-        }
-
-        Json json = new Json();
-        try {
-            return json.fromJson(de.tum.cit.fop.maze.model.EndlessGameState.class, file.readString());
-        } catch (Exception e) {
-            Gdx.app.error("SaveManager", "Failed to load endless save: " + e.getMessage());
-            return null;
+            filename = "endless_auto_save";
         }
+        return endlessSaves().load(filename);
     }
 
     /**
      * Default load for Endless Mode save
      */
     public static de.tum.cit.fop.maze.model.EndlessGameState loadEndlessGame() {
-        return loadEndlessGame("endless_auto_save.json");
+        return loadEndlessGame("endless_auto_save");
     }
 
     /**
-     * Get all Endless Mode save files
+     * Endless Mode save slots from the in-memory index, newest first
      */
-    public static FileHandle[] getEndlessSaveFiles() {
-        FileHandle dir = Gdx.files.local(ENDLESS_SAVE_DIR);
-        if (!dir.exists()) {
-            dir.mkdirs();
-            return new FileHandle[0];
-        }
-
-        FileHandle[] files = dir.list(".json");
-        Arrays.sort(files, new Comparator<FileHandle>() {
-            @Override
-            public int compare(FileHandle f1, FileHandle f2) {
-                return Long.compare(f2.lastModified(), f1.lastModified());
-            }
-        });
+    public static List<SaveService.SaveInfo> getEndlessSaveInfos() {
+        return endlessSaves().list();
+    }
 
-        return files;
+    /**
+     * Get all Endless Mode save files, newest first
+     */
+    public static FileHandle[] getEndlessSaveFiles() {
+        return toFileHandles(ENDLESS_SAVE_DIR, getEndlessSaveInfos());
     }
 
     /**
@@ -283,27 +234,17 @@ public static boolean deleteEndlessSave(String filename) {
         if (filename == null || filename.isEmpty())
             return false;
 
-        if (!filename.endsWith(".json")) {
-            filename += ".json";
-        }
-
-        FileHandle file = Gdx.files.local(ENDLESS_SAVE_DIR + filename);
-
-        if (file.exists()) {
-            boolean deleted = file.delete();
-            if (deleted) {
-                Gdx.app.log("SaveManager", "Deleted endless save: " + filename);
-            }
-            return deleted;
+        boolean deleted = endlessSaves().delete(filename);
+        if (deleted) {
+            Gdx.app.log("SaveManager", "Deleted endless save: " + filename);
         }
-        return false;
+        return deleted;
     }
 
     /**
      * Check if any Endless Mode save files exist
      */
     public static boolean hasEndlessSave() {
-        FileHandle[] files = getEndlessSaveFiles();
-        return files != null && files.length > 0;
+        return !getEndlessSaveInfos().isEmpty();
     }
 }
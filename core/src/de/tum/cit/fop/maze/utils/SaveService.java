@@ -0,0 +1,341 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Save slots of one directory, written asynchronously in a compact snapshot
+ * format.
+ *
+ * A snapshot is a small binary header ({@code MZSV} magic and a format
+ * version) followed by gzip-compressed compact JSON of the state, so fields
+ * added to the state classes still serialize automatically. Files end in
+ * {@value #EXTENSION} and are replaced atomically. Legacy {@code .json}
+ * saves stay readable and are replaced by a snapshot the next time the slot
+ * is saved.
+ *
+ * Saves are serialized on a single background thread; the caller hands over
+ * the state object and should not modify it afterwards. Loading a slot waits
+ * for a pending write of that slot. Slot metadata is kept in memory so the
+ * load dialogs do not scan and stat the directory each time.
+ */
+public class SaveService<T> {
+
+    public static final String EXTENSION = ".sav";
+    public static final String LEGACY_EXTENSION = ".json";
+
+    static final byte[] MAGIC = { 'M', 'Z', 'S', 'V' };
+    static final int FORMAT_VERSION = 1;
+
+    /** Shared by all directories so writes never overlap */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "save-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Metadata of one save slot
+     */
+    public static class SaveInfo {
+        private final String name;
+        private final String fileName;
+        private final long savedAt;
+
+        SaveInfo(String name, String fileName, long savedAt) {
+            this.name = name;
+            this.fileName = fileName;
+            this.savedAt = savedAt;
+        }
+
+        /** Slot name without extension */
+        public String getName() {
+            return name;
+        }
+
+        /** File name including extension, accepted by load and delete */
+        public String getFileName() {
+            return fileName;
+        }
+
+        /** Time of the last save in epoch milliseconds */
+        public long getSavedAt() {
+            return savedAt;
+        }
+    }
+
+    private final File dir;
+    private final Class<T> type;
+
+    // Guarded by this
+    private Map<String, SaveInfo> index;
+    private final Map<String, Future<?>> pending = new HashMap<>();
+    private final Map<String, T> lastSaved = new HashMap<>();
+
+    public SaveService(File dir, Class<T> type) {
+        this.dir = dir;
+        this.type = type;
+    }
+
+    /**
+     * Strip a {@code .sav} or {@code .json} extension from a slot or file name
+     */
+    public static String slotName(String filename) {
+        if (filename.endsWith(EXTENSION))
+            return filename.substring(0, filename.length() - EXTENSION.length());
+        if (filename.endsWith(LEGACY_EXTENSION))
+            return filename.substring(0, filename.length() - LEGACY_EXTENSION.length());
+        return filename;
+    }
+
+    // ==================== Save ====================
+
+    /**
+     * Queue {@code state} to be written to the slot. Returns immediately.
+     */
+    public synchronized Future<?> save(String filename, T state) {
+        String name = slotName(filename);
+        lastSaved.put(name, state);
+        ensureIndex().put(name, new SaveInfo(name, name + EXTENSION, System.currentTimeMillis()));
+
+        Future<?> write = WRITER.submit(() -> write(name, state));
+        pending.put(name, write);
+        return write;
+    }
+
+    private void write(String name, T state) {
+        try {
+            byte[] data = encode(state);
+            AtomicFiles.write(new File(dir, name + EXTENSION), data);
+
+            File legacy = new File(dir, name + LEGACY_EXTENSION);
+            if (legacy.exists() && !legacy.delete()) {
+                GameLogger.warn("SaveService", "Could not remove migrated save " + legacy);
+            }
+            GameLogger.info("SaveService", "Saved " + name + " (" + data.length + " bytes)");
+        } catch (IOException | RuntimeException e) {
+            GameLogger.error("SaveService", "Failed to save " + name, e);
+        }
+    }
+
+    /**
+     * A copy of the state most recently handed to {@link #save} for this slot
+     * in this session, or null. Lets callers patch a few fields without
+     * reading the file back. The copy is safe to modify; a pending write of
+     * the original is not waited for, since both only read it.
+     */
+    public T copyLastSaved(String filename) {
+        T state;
+        synchronized (this) {
+            state = lastSaved.get(slotName(filename));
+        }
+        if (state == null)
+            return null;
+
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        return json.fromJson(type, json.toJson(state));
+    }
+
+    // ==================== Load ====================
+
+    /**
+     * Read the slot, or return null if it does not exist or cannot be read
+     */
+    public T load(String filename) {
+        String name = slotName(filename);
+        await(name);
+
+        File file = new File(dir, name + EXTENSION);
+        if (!file.exists()) {
+            file = new File(dir, name + LEGACY_EXTENSION);
+        }
+        if (!file.exists()) {
+            GameLogger.info("SaveService", "Save file not found: " + name);
+            return null;
+        }
+
+        try {
+            return decode(Files.readAllBytes(file.toPath()), type);
+        } catch (IOException | RuntimeException e) {
+            GameLogger.error("SaveService", "Failed to load " + file, e);
+            return null;
+        }
+    }
+
+    // ==================== Index ====================
+
+    /**
+     * All slots, newest first
+     */
+    public synchronized List<SaveInfo> list() {
+        List<SaveInfo> result = new ArrayList<>(ensureIndex().values());
+        result.sort((a, b) -> Long.compare(b.savedAt, a.savedAt));
+        return result;
+    }
+
+    public synchronized boolean exists(String filename) {
+        return ensureIndex().containsKey(slotName(filename));
+    }
+
+    /**
+     * Delete the slot (snapshot and any legacy JSON)
+     */
+    public boolean delete(String filename) {
+        String name = slotName(filename);
+        await(name);
+
+        boolean deleted = false;
+        for (String extension : new String[] { EXTENSION, LEGACY_EXTENSION }) {
+            File file = new File(dir, name + extension);
+            if (file.exists()) {
+                if (file.delete()) {
+                    deleted = true;
+                } else {
+                    GameLogger.error("SaveService", "Failed to delete " + file);
+                }
+            }
+        }
+        synchronized (this) {
+            ensureIndex().remove(name);
+            lastSaved.remove(name);
+        }
+        return deleted;
+    }
+
+    /**
+     * Drop the in-memory index so the next listing rescans the directory
+     */
+    public synchronized void invalidateIndex() {
+        index = null;
+    }
+
+    private Map<String, SaveInfo> ensureIndex() {
+        if (index != null)
+            return index;
+
+        index = new HashMap<>();
+        File[] files = dir.listFiles();
+        if (files == null)
+            return index;
+
+        for (File file : files) {
+            String fileName = file.getName();
+            if (!file.isFile() || !(fileName.endsWith(EXTENSION) || fileName.endsWith(LEGACY_EXTENSION)))
+                continue;
+            String name = slotName(fileName);
+            SaveInfo existing = index.get(name);
+            // A snapshot wins over a legacy JSON of the same slot
+            if (existing == null || fileName.endsWith(EXTENSION)) {
+                index.put(name, new SaveInfo(name, fileName, file.lastModified()));
+            }
+        }
+        return index;
+    }
+
+    // ==================== Pending writes ====================
+
+    private void await(String name) {
+        Future<?> write;
+        synchronized (this) {
+            write = pending.remove(name);
+        }
+        waitFor(write);
+    }
+
+    /**
+     * Wait until every queued save of this directory is on disk
+     */
+    public void flush() {
+        List<Future<?>> writes;
+        synchronized (this) {
+            writes = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        for (Future<?> write : writes) {
+            waitFor(write);
+        }
+    }
+
+    private static void waitFor(Future<?> write) {
+        if (write == null)
+            return;
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            GameLogger.error("SaveService", "Save failed", e);
+        }
+    }
+
+    // ==================== Format ====================
+
+    /**
+     * Encode a state as a snapshot, exactly as it is written to disk
+     */
+    public static byte[] encode(Object state) throws IOException {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        byte[] payload = json.toJson(state).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length / 4 + 16);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a snapshot, or a legacy plain JSON save
+     */
+    public static <S> S decode(byte[] data, Class<S> type) throws IOException {
+        Json json = new Json();
+        if (!hasMagic(data)) {
+            return json.fromJson(type, new String(data, StandardCharsets.UTF_8));
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        in.skipBytes(MAGIC.length);
+        int version = in.readUnsignedShort();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Save format " + version + " is newer than supported " + FORMAT_VERSION);
+        }
+        try (InputStream gzip = new GZIPInputStream(in)) {
+            return json.fromJson(type, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean hasMagic(byte[] data) {
+        if (data.length < MAGIC.length + 2)
+            return false;
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i])
+                return false;
+        }
+        return true;
+    }
+}
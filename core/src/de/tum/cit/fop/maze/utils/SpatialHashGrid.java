@@ -1,11 +1,7 @@
 package de.tum.cit.fop.maze.utils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * Spatial Hash Grid
@@ -18,19 +14,17 @@
  * When querying nearby entities, only the relevant cells need to be checked,
  * avoiding the need to iterate through all entities.
  * 
+ * Storage is delegated to {@link PackedSpatialHashGrid}. The List-returning
+ * methods allocate their result; the buffer and visitor overloads do not, so
+ * per-frame queries should prefer those.
+ * 
  * @param <T> Entity type (must implement a position provider or provide
  *            coordinate access)
  */
 public class SpatialHashGrid<T> {
 
-    /** Cell size (world units) */
-    private final float cellSize;
-
-    /** Hash map: cellKey -> Set of entities within this cell */
-    private final Map<Long, Set<T>> grid;
-
-    /** Reverse index: Entity -> Current cell key */
-    private final Map<T, Long> entityCells;
+    /** Primitive-keyed storage backend */
+    private final PackedSpatialHashGrid<T> packed;
 
     /**
      * Constructor
@@ -39,19 +33,7 @@
      *                 32)
      */
     public SpatialHashGrid(float cellSize) {
-        this.cellSize = cellSize;
-        this.grid = new HashMap<>();
-        this.entityCells = new HashMap<>();
-    }
-
-    /**
-     * Calculate cell key
-     */
-    private long getCellKey(float x, float y) {
-        int cellX = (int) Math.floor(x / cellSize);
-        int cellY = (int) Math.floor(y / cellSize);
-        // Combine two ints into a long to avoid collisions
-        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+        this.packed = new PackedSpatialHashGrid<>(cellSize);
     }
 
     /**
@@ -62,9 +44,7 @@ private long getCellKey(float x, float y) {
      * @param y      Current Y coordinate
      */
     public void insert(T entity, float x, float y) {
-        long key = getCellKey(x, y);
-        grid.computeIfAbsent(key, k -> new HashSet<>()).add(entity);
-        entityCells.put(entity, key);
+        packed.insert(entity, x, y);
     }
 
     /**
@@ -73,16 +53,7 @@ public void insert(T entity, float x, float y) {
      * @param entity Entity object
      */
     public void remove(T entity) {
-        Long key = entityCells.remove(entity);
-        if (key != null) {
-            Set<T> cell = grid.get(key);
-            if (cell != null) {
-                cell.remove(entity);
-                if (cell.isEmpty()) {
-                    grid.remove(key);
-                }
-            }
-        }
+        packed.remove(entity);
     }
 
     /**
@@ -93,28 +64,7 @@ public void remove(T entity) {
      * @param newY   New Y coordinate
      */
     public void update(T entity, float newX, float newY) {
-        long newKey = getCellKey(newX, newY);
-        Long oldKey = entityCells.get(entity);
-
-        // If still in the same cell, no update needed
-        if (oldKey != null && oldKey == newKey) {
-            return;
-        }
-
-        // Remove from old cell
-        if (oldKey != null) {
-            Set<T> oldCell = grid.get(oldKey);
-            if (oldCell != null) {
-                oldCell.remove(entity);
-                if (oldCell.isEmpty()) {
-                    grid.remove(oldKey);
-                }
-            }
-        }
-
-        // Insert into new cell
-        grid.computeIfAbsent(newKey, k -> new HashSet<>()).add(entity);
-        entityCells.put(entity, newKey);
+        packed.update(entity, newX, newY);
     }
 
     /**
@@ -127,29 +77,20 @@ public void update(T entity, float newX, float newY) {
      */
     public List<T> getNearby(float centerX, float centerY, float radius) {
         List<T> result = new ArrayList<>();
-
-        // Determine the range of cells that need to be checked
-        int minCellX = (int) Math.floor((centerX - radius) / cellSize);
-        int maxCellX = (int) Math.floor((centerX + radius) / cellSize);
-        int minCellY = (int) Math.floor((centerY - radius) / cellSize);
-        int maxCellY = (int) Math.floor((centerY + radius) / cellSize);
-
-        float radiusSq = radius * radius;
-
-        // Iterate through relevant cells
-        for (int cx = minCellX; cx <= maxCellX; cx++) {
-            for (int cy = minCellY; cy <= maxCellY; cy++) {
-                long key = ((long) cx << 32) | (cy & 0xFFFFFFFFL);
-                Set<T> cell = grid.get(key);
-                if (cell != null) {
-                    result.addAll(cell);
-                }
-            }
-        }
-
+        packed.collectCandidates(centerX, centerY, radius, result);
         return result;
     }
 
+    /**
+     * Get entities around specified position into a caller-supplied buffer
+     * (appends, does not clear)
+     * 
+     * @return Number of entities appended
+     */
+    public int getNearby(float centerX, float centerY, float radius, List<T> out) {
+        return packed.collectCandidates(centerX, centerY, radius, out);
+    }
+
     /**
      * Get entities around specified position (with precise distance filtering)
      * 
@@ -163,20 +104,20 @@ public List<T> getNearby(float centerX, float centerY, float radius) {
      * @return List of entities within precise distance
      */
     public List<T> getNearbyExact(float centerX, float centerY, float radius, PositionProvider<T> positionProvider) {
-        List<T> candidates = getNearby(centerX, centerY, radius);
-        List<T> result = new ArrayList<>();
+        List<T> result = getNearby(centerX, centerY, radius);
 
+        // Filter in place instead of copying into a second list
         float radiusSq = radius * radius;
-        for (T entity : candidates) {
-            float ex = positionProvider.getX(entity);
-            float ey = positionProvider.getY(entity);
-            float dx = ex - centerX;
-            float dy = ey - centerY;
+        int kept = 0;
+        for (int i = 0; i < result.size(); i++) {
+            T entity = result.get(i);
+            float dx = positionProvider.getX(entity) - centerX;
+            float dy = positionProvider.getY(entity) - centerY;
             if (dx * dx + dy * dy <= radiusSq) {
-                result.add(entity);
+                result.set(kept++, entity);
             }
         }
-
+        truncate(result, kept);
         return result;
     }
 
@@ -184,15 +125,14 @@ public List<T> getNearbyExact(float centerX, float centerY, float radius, Positi
      * Clear all entities
      */
     public void clear() {
-        grid.clear();
-        entityCells.clear();
+        packed.clear();
     }
 
     /**
      * Get total number of entities
      */
     public int size() {
-        return entityCells.size();
+        return packed.size();
     }
 
     /**
@@ -222,20 +162,48 @@ default float getY(T entity) {
      */
     public List<T> getNearbyExact(float centerX, float centerY, float radius,
             FullPositionProvider<T> positionProvider) {
-        List<T> candidates = getNearby(centerX, centerY, radius);
         List<T> result = new ArrayList<>();
+        getNearbyExact(centerX, centerY, radius, positionProvider, result);
+        return result;
+    }
+
+    /**
+     * Precise distance query into a caller-supplied buffer (appends, does not
+     * clear). Distances use the live positions from {@code positionProvider}.
+     * 
+     * @return Number of entities appended
+     */
+    public int getNearbyExact(float centerX, float centerY, float radius,
+            FullPositionProvider<T> positionProvider, List<T> out) {
+        int start = out.size();
+        packed.collectCandidates(centerX, centerY, radius, out);
 
         float radiusSq = radius * radius;
-        for (T entity : candidates) {
-            float ex = positionProvider.getX(entity);
-            float ey = positionProvider.getY(entity);
-            float dx = ex - centerX;
-            float dy = ey - centerY;
+        int kept = start;
+        for (int i = start; i < out.size(); i++) {
+            T entity = out.get(i);
+            float dx = positionProvider.getX(entity) - centerX;
+            float dy = positionProvider.getY(entity) - centerY;
             if (dx * dx + dy * dy <= radiusSq) {
-                result.add(entity);
+                out.set(kept++, entity);
             }
         }
+        truncate(out, kept);
+        return kept - start;
+    }
 
-        return result;
+    /**
+     * Visit entities whose last inserted/updated position lies within
+     * {@code radius}. Allocation-free; the visitor must not modify the grid.
+     */
+    public void forEachNearby(float centerX, float centerY, float radius,
+            PackedSpatialHashGrid.Visitor<? super T> visitor) {
+        packed.forEachWithin(centerX, centerY, radius, visitor);
+    }
+
+    private static <T> void truncate(List<T> list, int newSize) {
+        for (int i = list.size() - 1; i >= newSize; i--) {
+            list.remove(i);
+        }
     }
 }
@@ -0,0 +1,184 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Precomputed average and dominant colour of standalone textures, keyed by
+ * asset path (e.g. {@code images/walls/wall_ice_2x2_v1.png}).
+ *
+ * Written by the desktop {@code TexturePackerTool} at asset build time and
+ * read by {@link TextureManager}, so the game does not decode every floor and
+ * wall image a second time on startup just to tint the grout.
+ *
+ * File format ({@value #PATH}): one {@code path=AVERAGE,DOMINANT} line per
+ * texture, colours as RGBA8888 hex.
+ */
+public final class TextureColorTable {
+
+    /** Internal path of the sidecar file */
+    public static final String PATH = "images/texture_colors.properties";
+
+    /** Only every n-th pixel in each direction is sampled */
+    public static final int SAMPLE_STEP = 4;
+
+    /** Bits per channel of the dominant colour histogram */
+    private static final int QUANT_BITS = 4;
+
+    /**
+     * Pixel access for {@link #sampleColors}
+     */
+    public interface PixelSource {
+        /** Pixel at (x, y) as RGBA8888 */
+        int getPixel(int x, int y);
+    }
+
+    /** path -> { average, dominant } as RGBA8888 */
+    private final Map<String, int[]> colors = new TreeMap<>();
+
+    /**
+     * Read a table; a missing or unreadable file gives an empty table
+     */
+    public static TextureColorTable load(FileHandle file) {
+        TextureColorTable table = new TextureColorTable();
+        if (file == null || !file.exists()) {
+            return table;
+        }
+
+        Properties props = new Properties();
+        try (InputStream in = file.read()) {
+            props.load(in);
+        } catch (IOException | RuntimeException e) {
+            GameLogger.warn("TextureColorTable", "Failed to read " + file.path() + ": " + e.getMessage());
+            return table;
+        }
+
+        for (String path : props.stringPropertyNames()) {
+            String[] values = props.getProperty(path).split(",");
+            try {
+                int average = Integer.parseUnsignedInt(values[0].trim(), 16);
+                int dominant = values.length > 1 ? Integer.parseUnsignedInt(values[1].trim(), 16) : average;
+                table.put(path, average, dominant);
+            } catch (NumberFormatException e) {
+                GameLogger.warn("TextureColorTable", "Invalid colour entry: " + path);
+            }
+        }
+        return table;
+    }
+
+    public void put(String path, int averageRgba8888, int dominantRgba8888) {
+        colors.put(path, new int[] { averageRgba8888, dominantRgba8888 });
+    }
+
+    public boolean contains(String path) {
+        return colors.containsKey(path);
+    }
+
+    /**
+     * Average colour of a texture, or null if not in the table
+     */
+    public Color getAverage(String path) {
+        int[] entry = colors.get(path);
+        return entry == null ? null : new Color(entry[0]);
+    }
+
+    /**
+     * Most frequent colour of a texture, or null if not in the table
+     */
+    public Color getDominant(String path) {
+        int[] entry = colors.get(path);
+        return entry == null ? null : new Color(entry[1]);
+    }
+
+    public int size() {
+        return colors.size();
+    }
+
+    /**
+     * Write the table, sorted by path so regenerated files diff cleanly
+     */
+    public void store(Writer out) throws IOException {
+        out.write("# Average and dominant colour per texture (RGBA8888), generated by TexturePackerTool\n");
+        for (Map.Entry<String, int[]> entry : colors.entrySet()) {
+            out.write(entry.getKey() + "=" + hex(entry.getValue()[0]) + "," + hex(entry.getValue()[1]) + "\n");
+        }
+        out.flush();
+    }
+
+    private static String hex(int rgba8888) {
+        return String.format("%08x", rgba8888);
+    }
+
+    /**
+     * Sample an image on a {@value #SAMPLE_STEP}-pixel grid.
+     *
+     * The average is taken over the RGB of all samples (alpha ignored, opaque
+     * result). The dominant colour is the mean of the most populated bucket of
+     * a {@value #QUANT_BITS}-bit-per-channel histogram over non-transparent
+     * samples, or the average if there are none.
+     *
+     * @return { average, dominant } as RGBA8888
+     */
+    public static int[] sampleColors(int width, int height, PixelSource pixels) {
+        long r = 0, g = 0, b = 0;
+        int count = 0;
+
+        int buckets = 1 << (QUANT_BITS * 3);
+        int[] bucketCount = new int[buckets];
+        long[] bucketSum = new long[buckets * 3];
+
+        for (int x = 0; x < width; x += SAMPLE_STEP) {
+            for (int y = 0; y < height; y += SAMPLE_STEP) {
+                int rgba = pixels.getPixel(x, y);
+                int pr = rgba >>> 24;
+                int pg = (rgba >>> 16) & 0xff;
+                int pb = (rgba >>> 8) & 0xff;
+                r += pr;
+                g += pg;
+                b += pb;
+                count++;
+
+                if ((rgba & 0xff) == 0) {
+                    continue; // Transparent pixels never dominate
+                }
+                int shift = 8 - QUANT_BITS;
+                int bucket = ((pr >> shift) << (QUANT_BITS * 2)) | ((pg >> shift) << QUANT_BITS) | (pb >> shift);
+                bucketCount[bucket]++;
+                bucketSum[bucket * 3] += pr;
+                bucketSum[bucket * 3 + 1] += pg;
+                bucketSum[bucket * 3 + 2] += pb;
+            }
+        }
+
+        if (count == 0) {
+            int gray = Color.rgba8888(Color.GRAY);
+            return new int[] { gray, gray };
+        }
+        int average = rgba((int) (r / count), (int) (g / count), (int) (b / count));
+
+        int best = -1;
+        for (int i = 0; i < buckets; i++) {
+            if (bucketCount[i] > 0 && (best < 0 || bucketCount[i] > bucketCount[best])) {
+                best = i;
+            }
+        }
+        int dominant = average;
+        if (best >= 0) {
+            int n = bucketCount[best];
+            dominant = rgba((int) (bucketSum[best * 3] / n), (int) (bucketSum[best * 3 + 1] / n),
+                    (int) (bucketSum[best * 3 + 2] / n));
+        }
+        return new int[] { average, dominant };
+    }
+
+    private static int rgba(int r, int g, int b) {
+        return (r << 24) | (g << 16) | (b << 8) | 0xff;
+    }
+}
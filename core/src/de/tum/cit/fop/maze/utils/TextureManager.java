@@ -10,10 +10,24 @@
 
 /**
  * Manages game assets (textures, animations) and their slicing coordinates.
+ * 
+ * Standalone image files are acquired through {@link AssetService}, so they
+ * are shared with other owners (and with the next TextureManager) instead of
+ * being reloaded, and released together on dispose.
  */
 public class TextureManager implements Disposable {
 
+        /**
+         * Directories (internal paths) with the standalone images loaded by the
+         * constructor
+         */
+        public static final String[] PRELOAD_DIRECTORIES = {
+                        "images/floors", "images/walls", "images/traps", "images/animations",
+                        "images/exits", "images/items"
+        };
+
         private TextureAtlas atlas;
+        private final AssetService.Group assets = AssetService.getInstance().group();
         private Texture attackTexture; // Raw texture for attacks (avoids atlas trimming)
 
         // Regions & Animations
@@ -134,6 +148,28 @@ public TextureManager(TextureAtlas sharedAtlas) {
                 loadAssets();
         }
 
+        /**
+         * Queue the standalone images of a TextureManager for asynchronous loading
+         * (e.g. while the loading screen is shown), so the constructor finds them
+         * loaded.
+         * 
+         * @return Number of images queued
+         */
+        public static int prefetchAssets() {
+                int queued = 0;
+                for (String dir : PRELOAD_DIRECTORIES) {
+                        com.badlogic.gdx.files.FileHandle handle = com.badlogic.gdx.Gdx.files.internal(dir);
+                        if (!handle.isDirectory()) {
+                                continue;
+                        }
+                        for (com.badlogic.gdx.files.FileHandle file : handle.list(".png")) {
+                                AssetService.getInstance().prefetch(file.path(), Texture.class);
+                                queued++;
+                        }
+                }
+                return queued;
+        }
+
         private TextureRegion findRegionSafe(String name) {
                 TextureRegion region = atlas.findRegion(name);
                 if (region == null) {
@@ -496,7 +532,7 @@ private Animation<TextureRegion> loadSpriteSheetAnimation(String path, int frame
                                 System.err.println("Sprite sheet not found: " + path);
                                 return null;
                         }
-                        Texture texture = new Texture(com.badlogic.gdx.Gdx.files.internal(path));
+                        Texture texture = assets.texture(path);
                         Array<TextureRegion> frames = new Array<>();
                         for (int i = 0; i < frameCount; i++) {
                                 frames.add(new TextureRegion(texture, i * frameSize, 0, frameSize, frameSize));
@@ -533,12 +569,11 @@ private void loadWallAssets() {
                                                         + ".png";
                                         if (com.badlogic.gdx.Gdx.files.internal(path).exists()) {
                                                 try {
-                                                        Texture tex = new Texture(
-                                                                        com.badlogic.gdx.Gdx.files.internal(path));
+                                                        Texture tex = assets.texture(path);
                                                         TextureRegion reg = new TextureRegion(tex);
                                                         variants.add(reg);
                                                         // Cache color for grout logic
-                                                        calculateAndCacheColor(tex, reg);
+                                                        calculateAndCacheColor(path, tex, reg);
                                                         // System.out.println("Loaded " + path);
                                                 } catch (Exception e) {
                                                         System.err.println("Failed to load wall variant: " + path);
@@ -551,11 +586,10 @@ private void loadWallAssets() {
                                         String staticPath = "images/walls/wall_" + theme + "_" + sizeSuffix + ".png";
                                         if (com.badlogic.gdx.Gdx.files.internal(staticPath).exists()) {
                                                 try {
-                                                        Texture staticTex = new Texture(com.badlogic.gdx.Gdx.files
-                                                                        .internal(staticPath));
+                                                        Texture staticTex = assets.texture(staticPath);
                                                         TextureRegion reg = new TextureRegion(staticTex);
                                                         variants.add(reg);
-                                                        calculateAndCacheColor(staticTex, reg);
+                                                        calculateAndCacheColor(staticPath, staticTex, reg);
                                                 } catch (Exception e) {
                                                         // ignore
                                                 }
@@ -848,10 +882,11 @@ public float getChestAspectRatio(de.tum.cit.fop.maze.model.TreasureChest.ChestSt
 
         private TextureRegion loadTextureSafe(String path) {
                 try {
-                        Texture t = new Texture(com.badlogic.gdx.Gdx.files.internal(path));
+                        Texture t = assets.texture(path);
+                        TextureRegion region = new TextureRegion(t);
                         // [NEW] Calculate and cache average color for Grout
-                        calculateAndCacheColor(t, new TextureRegion(t));
-                        return new TextureRegion(t);
+                        calculateAndCacheColor(path, t, region);
+                        return region;
                 } catch (Exception e) {
                         // System.err.println("Failed to load texture: " + path);
                         return fallbackRegion;
@@ -898,9 +933,10 @@ public TextureRegion getPotionTexture(String potionKey) {
         private TextureRegion loadWallBaseFloorSafe(String path, TextureRegion fallback) {
                 try {
                         if (com.badlogic.gdx.Gdx.files.internal(path).exists()) {
-                                Texture t = new Texture(com.badlogic.gdx.Gdx.files.internal(path));
-                                calculateAndCacheColor(t, new TextureRegion(t));
-                                return new TextureRegion(t);
+                                Texture t = assets.texture(path);
+                                TextureRegion region = new TextureRegion(t);
+                                calculateAndCacheColor(path, t, region);
+                                return region;
                         }
                 } catch (Exception e) {
                         // Silently fall back
@@ -968,45 +1004,47 @@ public TextureRegion getWallBaseFloor(String theme) {
 
         // [NEW] Cache for average colors of textures
         private final com.badlogic.gdx.utils.ObjectMap<TextureRegion, com.badlogic.gdx.graphics.Color> regionColorCache = new com.badlogic.gdx.utils.ObjectMap<>();
+        private final com.badlogic.gdx.utils.ObjectMap<TextureRegion, com.badlogic.gdx.graphics.Color> dominantColorCache = new com.badlogic.gdx.utils.ObjectMap<>();
+
+        /** Colours precomputed by TexturePackerTool, read once per process */
+        private static TextureColorTable colorTable;
+
+        private static TextureColorTable getColorTable() {
+                if (colorTable == null) {
+                        colorTable = TextureColorTable
+                                        .load(com.badlogic.gdx.Gdx.files.internal(TextureColorTable.PATH));
+                }
+                return colorTable;
+        }
+
+        /**
+         * Cache the average/dominant colour of a texture. Uses the precomputed
+         * table and only reads the pixels back for images missing from it.
+         */
+        private void calculateAndCacheColor(String path, Texture texture, TextureRegion region) {
+                TextureColorTable table = getColorTable();
+                if (table.contains(path)) {
+                        regionColorCache.put(region, table.getAverage(path));
+                        dominantColorCache.put(region, table.getDominant(path));
+                        return;
+                }
 
-        private void calculateAndCacheColor(Texture texture, TextureRegion region) {
                 try {
                         if (!texture.getTextureData().isPrepared()) {
                                 texture.getTextureData().prepare();
                         }
                         com.badlogic.gdx.graphics.Pixmap pixmap = texture.getTextureData().consumePixmap();
 
-                        long r = 0, g = 0, b = 0;
-                        int pixelCount = 0;
-                        int width = pixmap.getWidth();
-                        int height = pixmap.getHeight();
-
-                        // Sample pixels (every 4th pixel for performance)
-                        for (int x = 0; x < width; x += 4) {
-                                for (int y = 0; y < height; y += 4) {
-                                        int colorInt = pixmap.getPixel(x, y);
-                                        // RGBA8888
-                                        r += (colorInt & 0xff000000) >>> 24;
-                                        g += (colorInt & 0x00ff0000) >>> 16;
-                                        b += (colorInt & 0x0000ff00) >>> 8;
-                                        pixelCount++;
-                                }
-                        }
+                        int[] colors = TextureColorTable.sampleColors(pixmap.getWidth(), pixmap.getHeight(),
+                                        pixmap::getPixel);
 
                         if (texture.getTextureData()
                                         .getType() == com.badlogic.gdx.graphics.TextureData.TextureDataType.Pixmap) {
                                 pixmap.dispose();
                         }
 
-                        if (pixelCount > 0) {
-                                regionColorCache.put(region, new com.badlogic.gdx.graphics.Color(
-                                                (r / pixelCount) / 255f,
-                                                (g / pixelCount) / 255f,
-                                                (b / pixelCount) / 255f,
-                                                1f));
-                        } else {
-                                regionColorCache.put(region, com.badlogic.gdx.graphics.Color.GRAY);
-                        }
+                        regionColorCache.put(region, new com.badlogic.gdx.graphics.Color(colors[0]));
+                        dominantColorCache.put(region, new com.badlogic.gdx.graphics.Color(colors[1]));
                 } catch (Exception e) {
                         System.err.println("Failed to calculate average color: " + e.getMessage());
                         regionColorCache.put(region, com.badlogic.gdx.graphics.Color.GRAY);
@@ -1017,6 +1055,14 @@ public com.badlogic.gdx.graphics.Color getTextureColor(TextureRegion region) {
                 return regionColorCache.get(region, com.badlogic.gdx.graphics.Color.GRAY);
         }
 
+        /**
+         * Most frequent colour of a texture (falls back to its average colour)
+         */
+        public com.badlogic.gdx.graphics.Color getDominantColor(TextureRegion region) {
+                com.badlogic.gdx.graphics.Color dominant = dominantColorCache.get(region);
+                return dominant != null ? dominant : getTextureColor(region);
+        }
+
         @Override
         public void dispose() {
                 if (atlas != null) {
@@ -1032,44 +1078,7 @@ public void dispose() {
                         whitePixelTexture.dispose();
                 }
 
-                disposeRegionTexture(floorDungeon);
-                disposeRegionTexture(floorDesert);
-                disposeRegionTexture(floorGrassland);
-                disposeRegionTexture(floorJungle);
-                disposeRegionTexture(floorIce);
-                disposeRegionTexture(floorLava);
-                disposeRegionTexture(floorRain);
-                disposeRegionTexture(floorSpace);
-                disposeRegionTexture(arrowRegion);
-                disposeRegionTexture(keyRegion);
-
-                for (Array<TextureRegion> variants : wallStaticCache.values()) {
-                        for (TextureRegion reg : variants) {
-                                disposeRegionTexture(reg);
-                        }
-                }
-        }
-
-        private void disposeRegionTexture(TextureRegion region) {
-                if (region != null && region.getTexture() != null && region != fallbackRegion) {
-                        // Only dispose if it's NOT atlas or fallback.
-                        // Rough check using atlas variable
-                        if (atlas != null) {
-                                boolean isAtlas = false;
-                                for (Texture t : atlas.getTextures())
-                                        if (t == region.getTexture())
-                                                isAtlas = true;
-                                if (isAtlas)
-                                        return;
-                        }
-
-                        if (region.getTexture() != fallbackTexture &&
-                                        region.getTexture() != attackTexture) {
-                                try {
-                                        region.getTexture().dispose();
-                                } catch (Exception e) {
-                                }
-                        }
-                }
+                // Floors, walls, traps, items, ... (shared through the asset service)
+                assets.releaseAll();
         }
 }
@@ -0,0 +1,254 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+import java.util.Arrays;
+
+/**
+ * Collects enemy sprites and health/shield bars during a frame and draws
+ * them in sorted batches inside the already running SpriteBatch.
+ *
+ * Sprites are drawn grouped: all dead (grayscale) sprites first with a
+ * single shader switch, then living sprites sorted by texture so that
+ * enemies sharing a texture are not interleaved with others. Status tints
+ * are stored as packed vertex colors and never break a batch.
+ *
+ * Bars are plain quads of {@link TextureManager#whitePixel}, drawn as one
+ * background layer followed by one fill layer. There is no ShapeRenderer
+ * and no batch end/begin per enemy.
+ */
+public class WorldOverlayRenderer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final TextureRegion whitePixel;
+    private ShaderProgram grayscaleShader;
+    private boolean shaderFailed;
+
+    // Queued sprites (struct of arrays)
+    private TextureRegion[] spriteRegions = new TextureRegion[INITIAL_CAPACITY];
+    private float[] spriteData = new float[INITIAL_CAPACITY * 5]; // x, y, width, height, packed color
+    private boolean[] spriteGray = new boolean[INITIAL_CAPACITY];
+    private boolean[] spriteFlip = new boolean[INITIAL_CAPACITY];
+    private long[] spriteOrder = new long[INITIAL_CAPACITY];
+    private int spriteCount;
+
+    // Queued bars: background quad, then fill quad
+    private float[] barData = new float[INITIAL_CAPACITY * 7]; // x, y, width, height, fill width, bg, fg
+    private int barCount;
+
+    /**
+     * @param whitePixel 1x1 white region used for all bar quads
+     */
+    public WorldOverlayRenderer(TextureRegion whitePixel) {
+        this.whitePixel = whitePixel;
+    }
+
+    /**
+     * Queue an enemy sprite
+     *
+     * @param color Packed tint color (status effects), see
+     *              {@link Color#toFloatBits(float, float, float, float)}
+     * @param gray  Draw with the grayscale shader (dead enemies)
+     * @param flipX Mirror horizontally
+     */
+    public void addSprite(TextureRegion region, float x, float y, float width, float height,
+            float color, boolean gray, boolean flipX) {
+        if (region == null)
+            return;
+        if (spriteCount == spriteRegions.length) {
+            int capacity = spriteCount * 2;
+            spriteRegions = Arrays.copyOf(spriteRegions, capacity);
+            spriteData = Arrays.copyOf(spriteData, capacity * 5);
+            spriteGray = Arrays.copyOf(spriteGray, capacity);
+            spriteFlip = Arrays.copyOf(spriteFlip, capacity);
+            spriteOrder = new long[capacity];
+        }
+        int i = spriteCount++;
+        spriteRegions[i] = region;
+        int d = i * 5;
+        spriteData[d] = x;
+        spriteData[d + 1] = y;
+        spriteData[d + 2] = width;
+        spriteData[d + 3] = height;
+        spriteData[d + 4] = color;
+        spriteGray[i] = gray;
+        spriteFlip[i] = flipX;
+    }
+
+    /**
+     * Queue a bar: a full-width background and a fill scaled by percent
+     *
+     * @param percent    Fill ratio, clamped to [0, 1]
+     * @param background Packed background color, fully transparent for none
+     * @param fill       Packed fill color
+     */
+    public void addBar(float x, float y, float width, float height, float percent,
+            float background, float fill) {
+        if (barCount * 7 == barData.length) {
+            barData = Arrays.copyOf(barData, barData.length * 2);
+        }
+        int d = barCount++ * 7;
+        barData[d] = x;
+        barData[d + 1] = y;
+        barData[d + 2] = width;
+        barData[d + 3] = height;
+        barData[d + 4] = width * Math.max(0f, Math.min(1f, percent));
+        barData[d + 5] = background;
+        barData[d + 6] = fill;
+    }
+
+    /**
+     * Draw and clear all queued sprites. The batch must be drawing; its
+     * color and shader are restored afterwards.
+     */
+    public void drawSprites(Batch batch) {
+        if (spriteCount == 0)
+            return;
+
+        // Sort key: living after dead, then texture, then submission order
+        for (int i = 0; i < spriteCount; i++) {
+            long group = spriteGray[i] ? 0L : 1L;
+            long texture = System.identityHashCode(spriteRegions[i].getTexture()) & 0x7FFFFFFFL;
+            spriteOrder[i] = group << 62 | texture << 24 | i;
+        }
+        Arrays.sort(spriteOrder, 0, spriteCount);
+
+        float previousColor = batch.getPackedColor();
+        ShaderProgram previousShader = batch.getShader();
+        boolean grayActive = false;
+
+        for (int k = 0; k < spriteCount; k++) {
+            int i = (int) (spriteOrder[k] & 0xFFFFFF);
+            if (spriteGray[i] != grayActive) {
+                ShaderProgram shader = spriteGray[i] ? getGrayscaleShader() : previousShader;
+                if (shader == null) {
+                    shader = previousShader;
+                }
+                if (shader != batch.getShader()) {
+                    batch.setShader(shader);
+                }
+                grayActive = spriteGray[i];
+            }
+
+            int d = i * 5;
+            float x = spriteData[d];
+            float width = spriteData[d + 2];
+            batch.setPackedColor(spriteData[d + 4]);
+            if (spriteFlip[i]) {
+                batch.draw(spriteRegions[i], x + width, spriteData[d + 1], -width, spriteData[d + 3]);
+            } else {
+                batch.draw(spriteRegions[i], x, spriteData[d + 1], width, spriteData[d + 3]);
+            }
+        }
+
+        if (batch.getShader() != previousShader) {
+            batch.setShader(previousShader);
+        }
+        batch.setPackedColor(previousColor);
+        Arrays.fill(spriteRegions, 0, spriteCount, null);
+        spriteCount = 0;
+    }
+
+    /**
+     * Draw and clear all queued bars. The batch must be drawing; its color
+     * is restored afterwards.
+     */
+    public void drawBars(Batch batch) {
+        if (barCount == 0)
+            return;
+
+        float previousColor = batch.getPackedColor();
+        for (int i = 0; i < barCount; i++) {
+            int d = i * 7;
+            if (isTransparent(barData[d + 5]))
+                continue;
+            batch.setPackedColor(barData[d + 5]);
+            batch.draw(whitePixel, barData[d], barData[d + 1], barData[d + 2], barData[d + 3]);
+        }
+        for (int i = 0; i < barCount; i++) {
+            int d = i * 7;
+            if (barData[d + 4] <= 0f)
+                continue;
+            batch.setPackedColor(barData[d + 6]);
+            batch.draw(whitePixel, barData[d], barData[d + 1], barData[d + 4], barData[d + 3]);
+        }
+        batch.setPackedColor(previousColor);
+        barCount = 0;
+    }
+
+    private static boolean isTransparent(float packedColor) {
+        return (Float.floatToRawIntBits(packedColor) & 0xFE000000) == 0;
+    }
+
+    /**
+     * Get number of queued sprites
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    /**
+     * Get number of queued bars
+     */
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * Grayscale shader, compiled on first use. Returns null if compiling
+     * failed, in which case dead sprites are drawn with their tint only.
+     */
+    private ShaderProgram getGrayscaleShader() {
+        if (grayscaleShader == null && !shaderFailed) {
+            String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+                    + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+                    + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+                    + "uniform mat4 u_projTrans;\n"
+                    + "varying vec4 v_color;\n"
+                    + "varying vec2 v_texCoords;\n"
+                    + "\n"
+                    + "void main()\n"
+                    + "{\n"
+                    + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+                    + "   v_color.a = v_color.a * (255.0/254.0);\n"
+                    + "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+                    + "   gl_Position =  u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+                    + "}\n";
+            String fragmentShader = "#ifdef GL_ES\n"
+                    + "precision mediump float;\n"
+                    + "#endif\n"
+                    + "varying vec4 v_color;\n"
+                    + "varying vec2 v_texCoords;\n"
+                    + "uniform sampler2D u_texture;\n"
+                    + "void main()\n"
+                    + "{\n"
+                    + "  vec4 c = v_color * texture2D(u_texture, v_texCoords);\n"
+                    + "  float gray = dot(c.rgb, vec3(0.299, 0.587, 0.114));\n"
+                    + "  gl_FragColor = vec4(gray, gray, gray, c.a);\n"
+                    + "}";
+            ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+            if (shader.isCompiled()) {
+                grayscaleShader = shader;
+            } else {
+                GameLogger.error("WorldOverlayRenderer", "Shader compile failed: " + shader.getLog());
+                shader.dispose();
+                shaderFailed = true;
+            }
+        }
+        return grayscaleShader;
+    }
+
+    public void dispose() {
+        if (grayscaleShader != null) {
+            grayscaleShader.dispose();
+            grayscaleShader = null;
+        }
+        Arrays.fill(spriteRegions, 0, spriteCount, null);
+        spriteCount = 0;
+        barCount = 0;
+    }
+}
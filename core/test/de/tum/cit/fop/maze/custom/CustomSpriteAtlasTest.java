@@ -0,0 +1,56 @@
+package de.tum.cit.fop.maze.custom;
+
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomSpriteAtlasTest {
+
+    /** PNG signature plus an IHDR chunk header for a 31x37 image */
+    private static final byte[] PNG_HEADER = {
+            (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A,
+            0, 0, 0, 13, 'I', 'H', 'D', 'R',
+            0, 0, 0, 31, 0, 0, 0, 37
+    };
+
+    @Test
+    public void testReadPngSize() {
+        assertArrayEquals(new int[] { 31, 37 }, CustomSpriteAtlas.readPngSize(PNG_HEADER));
+        assertNull(CustomSpriteAtlas.readPngSize(new byte[] { 1, 2, 3 }), "Too short");
+        assertNull(CustomSpriteAtlas.readPngSize(new byte[24]), "Not a PNG");
+        assertNull(CustomSpriteAtlas.readPngSize(null));
+    }
+
+    @Test
+    public void testHashChangesWithContentAndPaths() {
+        byte[] a = { 1, 2, 3 };
+        byte[] b = { 1, 2, 4 };
+        String base = CustomSpriteAtlas.computeHash(List.of("x/move_0.png"), List.of(a));
+
+        assertEquals(base, CustomSpriteAtlas.computeHash(List.of("x/move_0.png"), List.of(a.clone())));
+        assertNotEquals(base, CustomSpriteAtlas.computeHash(List.of("x/move_0.png"), List.of(b)), "Edited sprite");
+        assertNotEquals(base, CustomSpriteAtlas.computeHash(List.of("x/move_1.png"), List.of(a)), "Renamed sprite");
+        assertNotEquals(base, CustomSpriteAtlas.computeHash(List.of("x/move_0.png", "x/move_1.png"), List.of(a, a)),
+                "Added sprite");
+    }
+
+    @Test
+    public void testStampChangesWithFileMetadata(@TempDir Path dir) {
+        FileHandle file = new FileHandle(new File(dir.toFile(), "move_0.png"));
+        file.writeBytes(new byte[] { 1, 2, 3 }, false);
+        List<CustomSpriteAtlas.Frame> frames = List.of(new CustomSpriteAtlas.Frame("x/move_0.png", file));
+        String base = CustomSpriteAtlas.computeStamp(frames);
+
+        assertEquals(base, CustomSpriteAtlas.computeStamp(frames));
+        file.writeBytes(new byte[] { 1, 2, 3, 4 }, false);
+        assertNotEquals(base, CustomSpriteAtlas.computeStamp(frames), "Resized sprite");
+        assertNotEquals(base, CustomSpriteAtlas.computeStamp(
+                List.of(new CustomSpriteAtlas.Frame("x/move_1.png", file))), "Renamed sprite");
+    }
+}
@@ -0,0 +1,72 @@
+package de.tum.cit.fop.maze.model;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the previous {@code HashSet<Long>} wall occupancy lookup against
+ * the dense bitset used by {@link GameMap#isOccupied(int, int)}.
+ *
+ * Usage:
+ * {@code ./gradlew :core:test --tests "GameMapOccupancyBenchmarkTest"}
+ */
+@Disabled("Manual benchmark - do not run in CI/CD")
+public class GameMapOccupancyBenchmarkTest {
+
+    private static final int MAP_SIZE = 200;
+    private static final int QUERIES = 4_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void compareHashSetWithBitset() {
+        Random random = new Random(1);
+        GameMap map = new GameMap();
+        map.initializeSize(MAP_SIZE, MAP_SIZE);
+        Set<Long> occupiedCells = new HashSet<>();
+
+        for (int i = 0; i < 4000; i++) {
+            WallEntity wall = new WallEntity(random.nextInt(MAP_SIZE), random.nextInt(MAP_SIZE), 2, 2, 0);
+            map.addWall(wall);
+            occupiedCells.addAll(wall.getOccupiedCells());
+        }
+
+        int[] xs = new int[QUERIES];
+        int[] ys = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextInt(map.getWidth());
+            ys[i] = random.nextInt(map.getHeight());
+        }
+
+        System.out.println("=== GameMap Occupancy Benchmark ===");
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int hashHits = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                long key = xs[i] + ((long) ys[i] << 16);
+                if (occupiedCells.contains(key)) {
+                    hashHits++;
+                }
+            }
+            double hashNs = (System.nanoTime() - start) / (double) QUERIES;
+
+            start = System.nanoTime();
+            int bitHits = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                if (map.isOccupied(xs[i], ys[i])) {
+                    bitHits++;
+                }
+            }
+            double bitNs = (System.nanoTime() - start) / (double) QUERIES;
+
+            assertEquals(hashHits, bitHits);
+            System.out.printf("round %d: HashSet<Long> %.2f ns/query, bitset %.2f ns/query (%.1fx)%n",
+                    round, hashNs, bitNs, hashNs / bitNs);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package de.tum.cit.fop.maze.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameMapTest {
+
+    @Test
+    public void testOccupancyUsesCollisionHeight() {
+        GameMap map = new GameMap();
+        map.initializeSize(20, 20);
+        WallEntity wall = new WallEntity(3, 4, 2, 3, 0, false, 1);
+        map.addWall(wall);
+
+        assertTrue(map.isOccupied(3, 4));
+        assertTrue(map.isOccupied(4, 4));
+        assertFalse(map.isOccupied(3, 5), "Only the collision height blocks");
+        assertFalse(map.isOccupied(5, 4));
+        assertSame(wall, map.getWallEntity(4, 4));
+        assertNull(map.getWallEntity(3, 5));
+        assertNull(map.getWall(0, 0));
+        assertEquals(3, (int) map.getWall(4, 4).getX());
+    }
+
+    @Test
+    public void testGridGrowsAndKeepsExistingWalls() {
+        GameMap map = new GameMap();
+        map.initializeSize(4, 4);
+        WallEntity first = new WallEntity(1, 2, 2, 2, 0);
+        map.addWall(first);
+
+        // Beyond the initialized bounds in both directions
+        WallEntity far = new WallEntity(70, 90, 2, 2, 0);
+        map.addWall(far);
+
+        assertEquals(72, map.getWidth());
+        assertEquals(92, map.getHeight());
+        assertTrue(map.isOccupied(2, 3));
+        assertSame(first, map.getWallEntity(2, 3));
+        assertTrue(map.isOccupied(71, 91));
+        assertSame(far, map.getWallEntity(70, 90));
+        assertFalse(map.isOccupied(69, 90));
+        assertFalse(map.isOccupied(-1, 0));
+        assertFalse(map.isOccupied(500, 500));
+    }
+
+    @Test
+    public void testOverlappingWallLastOneWins() {
+        GameMap map = new GameMap();
+        map.initializeSize(10, 10);
+        WallEntity a = new WallEntity(2, 2, 2, 2, 0);
+        WallEntity b = new WallEntity(3, 3, 2, 2, 0);
+        map.addWall(a);
+        map.addWall(b);
+
+        assertSame(a, map.getWallEntity(2, 2));
+        assertSame(b, map.getWallEntity(3, 3));
+    }
+}
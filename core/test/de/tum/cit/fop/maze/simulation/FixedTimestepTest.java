@@ -0,0 +1,82 @@
+package de.tum.cit.fop.maze.simulation;
+
+import de.tum.cit.fop.maze.simulation.InputSource.Action;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTimestepTest {
+
+    private static final float STEP = 0.01f;
+
+    private static int runFrame(FixedTimestep clock, float delta) {
+        clock.accumulate(delta);
+        int ticks = 0;
+        while (clock.step()) {
+            ticks++;
+        }
+        return ticks;
+    }
+
+    @Test
+    public void testTicksIndependentOfFrameRate() {
+        FixedTimestep slow = new FixedTimestep(STEP, 10);
+        FixedTimestep fast = new FixedTimestep(STEP, 10);
+
+        int slowTicks = 0;
+        for (int i = 0; i < 30; i++) {
+            slowTicks += runFrame(slow, 1f / 30f);
+        }
+        int fastTicks = 0;
+        for (int i = 0; i < 144; i++) {
+            fastTicks += runFrame(fast, 1f / 144f);
+        }
+
+        // One simulated second at 100 ticks/s, whatever the frame rate
+        assertEquals(100, slowTicks, 1);
+        assertEquals(100, fastTicks, 1);
+    }
+
+    @Test
+    public void testAlphaIsLeftoverFraction() {
+        FixedTimestep clock = new FixedTimestep(STEP, 10);
+
+        assertEquals(2, runFrame(clock, 0.025f));
+        assertEquals(0.5f, clock.getAlpha(), 1e-3f);
+
+        assertEquals(0, runFrame(clock, 0.001f));
+        assertEquals(0.6f, clock.getAlpha(), 1e-3f);
+    }
+
+    @Test
+    public void testSubstepCapDropsExcessTime() {
+        FixedTimestep clock = new FixedTimestep(STEP, 3);
+
+        // A 1 second hitch runs only 3 ticks and drops the rest
+        assertEquals(3, runFrame(clock, 1f));
+        assertEquals(97, clock.getDroppedSteps(), 1);
+        assertTrue(clock.getAlpha() < 1f);
+
+        // The next normal frame is not slowed down by the backlog
+        assertEquals(1, runFrame(clock, STEP));
+    }
+
+    @Test
+    public void testBufferedInputLatchesPressesUntilTick() {
+        ScriptedInputSource live = new ScriptedInputSource().press(0, Action.ATTACK).hold(0, 5, Action.MOVE_UP);
+        BufferedInputSource buffered = new BufferedInputSource(live);
+
+        // Frame 0 runs no tick: the press must survive into the next frame
+        live.setTick(0);
+        buffered.poll();
+        live.setTick(1);
+        buffered.poll();
+        assertTrue(buffered.isJustPressed(Action.ATTACK));
+        assertTrue(buffered.isDown(Action.MOVE_UP));
+
+        // After the first tick of a frame, later ticks do not repeat it
+        buffered.endTick();
+        assertFalse(buffered.isJustPressed(Action.ATTACK));
+        assertTrue(buffered.isDown(Action.MOVE_UP));
+    }
+}
@@ -0,0 +1,85 @@
+package de.tum.cit.fop.maze.simulation;
+
+import de.tum.cit.fop.maze.simulation.InputSource.Action;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScriptedInputSourceTest {
+
+    @Test
+    public void testHoldAndJustPressed() {
+        ScriptedInputSource script = new ScriptedInputSource()
+                .hold(2, 4, Action.MOVE_RIGHT)
+                .press(3, Action.ATTACK);
+
+        assertEquals(5, script.getLength());
+
+        script.setTick(1);
+        assertFalse(script.isDown(Action.MOVE_RIGHT));
+
+        script.setTick(2);
+        assertTrue(script.isDown(Action.MOVE_RIGHT));
+        assertTrue(script.isJustPressed(Action.MOVE_RIGHT));
+
+        script.setTick(3);
+        assertTrue(script.isDown(Action.MOVE_RIGHT));
+        assertFalse(script.isJustPressed(Action.MOVE_RIGHT), "Held since the previous tick");
+        assertTrue(script.isJustPressed(Action.ATTACK));
+
+        script.setTick(4);
+        assertFalse(script.isDown(Action.ATTACK));
+
+        script.setTick(100);
+        assertFalse(script.isDown(Action.MOVE_RIGHT), "Ticks past the end hold nothing");
+    }
+
+    @Test
+    public void testParseFormatRoundTrip() {
+        String text = "# comment\n"
+                + "0-59 MOVE_UP RUN\n"
+                + "\n"
+                + "30 attack\n";
+        ScriptedInputSource script = ScriptedInputSource.parse(text);
+
+        assertEquals(60, script.getLength());
+        script.setTick(30);
+        assertTrue(script.isDown(Action.MOVE_UP));
+        assertTrue(script.isDown(Action.RUN));
+        assertTrue(script.isJustPressed(Action.ATTACK));
+
+        String formatted = script.format();
+        assertEquals("0-29 MOVE_UP RUN\n30 MOVE_UP RUN ATTACK\n31-59 MOVE_UP RUN\n", formatted);
+        assertEquals(formatted, ScriptedInputSource.parse(formatted).format());
+    }
+
+    @Test
+    public void testParseRejectsUnknownAction() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ScriptedInputSource.parse("0 MOVE_UP\n5 JUMP"));
+        assertTrue(e.getMessage().contains("line 2"));
+    }
+
+    @Test
+    public void testRecorderReplaysCapturedTicks() {
+        ScriptedInputSource live = new ScriptedInputSource()
+                .hold(0, 1, Action.MOVE_LEFT)
+                .press(2, Action.SWITCH_WEAPON);
+        InputRecorder recorder = new InputRecorder(live);
+
+        for (int t = 0; t < 4; t++) {
+            live.setTick(t);
+            recorder.capture();
+        }
+
+        ScriptedInputSource replay = recorder.getRecording();
+        assertEquals(4, recorder.getLength());
+        for (int t = 0; t < 4; t++) {
+            live.setTick(t);
+            replay.setTick(t);
+            for (Action action : Action.values()) {
+                assertEquals(live.isDown(action), replay.isDown(action), action + " at tick " + t);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package de.tum.cit.fop.maze.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AchievementStatsStoreTest {
+
+    private File dir;
+    private File file;
+    private AchievementStatsStore store;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("stats-store").toFile();
+        file = new File(dir, "stats.properties");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void testUpdatesStayInMemoryUntilFlushed() {
+        store = new AchievementStatsStore(file, null);
+        for (int i = 1; i <= 10; i++) {
+            store.putInteger("weapon_kills_Sword", i);
+        }
+
+        assertEquals(10, store.getInteger("weapon_kills_Sword"));
+        assertTrue(store.isDirty());
+        assertFalse(file.exists(), "Below the size budget nothing is written yet");
+
+        store.flushNow();
+        assertFalse(store.isDirty());
+        assertEquals(1, store.getWriteCount(), "Ten updates coalesce into one write");
+        assertFalse(new File(dir, "stats.properties.tmp").exists());
+    }
+
+    @Test
+    public void testSizeBudgetTriggersWrite() throws InterruptedException {
+        store = new AchievementStatsStore(file, null);
+        for (int i = 0; i < AchievementStatsStore.MAX_PENDING_UPDATES; i++) {
+            store.putInteger("total_kills", i + 1);
+        }
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (store.getWriteCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, store.getWriteCount());
+        assertTrue(file.exists());
+    }
+
+    @Test
+    public void testValuesSurviveReload() {
+        store = new AchievementStatsStore(file, null);
+        store.putInteger("total_coins_earned", 250);
+        store.putString("unlocked_cards", "Sword,Bow");
+        store.putBoolean("flag", true);
+        store.close();
+
+        store = new AchievementStatsStore(file, null);
+        assertEquals(250, store.getInteger("total_coins_earned"));
+        assertEquals("Sword,Bow", store.getString("unlocked_cards"));
+        assertTrue(store.getBoolean("flag"));
+        assertFalse(store.isDirty());
+    }
+
+    @Test
+    public void testLegacyValuesMigratedOnlyWithoutFile() {
+        Map<String, Object> legacy = new HashMap<>();
+        legacy.put("total_kills", "42");
+        legacy.put("max_combo_kills", 7);
+
+        store = new AchievementStatsStore(file, legacy);
+        assertEquals(42, store.getInteger("total_kills"));
+        assertEquals(7, store.getInteger("max_combo_kills"));
+        store.putInteger("total_kills", 43);
+        store.close();
+
+        // The file now exists, so the legacy map must be ignored
+        store = new AchievementStatsStore(file, legacy);
+        assertEquals(43, store.getInteger("total_kills"));
+    }
+
+    @Test
+    public void testUnchangedValueDoesNotDirty() {
+        store = new AchievementStatsStore(file, null);
+        store.putInteger("total_kills", 5);
+        store.flushNow();
+
+        store.putInteger("total_kills", 5);
+        assertFalse(store.isDirty());
+    }
+}
@@ -0,0 +1,178 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetServiceTest {
+
+    /** Stand-in for a texture: a file-backed, disposable asset that needs no GL */
+    public static class TextAsset implements Disposable {
+        final String text;
+        boolean disposed;
+
+        TextAsset(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+    }
+
+    public static class TextParameters extends AssetLoaderParameters<TextAsset> {
+    }
+
+    static class TextLoader extends SynchronousAssetLoader<TextAsset, TextParameters> {
+        TextLoader(FileHandleResolver resolver) {
+            super(resolver);
+        }
+
+        @Override
+        public TextAsset load(AssetManager manager, String fileName, FileHandle file, TextParameters parameter) {
+            return new TextAsset(file.readString());
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, TextParameters parameter) {
+            return null;
+        }
+    }
+
+    private File dir;
+    private AssetService service;
+    private Application previousApp;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // AssetManager.update(millis) asks for the application type
+        previousApp = Gdx.app;
+        Gdx.app = (Application) Proxy.newProxyInstance(Application.class.getClassLoader(),
+                new Class<?>[] { Application.class },
+                (proxy, method, args) -> method.getName().equals("getType") ? Application.ApplicationType.Desktop
+                        : null);
+
+        dir = Files.createTempDirectory("assets").toFile();
+        for (String name : new String[] { "menu.txt", "zone1.txt", "zone2.txt" }) {
+            Files.write(new File(dir, name).toPath(), name.getBytes(StandardCharsets.UTF_8));
+        }
+
+        FileHandleResolver resolver = fileName -> new FileHandle(new File(dir, fileName));
+        AssetManager manager = new AssetManager(resolver);
+        manager.setLoader(TextAsset.class, new TextLoader(resolver));
+        service = new AssetService(manager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.dispose();
+        Gdx.app = previousApp;
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private void finishLoading() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!service.update(10) && System.currentTimeMillis() < deadline) {
+            // keep pumping the queue
+        }
+    }
+
+    @Test
+    public void testSharedAssetDisposedWithLastReference() {
+        TextAsset first = service.acquire("menu.txt", TextAsset.class);
+        TextAsset second = service.acquire("menu.txt", TextAsset.class);
+        assertSame(first, second, "Both owners share one instance");
+        assertEquals("menu.txt", first.text);
+        assertEquals(2, service.getReferenceCount("menu.txt"));
+
+        service.release("menu.txt");
+        assertFalse(first.disposed);
+        service.release("menu.txt");
+        assertTrue(first.disposed);
+        assertFalse(service.isLoaded("menu.txt"));
+    }
+
+    @Test
+    public void testAcquireTakesOverPrefetch() {
+        service.prefetch("zone1.txt", TextAsset.class);
+        service.prefetch("zone1.txt", TextAsset.class);
+        assertEquals(1, service.getPrefetchedCount());
+        finishLoading();
+        assertTrue(service.isLoaded("zone1.txt"));
+        assertEquals(1f, service.getProgress());
+
+        TextAsset asset = service.acquire("zone1.txt", TextAsset.class);
+        assertEquals(1, service.getReferenceCount("zone1.txt"), "Prefetch reference is handed over");
+        assertEquals(0, service.getPrefetchedCount());
+
+        service.releaseUnclaimedPrefetches();
+        assertFalse(asset.disposed, "Claimed assets survive the cleanup");
+    }
+
+    @Test
+    public void testUnclaimedPrefetchIsReleased() {
+        service.prefetch("zone2.txt", TextAsset.class);
+        finishLoading();
+        TextAsset held = service.acquire("menu.txt", TextAsset.class);
+
+        service.releaseUnclaimedPrefetches();
+        assertFalse(service.isLoaded("zone2.txt"));
+        assertTrue(service.isLoaded("menu.txt"));
+        assertFalse(held.disposed);
+    }
+
+    @Test
+    public void testGroupHoldsOneReferencePerPath() {
+        AssetService.Group group = service.group();
+        TextAsset asset = group.get("menu.txt", TextAsset.class);
+        for (int refresh = 0; refresh < 5; refresh++) {
+            assertSame(asset, group.get("menu.txt", TextAsset.class));
+        }
+        assertEquals(1, service.getReferenceCount("menu.txt"));
+
+        group.prefetch("zone1.txt", TextAsset.class);
+        finishLoading();
+        group.releaseAll();
+        assertTrue(asset.disposed);
+        assertFalse(service.isLoaded("zone1.txt"), "Unused group prefetch is cancelled");
+        assertTrue(group.getPaths().isEmpty());
+    }
+
+    @Test
+    public void testMissingFileDoesNotStopQueue() {
+        service.prefetch("missing.txt", TextAsset.class);
+        service.prefetch("zone1.txt", TextAsset.class);
+        finishLoading();
+
+        assertTrue(service.isLoaded("zone1.txt"));
+        assertEquals(1, service.getPrefetchedCount(), "Failed prefetch is forgotten");
+        assertThrows(GdxRuntimeException.class, () -> service.acquire("missing.txt", TextAsset.class));
+    }
+}
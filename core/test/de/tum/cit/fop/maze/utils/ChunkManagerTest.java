@@ -0,0 +1,191 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.math.Vector2;
+import de.tum.cit.fop.maze.config.EndlessModeConfig;
+import de.tum.cit.fop.maze.model.MapChunk;
+import de.tum.cit.fop.maze.model.WallEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkManagerTest {
+
+    private ChunkManager chunkManager;
+
+    @BeforeEach
+    public void setUp() {
+        chunkManager = new ChunkManager();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        chunkManager.dispose();
+    }
+
+    private float centerOf(int chunkCoord) {
+        return chunkCoord * EndlessModeConfig.CHUNK_SIZE + EndlessModeConfig.CHUNK_SIZE / 2f;
+    }
+
+    @Test
+    public void testNeighbourChunksLoadedSynchronously() {
+        int center = chunkManager.getCenterChunkCoord();
+        chunkManager.updateActiveChunks(centerOf(center), centerOf(center));
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                assertTrue(chunkManager.isChunkLoaded(center + dx, center + dy),
+                        "Chunk next to the player must be available in the same frame");
+            }
+        }
+    }
+
+    @Test
+    public void testOuterRingAttachedAfterBackgroundGeneration() throws InterruptedException {
+        int center = chunkManager.getCenterChunkCoord();
+        float px = centerOf(center);
+        float py = centerOf(center);
+        int radius = EndlessModeConfig.ACTIVE_CHUNK_RADIUS;
+        int expected = (2 * radius + 1) * (2 * radius + 1);
+
+        chunkManager.updateActiveChunks(px, py);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (chunkManager.getLoadedChunkCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            chunkManager.updateActiveChunks(px, py);
+        }
+
+        assertEquals(expected, chunkManager.getLoadedChunkCount());
+        assertTrue(chunkManager.isChunkLoaded(center + radius, center - radius));
+    }
+
+    @Test
+    public void testPrefetchFollowsVelocity() throws InterruptedException {
+        int center = chunkManager.getCenterChunkCoord();
+        float px = centerOf(center);
+        float py = centerOf(center);
+        int ring = EndlessModeConfig.ACTIVE_CHUNK_RADIUS + 1;
+
+        // Moving right: the column beyond the active window is generated but not loaded
+        chunkManager.updateActiveChunks(px, py, 5f, 0f);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (chunkManager.getPendingChunkCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            chunkManager.updateActiveChunks(px, py, 5f, 0f);
+        }
+
+        assertNotNull(chunkManager.getChunk(center + ring, center));
+        assertFalse(chunkManager.isChunkLoaded(center + ring, center));
+        assertNull(chunkManager.getChunk(center - ring, center), "Opposite side must not be prefetched");
+    }
+
+    @Test
+    public void testBlockedWorldMatchesWallScan() {
+        int center = chunkManager.getCenterChunkCoord();
+        // Pick a chunk away from the spawn safe zone so it contains walls
+        int cx = center - 1;
+        int cy = center + 1;
+        chunkManager.updateActiveChunks(centerOf(center), centerOf(center));
+
+        MapChunk chunk = chunkManager.getChunk(cx, cy);
+        assertNotNull(chunk);
+        assertFalse(chunk.getWalls().isEmpty());
+
+        for (int y = chunk.getWorldStartY(); y < chunk.getWorldEndY(); y++) {
+            for (int x = chunk.getWorldStartX(); x < chunk.getWorldEndX(); x++) {
+                boolean expected = false;
+                for (WallEntity wall : chunk.getWalls()) {
+                    if (x >= wall.getOriginX() && x < wall.getOriginX() + wall.getGridWidth() &&
+                            y >= wall.getOriginY() && y < wall.getOriginY() + wall.getGridHeight()) {
+                        expected = true;
+                        break;
+                    }
+                }
+                assertEquals(expected, chunkManager.isBlockedWorld(x, y), "Mismatch at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    public void testWallBaseUsesCollisionHeight() {
+        MapChunk chunk = new MapChunk(1, 1, EndlessModeConfig.CHUNK_SIZE);
+        int ox = chunk.getWorldStartX() + 10;
+        int oy = chunk.getWorldStartY() + 20;
+        chunk.addWall(new WallEntity(ox, oy, 2, 3, 0, false, 1));
+
+        assertTrue(chunk.isBlocked(10, 20));
+        assertTrue(chunk.isBlocked(11, 22));
+        assertFalse(chunk.isBlocked(12, 20));
+        assertTrue(chunk.isWallBase(10, 20));
+        assertFalse(chunk.isWallBase(10, 21), "Only the collision height forms the wall base");
+        assertTrue(chunk.isBlocked(-1, 0), "Outside the chunk counts as blocked");
+
+        chunk.clear();
+        assertFalse(chunk.isBlocked(10, 20));
+    }
+
+    @Test
+    public void testUngeneratedAreaIsBlocked() {
+        assertTrue(chunkManager.isBlockedWorld(-1, 5));
+        assertTrue(chunkManager.isBlockedWorld(5, 5), "Chunk not generated yet");
+    }
+
+    @Test
+    public void testDeltaLogRebuildsChunkAfterReload() {
+        long seed = 1234L;
+        EndlessMapGenerator generator = new EndlessMapGenerator(seed);
+        int center = chunkManager.getCenterChunkCoord();
+
+        // Find a chunk that has a chest
+        MapChunk reference = null;
+        for (int cx = center - 4; cx <= center + 4 && reference == null; cx++) {
+            MapChunk candidate = generator.generateChunk(cx, center + 3);
+            if (!candidate.getChestPositions().isEmpty()) {
+                reference = candidate;
+            }
+        }
+        assertNotNull(reference, "Expected a chest somewhere in the sampled row");
+        Vector2 chest = reference.getChestPositions().get(0);
+        float px = centerOf(reference.getChunkX());
+        float py = centerOf(reference.getChunkY());
+
+        ChunkManager original = new ChunkManager(seed, new ChunkDeltaLog());
+        original.updateActiveChunks(px, py);
+        original.recordChestOpened((int) chest.x, (int) chest.y);
+        MapChunk played = original.getChunk(reference.getChunkX(), reference.getChunkY());
+        assertFalse(played.getChestPositions().contains(chest), "Cached chunk reflects the change");
+
+        int[] saved = original.getDeltaLog().toArray();
+        assertEquals(ChunkDeltaLog.RECORD_SIZE, saved.length);
+        original.dispose();
+
+        // Same seed plus the saved log rebuilds the chunk as it was left
+        ChunkManager restored = new ChunkManager(seed, ChunkDeltaLog.fromArray(saved));
+        restored.updateActiveChunks(px, py);
+        MapChunk rebuilt = restored.getChunk(reference.getChunkX(), reference.getChunkY());
+        assertEquals(reference.getWalls().size(), rebuilt.getWalls().size());
+        assertEquals(reference.getTrapPositions(), rebuilt.getTrapPositions());
+        assertEquals(reference.getChestPositions().size() - 1, rebuilt.getChestPositions().size());
+        assertFalse(rebuilt.getChestPositions().contains(chest));
+        assertEquals(seed, restored.getSeed());
+        restored.dispose();
+    }
+
+    @Test
+    public void testDeltaLogRoundTrip() {
+        ChunkDeltaLog log = new ChunkDeltaLog();
+        assertTrue(log.record(ChunkDeltaLog.Kind.CHEST_OPENED, 130, 70));
+        assertFalse(log.record(ChunkDeltaLog.Kind.CHEST_OPENED, 130, 70), "Duplicates are coalesced");
+        assertTrue(log.record(ChunkDeltaLog.Kind.TRAP_REMOVED, 130, 70));
+
+        ChunkDeltaLog copy = ChunkDeltaLog.fromArray(log.toArray());
+        assertEquals(2, copy.size());
+        assertTrue(copy.contains(ChunkDeltaLog.Kind.CHEST_OPENED, 130, 70));
+        assertTrue(copy.contains(ChunkDeltaLog.Kind.TRAP_REMOVED, 130, 70));
+        assertFalse(copy.contains(ChunkDeltaLog.Kind.CHEST_OPENED, 131, 70));
+        assertEquals(0, ChunkDeltaLog.fromArray(null).size());
+    }
+}
@@ -0,0 +1,114 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.fop.maze.config.EndlessModeConfig;
+import de.tum.cit.fop.maze.model.MapChunk;
+import de.tum.cit.fop.maze.model.WallEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkWallRendererTest {
+
+    private static final float UNIT = 16f;
+
+    private final List<Float> drawnX = new ArrayList<>();
+    private int lookups;
+    private ChunkWallRenderer renderer;
+    private MapChunk chunk;
+    private OrthographicCamera camera;
+
+    /**
+     * Batch that only records the x of each draw call
+     */
+    private Batch recordingBatch() {
+        return (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class<?>[] { Batch.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("draw")) {
+                        drawnX.add((Float) args[1]);
+                    }
+                    return null;
+                });
+    }
+
+    @BeforeEach
+    public void setUp() {
+        TextureRegion region = new TextureRegion();
+        renderer = new ChunkWallRenderer(UNIT, (theme, wall) -> {
+            lookups++;
+            return region;
+        });
+
+        chunk = new MapChunk(1, 1, EndlessModeConfig.CHUNK_SIZE);
+        int ox = chunk.getWorldStartX();
+        int oy = chunk.getWorldStartY();
+        chunk.addWall(new WallEntity(ox + 2, oy + 2, 2, 1, 0));
+        chunk.addWall(new WallEntity(ox + 40, oy + 2, 1, 1, 0));
+        chunk.addWall(new WallEntity(ox + 2, oy + 50, 3, 3, 0));
+
+        camera = new OrthographicCamera();
+        camera.viewportWidth = 10 * UNIT;
+        camera.viewportHeight = 10 * UNIT;
+    }
+
+    private void lookAt(int tileX, int tileY) {
+        // Culling only reads position and viewport (no native matrix update needed)
+        camera.position.set(tileX * UNIT, tileY * UNIT, 0);
+    }
+
+    @Test
+    public void testRegionsResolvedOnceOnLoad() {
+        renderer.onChunkLoaded(chunk);
+        assertNotNull(chunk.getWallDrawList());
+        assertEquals(3, chunk.getWallDrawList().size());
+        assertEquals(3, lookups);
+
+        lookAt(chunk.getWorldStartX() + 32, chunk.getWorldStartY() + 32);
+        Batch batch = recordingBatch();
+        for (int frame = 0; frame < 5; frame++) {
+            renderer.render(batch, camera);
+        }
+        assertEquals(3, lookups, "No lookups while rendering");
+    }
+
+    @Test
+    public void testWallsOutsideViewAreCulled() {
+        renderer.onChunkLoaded(chunk);
+        Batch batch = recordingBatch();
+
+        lookAt(chunk.getWorldStartX() + 3, chunk.getWorldStartY() + 3);
+        renderer.render(batch, camera);
+        assertEquals(1, renderer.getLastSpriteDraws());
+        assertEquals((chunk.getWorldStartX() + 2) * UNIT, drawnX.get(0));
+
+        drawnX.clear();
+        lookAt(chunk.getWorldStartX() + 500, chunk.getWorldStartY());
+        renderer.render(batch, camera);
+        assertEquals(0, renderer.getLastSpriteDraws(), "Chunk outside the view is skipped");
+        assertTrue(drawnX.isEmpty());
+    }
+
+    @Test
+    public void testUnloadAndWallChangesDropDrawList() {
+        renderer.onChunkLoaded(chunk);
+        chunk.addWall(new WallEntity(chunk.getWorldStartX() + 3, chunk.getWorldStartY() + 3, 1, 1, 0));
+        assertNull(chunk.getWallDrawList(), "Adding a wall invalidates the list");
+
+        lookAt(chunk.getWorldStartX() + 3, chunk.getWorldStartY() + 3);
+        renderer.render(recordingBatch(), camera);
+        assertEquals(4, chunk.getWallDrawList().size(), "Recompiled on the next frame");
+        assertEquals(2, renderer.getLastSpriteDraws());
+
+        renderer.onChunkUnloaded(chunk);
+        assertNull(chunk.getWallDrawList());
+        renderer.render(recordingBatch(), camera);
+        assertEquals(0, renderer.getLastSpriteDraws());
+    }
+}
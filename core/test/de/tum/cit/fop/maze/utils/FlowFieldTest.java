@@ -0,0 +1,94 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.math.GridPoint2;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowFieldTest {
+
+    /**
+     * 10x7 map, '#' = wall. The target sits left of a wall that is open only
+     * at the top, so the path from the right side has to go around it.
+     */
+    private static final String[] MAP = {
+            "..........",
+            "....#.....",
+            "....#.....",
+            "....#.....",
+            "....#.....",
+            "....#.....",
+            "....#....."
+    };
+
+    private static boolean isWall(int x, int y) {
+        if (x < 0 || y < 0 || y >= MAP.length || x >= MAP[0].length())
+            return true;
+        // Row 0 of the string array is the top of the map
+        return MAP[MAP.length - 1 - y].charAt(x) == '#';
+    }
+
+    @Test
+    public void testDistancesFollowWalls() {
+        FlowField field = new FlowField(100);
+        assertTrue(field.update(2, 0, 0, 0, 9, 6, FlowFieldTest::isWall));
+
+        assertEquals(0, field.getDistance(2, 0));
+        assertEquals(1, field.getDistance(3, 0));
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(4, 0), "Walls are never reached");
+        // (5,0) is right behind the wall: up to the gap (y=6), across and back down
+        assertEquals(1 + 6 + 2 + 6, field.getDistance(5, 0));
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(20, 0), "Outside the window");
+    }
+
+    @Test
+    public void testNextCellLeadsToTarget() {
+        FlowField field = new FlowField(100);
+        field.update(2, 0, 0, 0, 9, 6, FlowFieldTest::isWall);
+
+        GridPoint2 step = new GridPoint2();
+        int x = 9;
+        int y = 0;
+        int steps = 0;
+        while (field.getNextCell(x, y, step)) {
+            assertTrue(Math.abs(step.x - x) <= 1 && Math.abs(step.y - y) <= 1);
+            assertFalse(isWall(step.x, step.y));
+            // No corner cutting on diagonal moves
+            if (step.x != x && step.y != y) {
+                assertFalse(isWall(step.x, y) || isWall(x, step.y));
+            }
+            x = step.x;
+            y = step.y;
+            assertTrue(++steps < 100, "Path must terminate");
+        }
+        assertEquals(2, x);
+        assertEquals(0, y);
+        assertFalse(field.getNextCell(2, 0, step), "Already at the target");
+    }
+
+    @Test
+    public void testRecomputeOnlyWhenTargetTileChanges() {
+        FlowField field = new FlowField(100);
+        assertTrue(field.update(2, 0, 0, 0, 9, 6, FlowFieldTest::isWall));
+        assertFalse(field.update(2, 0, 0, 0, 9, 6, FlowFieldTest::isWall));
+        assertTrue(field.update(3, 0, 0, 0, 9, 6, FlowFieldTest::isWall));
+        assertEquals(0, field.getDistance(3, 0));
+        assertEquals(1, field.getDistance(2, 0), "Stale distances must not survive a recompute");
+
+        field.invalidate();
+        assertTrue(field.update(3, 0, 0, 0, 9, 6, FlowFieldTest::isWall));
+    }
+
+    @Test
+    public void testMaxDistanceAndWindowOffset() {
+        FlowField field = new FlowField(3);
+        // Window does not start at the origin
+        field.update(12, 12, 10, 10, 20, 20, (x, y) -> false);
+
+        assertEquals(3, field.getDistance(15, 12));
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(16, 12), "Beyond max distance");
+        assertEquals(FlowField.UNREACHABLE, field.getDistance(9, 12), "Left of the window");
+        // Diamond of radius 3 (25 cells) minus the two tips outside the window
+        assertEquals(23, field.getReachedCells());
+    }
+}
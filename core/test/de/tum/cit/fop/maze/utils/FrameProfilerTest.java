@@ -0,0 +1,87 @@
+package de.tum.cit.fop.maze.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameProfilerTest {
+
+    @AfterEach
+    public void tearDown() {
+        FrameProfiler.setEnabled(false);
+        FrameProfiler.clear();
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            // busy wait
+        }
+    }
+
+    private static void recordFrame(long worldNanos) {
+        FrameProfiler.beginFrame();
+        FrameProfiler.begin(FrameProfiler.Stage.WORLD_UPDATE);
+        spin(worldNanos);
+        FrameProfiler.end(FrameProfiler.Stage.WORLD_UPDATE);
+        FrameProfiler.endFrame(null);
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        recordFrame(0);
+        assertEquals(0, FrameProfiler.getFrameCount());
+    }
+
+    @Test
+    public void testStageTimesAreSummedPerFrame() {
+        FrameProfiler.setEnabled(true);
+
+        FrameProfiler.beginFrame();
+        for (int tick = 0; tick < 3; tick++) {
+            FrameProfiler.begin(FrameProfiler.Stage.ENEMIES);
+            spin(1_000_000);
+            FrameProfiler.end(FrameProfiler.Stage.ENEMIES);
+        }
+        FrameProfiler.endFrame(null);
+
+        assertEquals(1, FrameProfiler.getFrameCount());
+        float enemies = FrameProfiler.getStageMillis(FrameProfiler.Stage.ENEMIES, 0);
+        assertTrue(enemies >= 3f, "Three 1 ms runs, got " + enemies);
+        assertTrue(FrameProfiler.getFrameMillis(0) >= enemies);
+        assertEquals(0f, FrameProfiler.getStageMillis(FrameProfiler.Stage.FOG, 0));
+    }
+
+    @Test
+    public void testHistoryKeepsNewestFrames() {
+        FrameProfiler.setEnabled(true);
+
+        for (int i = 0; i < FrameProfiler.HISTORY_SIZE + 10; i++) {
+            recordFrame(0);
+        }
+        recordFrame(2_000_000);
+
+        assertEquals(FrameProfiler.HISTORY_SIZE, FrameProfiler.getFrameCount());
+        int newest = FrameProfiler.getFrameCount() - 1;
+        assertTrue(FrameProfiler.getStageMillis(FrameProfiler.Stage.WORLD_UPDATE, newest) >= 2f);
+        assertThrows(IndexOutOfBoundsException.class, () -> FrameProfiler.getFrameMillis(newest + 1));
+    }
+
+    @Test
+    public void testCsvAndJsonDumps() {
+        FrameProfiler.setEnabled(true);
+        recordFrame(0);
+        recordFrame(0);
+
+        String[] rows = FrameProfiler.toCsv().split("\n");
+        assertEquals(3, rows.length, "Header plus one row per frame");
+        assertTrue(rows[0].startsWith("frame,frame_ms,world_ms,enemies_ms"));
+        assertEquals(rows[0].split(",").length, rows[1].split(",").length);
+
+        String json = FrameProfiler.toJson();
+        assertTrue(json.contains("\"frames\": 2"));
+        assertTrue(json.contains("\"averageStageMs\""));
+        assertTrue(json.contains("\"allocatedBytes\""));
+    }
+}
@@ -0,0 +1,67 @@
+package de.tum.cit.fop.maze.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GridSearchTest {
+
+    /**
+     * 7x5 map, '#' = wall. The right room is sealed off from the rest.
+     */
+    private static final String[] MAP = {
+            "...#...",
+            ".#.#.#.",
+            ".#.####",
+            ".#.....",
+            "...#..."
+    };
+
+    private static boolean isFloor(int x, int y) {
+        // Row 0 of the string array is the top of the map
+        return MAP[MAP.length - 1 - y].charAt(x) != '#';
+    }
+
+    @Test
+    public void testShortestDistance() {
+        GridSearch search = new GridSearch();
+        // (1,2) is a wall, so the path has to go around the wall column at x=1
+        assertEquals(6, search.search(7, 5, 0, 2, 2, 2, GridSearchTest::isFloor));
+        assertEquals(0, search.search(7, 5, 3, 1, 3, 1, GridSearchTest::isFloor));
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        GridSearch search = new GridSearch();
+        assertEquals(GridSearch.UNREACHABLE, search.search(7, 5, 0, 0, 5, 4, GridSearchTest::isFloor));
+        assertFalse(search.isConnected(7, 5, 0, 0, 5, 4, GridSearchTest::isFloor));
+        assertFalse(search.isConnected(7, 5, -1, 0, 0, 0, GridSearchTest::isFloor), "Start outside the grid");
+    }
+
+    @Test
+    public void testFloodFillMarksReachableCells() {
+        GridSearch search = new GridSearch();
+        int floor = 0;
+        for (String row : MAP) {
+            floor += row.replace("#", "").length();
+        }
+
+        // Everything except the sealed room (5 cells) and the walls
+        assertEquals(floor - 5, search.floodFill(7, 5, 0, 0, GridSearchTest::isFloor));
+        assertTrue(search.isReached(6, 0));
+        assertFalse(search.isReached(5, 4));
+        assertFalse(search.isReached(1, 1), "Walls are never reached");
+        assertEquals(1, search.getDistance(1, 0));
+    }
+
+    @Test
+    public void testResultsDoNotLeakBetweenSearches() {
+        GridSearch search = new GridSearch();
+        search.floodFill(7, 5, 0, 0, GridSearchTest::isFloor);
+        // A smaller grid reuses the buffers but must not see old stamps
+        search.floodFill(2, 2, 0, 0, (x, y) -> x == 0);
+        assertEquals(2, search.getReachedCells());
+        assertFalse(search.isReached(1, 0));
+        assertEquals(GridSearch.UNREACHABLE, search.getDistance(6, 0), "Outside the current grid");
+    }
+}
@@ -0,0 +1,89 @@
+package de.tum.cit.fop.maze.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelBinaryFormatTest {
+
+    private static Properties sampleLevel() {
+        Properties props = new Properties();
+        props.setProperty("theme", "Jungle");
+        props.setProperty("playableWidth", "60");
+        props.setProperty("playableHeight", "40");
+        props.setProperty("3,4", "1");
+        props.setProperty("10,12", "4");
+        props.setProperty("59,39", "2");
+        return props;
+    }
+
+    @Test
+    public void testRoundTripKeepsMetadataAndEntityOrder() throws IOException {
+        LevelBinaryFormat.LevelData parsed = LevelBinaryFormat.fromProperties(sampleLevel());
+        assertEquals(3, parsed.getEntityCount());
+        assertEquals("Jungle", parsed.metadata.getProperty("theme"));
+        assertNull(parsed.metadata.getProperty("3,4"), "Cells are not metadata");
+
+        LevelBinaryFormat.LevelData loaded = LevelBinaryFormat.read(LevelBinaryFormat.write(parsed));
+        assertEquals(parsed.metadata, loaded.metadata);
+        assertArrayEquals(parsed.entities, loaded.entities);
+    }
+
+    @Test
+    public void testMalformedCellIsSkipped() {
+        Properties props = sampleLevel();
+        props.setProperty("7,x", "1");
+        props.setProperty("8,8", "wall");
+
+        LevelBinaryFormat.LevelData parsed = LevelBinaryFormat.fromProperties(props);
+        assertEquals(3, parsed.getEntityCount());
+    }
+
+    @Test
+    public void testRejectsForeignData() {
+        assertThrows(IOException.class, () -> LevelBinaryFormat.read("theme=Jungle".getBytes()));
+
+        byte[] truncated = Arrays.copyOf(LevelBinaryFormat.MAGIC, 4);
+        assertThrows(IOException.class, () -> LevelBinaryFormat.read(truncated));
+    }
+
+    @Test
+    public void testConvertedShippedLevelIsSmaller() throws IOException {
+        File source = new File("../assets/maps/level-1.properties");
+        if (!source.exists()) {
+            source = new File("assets/maps/level-1.properties");
+        }
+        assertTrue(source.exists(), "Shipped level not found");
+
+        File target = Files.createTempFile("level-1", LevelBinaryFormat.EXTENSION).toFile();
+        try {
+            int entities = LevelBinaryFormat.convert(source, target);
+            assertTrue(entities > 0);
+            assertTrue(target.length() < source.length());
+
+            Properties props = new Properties();
+            try (InputStream in = new FileInputStream(source)) {
+                props.load(in);
+            }
+            LevelBinaryFormat.LevelData expected = LevelBinaryFormat.fromProperties(props);
+            LevelBinaryFormat.LevelData loaded = LevelBinaryFormat.read(Files.readAllBytes(target.toPath()));
+            assertArrayEquals(expected.entities, loaded.entities);
+            assertEquals(expected.metadata, loaded.metadata);
+        } finally {
+            target.delete();
+        }
+    }
+
+    @Test
+    public void testBinaryPathFor() {
+        assertEquals("maps/level-1.lvl", LevelBinaryFormat.binaryPathFor("maps/level-1.properties"));
+    }
+}
@@ -8,6 +8,7 @@
 import org.junit.jupiter.api.RepeatedTest;
 
 import java.io.File;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,6 +84,54 @@ void testSmallMapGeneration() {
         assertDoesNotThrow(() -> generator.generateAndSave(TEST_MAP_PATH));
     }
 
+    /**
+     * 相同种子必须生成完全相同的地图（地图农场依赖此特性）
+     */
+    @Test
+    void testSameSeedReproducesMap() {
+        MapGenerator.MapConfig config = getNormalConfig();
+        MapGenerator.GenerationResult first = new MapGenerator(config, new Random(1234L)).generate();
+        MapGenerator.GenerationResult second = new MapGenerator(config, new Random(1234L)).generate();
+        MapGenerator.GenerationResult other = new MapGenerator(config, new Random(4321L)).generate();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(first.toProperties(), second.toProperties());
+        if (other != null) {
+            assertNotEquals(first.toProperties(), other.toProperties());
+        }
+    }
+
+    /**
+     * 墙体放置时即保证连通：每次生成一次成功，且所有地面格子都可从起点到达
+     */
+    @Test
+    void testEveryAttemptIsConnected() {
+        GridSearch search = new GridSearch();
+        for (int seed = 0; seed < 20; seed++) {
+            MapGenerator.MapConfig config = getNormalConfig();
+            config.width = seed % 2 == 0 ? 50 : 120;
+            config.height = config.width;
+            MapGenerator.GenerationResult map = new MapGenerator(config, new Random(seed)).generate();
+            assertNotNull(map, "Generation must not need a retry (seed " + seed + ")");
+
+            int w = map.getTotalWidth();
+            int h = map.getTotalHeight();
+            int floor = 0;
+            for (int x = 0; x < w; x++) {
+                for (int y = 0; y < h; y++) {
+                    if (map.isWalkable(x, y))
+                        floor++;
+                }
+            }
+            int reached = search.floodFill(w, h, (int) map.getPlayerStart().x, (int) map.getPlayerStart().y,
+                    map::isWalkable);
+            assertEquals(floor, reached, "No sealed floor pockets (seed " + seed + ")");
+            assertTrue(search.isReached((int) map.getKeyPos().x, (int) map.getKeyPos().y));
+            assertTrue(search.isReached((int) map.getExitPos().x, (int) map.getExitPos().y));
+        }
+    }
+
     // Helper to create a normal config
     private MapGenerator.MapConfig getNormalConfig() {
         MapGenerator.MapConfig config = new MapGenerator.MapConfig();
@@ -0,0 +1,181 @@
+package de.tum.cit.fop.maze.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class PackedSpatialHashGridTest {
+
+    private static final class Body {
+        float x;
+        float y;
+
+        Body(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static final SpatialHashGrid.FullPositionProvider<Body> POSITION = new SpatialHashGrid.FullPositionProvider<Body>() {
+        @Override
+        public float getX(Body entity) {
+            return entity.x;
+        }
+
+        @Override
+        public float getY(Body entity) {
+            return entity.y;
+        }
+    };
+
+    private int visited;
+
+    private final PackedSpatialHashGrid.Visitor<Body> countingVisitor = (entity, x, y) -> visited++;
+
+    private Set<Body> bruteForce(List<Body> bodies, float cx, float cy, float radius) {
+        Set<Body> result = new HashSet<>();
+        for (Body b : bodies) {
+            float dx = b.x - cx;
+            float dy = b.y - cy;
+            if (dx * dx + dy * dy <= radius * radius) {
+                result.add(b);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testRandomOperationsMatchBruteForce() {
+        Random random = new Random(7);
+        PackedSpatialHashGrid<Body> grid = new PackedSpatialHashGrid<>(4f);
+        List<Body> live = new ArrayList<>();
+        List<Body> buffer = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(10);
+            if (op < 3 || live.isEmpty()) {
+                // Include negative coordinates to cover negative cell keys
+                Body b = new Body(random.nextFloat() * 200f - 100f, random.nextFloat() * 200f - 100f);
+                live.add(b);
+                grid.insert(b, b.x, b.y);
+            } else if (op < 5) {
+                Body b = live.remove(random.nextInt(live.size()));
+                grid.remove(b);
+            } else {
+                Body b = live.get(random.nextInt(live.size()));
+                b.x += random.nextFloat() * 10f - 5f;
+                b.y += random.nextFloat() * 10f - 5f;
+                grid.update(b, b.x, b.y);
+            }
+
+            if (step % 50 == 0) {
+                float cx = random.nextFloat() * 200f - 100f;
+                float cy = random.nextFloat() * 200f - 100f;
+                float radius = random.nextFloat() * 15f;
+
+                buffer.clear();
+                int count = grid.collectWithin(cx, cy, radius, buffer);
+                assertEquals(buffer.size(), count);
+                assertEquals(bruteForce(live, cx, cy, radius), new HashSet<>(buffer));
+
+                visited = 0;
+                grid.forEachWithin(cx, cy, radius, countingVisitor);
+                assertEquals(count, visited);
+            }
+        }
+        assertEquals(live.size(), grid.size());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        PackedSpatialHashGrid<Body> grid = new PackedSpatialHashGrid<>(16f);
+        Body a = new Body(1, 1);
+        Body b = new Body(2, 2);
+        grid.insert(a, a.x, a.y);
+        grid.insert(b, b.x, b.y);
+        grid.insert(a, 100, 100); // re-insert moves instead of duplicating
+        assertEquals(2, grid.size());
+
+        List<Body> out = new ArrayList<>();
+        grid.collectWithin(0, 0, 5, out);
+        assertEquals(List.of(b), out);
+
+        grid.remove(a);
+        grid.remove(a);
+        assertEquals(1, grid.size());
+
+        grid.clear();
+        assertEquals(0, grid.size());
+        out.clear();
+        grid.collectCandidates(0, 0, 200, out);
+        assertTrue(out.isEmpty());
+    }
+
+    @Test
+    public void testWrapperBufferQueryUsesLivePositions() {
+        SpatialHashGrid<Body> grid = new SpatialHashGrid<>(16f);
+        Body near = new Body(1, 1);
+        Body far = new Body(5, 5);
+        grid.insert(near, near.x, near.y);
+        grid.insert(far, far.x, far.y);
+
+        List<Body> out = new ArrayList<>();
+        out.add(far); // existing contents are kept
+        assertEquals(1, grid.getNearbyExact(0, 0, 2, POSITION, out));
+        assertEquals(List.of(far, near), out);
+        assertEquals(List.of(near), grid.getNearbyExact(0, 0, 2, POSITION));
+    }
+
+    @Test
+    public void testFrameOfQueriesDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        Random random = new Random(3);
+        SpatialHashGrid<Body> grid = new SpatialHashGrid<>(16f);
+        Body[] bodies = new Body[500];
+        for (int i = 0; i < bodies.length; i++) {
+            bodies[i] = new Body(random.nextFloat() * 128f, random.nextFloat() * 128f);
+            grid.insert(bodies[i], bodies[i].x, bodies[i].y);
+        }
+        List<Body> buffer = new ArrayList<>(bodies.length);
+
+        // Warm up so that all internal arrays and the buffer reach their final size
+        for (int i = 0; i < 20; i++) {
+            runFrame(grid, bodies, buffer);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 20; i++) {
+            runFrame(grid, bodies, buffer);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Allow for a little noise from the measurement itself
+        assertTrue(allocated < 1024, "Frame allocated " + allocated + " bytes");
+    }
+
+    private void runFrame(SpatialHashGrid<Body> grid, Body[] bodies, List<Body> buffer) {
+        for (Body b : bodies) {
+            // Moves back and forth across a cell boundary every frame
+            b.x = b.x < 64f ? b.x + 64f : b.x - 64f;
+            grid.update(b, b.x, b.y);
+        }
+        for (Body b : bodies) {
+            buffer.clear();
+            grid.getNearbyExact(b.x, b.y, 0.8f, POSITION, buffer);
+            grid.forEachNearby(b.x, b.y, 1.2f, countingVisitor);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleEngineTest {
+
+    private final List<float[]> draws = new ArrayList<>();
+    private final List<Float> drawColors = new ArrayList<>();
+    private float packedColor = Color.WHITE_FLOAT_BITS;
+
+    /**
+     * Batch that records draw(region, x, y, width, height) calls
+     */
+    private Batch recordingBatch() {
+        return (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class<?>[] { Batch.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getPackedColor":
+                            return packedColor;
+                        case "setPackedColor":
+                            packedColor = (Float) args[0];
+                            return null;
+                        case "draw":
+                            draws.add(new float[] { (Float) args[1], (Float) args[2], (Float) args[3],
+                                    (Float) args[4] });
+                            drawColors.add(packedColor);
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    public void testCapacityBoundsEmits() {
+        ParticleEngine engine = new ParticleEngine(3);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(engine.emit(0, 0, 0, 0, 1f, 1f, 1f, 1f, 1f, 1f, 0f));
+        }
+        assertFalse(engine.emit(0, 0, 0, 0, 1f, 1f, 1f, 1f, 1f, 1f, 0f), "Full engine drops particles");
+        assertEquals(3, engine.getCount());
+
+        engine.clear();
+        assertEquals(0, engine.getCount());
+        assertTrue(engine.emit(0, 0, 0, 0, 1f, 1f, 1f, 1f, 1f, 1f, 0f));
+    }
+
+    @Test
+    public void testExpiredParticlesAreRemoved() {
+        ParticleEngine engine = new ParticleEngine(8);
+        engine.emit(0, 0, 0, 0, 0.5f, 1f, 1f, 1f, 1f, 1f, 0f);
+        engine.emit(10, 0, 0, 0, 2.0f, 1f, 1f, 1f, 1f, 1f, 0f);
+        engine.emit(20, 0, 0, 0, 0.5f, 1f, 1f, 1f, 1f, 1f, 0f);
+        engine.emit(30, 0, 0, 0, 2.0f, 1f, 1f, 1f, 1f, 1f, 0f);
+
+        engine.update(1f);
+        assertEquals(2, engine.getCount());
+
+        // The survivors are the long-lived ones, each still updated exactly once
+        engine.render(recordingBatch(), new TextureRegion(), 1f, 1f);
+        assertEquals(2, draws.size());
+        float survivorSum = draws.get(0)[0] + draws.get(1)[0];
+        assertEquals(10f + 30f - 1f, survivorSum, 0.0001f);
+
+        engine.update(1f);
+        assertEquals(0, engine.getCount());
+    }
+
+    @Test
+    public void testMovementRules() {
+        ParticleEngine engine = new ParticleEngine(1).setGravity(10f).setDrag(0.5f);
+        engine.emit(0, 0, 4f, 0f, 10f, 2f, 1f, 1f, 1f, 1f, 0f);
+
+        engine.update(1f); // Moves by (4, 0), then vy = -10 and drag halves velocity
+        engine.update(1f); // Moves by (2, -5)
+
+        engine.render(recordingBatch(), new TextureRegion(), 1f, 1f);
+        float[] quad = draws.get(0);
+        // Quads are centered on the particle
+        assertEquals(6f - 1f, quad[0], 0.0001f);
+        assertEquals(-5f - 1f, quad[1], 0.0001f);
+        assertEquals(2f, quad[2], 0.0001f);
+    }
+
+    @Test
+    public void testFadeOutScalesAlpha() {
+        ParticleEngine engine = new ParticleEngine(1).setFadeOut(true);
+        engine.emit(0, 0, 0, 0, 2f, 1f, 1f, 0f, 0f, 1f, 0f);
+        engine.update(1f);
+
+        engine.render(recordingBatch(), new TextureRegion(), 1f, 1f);
+        Color color = new Color();
+        Color.abgr8888ToColor(color, drawColors.get(0));
+        assertEquals(1f, color.r, 0.01f);
+        assertEquals(0f, color.g, 0.01f);
+        assertEquals(0.5f, color.a, 0.01f, "Half the lifetime left");
+        assertEquals(Color.WHITE_FLOAT_BITS, packedColor, "Batch color is restored");
+    }
+}
@@ -0,0 +1,141 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import de.tum.cit.fop.maze.model.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveServiceTest {
+
+    private File dir;
+    private SaveService<GameState> service;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("saves").toFile();
+        service = new SaveService<>(dir, GameState.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.flush();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    private static GameState sampleState() {
+        GameState state = new GameState(12.5f, 7f, "maps/level-3.properties", 2, true);
+        state.setCoins(340);
+        state.setPurchasedItemIds(new ArrayList<>(Arrays.asList("sword_upgrade", "armor_basic")));
+        Map<String, Object> achievements = new HashMap<>();
+        achievements.put("total_kills", "57");
+        state.setAchievementData(achievements);
+        return state;
+    }
+
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        service.save("slot1", sampleState());
+        GameState loaded = service.load("slot1.sav");
+
+        assertNotNull(loaded);
+        assertEquals(12.5f, loaded.getPlayerX());
+        assertEquals("maps/level-3.properties", loaded.getCurrentLevel());
+        assertEquals(340, loaded.getCoins());
+        assertEquals(Arrays.asList("sword_upgrade", "armor_basic"), loaded.getPurchasedItemIds());
+        assertEquals("57", loaded.getAchievementData().get("total_kills"));
+
+        byte[] data = Files.readAllBytes(new File(dir, "slot1.sav").toPath());
+        assertArrayEquals(SaveService.MAGIC, Arrays.copyOf(data, 4));
+        assertFalse(new File(dir, "slot1.sav.tmp").exists());
+    }
+
+    @Test
+    public void testSnapshotIsSmallerThanPrettyJson() throws IOException {
+        GameState state = sampleState();
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        int prettySize = json.prettyPrint(state).getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(SaveService.encode(state).length < prettySize);
+    }
+
+    @Test
+    public void testLegacyJsonLoadsAndMigratesOnSave() throws IOException {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        File legacy = new File(dir, "old_profile.json");
+        Files.write(legacy.toPath(), json.prettyPrint(sampleState()).getBytes(StandardCharsets.UTF_8));
+
+        GameState loaded = service.load("old_profile.json");
+        assertNotNull(loaded);
+        assertEquals(340, loaded.getCoins());
+
+        service.save("old_profile.json", loaded);
+        service.flush();
+        assertFalse(legacy.exists());
+        assertTrue(new File(dir, "old_profile.sav").exists());
+        assertEquals(1, service.list().size());
+    }
+
+    @Test
+    public void testIndexTracksSavesAndDeletes() throws InterruptedException {
+        service.save("first", sampleState());
+        Thread.sleep(5);
+        service.save("second", sampleState());
+
+        List<SaveService.SaveInfo> infos = service.list();
+        assertEquals(2, infos.size());
+        assertEquals("second", infos.get(0).getName(), "Newest first");
+        assertEquals("second.sav", infos.get(0).getFileName());
+
+        assertTrue(service.delete("second.sav"));
+        assertEquals(1, service.list().size());
+        assertFalse(new File(dir, "second.sav").exists());
+
+        // A fresh service rebuilds the same index from disk
+        service.flush();
+        SaveService<GameState> reopened = new SaveService<>(dir, GameState.class);
+        assertEquals(1, reopened.list().size());
+        assertEquals("first", reopened.list().get(0).getName());
+    }
+
+    @Test
+    public void testCopyLastSavedDoesNotAliasSavedState() {
+        GameState saved = sampleState();
+        service.save("profile", saved);
+
+        GameState copy = service.copyLastSaved("profile.sav");
+        assertNotNull(copy);
+        assertNotSame(saved, copy);
+        assertEquals(340, copy.getCoins());
+
+        copy.setCoins(999);
+        assertEquals(340, saved.getCoins());
+    }
+
+    @Test
+    public void testMissingSlotReturnsNull() {
+        assertNull(service.load("does_not_exist"));
+        assertNull(service.copyLastSaved("does_not_exist"));
+    }
+}
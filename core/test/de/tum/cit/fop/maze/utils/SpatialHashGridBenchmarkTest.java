@@ -0,0 +1,157 @@
+package de.tum.cit.fop.maze.utils;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the per-frame query cost of a linear enemy scan against
+ * {@link SpatialHashGrid} for the endless-mode combat workload
+ * (contact check, enemy separation and one melee sweep per frame).
+ *
+ * Usage:
+ * {@code ./gradlew :core:test --tests "SpatialHashGridBenchmarkTest"}
+ */
+@Disabled("Manual benchmark - do not run in CI/CD")
+public class SpatialHashGridBenchmarkTest {
+
+    private static final int[] ENEMY_COUNTS = { 50, 200, 1000 };
+    private static final int WARMUP_FRAMES = 200;
+    private static final int MEASURED_FRAMES = 1000;
+    private static final float WORLD_SIZE = 128f;
+    private static final float CONTACT_RADIUS = 0.8f;
+    private static final float SEPARATION_RADIUS = 0.8f;
+    private static final float MELEE_RADIUS = 1.2f;
+
+    /** Minimal stand-in for an enemy, avoids the libGDX runtime */
+    private static final class Body {
+        float x;
+        float y;
+
+        Body(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static final SpatialHashGrid.FullPositionProvider<Body> POSITION = new SpatialHashGrid.FullPositionProvider<Body>() {
+        @Override
+        public float getX(Body entity) {
+            return entity.x;
+        }
+
+        @Override
+        public float getY(Body entity) {
+            return entity.y;
+        }
+    };
+
+    @Test
+    void compareLinearScanWithGrid() {
+        System.out.println("=== SpatialHashGrid Benchmark ===");
+        System.out.printf("%8s %14s %14s %14s %8s%n", "enemies", "linear ms/frm", "grid ms/frm", "buffer ms/frm",
+                "speedup");
+
+        for (int count : ENEMY_COUNTS) {
+            List<Body> bodies = createBodies(count, new Random(42));
+            SpatialHashGrid<Body> grid = new SpatialHashGrid<>(16f);
+            for (Body b : bodies) {
+                grid.insert(b, b.x, b.y);
+            }
+
+            float px = WORLD_SIZE / 2f;
+            float py = WORLD_SIZE / 2f;
+
+            // Both strategies must see the same neighbours
+            List<Body> buffer = new ArrayList<>(count);
+            assertEquals(linearFrame(bodies, px, py), gridFrame(bodies, grid, px, py));
+            assertEquals(linearFrame(bodies, px, py), bufferedFrame(bodies, grid, px, py, buffer));
+
+            for (int i = 0; i < WARMUP_FRAMES; i++) {
+                linearFrame(bodies, px, py);
+                gridFrame(bodies, grid, px, py);
+                bufferedFrame(bodies, grid, px, py, buffer);
+            }
+
+            long sink = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_FRAMES; i++) {
+                sink += linearFrame(bodies, px, py);
+            }
+            double linearMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MEASURED_FRAMES; i++) {
+                sink += gridFrame(bodies, grid, px, py);
+            }
+            double gridMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+
+            start = System.nanoTime();
+            for (int i = 0; i < MEASURED_FRAMES; i++) {
+                sink += bufferedFrame(bodies, grid, px, py, buffer);
+            }
+            double bufferMs = (System.nanoTime() - start) / 1e6 / MEASURED_FRAMES;
+
+            System.out.printf("%8d %14.4f %14.4f %14.4f %7.1fx  (checksum %d)%n",
+                    count, linearMs, gridMs, bufferMs, linearMs / bufferMs, sink);
+        }
+    }
+
+    private List<Body> createBodies(int count, Random random) {
+        List<Body> bodies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bodies.add(new Body(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE));
+        }
+        return bodies;
+    }
+
+    /** One frame of queries using an O(n) scan per query (old behaviour). */
+    private int linearFrame(List<Body> bodies, float px, float py) {
+        int hits = countWithin(bodies, px, py, CONTACT_RADIUS) + countWithin(bodies, px, py, MELEE_RADIUS);
+        for (Body b : bodies) {
+            hits += countWithin(bodies, b.x, b.y, SEPARATION_RADIUS);
+        }
+        return hits;
+    }
+
+    /** The same frame of queries answered through the spatial grid. */
+    private int gridFrame(List<Body> bodies, SpatialHashGrid<Body> grid, float px, float py) {
+        int hits = grid.getNearbyExact(px, py, CONTACT_RADIUS, POSITION).size()
+                + grid.getNearbyExact(px, py, MELEE_RADIUS, POSITION).size();
+        for (Body b : bodies) {
+            hits += grid.getNearbyExact(b.x, b.y, SEPARATION_RADIUS, POSITION).size();
+        }
+        return hits;
+    }
+
+    /** The same frame using the caller-supplied buffer overloads (no allocation). */
+    private int bufferedFrame(List<Body> bodies, SpatialHashGrid<Body> grid, float px, float py, List<Body> buffer) {
+        buffer.clear();
+        int hits = grid.getNearbyExact(px, py, CONTACT_RADIUS, POSITION, buffer);
+        buffer.clear();
+        hits += grid.getNearbyExact(px, py, MELEE_RADIUS, POSITION, buffer);
+        for (Body b : bodies) {
+            buffer.clear();
+            hits += grid.getNearbyExact(b.x, b.y, SEPARATION_RADIUS, POSITION, buffer);
+        }
+        return hits;
+    }
+
+    private int countWithin(List<Body> bodies, float cx, float cy, float radius) {
+        float radiusSq = radius * radius;
+        int hits = 0;
+        for (Body b : bodies) {
+            float dx = b.x - cx;
+            float dy = b.y - cy;
+            if (dx * dx + dy * dy <= radiusSq) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,77 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextureColorTableTest {
+
+    private static final int RED = 0xff0000ff;
+    private static final int BLUE = 0x0000ffff;
+
+    @Test
+    public void testAverageOfSampledPixels() {
+        // Left half red, right half blue: every sample is one of them, half each
+        int[] colors = TextureColorTable.sampleColors(16, 16, (x, y) -> x < 8 ? RED : BLUE);
+        Color average = new Color(colors[0]);
+        assertEquals(127 / 255f, average.r, 0.001f);
+        assertEquals(0f, average.g, 0.001f);
+        assertEquals(127 / 255f, average.b, 0.001f);
+        assertEquals(1f, average.a, 0.001f);
+    }
+
+    @Test
+    public void testDominantIgnoresTransparentPixels() {
+        // Mostly transparent black, a quarter red, a few blue samples
+        int[] colors = TextureColorTable.sampleColors(32, 32, (x, y) -> {
+            if (x < 8) {
+                return RED;
+            }
+            if (x < 12) {
+                return BLUE;
+            }
+            return 0x00000000;
+        });
+        assertEquals(RED, colors[1]);
+        assertNotEquals(RED, colors[0], "Average still mixes in every sample");
+    }
+
+    @Test
+    public void testStoreAndLoadRoundTrip() throws IOException {
+        TextureColorTable table = new TextureColorTable();
+        table.put("images/floors/floor_ice.png", 0x8090a0ff, BLUE);
+        table.put("images/walls/wall_lava_2x2_v1.png", RED, RED);
+
+        StringWriter out = new StringWriter();
+        table.store(out);
+
+        File file = File.createTempFile("texture_colors", ".properties");
+        try {
+            Files.write(file.toPath(), out.toString().getBytes(StandardCharsets.UTF_8));
+            TextureColorTable loaded = TextureColorTable.load(new FileHandle(file));
+
+            assertEquals(2, loaded.size());
+            assertEquals(new Color(0x8090a0ff), loaded.getAverage("images/floors/floor_ice.png"));
+            assertEquals(new Color(BLUE), loaded.getDominant("images/floors/floor_ice.png"));
+            assertEquals(new Color(RED), loaded.getAverage("images/walls/wall_lava_2x2_v1.png"));
+            assertNull(loaded.getAverage("images/floors/missing.png"));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testMissingFileGivesEmptyTable() {
+        TextureColorTable table = TextureColorTable.load(new FileHandle(new File("does/not/exist.properties")));
+        assertEquals(0, table.size());
+        assertFalse(table.contains("images/floors/floor_ice.png"));
+    }
+}
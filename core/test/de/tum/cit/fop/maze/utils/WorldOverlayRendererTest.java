@@ -0,0 +1,143 @@
+package de.tum.cit.fop.maze.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldOverlayRendererTest {
+
+    /** One recorded batch.draw(region, x, y, width, height) call */
+    private static final class DrawCall {
+        final TextureRegion region;
+        final float x;
+        final float width;
+        final float color;
+
+        DrawCall(TextureRegion region, float x, float width, float color) {
+            this.region = region;
+            this.x = x;
+            this.width = width;
+            this.color = color;
+        }
+    }
+
+    private final List<DrawCall> draws = new ArrayList<>();
+    private final List<String> calls = new ArrayList<>();
+    private float packedColor = Color.WHITE_FLOAT_BITS;
+
+    /**
+     * Batch that only records draw calls and tracks the packed color
+     */
+    private Batch recordingBatch() {
+        return (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class<?>[] { Batch.class },
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    switch (method.getName()) {
+                        case "getPackedColor":
+                            return packedColor;
+                        case "setPackedColor":
+                            packedColor = (Float) args[0];
+                            return null;
+                        case "draw":
+                            draws.add(new DrawCall((TextureRegion) args[0], (Float) args[1], (Float) args[3],
+                                    packedColor));
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    public void testBarsDrawBackgroundsBeforeFills() {
+        TextureRegion white = new TextureRegion();
+        WorldOverlayRenderer renderer = new WorldOverlayRenderer(white);
+        float background = Color.RED.toFloatBits();
+        float fill = Color.GREEN.toFloatBits();
+
+        renderer.addBar(0f, 0f, 16f, 4f, 0.5f, background, fill);
+        renderer.addBar(32f, 0f, 16f, 4f, 1.5f, background, fill);
+        renderer.addBar(64f, 0f, 16f, 4f, 0f, background, fill);
+        assertEquals(3, renderer.getBarCount());
+
+        renderer.drawBars(recordingBatch());
+
+        // 3 backgrounds, then fills of the two non-empty bars
+        assertEquals(5, draws.size());
+        for (int i = 0; i < 3; i++) {
+            assertSame(white, draws.get(i).region);
+            assertEquals(background, draws.get(i).color);
+            assertEquals(16f, draws.get(i).width);
+        }
+        assertEquals(fill, draws.get(3).color);
+        assertEquals(8f, draws.get(3).width, 0.0001f);
+        assertEquals(16f, draws.get(4).width, 0.0001f, "Fill is clamped to the bar width");
+
+        assertEquals(Color.WHITE_FLOAT_BITS, packedColor, "Batch color is restored");
+        assertEquals(0, renderer.getBarCount());
+        assertFalse(calls.contains("end"), "Bars never end the running batch");
+    }
+
+    @Test
+    public void testTransparentBackgroundIsSkipped() {
+        WorldOverlayRenderer renderer = new WorldOverlayRenderer(new TextureRegion());
+        renderer.addBar(0f, 0f, 14f, 2f, 1f, Color.CLEAR.toFloatBits(), Color.BLUE.toFloatBits());
+
+        renderer.drawBars(recordingBatch());
+
+        assertEquals(1, draws.size());
+        assertEquals(Color.BLUE.toFloatBits(), draws.get(0).color);
+    }
+
+    @Test
+    public void testLivingSpritesKeepTintAndFlip() {
+        WorldOverlayRenderer renderer = new WorldOverlayRenderer(new TextureRegion());
+        TextureRegion frame = new TextureRegion();
+        float hurt = Color.toFloatBits(1f, 0f, 0f, 1f);
+
+        // Same texture, so submission order is kept
+        renderer.addSprite(frame, 10f, 0f, 16f, 16f, hurt, false, false);
+        renderer.addSprite(frame, 20f, 0f, 16f, 16f, Color.WHITE_FLOAT_BITS, false, true);
+        renderer.addSprite(null, 30f, 0f, 16f, 16f, Color.WHITE_FLOAT_BITS, false, false);
+        assertEquals(2, renderer.getSpriteCount(), "Missing frames are ignored");
+
+        renderer.drawSprites(recordingBatch());
+
+        assertEquals(2, draws.size());
+        assertEquals(10f, draws.get(0).x);
+        assertEquals(hurt, draws.get(0).color);
+        assertEquals(36f, draws.get(1).x, "Flipped sprite starts at its right edge");
+        assertEquals(-16f, draws.get(1).width);
+
+        assertFalse(calls.contains("setShader"), "No shader switch without dead sprites");
+        assertEquals(Color.WHITE_FLOAT_BITS, packedColor);
+        assertEquals(0, renderer.getSpriteCount());
+    }
+
+    @Test
+    public void testQueueGrowsPastInitialCapacity() {
+        WorldOverlayRenderer renderer = new WorldOverlayRenderer(new TextureRegion());
+        TextureRegion frame = new TextureRegion();
+        for (int i = 0; i < 200; i++) {
+            renderer.addSprite(frame, i, 0f, 16f, 16f, Color.WHITE_FLOAT_BITS, false, false);
+            renderer.addBar(i, 0f, 16f, 4f, 1f, Color.RED.toFloatBits(), Color.GREEN.toFloatBits());
+        }
+
+        renderer.drawSprites(recordingBatch());
+        assertEquals(200, draws.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, draws.get(i).x);
+        }
+
+        draws.clear();
+        renderer.drawBars(recordingBatch());
+        assertEquals(400, draws.size());
+    }
+}
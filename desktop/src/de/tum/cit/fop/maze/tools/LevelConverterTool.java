@@ -0,0 +1,61 @@
+package de.tum.cit.fop.maze.tools;
+
+import de.tum.cit.fop.maze.utils.LevelBinaryFormat;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Converts every .properties level under assets/maps to the binary .lvl
+ * format read by MapLoader. Levels whose .lvl is already up to date are
+ * skipped.
+ */
+public class LevelConverterTool {
+    private static final String MAPS_DIR = "../assets/maps";
+
+    public static void main(String[] args) {
+        File mapsDir = new File(args.length > 0 ? args[0] : MAPS_DIR);
+        if (!mapsDir.isDirectory()) {
+            System.out.println("Skipping level conversion: " + mapsDir.getAbsolutePath() + " not found.");
+            return;
+        }
+
+        int[] counts = new int[2]; // converted, up to date
+        if (!convertDirectory(mapsDir, counts)) {
+            System.exit(1);
+        }
+        System.out.println("Levels converted: " + counts[0] + ", up to date: " + counts[1]);
+    }
+
+    private static boolean convertDirectory(File dir, int[] counts) {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return true;
+
+        boolean ok = true;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                ok &= convertDirectory(file, counts);
+                continue;
+            }
+            if (!file.getName().endsWith(LevelBinaryFormat.SOURCE_EXTENSION))
+                continue;
+
+            File target = new File(LevelBinaryFormat.binaryPathFor(file.getPath()));
+            if (target.exists() && target.lastModified() >= file.lastModified()) {
+                counts[1]++;
+                continue;
+            }
+
+            try {
+                int entities = LevelBinaryFormat.convert(file, target);
+                System.out.println("Converted " + file.getName() + " (" + entities + " entities, "
+                        + file.length() + " -> " + target.length() + " bytes)");
+                counts[0]++;
+            } catch (IOException e) {
+                System.err.println("Failed to convert " + file.getPath() + ": " + e.getMessage());
+                ok = false;
+            }
+        }
+        return ok;
+    }
+}
@@ -0,0 +1,214 @@
+package de.tum.cit.fop.maze.tools;
+
+import de.tum.cit.fop.maze.utils.GameLogger;
+import de.tum.cit.fop.maze.utils.GridSearch;
+import de.tum.cit.fop.maze.utils.MapGenerationScript;
+import de.tum.cit.fop.maze.utils.MapGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates thousands of candidate maps per theme and size in parallel on a
+ * {@link ForkJoinPool}, checks that start, key and exit are connected, scores
+ * them and writes the best ones as .properties levels.
+ *
+ * Every candidate has its own seed, so only seeds and scores are kept while
+ * farming; the winners are regenerated from their seeds for output.
+ *
+ * Usage: MapFarmTool [candidates] [keep] [output dir] [seed] [threads]
+ * (candidates and keep are per theme and size)
+ */
+public class MapFarmTool {
+    private static final String OUTPUT_DIR = "../assets/maps/farm";
+    private static final int DEFAULT_CANDIDATES = 1000;
+    private static final int DEFAULT_KEEP = 3;
+
+    /** Candidates generated sequentially by one leaf task */
+    private static final int LEAF_SIZE = 8;
+
+    /** Seed and score of a generated map */
+    static final class Candidate {
+        final long seed;
+        final double score;
+
+        Candidate(long seed, double score) {
+            this.seed = seed;
+            this.score = score;
+        }
+    }
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingDouble((Candidate c) -> -c.score)
+            .thenComparingLong(c -> c.seed);
+
+    public static void main(String[] args) {
+        int candidates = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CANDIDATES;
+        int keep = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_KEEP;
+        File outputDir = new File(args.length > 2 ? args[2] : OUTPUT_DIR);
+        long baseSeed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        // Per-attempt generator logging would flood the console
+        GameLogger.setLogLevel(GameLogger.LogLevel.WARN);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long totalStart = System.nanoTime();
+        boolean ok = true;
+        try {
+            for (int t = 0; t < MapGenerationScript.THEMES.length; t++) {
+                for (int s = 0; s < MapGenerationScript.SIZES.length; s++) {
+                    MapGenerator.MapConfig config = MapGenerationScript.createConfig(t, s);
+                    long jobSeed = mix(baseSeed + t * MapGenerationScript.SIZES.length + s);
+
+                    long start = System.nanoTime();
+                    LongAdder valid = new LongAdder();
+                    List<Candidate> best = pool.invoke(new FarmTask(config, jobSeed, 0, candidates, keep, valid));
+                    long millis = (System.nanoTime() - start) / 1_000_000;
+
+                    System.out.printf(Locale.ROOT, "%s %dx%d: %d/%d valid in %d ms, best score %.2f%n",
+                            config.theme, config.width, config.height, valid.sum(), candidates, millis,
+                            best.isEmpty() ? 0.0 : best.get(0).score);
+                    ok &= write(outputDir, config, best);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("Map farm finished in " + (System.nanoTime() - totalStart) / 1_000_000 + " ms");
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates candidates [from, to) of one theme and size and returns the
+     * best ones, splitting the range until it is small enough.
+     */
+    static class FarmTask extends RecursiveTask<List<Candidate>> {
+        private final MapGenerator.MapConfig config;
+        private final long jobSeed;
+        private final int from;
+        private final int to;
+        private final int keep;
+        private final LongAdder valid;
+
+        FarmTask(MapGenerator.MapConfig config, long jobSeed, int from, int to, int keep, LongAdder valid) {
+            this.config = config;
+            this.jobSeed = jobSeed;
+            this.from = from;
+            this.to = to;
+            this.keep = keep;
+            this.valid = valid;
+        }
+
+        @Override
+        protected List<Candidate> compute() {
+            if (to - from <= LEAF_SIZE) {
+                List<Candidate> best = new ArrayList<>();
+                GridSearch search = new GridSearch();
+                for (int i = from; i < to; i++) {
+                    long seed = jobSeed + i;
+                    double score = score(generate(config, seed), search);
+                    if (score >= 0) {
+                        valid.increment();
+                        best.add(new Candidate(seed, score));
+                    }
+                }
+                return top(best, keep);
+            }
+
+            int mid = (from + to) >>> 1;
+            FarmTask left = new FarmTask(config, jobSeed, from, mid, keep, valid);
+            FarmTask right = new FarmTask(config, jobSeed, mid, to, keep, valid);
+            left.fork();
+            List<Candidate> best = new ArrayList<>(right.compute());
+            best.addAll(left.join());
+            return top(best, keep);
+        }
+    }
+
+    private static MapGenerator.GenerationResult generate(MapGenerator.MapConfig config, long seed) {
+        try {
+            return new MapGenerator(config, new Random(seed)).generate();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Score a map by how far the player has to detour: shortest path
+     * start -> key -> exit divided by the Manhattan length of the same legs.
+     *
+     * @return Score (at least 1), or -1 if the map is missing or not solvable
+     */
+    static double score(MapGenerator.GenerationResult map, GridSearch search) {
+        if (map == null) {
+            return -1;
+        }
+        int w = map.getTotalWidth();
+        int h = map.getTotalHeight();
+        int sx = (int) map.getPlayerStart().x, sy = (int) map.getPlayerStart().y;
+        int kx = (int) map.getKeyPos().x, ky = (int) map.getKeyPos().y;
+        int ex = (int) map.getExitPos().x, ey = (int) map.getExitPos().y;
+
+        int toKey = search.search(w, h, sx, sy, kx, ky, map::isWalkable);
+        if (toKey == GridSearch.UNREACHABLE) {
+            return -1;
+        }
+        int toExit = search.search(w, h, kx, ky, ex, ey, map::isWalkable);
+        if (toExit == GridSearch.UNREACHABLE) {
+            return -1;
+        }
+
+        int direct = Math.abs(kx - sx) + Math.abs(ky - sy) + Math.abs(ex - kx) + Math.abs(ey - ky);
+        return (toKey + toExit) / (double) Math.max(1, direct);
+    }
+
+    private static List<Candidate> top(List<Candidate> candidates, int keep) {
+        candidates.sort(BEST_FIRST);
+        return candidates.size() > keep ? new ArrayList<>(candidates.subList(0, keep)) : candidates;
+    }
+
+    private static boolean write(File outputDir, MapGenerator.MapConfig config, List<Candidate> best) {
+        File dir = new File(outputDir, config.theme.toLowerCase(Locale.ROOT) + "-" + config.width);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            System.err.println("Failed to create " + dir.getPath());
+            return false;
+        }
+
+        boolean ok = true;
+        for (int rank = 0; rank < best.size(); rank++) {
+            Candidate candidate = best.get(rank);
+            MapGenerator.GenerationResult map = generate(config, candidate.seed);
+            File file = new File(dir, "map-" + (rank + 1) + ".properties");
+            String header = String.format(Locale.ROOT, "# Map farm seed=%d score=%.3f%n", candidate.seed,
+                    candidate.score);
+            try {
+                Files.write(file.toPath(), (header + map.toProperties()).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to write " + file.getPath() + ": " + e.getMessage());
+                ok = false;
+            }
+        }
+        return ok;
+    }
+
+    /** SplitMix64 finalizer, spreads neighbouring seeds */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
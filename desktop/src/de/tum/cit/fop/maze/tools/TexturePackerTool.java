@@ -2,14 +2,66 @@
 
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import de.tum.cit.fop.maze.utils.TextureColorTable;
+import de.tum.cit.fop.maze.utils.TextureManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
 
 public class TexturePackerTool {
     private static final String INPUT_DIR = "../raw_assets";
     private static final String OUTPUT_DIR = "../assets/images";
+    private static final String ASSETS_DIR = "../assets";
 
     public static void main(String[] args) {
         packTexturesOptimized();
+        writeTextureColors();
+    }
+
+    /**
+     * Precompute the average/dominant colour of every standalone image the game
+     * loads, so TextureManager does not read the pixels back on startup.
+     */
+    private static void writeTextureColors() {
+        TextureColorTable table = new TextureColorTable();
+
+        for (String dir : TextureManager.PRELOAD_DIRECTORIES) {
+            File[] images = new File(ASSETS_DIR, dir).listFiles((d, name) -> name.endsWith(".png"));
+            if (images == null) {
+                continue;
+            }
+            Arrays.sort(images);
+            for (File image : images) {
+                try {
+                    BufferedImage img = ImageIO.read(image);
+                    if (img == null) {
+                        continue;
+                    }
+                    // ARGB8888 -> RGBA8888, as Pixmap.getPixel returns it
+                    int[] colors = TextureColorTable.sampleColors(img.getWidth(), img.getHeight(),
+                            (x, y) -> {
+                                int argb = img.getRGB(x, y);
+                                return (argb << 8) | (argb >>> 24);
+                            });
+                    table.put(dir + "/" + image.getName(), colors[0], colors[1]);
+                } catch (IOException e) {
+                    System.err.println("Error reading " + image + ": " + e.getMessage());
+                }
+            }
+        }
+
+        File output = new File(ASSETS_DIR, TextureColorTable.PATH);
+        try (Writer out = new FileWriter(output)) {
+            table.store(out);
+            System.out.println("Wrote " + table.size() + " texture colors to " + output.getPath());
+        } catch (IOException e) {
+            System.err.println("Error writing " + output + ": " + e.getMessage());
+        }
     }
 
     private static void packTexturesOptimized() {